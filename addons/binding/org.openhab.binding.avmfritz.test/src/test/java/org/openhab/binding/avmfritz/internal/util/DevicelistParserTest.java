@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.util;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.List;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DevicelistModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link DevicelistParser}.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class DevicelistParserTest {
+
+    private final Logger logger = LoggerFactory.getLogger(DevicelistParserTest.class);
+
+    private static final int DEVICE_COUNT = 60;
+    private static final int BENCHMARK_ITERATIONS = 200;
+
+    private DevicelistParser parser;
+
+    @Before
+    public void setUp() {
+        parser = new DevicelistParser();
+    }
+
+    private static String createDevicelist(int devices, int changedDevice, int power) {
+        StringBuilder xml = new StringBuilder("<devicelist version=\"1\">");
+        xml.append("<group identifier=\"F0:A3:7F-900\" id=\"20001\" functionbitmask=\"640\" fwversion=\"1.0\" "
+                + "manufacturer=\"AVM\" productname=\"\"><present>1</present><switch><state>1</state>"
+                + "<mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch></group>");
+        for (int i = 0; i < devices; i++) {
+            if (i % 2 == 0) {
+                xml.append("<device identifier=\"08761 00004").append(String.format("%02d", i))
+                        .append("\" id=\"").append(i).append("\" functionbitmask=\"2944\" fwversion=\"03.83\" ")
+                        .append("manufacturer=\"AVM\" productname=\"FRITZ!DECT 200\"><present>1</present>")
+                        .append("<name>FRITZ!DECT 200 #").append(i).append("</name><switch><state>1</state>")
+                        .append("<mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch>")
+                        .append("<powermeter><power>").append(i == changedDevice ? power : 45)
+                        .append("</power><energy>166</energy></powermeter><temperature><celsius>255</celsius>")
+                        .append("<offset>0</offset></temperature></device>");
+            } else {
+                xml.append("<device identifier=\"08761 00004").append(String.format("%02d", i))
+                        .append("\" id=\"").append(i).append("\" functionbitmask=\"320\" fwversion=\"03.50\" ")
+                        .append("manufacturer=\"AVM\" productname=\"FRITZ!DECT 301\"><present>1</present>")
+                        .append("<name>FRITZ!DECT 301 #").append(i).append("</name><temperature>")
+                        .append("<celsius>220</celsius><offset>-10</offset></temperature><hkr><tist>44</tist>")
+                        .append("<tsoll>").append(i == changedDevice ? power : 42).append("</tsoll>")
+                        .append("<absenk>28</absenk><komfort>42</komfort><lock>1</lock><devicelock>1</devicelock>")
+                        .append("<errorcode>0</errorcode><batterylow>0</batterylow><nextchange>")
+                        .append("<endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr></device>");
+            }
+        }
+        return xml.append("</devicelist>").toString();
+    }
+
+    private static List<DeviceModel> unmarshal(String xml) throws JAXBException {
+        Unmarshaller u = JAXBUtils.JAXBCONTEXT.createUnmarshaller();
+        return ((DevicelistModel) u.unmarshal(new StringReader(xml))).getDevicelist();
+    }
+
+    private static String withoutIdentityHashCodes(DeviceModel device) {
+        return device.toString().replaceAll("@[0-9a-f]+", "");
+    }
+
+    @Test
+    public void parsesSameDevicesAsJaxb() throws JAXBException, XMLStreamException {
+        String xml = createDevicelist(DEVICE_COUNT, -1, 0);
+
+        List<DeviceModel> expected = unmarshal(xml);
+        List<DeviceModel> actual = parser.parseDevices(xml);
+
+        assertEquals(DEVICE_COUNT, expected.size());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(withoutIdentityHashCodes(expected.get(i)), withoutIdentityHashCodes(actual.get(i)));
+        }
+    }
+
+    @Test
+    public void parsesDevicesWithoutWhitespaceAndWithIndentation() throws XMLStreamException, JAXBException {
+        String xml = "<devicelist version=\"1\">\n"
+                + "  <device identifier=\"08761 0000434\" id=\"17\" functionbitmask=\"2944\" fwversion=\"03.83\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 200\">\n"
+                + "    <present>1</present>\n" + "    <name>FRITZ!DECT 200 #1</name>\n" + "  </device>"
+                + "<device identifier=\"08761 0000435\" id=\"18\" functionbitmask=\"2944\" fwversion=\"03.83\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 200\"><present>0</present><name>FRITZ!DECT 200 #2</name></device>\n"
+                + "</devicelist>";
+
+        List<DeviceModel> devices = parser.parseDevices(xml);
+
+        assertEquals(2, devices.size());
+        assertEquals("087610000434", devices.get(0).getIdentifier());
+        assertEquals(1, devices.get(0).getPresent());
+        assertEquals("087610000435", devices.get(1).getIdentifier());
+        assertEquals(0, devices.get(1).getPresent());
+    }
+
+    @Test
+    public void returnsOnlyChangedDevices() throws XMLStreamException, JAXBException {
+        assertEquals(DEVICE_COUNT, parser.parseChangedDevices(createDevicelist(DEVICE_COUNT, -1, 0)).size());
+        assertTrue(parser.parseChangedDevices(createDevicelist(DEVICE_COUNT, -1, 0)).isEmpty());
+
+        List<DeviceModel> changed = parser.parseChangedDevices(createDevicelist(DEVICE_COUNT, 10, 50));
+        assertEquals(1, changed.size());
+        assertEquals("087610000410", changed.get(0).getIdentifier());
+
+        changed = parser.parseChangedDevices(createDevicelist(DEVICE_COUNT, 11, 40));
+        assertEquals(2, changed.size());
+        assertEquals("087610000410", changed.get(0).getIdentifier());
+        assertEquals("087610000411", changed.get(1).getIdentifier());
+    }
+
+    @Test
+    public void returnsAllDevicesAfterReset() throws XMLStreamException, JAXBException {
+        String xml = createDevicelist(DEVICE_COUNT, -1, 0);
+        parser.parseChangedDevices(xml);
+
+        parser.reset();
+
+        assertEquals(DEVICE_COUNT, parser.parseChangedDevices(xml).size());
+    }
+
+    @Test
+    public void returnsReappearingDevices() throws XMLStreamException, JAXBException {
+        parser.parseChangedDevices(createDevicelist(DEVICE_COUNT, -1, 0));
+        parser.parseChangedDevices(createDevicelist(DEVICE_COUNT - 1, -1, 0));
+
+        List<DeviceModel> changed = parser.parseChangedDevices(createDevicelist(DEVICE_COUNT, -1, 0));
+        assertEquals(1, changed.size());
+        assertEquals("0876100004" + (DEVICE_COUNT - 1), changed.get(0).getIdentifier());
+    }
+
+    /**
+     * Compares the time needed to process a device list of a FRITZ!Box with many devices by unmarshalling the whole
+     * document with a new {@link Unmarshaller} (as done before) and by the streaming parser. Only logs the result, as
+     * timings depend on the machine running the tests.
+     */
+    @Test
+    public void benchmarkAgainstJaxb() throws JAXBException, XMLStreamException {
+        String xml = createDevicelist(DEVICE_COUNT, -1, 0);
+        for (int i = 0; i < BENCHMARK_ITERATIONS / 10; i++) {
+            unmarshal(xml);
+            parser.parseChangedDevices(xml);
+        }
+
+        long start = System.nanoTime();
+        int devices = 0;
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            devices += unmarshal(xml).size();
+        }
+        long jaxbNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int changedDevices = 0;
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            changedDevices += parser.parseChangedDevices(xml).size();
+        }
+        long streamingNanos = System.nanoTime() - start;
+
+        assertEquals(DEVICE_COUNT * BENCHMARK_ITERATIONS, devices);
+        assertEquals(0, changedDevices);
+        logger.info("Parsing {} devices: JAXB {} us/poll ({} devices passed on), streaming {} us/poll ({} passed on)",
+                DEVICE_COUNT, jaxbNanos / 1000 / BENCHMARK_ITERATIONS, DEVICE_COUNT,
+                streamingNanos / 1000 / BENCHMARK_ITERATIONS, 0);
+    }
+}
@@ -33,6 +33,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusInfo;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
@@ -44,6 +45,7 @@ import org.openhab.binding.avmfritz.internal.ahamodel.SwitchModel;
 import org.openhab.binding.avmfritz.internal.config.AvmFritzConfiguration;
 import org.openhab.binding.avmfritz.internal.hardware.FritzahaWebInterface;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaUpdateXmlCallback;
+import org.openhab.binding.avmfritz.internal.util.DevicelistParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +77,10 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
      * Schedule for polling
      */
     private ScheduledFuture<?> pollingJob;
+    /**
+     * Parser for the polled device lists, remembers the devices to detect changes
+     */
+    private final DevicelistParser parser = new DevicelistParser();
 
     /**
      * Constructor
@@ -119,6 +125,14 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
         }
     }
 
+    /**
+     * Makes sure a new thing is updated by the next poll, even if its device did not change.
+     */
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        parser.reset();
+    }
+
     @Override
     public void setStatusInfo(ThingStatus status, ThingStatusDetail statusDetail, String description) {
         super.updateStatus(status, statusDetail, description);
@@ -277,7 +291,8 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
             pollingJob = scheduler.scheduleWithFixedDelay(() -> {
                 if (getWebInterface() != null) {
                     logger.debug("polling FRITZ!Box {}", getThing().getUID());
-                    FritzAhaUpdateXmlCallback callback = new FritzAhaUpdateXmlCallback(getWebInterface(), this);
+                    FritzAhaUpdateXmlCallback callback = new FritzAhaUpdateXmlCallback(getWebInterface(), this,
+                            parser);
                     getWebInterface().asyncGet(callback);
                 }
             }, INITIAL_DELAY, refreshInterval, TimeUnit.SECONDS);
@@ -295,7 +310,9 @@ public class BoxHandler extends BaseBridgeHandler implements IFritzHandler {
         if (command instanceof RefreshType) {
             if (getWebInterface() != null) {
                 logger.debug("polling FRITZ!Box {}", getThing().getUID());
-                FritzAhaUpdateXmlCallback callback = new FritzAhaUpdateXmlCallback(getWebInterface(), this);
+                // update all things, not only those whose device changed
+                parser.reset();
+                FritzAhaUpdateXmlCallback callback = new FritzAhaUpdateXmlCallback(getWebInterface(), this, parser);
                 getWebInterface().asyncGet(callback);
             }
             return;
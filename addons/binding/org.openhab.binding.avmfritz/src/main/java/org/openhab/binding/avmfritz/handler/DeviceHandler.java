@@ -45,6 +45,7 @@ import org.openhab.binding.avmfritz.internal.ahamodel.SwitchModel;
 import org.openhab.binding.avmfritz.internal.config.AvmFritzConfiguration;
 import org.openhab.binding.avmfritz.internal.hardware.FritzahaWebInterface;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaUpdateXmlCallback;
+import org.openhab.binding.avmfritz.internal.util.DevicelistParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -76,6 +77,10 @@ public class DeviceHandler extends BaseThingHandler implements IFritzHandler {
      * Schedule for polling
      */
     private ScheduledFuture<?> pollingJob;
+    /**
+     * Parser for the polled device lists, remembers the devices to detect changes
+     */
+    private final DevicelistParser parser = new DevicelistParser();
 
     /**
      * keeps track of the current state for handling of increase/decrease
@@ -138,7 +143,8 @@ public class DeviceHandler extends BaseThingHandler implements IFritzHandler {
             pollingJob = scheduler.scheduleWithFixedDelay(() -> {
                 if (getWebInterface() != null) {
                     logger.debug("polling FRITZ!Box {}", getThing().getUID());
-                    FritzAhaUpdateXmlCallback callback = new FritzAhaUpdateXmlCallback(getWebInterface(), this);
+                    FritzAhaUpdateXmlCallback callback = new FritzAhaUpdateXmlCallback(getWebInterface(), this,
+                            parser);
                     getWebInterface().asyncGet(callback);
                 }
             }, 1, refreshInterval, TimeUnit.SECONDS);
@@ -8,18 +8,17 @@
  */
 package org.openhab.binding.avmfritz.internal.hardware.callbacks;
 
-import java.io.StringReader;
+import java.util.List;
 
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.openhab.binding.avmfritz.handler.IFritzHandler;
 import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
-import org.openhab.binding.avmfritz.internal.ahamodel.DevicelistModel;
 import org.openhab.binding.avmfritz.internal.hardware.FritzahaWebInterface;
-import org.openhab.binding.avmfritz.internal.util.JAXBUtils;
+import org.openhab.binding.avmfritz.internal.util.DevicelistParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,15 +39,22 @@ public class FritzAhaUpdateXmlCallback extends FritzAhaReauthCallback {
      */
     private IFritzHandler handler;
 
+    /**
+     * Parser remembering the devices of previous responses
+     */
+    private DevicelistParser parser;
+
     /**
      * Constructor
      *
      * @param webIface Webinterface to FRITZ!Box
      * @param handler Bridge handler that will update things.
+     * @param parser Parser of the handler, only devices changed since its previous response are passed to the handler.
      */
-    public FritzAhaUpdateXmlCallback(FritzahaWebInterface webIface, IFritzHandler handler) {
+    public FritzAhaUpdateXmlCallback(FritzahaWebInterface webIface, IFritzHandler handler, DevicelistParser parser) {
         super(WEBSERVICE_PATH, "switchcmd=getdevicelistinfos", webIface, Method.GET, 1);
         this.handler = handler;
+        this.parser = parser;
     }
 
     @Override
@@ -57,21 +63,22 @@ public class FritzAhaUpdateXmlCallback extends FritzAhaReauthCallback {
         logger.trace("Received State response {}", response);
         if (isValidRequest()) {
             try {
-                Unmarshaller u = JAXBUtils.JAXBCONTEXT.createUnmarshaller();
-                DevicelistModel model = (DevicelistModel) u.unmarshal(new StringReader(response));
-                if (model != null) {
-                    for (DeviceModel device : model.getDevicelist()) {
-                        handler.addDeviceList(device);
-                    }
-                    handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, "FRITZ!Box online");
-                } else {
-                    logger.warn("no model in response");
+                List<DeviceModel> devices = parser.parseChangedDevices(response);
+                logger.debug("{} device(s) changed", devices.size());
+                for (DeviceModel device : devices) {
+                    handler.addDeviceList(device);
                 }
+                handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, "FRITZ!Box online");
             } catch (JAXBException e) {
                 logger.error("Exception creating Unmarshaller: {}", e.getLocalizedMessage(), e);
+                parser.reset();
+            } catch (XMLStreamException e) {
+                logger.warn("Failed to parse device list: {}", e.getLocalizedMessage());
+                parser.reset();
             }
         } else {
             logger.debug("request is invalid: {}", status);
+            parser.reset();
             handler.setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Request is invalid");
         }
     }
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.util;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+
+/**
+ * Streaming parser for the response to a <b>getdevicelistinfos</b> command. Instead of unmarshalling the whole
+ * document, it walks the document with StAX and unmarshals one <code>device</code> element at a time. While a device
+ * is read, its content (attributes and element texts) is recorded as a fingerprint which is remembered per AIN, so
+ * devices which did not change since the previous response can be skipped.
+ *
+ * A parser is meant to be reused for every poll of the same FRITZ!Box. It is thread safe.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class DevicelistParser {
+
+    private static final String DEVICE = "device";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
+    private final Map<String, String> fingerprints = new HashMap<>();
+
+    private Unmarshaller unmarshaller;
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Parses all devices of the response.
+     *
+     * @param xml Response to a <b>getdevicelistinfos</b> command
+     * @return All devices
+     */
+    public synchronized List<DeviceModel> parseDevices(String xml) throws XMLStreamException, JAXBException {
+        return parse(xml, false);
+    }
+
+    /**
+     * Parses the devices of the response and returns only those which are new or whose content changed since the
+     * previous call.
+     *
+     * @param xml Response to a <b>getdevicelistinfos</b> command
+     * @return New and changed devices
+     */
+    public synchronized List<DeviceModel> parseChangedDevices(String xml) throws XMLStreamException, JAXBException {
+        return parse(xml, true);
+    }
+
+    /**
+     * Forgets the content of all devices, so all devices are returned as changed by the next call of
+     * {@link #parseChangedDevices(String)}.
+     */
+    public synchronized void reset() {
+        fingerprints.clear();
+    }
+
+    private List<DeviceModel> parse(String xml, boolean changedOnly) throws XMLStreamException, JAXBException {
+        if (unmarshaller == null) {
+            unmarshaller = JAXBUtils.JAXBCONTEXT.createUnmarshaller();
+        }
+
+        List<DeviceModel> devices = new ArrayList<>();
+        Set<String> identifiers = new HashSet<>();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        try {
+            int event = reader.getEventType();
+            while (true) {
+                if (event == XMLStreamConstants.START_ELEMENT && DEVICE.equals(reader.getLocalName())) {
+                    FingerprintingReader deviceReader = new FingerprintingReader(reader);
+                    DeviceModel device = unmarshaller.unmarshal(deviceReader, DeviceModel.class).getValue();
+                    // the reader now points at the event right after the end of the device element
+                    event = reader.getEventType();
+                    if (device == null) {
+                        continue;
+                    }
+                    String identifier = device.getIdentifier();
+                    identifiers.add(identifier);
+                    String fingerprint = deviceReader.getFingerprint();
+                    if (!fingerprint.equals(fingerprints.put(identifier, fingerprint)) || !changedOnly) {
+                        devices.add(device);
+                    }
+                } else if (reader.hasNext()) {
+                    event = reader.next();
+                } else {
+                    break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        if (changedOnly) {
+            fingerprints.keySet().retainAll(identifiers);
+        }
+        return devices;
+    }
+
+    /**
+     * Records the content of the current element while it is read by the unmarshaller. Recording stops at the end of
+     * the element.
+     */
+    private static class FingerprintingReader extends StreamReaderDelegate {
+        private final StringBuilder fingerprint = new StringBuilder(256);
+        private int depth;
+
+        FingerprintingReader(XMLStreamReader reader) {
+            super(reader);
+            record(reader.getEventType());
+        }
+
+        String getFingerprint() {
+            return fingerprint.toString();
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            int event = super.next();
+            if (depth > 0) {
+                record(event);
+            }
+            return event;
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            int event = next();
+            while (event == XMLStreamConstants.CHARACTERS && isWhiteSpace() || event == XMLStreamConstants.SPACE
+                    || event == XMLStreamConstants.COMMENT || event == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                event = next();
+            }
+            if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+                throw new XMLStreamException("expected start or end tag", getLocation());
+            }
+            return event;
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+                throw new XMLStreamException("current event is not a start element", getLocation());
+            }
+            StringBuilder text = new StringBuilder();
+            int event = next();
+            while (event != XMLStreamConstants.END_ELEMENT) {
+                if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                        || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                    text.append(getText());
+                } else if (event == XMLStreamConstants.START_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+                    throw new XMLStreamException("element text must not contain elements", getLocation());
+                }
+                event = next();
+            }
+            return text.toString();
+        }
+
+        private void record(int event) {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    fingerprint.append('<').append(getLocalName());
+                    for (int i = 0; i < getAttributeCount(); i++) {
+                        fingerprint.append(' ').append(getAttributeLocalName(i)).append('=')
+                                .append(getAttributeValue(i));
+                    }
+                    fingerprint.append('>');
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    fingerprint.append("</>");
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    if (!isWhiteSpace()) {
+                        fingerprint.append(getText().trim());
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -103,6 +103,11 @@ public class DSCAlarmBindingConstants {
     public static final String KEYPAD_LCD_UPDATE = "keypad_lcd_update";
     public static final String KEYPAD_LCD_CURSOR = "keypad_lcd_cursor";
 
+    // List of bridge properties
+    public static final String PROPERTY_EVENT_COUNT = "eventCount";
+    public static final String PROPERTY_EVENT_LATENCY_AVERAGE = "eventLatencyAverage";
+    public static final String PROPERTY_EVENT_LATENCY_MAX = "eventLatencyMax";
+
     // Set of all supported Thing Type UIDs
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = ImmutableSet.of(ENVISALINKBRIDGE_THING_TYPE,
             IT100BRIDGE_THING_TYPE, TCPSERVERBRIDGE_THING_TYPE, PANEL_THING_TYPE, PARTITION_THING_TYPE, ZONE_THING_TYPE,
@@ -10,14 +10,14 @@ package org.openhab.binding.dscalarm.handler;
 
 import static org.openhab.binding.dscalarm.DSCAlarmBindingConstants.*;
 
-import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Bridge;
@@ -25,15 +25,15 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.dscalarm.internal.DSCAlarmCode;
 import org.openhab.binding.dscalarm.internal.DSCAlarmEvent;
+import org.openhab.binding.dscalarm.internal.DSCAlarmEventStatistics;
 import org.openhab.binding.dscalarm.internal.DSCAlarmMessage;
 import org.openhab.binding.dscalarm.internal.DSCAlarmMessage.DSCAlarmMessageInfoType;
 import org.openhab.binding.dscalarm.internal.DSCAlarmMessage.DSCAlarmMessageType;
-import org.openhab.binding.dscalarm.internal.config.DSCAlarmPartitionConfiguration;
-import org.openhab.binding.dscalarm.internal.config.DSCAlarmZoneConfiguration;
 import org.openhab.binding.dscalarm.internal.discovery.DSCAlarmDiscoveryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,13 +57,25 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
     private DSCAlarmDiscoveryService dscAlarmDiscoveryService = null;
 
     /** The Panel Thing handler for the bridge. */
-    private DSCAlarmBaseThingHandler panelThingHandler = null;
+    private volatile DSCAlarmBaseThingHandler panelThingHandler = null;
+
+    /** The Thing handlers of the bridge indexed by thing type and partition or zone number. */
+    private final Map<Integer, DSCAlarmBaseThingHandler> thingHandlers = new ConcurrentHashMap<>();
+
+    /** Latency of the events from reading the message until the Thing handler has updated its channels. */
+    private final DSCAlarmEventStatistics eventStatistics = new DSCAlarmEventStatistics();
+
+    /** Event count at the last update of the latency properties. */
+    private long reportedEventCount = 0;
+
+    /** Serializes the commands written by the message handler, polling and command handling. */
+    private final Object writeLock = new Object();
 
     /** Connection status for the bridge. */
-    private boolean connected = false;
+    private volatile boolean connected = false;
 
     /** Determines if things have changed. */
-    private boolean thingsHaveChanged = false;
+    private volatile boolean thingsHaveChanged = false;
 
     /** Determines if all things have been initialized. */
     private boolean allThingsInitialized = false;
@@ -170,6 +182,8 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
     public void onConnected() {
         logger.debug("onConnected(): Bridge Connected!");
 
+        // the latency of the previous connection says nothing about this one
+        eventStatistics.reset();
         setBridgeStatus(true);
 
         thingsHaveChanged = true;
@@ -311,6 +325,7 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             }
 
             checkThings();
+            updateEventStatistics();
 
             if (thingsHaveChanged) {
                 if (allThingsInitialized) {
@@ -363,6 +378,8 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                     }
                 }
 
+                registerThingHandler(handler);
+
             } else {
                 logger.error("checkThings(): Thing handler not found!");
             }
@@ -370,6 +387,71 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) childHandler;
+            registerThingHandler(handler);
+
+            if (DSCAlarmThingType.PANEL.equals(handler.getDSCAlarmThingType())) {
+                panelThingHandler = handler;
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) childHandler;
+            thingHandlers.values().remove(handler);
+
+            if (panelThingHandler == handler) {
+                panelThingHandler = null;
+            }
+        }
+    }
+
+    /**
+     * Adds a Thing handler to the index. A handler which is already indexed under a different key (e.g. after its
+     * zone number was changed) is moved to the new key.
+     *
+     * @param handler
+     */
+    private void registerThingHandler(DSCAlarmBaseThingHandler handler) {
+        DSCAlarmThingType handlerDSCAlarmThingType = handler.getDSCAlarmThingType();
+
+        if (handlerDSCAlarmThingType != null) {
+            Integer key = thingHandlerKey(handlerDSCAlarmThingType, handler.getPartitionNumber(),
+                    handler.getZoneNumber());
+
+            if (thingHandlers.put(key, handler) != handler) {
+                thingHandlers.entrySet().removeIf(entry -> entry.getValue() == handler && !entry.getKey().equals(key));
+                logger.debug("registerThingHandler(): Thing Handler Indexed - {}, {}", handler.getThing().getUID(),
+                        handlerDSCAlarmThingType);
+            }
+        }
+    }
+
+    /**
+     * Returns the index key of a Thing. Panel and keypad are unique per bridge, partitions are identified by their
+     * partition number and zones by their zone number.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return key
+     */
+    private static Integer thingHandlerKey(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        switch (dscAlarmThingType) {
+            case PARTITION:
+                return dscAlarmThingType.ordinal() << 16 | partitionId;
+            case ZONE:
+                return dscAlarmThingType.ordinal() << 16 | zoneId;
+            default:
+                return dscAlarmThingType.ordinal() << 16;
+        }
+    }
+
     /**
      * Find a Thing.
      *
@@ -379,59 +461,29 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
      * @return thing
      */
     public Thing findThing(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
-        List<Thing> things = getThing().getThings();
+        DSCAlarmBaseThingHandler handler = findThingHandler(dscAlarmThingType, partitionId, zoneId);
 
-        Thing thing = null;
-
-        for (Thing t : things) {
-            try {
-                Configuration config = t.getConfiguration();
-                DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) t.getHandler();
-
-                if (handler != null) {
-                    DSCAlarmThingType handlerDSCAlarmThingType = handler.getDSCAlarmThingType();
-
-                    if (handlerDSCAlarmThingType != null) {
-                        if (handlerDSCAlarmThingType.equals(dscAlarmThingType)) {
-                            switch (handlerDSCAlarmThingType) {
-                                case PANEL:
-                                case KEYPAD:
-                                    thing = t;
-                                    logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                            handlerDSCAlarmThingType);
-                                    return thing;
-                                case PARTITION:
-                                    BigDecimal partitionNumber = (BigDecimal) config
-                                            .get(DSCAlarmPartitionConfiguration.PARTITION_NUMBER);
-                                    if (partitionId == partitionNumber.intValue()) {
-                                        thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
-                                    }
-                                    break;
-                                case ZONE:
-                                    BigDecimal zoneNumber = (BigDecimal) config
-                                            .get(DSCAlarmZoneConfiguration.ZONE_NUMBER);
-                                    if (zoneId == zoneNumber.intValue()) {
-                                        thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
-                                    }
-                                    break;
-                                default:
-                                    break;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                logger.debug("findThing(): Error Seaching Thing - {} ", e.getMessage(), e);
-            }
+        return handler != null ? handler.getThing() : null;
+    }
+
+    /**
+     * Find the handler of a Thing.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return handler
+     */
+    private DSCAlarmBaseThingHandler findThingHandler(DSCAlarmThingType dscAlarmThingType, int partitionId,
+            int zoneId) {
+        DSCAlarmBaseThingHandler handler = thingHandlers
+                .get(thingHandlerKey(dscAlarmThingType, partitionId, zoneId));
+
+        if (handler != null) {
+            logger.trace("findThingHandler(): Thing Found - {}, {}", handler.getThing().getUID(), dscAlarmThingType);
         }
 
-        return thing;
+        return handler;
     }
 
     /**
@@ -439,7 +491,18 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
      *
      * @param incomingMessage
      */
-    public synchronized void handleIncomingMessage(String incomingMessage) {
+    public void handleIncomingMessage(String incomingMessage) {
+        handleIncomingMessage(incomingMessage, System.nanoTime());
+    }
+
+    /**
+     * Handles an incoming message from the DSC Alarm System. Messages are parsed and routed without holding a lock,
+     * so they are not delayed by polling or commands.
+     *
+     * @param incomingMessage
+     * @param receivedNanos - the {@link System#nanoTime()} at which the message was read from the connection
+     */
+    public void handleIncomingMessage(String incomingMessage, long receivedNanos) {
         if (incomingMessage != null && !incomingMessage.isEmpty()) {
             DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(incomingMessage);
             DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
@@ -447,7 +510,7 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage,
                     dscAlarmMessage.toString());
 
-            DSCAlarmEvent event = new DSCAlarmEvent(this);
+            DSCAlarmEvent event = new DSCAlarmEvent(this, receivedNanos);
             event.dscAlarmEventMessage(dscAlarmMessage);
             DSCAlarmThingType dscAlarmThingType = null;
             int partitionId = 0;
@@ -456,8 +519,9 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             DSCAlarmCode dscAlarmCode = DSCAlarmCode
                     .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
 
-            if (panelThingHandler != null) {
-                panelThingHandler.setPanelMessage(dscAlarmMessage);
+            DSCAlarmBaseThingHandler panelHandler = panelThingHandler;
+            if (panelHandler != null) {
+                panelHandler.setPanelMessage(dscAlarmMessage);
             }
 
             if (dscAlarmCode == DSCAlarmCode.LoginResponse) {
@@ -497,20 +561,19 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             }
 
             if (dscAlarmThingType != null) {
-                Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
+                DSCAlarmBaseThingHandler thingHandler = findThingHandler(dscAlarmThingType, partitionId, zoneId);
 
-                logger.debug("handleIncomingMessage(): Thing Search - '{}'", thing);
+                if (thingHandler != null) {
+                    Thing thing = thingHandler.getThing();
 
-                if (thing != null) {
-                    DSCAlarmBaseThingHandler thingHandler = (DSCAlarmBaseThingHandler) thing.getHandler();
+                    if (thingHandler.isThingHandlerInitialized()) {
+                        thingHandler.dscAlarmEventReceived(event, thing);
+                        eventStatistics.record(event.getReceivedNanos());
 
-                    if (thingHandler != null) {
-                        if (thingHandler.isThingHandlerInitialized()) {
-                            thingHandler.dscAlarmEventReceived(event, thing);
-
-                        } else {
-                            logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
-                        }
+                        logger.debug("handleIncomingMessage(): Event for '{}' handled in {} us", thing.getUID(),
+                                eventStatistics.getLastLatencyMicros());
+                    } else {
+                        logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
                     }
                 } else {
                     logger.debug("handleIncomingMessage(): Thing Not Found! Send to Discovery Service!");
@@ -525,6 +588,22 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Publishes the event latency as properties of the bridge when new events were handled.
+     */
+    private void updateEventStatistics() {
+        long eventCount = eventStatistics.getEventCount();
+
+        if (eventCount != reportedEventCount) {
+            reportedEventCount = eventCount;
+            updateProperty(PROPERTY_EVENT_COUNT, String.valueOf(eventCount));
+            updateProperty(PROPERTY_EVENT_LATENCY_AVERAGE, eventStatistics.getAverageLatencyMicros() + " us");
+            updateProperty(PROPERTY_EVENT_LATENCY_MAX, eventStatistics.getMaxLatencyMicros() + " us");
+
+            logger.debug("updateEventStatistics(): Event Latency - {}", eventStatistics);
+        }
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.debug("handleCommand(): Command Received - {} {}.", channelUID, command);
@@ -798,7 +877,9 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
         if (validCommand) {
             String cmd = dscAlarmCommand(command, data);
-            write(cmd);
+            synchronized (writeLock) {
+                write(cmd);
+            }
             successful = true;
             logger.debug("sendCommand(): '{}' Command Sent - {}", dscAlarmCode, cmd);
         } else {
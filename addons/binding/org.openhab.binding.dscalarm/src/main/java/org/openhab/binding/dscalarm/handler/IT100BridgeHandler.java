@@ -224,7 +224,7 @@ public class IT100BridgeHandler extends DSCAlarmBaseBridgeHandler implements Ser
         if (serialPortEvent.getEventType() == SerialPortEvent.DATA_AVAILABLE) {
             try {
                 String messageLine = serialInput.readLine();
-                handleIncomingMessage(messageLine);
+                handleIncomingMessage(messageLine, System.nanoTime());
             } catch (IOException ioException) {
                 logger.error("serialEvent(): IO Exception: {}", ioException.getMessage());
             }
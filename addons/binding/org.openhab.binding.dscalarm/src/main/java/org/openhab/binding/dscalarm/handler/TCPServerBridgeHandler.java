@@ -203,8 +203,9 @@ public class TCPServerBridgeHandler extends DSCAlarmBaseBridgeHandler {
             try {
                 while (isConnected()) {
                     if ((messageLine = read()) != null) {
+                        long receivedNanos = System.nanoTime();
                         try {
-                            handleIncomingMessage(messageLine);
+                            handleIncomingMessage(messageLine, receivedNanos);
                         } catch (Exception e) {
                             logger.error("TCPListener(): Message not handled by bridge: {}", e.getMessage());
                         }
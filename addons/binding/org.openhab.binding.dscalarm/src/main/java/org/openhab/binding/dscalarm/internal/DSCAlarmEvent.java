@@ -19,6 +19,7 @@ public class DSCAlarmEvent extends EventObject {
 
     private static final long serialVersionUID = 1L;
     private DSCAlarmMessage dscAlarmMessage;
+    private final long receivedNanos;
 
     /**
      * Constructor.
@@ -26,7 +27,27 @@ public class DSCAlarmEvent extends EventObject {
      * @param source
      */
     public DSCAlarmEvent(Object source) {
+        this(source, System.nanoTime());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source
+     * @param receivedNanos - the {@link System#nanoTime()} at which the message was read from the connection
+     */
+    public DSCAlarmEvent(Object source, long receivedNanos) {
         super(source);
+        this.receivedNanos = receivedNanos;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the message of the event was read from the connection.
+     *
+     * @return receivedNanos
+     */
+    public long getReceivedNanos() {
+        return receivedNanos;
     }
 
     /**
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.dscalarm.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the latency of DSC Alarm events, measured from reading the message from the connection until the
+ * thing handler has updated its channels.
+ *
+ * @author agent - Initial contribution
+ */
+public class DSCAlarmEventStatistics {
+
+    private long eventCount = 0;
+    private long lastLatency = 0;
+    private long maxLatency = 0;
+    private long totalLatency = 0;
+
+    /**
+     * Records the latency of a handled event.
+     *
+     * @param receivedNanos - the {@link System#nanoTime()} at which the message was read
+     */
+    public synchronized void record(long receivedNanos) {
+        lastLatency = System.nanoTime() - receivedNanos;
+        maxLatency = Math.max(maxLatency, lastLatency);
+        totalLatency += lastLatency;
+        eventCount++;
+    }
+
+    /**
+     * Returns the number of recorded events.
+     *
+     * @return eventCount
+     */
+    public synchronized long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the latency of the last event in microseconds.
+     *
+     * @return lastLatency
+     */
+    public synchronized long getLastLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(lastLatency);
+    }
+
+    /**
+     * Returns the maximum latency in microseconds.
+     *
+     * @return maxLatency
+     */
+    public synchronized long getMaxLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxLatency);
+    }
+
+    /**
+     * Returns the average latency in microseconds.
+     *
+     * @return averageLatency
+     */
+    public synchronized long getAverageLatencyMicros() {
+        return eventCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalLatency / eventCount);
+    }
+
+    /**
+     * Clears all recorded events.
+     */
+    public synchronized void reset() {
+        eventCount = 0;
+        lastLatency = 0;
+        maxLatency = 0;
+        totalLatency = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("events: %d, last: %d us, average: %d us, max: %d us", eventCount,
+                getLastLatencyMicros(), getAverageLatencyMicros(), getMaxLatencyMicros());
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.exec.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ExecProcessPool}, using a shell script that answers each line it reads. The script exits on
+ * the request <code>exit</code> and does not answer the request <code>sleep</code>.
+ *
+ * @author agent - Initial contribution
+ */
+public class ExecProcessPoolTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private static final String SCRIPT = "#!/bin/sh\n" //
+            + "while read input; do\n" //
+            + "    case \"$input\" in\n" //
+            + "        exit) exit 1 ;;\n" //
+            + "        sleep) sleep 30 ;;\n" //
+            + "        *) echo \"$$ $input\" ;;\n" //
+            + "    esac\n" //
+            + "done\n";
+
+    private Path script;
+    private ExecProcessPool pool;
+
+    @Before
+    public void setUp() throws IOException {
+        assumeTrue(new File("/bin/sh").canExecute());
+
+        script = Files.createTempFile("exec-process-pool", ".sh");
+        Files.write(script, SCRIPT.getBytes(StandardCharsets.US_ASCII));
+        assertTrue(script.toFile().setExecutable(true));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        if (script != null) {
+            Files.delete(script);
+        }
+    }
+
+    @Test
+    public void assertEachRequestGetsItsResponse() throws Exception {
+        pool = new ExecProcessPool(script.toString(), 1, "test");
+
+        String first = pool.execute("first", TIMEOUT);
+        String second = pool.execute("second", TIMEOUT);
+
+        assertThat(first, endsWith(" first"));
+        assertThat(second, endsWith(" second"));
+        // both requests were answered by the same process
+        assertThat(pid(second), is(pid(first)));
+    }
+
+    @Test
+    public void assertLineBreaksOfTheRequestAreReplaced() throws Exception {
+        pool = new ExecProcessPool(script.toString(), 1, "test");
+
+        assertThat(pool.execute("one\ntwo\r\nthree", TIMEOUT), endsWith(" one two  three"));
+    }
+
+    @Test
+    public void assertEmptyRequestIsSentAsAnEmptyLine() throws Exception {
+        pool = new ExecProcessPool(script.toString(), 1, "test");
+
+        assertThat(pool.execute("", TIMEOUT), endsWith(" "));
+        assertThat(pool.execute("next", TIMEOUT), endsWith(" next"));
+    }
+
+    @Test
+    public void assertProcessWithoutResponseIsTerminatedAfterTheTimeout() throws Exception {
+        pool = new ExecProcessPool(script.toString(), 1, "test");
+        String before = pool.execute("before", TIMEOUT);
+
+        long start = System.nanoTime();
+        try {
+            pool.execute("sleep", 300);
+            fail("Expected a timeout");
+        } catch (TimeoutException e) {
+            long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue("waited " + waited + " ms", waited >= 250 && waited < TIMEOUT);
+        }
+
+        // the next request is answered by a new process, not with the late response
+        String after = pool.execute("after", TIMEOUT);
+        assertThat(after, endsWith(" after"));
+        assertThat(pid(after), is(not(pid(before))));
+    }
+
+    @Test
+    public void assertTerminatedProcessIsStartedAgain() throws Exception {
+        pool = new ExecProcessPool(script.toString(), 1, "test");
+        String before = pool.execute("before", TIMEOUT);
+
+        try {
+            pool.execute("exit", TIMEOUT);
+            fail("Expected the process to terminate without a response");
+        } catch (IOException e) {
+            // the process terminated
+        }
+
+        String after = pool.execute("after", TIMEOUT);
+        assertThat(after, endsWith(" after"));
+        assertThat(pid(after), is(not(pid(before))));
+    }
+
+    @Test
+    public void assertCommandThatCannotBeStartedFails() throws Exception {
+        pool = new ExecProcessPool(script.toString() + ".missing", 1, "test");
+
+        try {
+            pool.execute("request", TIMEOUT);
+            fail("Expected the process not to start");
+        } catch (IOException e) {
+            // the command does not exist
+        }
+    }
+
+    @Test
+    public void assertRequestTimesOutWhileAllProcessesAreBusy() throws Exception {
+        pool = new ExecProcessPool(script.toString(), 1, "test");
+        pool.execute("start", TIMEOUT);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch sent = new CountDownLatch(1);
+            Future<?> busy = executor.submit(() -> {
+                sent.countDown();
+                return pool.execute("sleep", 1000);
+            });
+            sent.await();
+            Thread.sleep(100);
+
+            try {
+                pool.execute("waiting", 200);
+                fail("Expected a timeout");
+            } catch (TimeoutException e) {
+                assertThat(e.getMessage(), containsString("available"));
+            }
+            busy.cancel(true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void assertRequestsAreSpreadOverTheProcessesOfThePool() throws Exception {
+        pool = new ExecProcessPool(script.toString(), 2, "test");
+
+        String first = pool.execute("first", TIMEOUT);
+        String second = pool.execute("second", TIMEOUT);
+        String third = pool.execute("third", TIMEOUT);
+
+        assertThat(pid(second), is(not(pid(first))));
+        assertThat(pid(third), is(pid(first)));
+    }
+
+    private static String pid(String response) {
+        return response.substring(0, response.indexOf(' '));
+    }
+}
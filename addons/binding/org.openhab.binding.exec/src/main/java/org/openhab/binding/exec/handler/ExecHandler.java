@@ -16,8 +16,11 @@ import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.IllegalFormatException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -29,12 +32,14 @@ import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
+import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.transform.TransformationException;
 import org.eclipse.smarthome.core.transform.TransformationHelper;
 import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.openhab.binding.exec.internal.ExecProcessPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +47,10 @@ import org.slf4j.LoggerFactory;
  * The {@link ExecHandler} is responsible for handling commands, which are
  * sent to one of the channels.
  *
+ * By default a new process is forked for each execution. In persistent mode the command is started once (or once for
+ * each process of the pool) and each execution exchanges one line with it over stdin/stdout, see
+ * {@link ExecProcessPool}.
+ *
  * @author Karel Goderis - Initial contribution
  */
 public class ExecHandler extends BaseThingHandler {
@@ -54,12 +63,18 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String PERSISTENT = "persistent";
+    public static final String PROCESSES = "processes";
 
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
     private ScheduledFuture<?> executionJob;
     private String lastInput;
+    private ExecProcessPool processPool;
+
+    // the transformation services by type, looked up once instead of for each execution
+    private final Map<String, TransformationService> transformationServices = new ConcurrentHashMap<>();
 
     private static Runtime rt = Runtime.getRuntime();
 
@@ -99,6 +114,27 @@ public class ExecHandler extends BaseThingHandler {
     @Override
     public void initialize() {
 
+        String commandLine = (String) getConfig().get(COMMAND);
+        if (getConfig().get(PERSISTENT) != null && ((Boolean) getConfig().get(PERSISTENT)).booleanValue()
+                && commandLine != null && !commandLine.isEmpty()) {
+            // the input is only sent to stdin, so the command line is formatted without the date and input values
+            String processCommandLine;
+            try {
+                processCommandLine = String.format(commandLine);
+            } catch (IllegalFormatException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                        "The command line of a persistent command must not contain placeholders, "
+                                + "the input is sent to its stdin : " + e.getMessage());
+                return;
+            }
+
+            int processes = 1;
+            if (((BigDecimal) getConfig().get(PROCESSES)) != null) {
+                processes = ((BigDecimal) getConfig().get(PROCESSES)).intValue();
+            }
+            processPool = new ExecProcessPool(processCommandLine, processes, getThing().getUID().getId());
+        }
+
         if (executionJob == null || executionJob.isCancelled()) {
             if (((BigDecimal) getConfig().get(INTERVAL)) != null && ((BigDecimal) getConfig().get(INTERVAL)).intValue() > 0) {
                 int polling_interval = ((BigDecimal) getConfig().get(INTERVAL)).intValue();
@@ -116,6 +152,11 @@ public class ExecHandler extends BaseThingHandler {
             executionJob.cancel(true);
             executionJob = null;
         }
+        if (processPool != null) {
+            processPool.shutdown();
+            processPool = null;
+        }
+        transformationServices.clear();
     }
 
     protected Runnable periodicExecutionRunnable = new Runnable() {
@@ -134,6 +175,12 @@ public class ExecHandler extends BaseThingHandler {
 
                 updateState(RUN, OnOffType.ON);
 
+                ExecProcessPool pool = processPool;
+                if (pool != null) {
+                    executePersistent(pool, commandLine, timeOut);
+                    return;
+                }
+
                 // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
                 // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
                 // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
@@ -220,22 +267,50 @@ public class ExecHandler extends BaseThingHandler {
 
                 outputBuilder.append(errorBuilder.toString());
 
-                String transformedResponse = StringUtils.chomp(outputBuilder.toString());
-                String transformation = (String) getConfig().get(TRANSFORM);
+                updateOutput(StringUtils.chomp(outputBuilder.toString()));
+            }
+        }
 
-                if (transformation != null && transformation.length() > 0) {
-                    transformedResponse = transformResponse(transformedResponse, transformation);
-                }
+    };
 
-                updateState(OUTPUT, new StringType(transformedResponse));
+    /**
+     * Executes the command by sending the current input as a request to a process of the pool
+     */
+    private void executePersistent(ExecProcessPool pool, String commandLine, int timeOut) {
+        String request = lastInput != null ? lastInput : "";
+        logger.trace("The request to be sent to '{}' will be '{}'", commandLine, request);
 
-                DateTimeType stampType = new DateTimeType(Calendar.getInstance());
-                updateState(LAST_EXECUTION, stampType);
+        String response;
+        try {
+            response = pool.execute(request, timeOut);
+        } catch (IOException | TimeoutException e) {
+            logger.error("An exception occurred while executing '{}' : '{}'", commandLine, e.getMessage());
+            updateState(RUN, OnOffType.OFF);
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            return;
+        } catch (InterruptedException e) {
+            updateState(RUN, OnOffType.OFF);
+            Thread.currentThread().interrupt();
+            return;
+        }
 
-            }
+        updateState(RUN, OnOffType.OFF);
+        updateOutput(response);
+    }
+
+    private void updateOutput(String response) {
+        String transformedResponse = response;
+        String transformation = (String) getConfig().get(TRANSFORM);
+
+        if (transformation != null && transformation.length() > 0) {
+            transformedResponse = transformResponse(transformedResponse, transformation);
         }
 
-    };
+        updateState(OUTPUT, new StringType(transformedResponse));
+
+        DateTimeType stampType = new DateTimeType(Calendar.getInstance());
+        updateState(LAST_EXECUTION, stampType);
+    }
 
     protected String transformResponse(String response, String transformation) {
         String transformedResponse;
@@ -245,8 +320,14 @@ public class ExecHandler extends BaseThingHandler {
             String transformationType = parts[0];
             String transformationFunction = parts[1];
 
-            TransformationService transformationService = TransformationHelper.getTransformationService(bundleContext,
-                    transformationType);
+            TransformationService transformationService = transformationServices.get(transformationType);
+            if (transformationService == null) {
+                transformationService = TransformationHelper.getTransformationService(bundleContext,
+                        transformationType);
+                if (transformationService != null) {
+                    transformationServices.put(transformationType, transformationService);
+                }
+            }
             if (transformationService != null) {
                 transformedResponse = transformationService.transform(transformationFunction, response);
             } else {
@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.exec.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecProcessPool} keeps a number of long-lived processes of the same command line running. A request is
+ * written as a single line to stdin of an idle process and the first line the process writes to stdout is its
+ * response, so no new process has to be forked for each execution.
+ *
+ * A process that terminated is started again with its next request. A process that does not respond in time is
+ * terminated, as its next response could not be told apart from the late one.
+ *
+ * @author agent - Initial contribution
+ */
+public class ExecProcessPool {
+
+    private final Logger logger = LoggerFactory.getLogger(ExecProcessPool.class);
+
+    private static Runtime rt = Runtime.getRuntime();
+
+    // marks the end of the stdout of a process in its response queue, compared by identity
+    private static final String END_OF_STREAM = new String();
+
+    private final String commandLine;
+    private final String name;
+    private final List<ExecProcess> processes = new ArrayList<>();
+    private final BlockingQueue<ExecProcess> idleProcesses = new LinkedBlockingQueue<>();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a pool, the processes are only started with their first request
+     *
+     * @param commandLine the command line of the processes
+     * @param size the number of processes
+     * @param name the name of the reader threads, e.g. the id of the thing
+     */
+    public ExecProcessPool(String commandLine, int size, String name) {
+        this.commandLine = commandLine;
+        this.name = name;
+        for (int i = 0; i < Math.max(1, size); i++) {
+            ExecProcess process = new ExecProcess();
+            processes.add(process);
+            idleProcesses.add(process);
+        }
+    }
+
+    /**
+     * Sends a request to an idle process of the pool and waits for its response
+     *
+     * @param request the request, line breaks are replaced by spaces
+     * @param timeout the time in milliseconds to wait for an idle process and its response
+     * @return the response of the process
+     * @throws IOException if the process could not be started or terminated before responding
+     * @throws TimeoutException if no process responded in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public String execute(String request, long timeout) throws IOException, TimeoutException, InterruptedException {
+        long start = System.nanoTime();
+        ExecProcess process = idleProcesses.poll(timeout, TimeUnit.MILLISECONDS);
+        if (process == null) {
+            throw new TimeoutException(
+                    "No process of '" + commandLine + "' became available within " + timeout + " ms");
+        }
+        try {
+            long remaining = timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return process.execute(request.replace('\r', ' ').replace('\n', ' '), Math.max(0, remaining));
+        } finally {
+            if (shutdown) {
+                process.destroy();
+            } else {
+                idleProcesses.add(process);
+            }
+        }
+    }
+
+    /**
+     * Terminates all processes of the pool
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (ExecProcess process : processes) {
+            process.destroy();
+        }
+    }
+
+    private class ExecProcess {
+        private Process process;
+        private BufferedWriter writer;
+        private BlockingQueue<String> responses;
+        private int starts;
+
+        private String execute(String request, long timeout)
+                throws IOException, TimeoutException, InterruptedException {
+            if (process == null || !process.isAlive()) {
+                start();
+            }
+            // drop the lines the process wrote without a request
+            responses.clear();
+
+            try {
+                writer.write(request);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                destroy();
+                throw e;
+            }
+
+            String response = responses.poll(timeout, TimeUnit.MILLISECONDS);
+            if (response == null) {
+                logger.warn("Forcibly terminating the process ('{}') after a timeout of {} ms", commandLine, timeout);
+                destroy();
+                throw new TimeoutException("No response of '" + commandLine + "' within " + timeout + " ms");
+            }
+            if (response == END_OF_STREAM) {
+                destroy();
+                throw new IOException("The process ('" + commandLine + "') terminated without a response");
+            }
+            return response;
+        }
+
+        private void start() throws IOException {
+            destroy();
+            if (starts++ > 0) {
+                logger.info("Restarting the process ('{}')", commandLine);
+            } else {
+                logger.debug("Starting the process ('{}')", commandLine);
+            }
+
+            Process newProcess = rt.exec(commandLine);
+            BlockingQueue<String> newResponses = new LinkedBlockingQueue<>();
+            startReader(newProcess.getInputStream(), newResponses, "OUTPUT");
+            startReader(newProcess.getErrorStream(), null, "ERROR");
+
+            process = newProcess;
+            writer = new BufferedWriter(new OutputStreamWriter(newProcess.getOutputStream()));
+            responses = newResponses;
+        }
+
+        private void startReader(InputStream stream, BlockingQueue<String> lines, String type) {
+            Thread thread = new Thread(() -> {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        logger.debug("Exec [{}]: '{}'", type, line);
+                        if (lines != null) {
+                            lines.add(line);
+                        }
+                    }
+                } catch (IOException e) {
+                    logger.debug("Stopped reading the {} of '{}' : '{}'", type, commandLine, e.getMessage());
+                }
+                if (lines != null) {
+                    lines.add(END_OF_STREAM);
+                }
+            }, "OH-exec-" + name + "-" + type.toLowerCase());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private synchronized void destroy() {
+            if (process != null) {
+                process.destroyForcibly();
+                process = null;
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    // the process is gone anyway
+                }
+            }
+        }
+    }
+
+}
@@ -110,6 +110,8 @@ public class FeedHandlerTest extends JavaOSGiTest {
 
         String feedContent;
         int httpStatus;
+        String eTag;
+        volatile int notModifiedResponses;
 
         public FeedServiceMock(String feedContentFile) {
             super();
@@ -125,6 +127,14 @@ public class FeedHandlerTest extends JavaOSGiTest {
         @Override
         protected void doGet(HttpServletRequest request, HttpServletResponse response)
                 throws ServletException, IOException {
+            if (eTag != null) {
+                response.setHeader("ETag", eTag);
+                if (eTag.equals(request.getHeader("If-None-Match"))) {
+                    notModifiedResponses++;
+                    response.setStatus(HttpStatus.NOT_MODIFIED_304);
+                    return;
+                }
+            }
             response.getOutputStream().println(feedContent);
             // Recommended RSS MIME type - http://www.rssboard.org/rss-mime-type-application.txt
             // Atom MIME type is - application/atom+xml
@@ -327,6 +337,29 @@ public class FeedHandlerTest extends JavaOSGiTest {
         testIfItemStateIsUpdated(commandReceived, contentChanged);
     }
 
+    @Test
+    public void assertThatNotModifiedFeedIsNotDownloadedAgain() throws InterruptedException {
+        servlet.eTag = "\"1\"";
+        initializeDefaultFeedHandler();
+
+        waitForAssert(() -> {
+            assertThat("Feed Thing can not be initialized", feedThing.getStatus(), is(equalTo(ONLINE)));
+            assertThat("Item's state is not updated on initialize", currentItemState, is(notNullValue()));
+        });
+        StringType firstItemState = currentItemState;
+
+        // Before this time has expired, the refresh command will no trigger a request to the server
+        sleep(FeedBindingConstants.MINIMUM_REFRESH_TIME);
+
+        feedHandler.handleCommand(channelUID, RefreshType.REFRESH);
+
+        waitForAssert(() -> {
+            assertThat("No conditional request has been sent", servlet.notModifiedResponses, is(1));
+        });
+        assertThat(feedThing.getStatus(), is(equalTo(ONLINE)));
+        assertThat(currentItemState, is(equalTo(firstItemState)));
+    }
+
     @Test
     public void assertThatThingsStatusIsUpdatedWhenHTTP500ErrorCodeIsReceived() throws InterruptedException {
         testIfThingStatusIsUpdated(HttpStatus.INTERNAL_SERVER_ERROR_500);
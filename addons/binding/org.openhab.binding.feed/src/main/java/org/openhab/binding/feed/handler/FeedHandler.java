@@ -10,20 +10,15 @@ package org.openhab.binding.feed.handler;
 
 import static org.openhab.binding.feed.FeedBindingConstants.*;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.zip.GZIPInputStream;
 
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -38,17 +33,19 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
+import org.openhab.binding.feed.internal.FeedFetcher;
+import org.openhab.binding.feed.internal.FeedFetcher.FetchResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
-import com.rometools.rome.io.SyndFeedInput;
 
 /**
  * The {@link FeedHandler } is responsible for handling commands, which are
  * sent to one of the channels and for the regular updates of the feed data.
+ * The feed is downloaded by the {@link FeedFetcher} shared by all Feed Things.
  *
  * @author Svilen Valkanov - Initial contribution
  */
@@ -60,16 +57,20 @@ public class FeedHandler extends BaseThingHandler {
     private BigDecimal refreshTime;
     private ScheduledFuture<?> refreshTask;
     private SyndFeed currentFeedState;
+    private long currentFeedVersion;
     private long lastRefreshTime;
+    private final FeedFetcher feedFetcher;
 
-    public FeedHandler(Thing thing) {
+    public FeedHandler(Thing thing, FeedFetcher feedFetcher) {
         super(thing);
+        this.feedFetcher = feedFetcher;
         currentFeedState = null;
     }
 
     @Override
     public void initialize() {
         checkConfiguration();
+        feedFetcher.register(urlString);
         startAutomaticRefresh();
         updateStatus(ThingStatus.ONLINE);
     }
@@ -104,7 +105,7 @@ public class FeedHandler extends BaseThingHandler {
     }
 
     private void refreshFeedState() {
-        SyndFeed feed = fetchFeedData(urlString);
+        FetchResult feed = fetchFeedData(urlString);
         boolean feedUpdated = updateFeedIfChanged(feed);
 
         if (feedUpdated) {
@@ -172,16 +173,16 @@ public class FeedHandler extends BaseThingHandler {
 
     /**
      * This method updates the {@link #currentFeedState}, only if there are changes on the server, since the last check.
-     * It compares the content on the server with the local
-     * stored {@link #currentFeedState} in the {@link FeedHandler}.
+     * The {@link FeedFetcher} increases the version of a feed, when it contains new entries or its data changed.
      *
      * @return <code>true</code> if new content is available on the server since the last update or <code>false</code>
      *         otherwise
      */
-    private synchronized boolean updateFeedIfChanged(SyndFeed newFeedState) {
-        // SyndFeed class has implementation of equals ()
-        if (newFeedState != null && !newFeedState.equals(currentFeedState)) {
-            currentFeedState = newFeedState;
+    private synchronized boolean updateFeedIfChanged(FetchResult newFeedState) {
+        if (newFeedState != null && newFeedState.getFeed() != null
+                && (currentFeedState == null || newFeedState.getVersion() != currentFeedVersion)) {
+            currentFeedState = newFeedState.getFeed();
+            currentFeedVersion = newFeedState.getVersion();
             logger.debug("New content available!");
             return true;
         }
@@ -197,27 +198,13 @@ public class FeedHandler extends BaseThingHandler {
      * {@link ThingStatusDetail#COMMUNICATION_ERROR} and adequate message.
      *
      * @param urlString URL of the Feed
-     * @return {@link SyndFeed} instance with the feed data, if the connection attempt was successful and
+     * @return {@link FetchResult} with the feed data, if the connection attempt was successful and
      *         <code>null</code> otherwise
      */
-    private SyndFeed fetchFeedData(String urlString) {
-        SyndFeed feed = null;
+    private FetchResult fetchFeedData(String urlString) {
+        FetchResult feed = null;
         try {
-            URL url = new URL(urlString);
-
-            URLConnection connection = url.openConnection();
-            connection.setRequestProperty("Accept-Encoding", "gzip");
-
-            BufferedReader in = null;
-            if ("gzip".equals(connection.getContentEncoding())) {
-                in = new BufferedReader(new InputStreamReader(new GZIPInputStream(connection.getInputStream())));
-            } else {
-                in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            }
-
-            SyndFeedInput input = new SyndFeedInput();
-            feed = input.build(in);
-            in.close();
+            feed = feedFetcher.fetch(urlString);
 
             if (this.thing.getStatus() != ThingStatus.ONLINE) {
                 updateStatus(ThingStatus.ONLINE);
@@ -267,7 +254,7 @@ public class FeedHandler extends BaseThingHandler {
         if (command instanceof RefreshType) {
             // safeguard for multiple REFRESH commands for different channels in a row
             if (isMinimumRefreshTimeExceeded()) {
-                SyndFeed feed = fetchFeedData(urlString);
+                FetchResult feed = fetchFeedData(urlString);
                 updateFeedIfChanged(feed);
             }
             publishChannelIfLinked(channelUID);
@@ -282,6 +269,7 @@ public class FeedHandler extends BaseThingHandler {
         if (refreshTask != null) {
             refreshTask.cancel(true);
         }
+        feedFetcher.unregister(urlString);
         lastRefreshTime = 0;
     }
 
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.feed.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+
+/**
+ * The {@link FeedFetcher} downloads the feeds for all Feed Things. It is shared by the handlers, so that:
+ * <ul>
+ * <li>the <code>ETag</code> and <code>Last-Modified</code> headers are cached per URL and sent back as conditional GET,
+ * a <code>304 Not Modified</code> response is not parsed at all,</li>
+ * <li>Things requesting the same URL while a download is in progress wait for it and share its result,</li>
+ * <li>a downloaded feed only counts as changed, if it contains an entry with a new id or its own data changed.</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+public class FeedFetcher {
+
+    private final Logger logger = LoggerFactory.getLogger(FeedFetcher.class);
+
+    /**
+     * The result of a fetch: the current feed and its version, which only changes with new content
+     */
+    public static class FetchResult {
+        private final SyndFeed feed;
+        private final long version;
+
+        private FetchResult(SyndFeed feed, long version) {
+            this.feed = feed;
+            this.version = version;
+        }
+
+        public SyndFeed getFeed() {
+            return feed;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    private static class CachedFeed {
+        private int users;
+        private String eTag;
+        private long lastModified;
+        private SyndFeed feed;
+        private Set<String> entryIds = new HashSet<>();
+        private long version;
+        private long lastFetchNanos;
+        private Exception lastException;
+    }
+
+    private final Map<String, CachedFeed> cachedFeeds = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a user of the URL, the cached data of a URL is kept as long as it has users
+     *
+     * @param urlString URL of the feed
+     */
+    public void register(String urlString) {
+        if (urlString != null) {
+            cachedFeeds.compute(urlString, (url, cachedFeed) -> {
+                CachedFeed result = cachedFeed != null ? cachedFeed : new CachedFeed();
+                result.users++;
+                return result;
+            });
+        }
+    }
+
+    /**
+     * Unregisters a user of the URL
+     *
+     * @param urlString URL of the feed
+     */
+    public void unregister(String urlString) {
+        if (urlString != null) {
+            cachedFeeds.computeIfPresent(urlString, (url, cachedFeed) -> --cachedFeed.users > 0 ? cachedFeed : null);
+        }
+    }
+
+    /**
+     * Fetches the feed, if no other fetch of the same URL has been completed since this method was called
+     *
+     * @param urlString URL of the feed
+     * @return the current feed and its version
+     * @throws IOException if the feed can not be downloaded
+     * @throws FeedException if the content is not a valid feed
+     * @throws IllegalArgumentException if the URL is null
+     */
+    public FetchResult fetch(String urlString) throws IOException, FeedException {
+        if (urlString == null) {
+            throw new IllegalArgumentException("Feed URL is null");
+        }
+        long requestNanos = System.nanoTime();
+        CachedFeed cachedFeed = cachedFeeds.computeIfAbsent(urlString, url -> new CachedFeed());
+
+        synchronized (cachedFeed) {
+            if (cachedFeed.lastFetchNanos - requestNanos < 0) {
+                try {
+                    download(urlString, cachedFeed);
+                    cachedFeed.lastException = null;
+                } catch (IOException | FeedException | RuntimeException e) {
+                    cachedFeed.lastException = e;
+                }
+                cachedFeed.lastFetchNanos = System.nanoTime();
+            } else {
+                logger.debug("Feed {} has just been fetched for another Thing", urlString);
+            }
+
+            Exception e = cachedFeed.lastException;
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            } else if (e instanceof FeedException) {
+                throw (FeedException) e;
+            } else if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            return new FetchResult(cachedFeed.feed, cachedFeed.version);
+        }
+    }
+
+    private void download(String urlString, CachedFeed cachedFeed) throws IOException, FeedException {
+        URL url = new URL(urlString);
+
+        URLConnection connection = url.openConnection();
+        connection.setRequestProperty("Accept-Encoding", "gzip");
+        if (cachedFeed.feed != null) {
+            if (cachedFeed.eTag != null) {
+                connection.setRequestProperty("If-None-Match", cachedFeed.eTag);
+            }
+            if (cachedFeed.lastModified > 0) {
+                connection.setIfModifiedSince(cachedFeed.lastModified);
+            }
+        }
+
+        if (connection instanceof HttpURLConnection
+                && ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            logger.debug("Feed {} has not been modified", urlString);
+            ((HttpURLConnection) connection).disconnect();
+            return;
+        }
+
+        SyndFeed feed;
+        BufferedReader in = null;
+        if ("gzip".equals(connection.getContentEncoding())) {
+            in = new BufferedReader(new InputStreamReader(new GZIPInputStream(connection.getInputStream())));
+        } else {
+            in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
+        }
+        try {
+            SyndFeedInput input = new SyndFeedInput();
+            feed = input.build(in);
+        } finally {
+            in.close();
+        }
+
+        cachedFeed.eTag = connection.getHeaderField("ETag");
+        cachedFeed.lastModified = connection.getLastModified();
+
+        Set<String> entryIds = new HashSet<>();
+        for (SyndEntry entry : feed.getEntries()) {
+            entryIds.add(getEntryId(entry));
+        }
+        if (cachedFeed.feed == null || !cachedFeed.entryIds.containsAll(entryIds)
+                || hasFeedDataChanged(cachedFeed.feed, feed)) {
+            cachedFeed.version++;
+            logger.debug("Feed {} has new content", urlString);
+        }
+        cachedFeed.feed = feed;
+        cachedFeed.entryIds = entryIds;
+    }
+
+    private String getEntryId(SyndEntry entry) {
+        // ROME sets the URI from the guid (RSS) or id (Atom) of the entry
+        if (entry.getUri() != null) {
+            return entry.getUri();
+        }
+        if (entry.getLink() != null) {
+            return entry.getLink();
+        }
+        return String.valueOf(entry.getTitle());
+    }
+
+    private boolean hasFeedDataChanged(SyndFeed oldFeed, SyndFeed newFeed) {
+        return oldFeed.getEntries().size() != newFeed.getEntries().size()
+                || !Objects.equals(oldFeed.getTitle(), newFeed.getTitle())
+                || !Objects.equals(oldFeed.getDescription(), newFeed.getDescription())
+                || !Objects.equals(oldFeed.getAuthor(), newFeed.getAuthor())
+                || !Objects.equals(oldFeed.getPublishedDate(), newFeed.getPublishedDate());
+    }
+
+}
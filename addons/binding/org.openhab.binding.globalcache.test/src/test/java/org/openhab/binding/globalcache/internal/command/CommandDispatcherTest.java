@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.globalcache.internal.command;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.globalcache.GlobalCacheBindingConstants.CommandType;
+
+/**
+ * Tests for the {@link CommandDispatcher}: pipelining of the requests per module:connector and correlation of the
+ * replies with the outstanding transactions.
+ *
+ * @author agent - Initial contribution
+ */
+public class CommandDispatcherTest {
+    private static final long TRANSACTION_TIMEOUT = 50;
+
+    private final List<String> written = new ArrayList<>();
+    private IOException writeError;
+
+    private CommandDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        dispatcher = new CommandDispatcher("test", new CommandDispatcher.DeviceWriter() {
+            @Override
+            public void writeCommand(RequestMessage requestMessage) throws IOException {
+                write(requestMessage);
+            }
+
+            @Override
+            public void writeSerial(RequestMessage requestMessage) throws IOException {
+                write(requestMessage);
+            }
+        }, TRANSACTION_TIMEOUT);
+    }
+
+    @Test
+    public void assertConnectorsHaveOneOutstandingTransactionEach() throws IOException {
+        dispatcher.dispatch(request("sendir,1:1,1,38000,1,1,1,1"));
+        dispatcher.dispatch(request("sendir,1:2,2,38000,1,1,1,1"));
+        dispatcher.dispatch(request("sendir,1:1,3,38000,1,1,1,1"));
+
+        assertThat(written.size(), is(2));
+        assertThat(written.get(0), is("sendir,1:1,1,38000,1,1,1,1"));
+        assertThat(written.get(1), is("sendir,1:2,2,38000,1,1,1,1"));
+
+        dispatcher.completeTransaction("completeir,1:1,1");
+
+        assertThat(written.size(), is(3));
+        assertThat(written.get(2), is("sendir,1:1,3,38000,1,1,1,1"));
+    }
+
+    @Test
+    public void assertRepliesAreCorrelatedByConnector() throws IOException {
+        RequestMessage first = request("getstate,1:1");
+        RequestMessage second = request("getstate,1:2");
+        dispatcher.dispatch(first);
+        dispatcher.dispatch(second);
+
+        dispatcher.completeTransaction("state,1:2,1");
+        dispatcher.completeTransaction("state,1:1,0");
+
+        assertThat(reply(first), is("state,1:1,0"));
+        assertThat(reply(second), is("state,1:2,1"));
+    }
+
+    @Test
+    public void assertErrorReplyOfConnectorCompletesItsTransaction() throws IOException {
+        RequestMessage first = request("sendir,1:1,1,38000,1,1,1,1");
+        RequestMessage second = request("sendir,1:2,2,38000,1,1,1,1");
+        dispatcher.dispatch(first);
+        dispatcher.dispatch(second);
+
+        dispatcher.completeTransaction("ERR_1:2,008");
+
+        assertThat(reply(second), is("ERR_1:2,008"));
+        assertThat(reply(first), is(nullValue()));
+    }
+
+    @Test
+    public void assertLateIRReplyDoesNotCompleteTheNextTransaction() throws Exception {
+        RequestMessage first = request("sendir,1:1,1,38000,1,1,1,1");
+        dispatcher.dispatch(first);
+        Thread.sleep(TRANSACTION_TIMEOUT * 2);
+        dispatcher.expireTransactions();
+        assertThat(reply(first), is("ERROR: Timed out waiting for reply from device"));
+
+        RequestMessage second = request("sendir,1:1,2,38000,1,1,1,1");
+        RequestMessage third = request("sendir,1:1,3,38000,1,1,1,1");
+        dispatcher.dispatch(second);
+        dispatcher.dispatch(third);
+
+        // The reply of the first command must not complete the second one
+        dispatcher.completeTransaction("completeir,1:1,1");
+        assertThat(reply(second), is(nullValue()));
+
+        // ... and the following replies are not shifted by one
+        dispatcher.completeTransaction("completeir,1:1,2");
+        assertThat(reply(second), is("completeir,1:1,2"));
+        dispatcher.completeTransaction("completeir,1:1,3");
+        assertThat(reply(third), is("completeir,1:1,3"));
+    }
+
+    @Test
+    public void assertLateIRReplyDoesNotCompleteOtherCommand() throws IOException {
+        RequestMessage getstate = request("getstate,1:1");
+        dispatcher.dispatch(getstate);
+
+        dispatcher.completeTransaction("completeir,1:1,1");
+        assertThat(reply(getstate), is(nullValue()));
+
+        dispatcher.completeTransaction("state,1:1,1");
+        assertThat(reply(getstate), is("state,1:1,1"));
+    }
+
+    @Test
+    public void assertReplyOfOtherCommandTypeFailsTheTransaction() throws IOException {
+        RequestMessage sendir = request("sendir,1:1,1,38000,1,1,1,1");
+        dispatcher.dispatch(sendir);
+
+        dispatcher.completeTransaction("state,1:1,0");
+
+        assertThat(reply(sendir), is("ERROR: Unexpected reply from device: state,1:1,0"));
+    }
+
+    @Test
+    public void assertUnsolicitedReplyIsIgnored() throws IOException {
+        RequestMessage getstate = request("getstate,1:1");
+        dispatcher.dispatch(getstate);
+
+        dispatcher.completeTransaction("state,1:3,1");
+        assertThat(reply(getstate), is(nullValue()));
+
+        dispatcher.completeTransaction("state,1:1,1");
+        assertThat(reply(getstate), is("state,1:1,1"));
+    }
+
+    @Test
+    public void assertUncorrelatedReplyFailsAllOutstandingTransactions() throws IOException {
+        RequestMessage first = request("sendir,1:1,1,38000,1,1,1,1");
+        RequestMessage second = request("sendir,1:2,2,38000,1,1,1,1");
+        dispatcher.dispatch(first);
+        dispatcher.dispatch(second);
+
+        dispatcher.completeTransaction("ERR IR001");
+
+        assertThat(reply(first), is("ERROR: Uncorrelated reply from device: ERR IR001"));
+        assertThat(reply(second), is("ERROR: Uncorrelated reply from device: ERR IR001"));
+    }
+
+    @Test
+    public void assertRequestWithoutConnectorWaitsForOutstandingTransactions() throws IOException {
+        RequestMessage sendir = request("sendir,1:1,1,38000,1,1,1,1");
+        RequestMessage getversion = request("getversion");
+        RequestMessage getstate = request("getstate,1:2");
+        dispatcher.dispatch(sendir);
+        dispatcher.dispatch(getversion);
+        dispatcher.dispatch(getstate);
+        assertThat(written.size(), is(1));
+
+        dispatcher.completeTransaction("completeir,1:1,1");
+        assertThat(written.size(), is(2));
+        assertThat(written.get(1), is("getversion"));
+
+        dispatcher.completeTransaction("710-1005-05");
+        assertThat(reply(getversion), is("710-1005-05"));
+        assertThat(written.size(), is(3));
+        assertThat(written.get(2), is("getstate,1:2"));
+    }
+
+    @Test
+    public void assertSerialRequestsCompleteWhenWritten() throws IOException {
+        RequestMessage sendir = request("sendir,1:1,1,38000,1,1,1,1");
+        RequestMessage serial1 = new RequestMessage("sendserial", CommandType.SERIAL1, "PWON%0D", responseQueue());
+        RequestMessage serial2 = new RequestMessage("sendserial", CommandType.SERIAL1, "PWOFF%0D", responseQueue());
+        dispatcher.dispatch(sendir);
+        dispatcher.dispatch(serial1);
+        dispatcher.dispatch(serial2);
+
+        assertThat(written.size(), is(3));
+        assertThat(reply(serial1), is("successful"));
+        assertThat(reply(serial2), is("successful"));
+        assertThat(reply(sendir), is(nullValue()));
+    }
+
+    @Test
+    public void assertWriteErrorFailsTheTransaction() {
+        RequestMessage getstate = request("getstate,1:1");
+        writeError = new IOException("Broken pipe");
+
+        try {
+            dispatcher.dispatch(getstate);
+            fail("The write error must be passed on to the caller");
+        } catch (IOException e) {
+            assertThat(e, is(writeError));
+        }
+        assertThat(reply(getstate), is("ERROR: Broken pipe"));
+    }
+
+    @Test
+    public void assertFailTransactionsRespondsToOutstandingAndQueuedRequests() throws IOException {
+        RequestMessage first = request("getstate,1:1");
+        RequestMessage second = request("getstate,1:1");
+        dispatcher.dispatch(first);
+        dispatcher.dispatch(second);
+
+        dispatcher.failTransactions("ERROR: No connection to device");
+
+        assertThat(reply(first), is("ERROR: No connection to device"));
+        assertThat(reply(second), is("ERROR: No connection to device"));
+        assertThat(dispatcher.getPollTimeout(2000), is(2000L));
+    }
+
+    @Test
+    public void assertPollTimeoutEndsWhenTheOutstandingTransactionTimesOut() throws IOException {
+        assertThat(dispatcher.getPollTimeout(2000), is(2000L));
+
+        dispatcher.dispatch(request("getstate,1:1"));
+
+        assertThat(dispatcher.getPollTimeout(2000) <= TRANSACTION_TIMEOUT + 1, is(true));
+    }
+
+    @Test
+    public void assertStatisticsAreKeptPerConnector() throws IOException {
+        dispatcher.dispatch(request("getstate,1:1"));
+        dispatcher.dispatch(request("getstate,1:2"));
+        dispatcher.completeTransaction("state,1:1,0");
+
+        assertThat(dispatcher.getTransactionStatistics().size(), is(1));
+        assertThat(dispatcher.getTransactionStatistics().get("1:1").startsWith("1 transactions"), is(true));
+    }
+
+    private void write(RequestMessage requestMessage) throws IOException {
+        if (writeError != null) {
+            throw writeError;
+        }
+        written.add(requestMessage.getDeviceCommand());
+    }
+
+    private static RequestMessage request(String deviceCommand) {
+        return new RequestMessage(deviceCommand.split(",")[0], CommandType.COMMAND, deviceCommand, responseQueue());
+    }
+
+    private static LinkedBlockingQueue<ResponseMessage> responseQueue() {
+        return new LinkedBlockingQueue<>(1);
+    }
+
+    private static String reply(RequestMessage requestMessage) {
+        ResponseMessage responseMessage = requestMessage.getReceiveQueue().poll();
+        return responseMessage == null ? null : responseMessage.getDeviceReply();
+    }
+}
@@ -45,6 +45,7 @@ public class GlobalCacheBindingConstants {
     // GlobalCache-specific thing properties
     public static final String THING_PROPERTY_UID = "uid";
     public static final String THING_PROPERTY_MAC = "macAddress";
+    public static final String THING_PROPERTY_LATENCY_PREFIX = "latency-";
 
     /*
      * GlobalCache thing configuration items
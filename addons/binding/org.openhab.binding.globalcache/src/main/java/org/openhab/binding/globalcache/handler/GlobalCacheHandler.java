@@ -14,8 +14,11 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -25,6 +28,11 @@ import java.net.SocketException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -34,6 +42,7 @@ import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
@@ -50,13 +59,13 @@ import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.globalcache.GlobalCacheBindingConstants.CommandType;
+import org.openhab.binding.globalcache.internal.command.CommandDispatcher;
 import org.openhab.binding.globalcache.internal.command.CommandGetstate;
 import org.openhab.binding.globalcache.internal.command.CommandGetversion;
 import org.openhab.binding.globalcache.internal.command.CommandSendir;
 import org.openhab.binding.globalcache.internal.command.CommandSendserial;
 import org.openhab.binding.globalcache.internal.command.CommandSetstate;
 import org.openhab.binding.globalcache.internal.command.RequestMessage;
-import org.openhab.binding.globalcache.internal.command.ResponseMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +80,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
     private static final String GLOBALCACHE_THREAD_POOL = "globalCacheHandler";
 
+    private static final Pattern HEX_CODE_PATTERN = Pattern
+            .compile("0000( +[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f])+");
+
     private InetAddress ifAddress;
     private CommandProcessor commandProcessor;
     private ScheduledExecutorService scheduledExecutorService = ThreadPoolManager
@@ -87,6 +99,11 @@ public class GlobalCacheHandler extends BaseThingHandler {
     // Character set to use for URL encoding & decoding
     private String CHARSET = "ISO-8859-1";
 
+    // IR and serial codes of the MAP file, already converted to GlobalCache format
+    private final Map<String, String> codeCache = new ConcurrentHashMap<>();
+    private String cachedMapFile;
+    private long cachedMapFileLastModified;
+
     public GlobalCacheHandler(@NonNull Thing gcDevice, String ipv4Address) {
         super(gcDevice);
         irCounter = new AtomicInteger(1);
@@ -111,6 +128,11 @@ public class GlobalCacheHandler extends BaseThingHandler {
             markThingOfflineWithError(ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, "No suitable network interface");
             return;
         }
+
+        String mapFile = (String) thing.getConfiguration().get(THING_CONFIG_MAP_FILENAME);
+        if (StringUtils.isNotEmpty(mapFile)) {
+            validateCodeCache(mapFile);
+        }
         scheduledFuture = scheduledExecutorService.schedule(commandProcessor, 2, TimeUnit.SECONDS);
     }
 
@@ -248,6 +270,13 @@ public class GlobalCacheHandler extends BaseThingHandler {
             return null;
         }
 
+        validateCodeCache(mapFile);
+        String cachedCode = codeCache.get(command.toString());
+        if (cachedCode != null) {
+            logger.debug("Found cached code for {} for thing {} from map file '{}'", command, thingID(), mapFile);
+            return cachedCode;
+        }
+
         TransformationService transformService = TransformationHelper.getTransformationService(bundleContext, "MAP");
         if (transformService == null) {
             logger.error("Failed to get MAP transformation service for thing {}; is bundle installed?", thingID());
@@ -271,7 +300,17 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
         logger.debug("Transformed {} for thing {} with map file '{}'", command, thingID(), mapFile);
 
-        // Determine if the code is hex format. If so, convert to GC format
+        code = convertCode(code);
+        if (code != null) {
+            codeCache.put(command.toString(), code);
+        }
+        return code;
+    }
+
+    /*
+     * Determine if the code is hex format. If so, convert to GC format
+     */
+    private String convertCode(String code) {
         if (isHexCode(code)) {
             logger.debug("Code is in hex format, convert to GC format");
             try {
@@ -285,12 +324,53 @@ public class GlobalCacheHandler extends BaseThingHandler {
         return code;
     }
 
+    /*
+     * Make sure the code cache reflects the current content of the MAP file. When the MAP file changed (or another
+     * MAP file was configured), the cache is cleared and all codes of the MAP file are loaded again. Codes that can't
+     * be found this way are still looked up using the MAP transformation service.
+     */
+    private synchronized void validateCodeCache(String mapFile) {
+        File file = new File(ConfigConstants.getConfigFolder() + File.separator
+                + TransformationService.TRANSFORM_FOLDER_NAME + File.separator + mapFile);
+        long lastModified = file.lastModified();
+        if (mapFile.equals(cachedMapFile) && lastModified == cachedMapFileLastModified) {
+            return;
+        }
+
+        codeCache.clear();
+        cachedMapFile = mapFile;
+        cachedMapFileLastModified = lastModified;
+        if (!file.isFile()) {
+            logger.debug("Map file '{}' for thing {} not found, codes will not be preloaded", file, thingID());
+            return;
+        }
+
+        Properties codes = new Properties();
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            codes.load(reader);
+        } catch (IOException e) {
+            logger.debug("Failed to preload codes from map file '{}' for thing {}: {}", file, thingID(),
+                    e.getMessage());
+            return;
+        }
+
+        for (Entry<Object, Object> entry : codes.entrySet()) {
+            String code = (String) entry.getValue();
+            if (StringUtils.isNotEmpty(code)) {
+                code = convertCode(code);
+                if (code != null) {
+                    codeCache.put((String) entry.getKey(), code);
+                }
+            }
+        }
+        logger.debug("Preloaded {} codes from map file '{}' for thing {}", codeCache.size(), mapFile, thingID());
+    }
+
     /*
      * Check if the string looks like a hex code; if not then assume it's GC format
      */
     private boolean isHexCode(String code) {
-        Pattern pattern = Pattern.compile("0000( +[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f])+");
-        return pattern.matcher(code).find();
+        return HEX_CODE_PATTERN.matcher(code).find();
     }
 
     /*
@@ -369,6 +449,16 @@ public class GlobalCacheHandler extends BaseThingHandler {
         return thing.getConfiguration().get(THING_CONFIG_ACTIVECABLE).toString();
     }
 
+    /*
+     * Publish the transaction count and latency of each connector as thing properties
+     */
+    private void updateTransactionStatistics() {
+        for (Entry<String, String> entry : commandProcessor.getTransactionStatistics().entrySet()) {
+            logger.debug("Transactions for thing {} on {}: {}", thingID(), entry.getKey(), entry.getValue());
+            updateProperty(THING_PROPERTY_LATENCY_PREFIX + entry.getKey(), entry.getValue());
+        }
+    }
+
     private String thingID() {
         // Return segments 2 & 3 only
         String s = thing.getUID().getAsString();
@@ -433,14 +523,15 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
     /**
      * The {@link CommandProcessor} class is responsible for handling communication with the GlobalCache
-     * device. It waits for requests to arrive on a queue. When a request arrives, it sends the command to the
-     * GlobalCache device, waits for a response from the device, parses the response, then responds to the caller by
-     * placing a message in a response queue. Device response time is typically well below 100 ms, hence the reason
-     * fgor a relatively low timeout when reading the response queue.
+     * device. It waits for requests to arrive on a queue and hands them to a {@link CommandDispatcher}, which sends
+     * them on a pipeline per module:connector. The replies are read by the {@link CommandReplyReader} and correlated
+     * with the outstanding transactions by the dispatcher, which responds to the caller by placing a message in its
+     * response queue. Device response time is typically well below 100 ms, hence the reason for a relatively low
+     * timeout on the outstanding transactions.
      *
      * @author Mark Hilbush - Initial contribution
      */
-    private class CommandProcessor extends Thread {
+    private class CommandProcessor extends Thread implements CommandDispatcher.DeviceWriter {
         private Logger logger = LoggerFactory.getLogger(CommandProcessor.class);
 
         private boolean terminate = false;
@@ -448,6 +539,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
         private final int SEND_QUEUE_MAX_DEPTH = 10;
         private final int SEND_QUEUE_TIMEOUT = 2000;
+        private final int TRANSACTION_TIMEOUT = 2500;
+
+        private final CommandDispatcher dispatcher = new CommandDispatcher(thingID(), this, TRANSACTION_TIMEOUT);
 
         private ConnectionManager connectionManager;
 
@@ -481,41 +575,30 @@ public class GlobalCacheHandler extends BaseThingHandler {
             try {
                 RequestMessage requestMessage;
                 while (!terminate) {
-                    requestMessage = sendQueue.poll(SEND_QUEUE_TIMEOUT, TimeUnit.MILLISECONDS);
+                    // Wake up in time to expire the outstanding transactions
+                    requestMessage = sendQueue.poll(dispatcher.getPollTimeout(SEND_QUEUE_TIMEOUT),
+                            TimeUnit.MILLISECONDS);
                     if (requestMessage != null) {
                         if (requestMessage.getCommandName().equals(TERMINATE_COMMAND)) {
                             logger.debug("Processor for thing {} received terminate message", thingID());
                             break;
                         }
 
-                        String deviceReply;
                         connectionManager.connect();
                         if (connectionManager.isConnected()) {
                             try {
-                                long startTime = System.currentTimeMillis();
-                                if (requestMessage.isCommand()) {
-                                    writeCommandToDevice(requestMessage);
-                                    deviceReply = readReplyFromDevice(requestMessage);
-                                } else {
-                                    writeSerialToDevice(requestMessage);
-                                    deviceReply = "successful";
-                                }
-                                long endTime = System.currentTimeMillis();
-                                logger.debug("Transaction '{}' for thing {} at {} took {} ms",
-                                        requestMessage.getCommandName(), thingID(), getIP(), endTime - startTime);
-
+                                dispatcher.dispatch(requestMessage);
                             } catch (IOException e) {
-                                logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
-                                deviceReply = "ERROR: " + e.getMessage();
-                                connectionManager.setCommError(deviceReply);
-                                connectionManager.disconnect();
+                                handleCommError(e);
                             }
                         } else {
-                            deviceReply = "ERROR: " + "No connection to device";
+                            CommandDispatcher.respond(requestMessage, "ERROR: " + "No connection to device");
                         }
-
-                        logger.trace("Processor for thing {} queuing response message: {}", thingID(), deviceReply);
-                        requestMessage.getReceiveQueue().put(new ResponseMessage(deviceReply));
+                    }
+                    try {
+                        dispatcher.expireTransactions();
+                    } catch (IOException e) {
+                        handleCommError(e);
                     }
                 }
             } catch (InterruptedException e) {
@@ -525,45 +608,61 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
             connectionManager.cancelConnectionMonitorJob();
             connectionManager.disconnect();
+            failTransactions("ERROR: " + "Command processor terminated");
             connectionManager = null;
             logger.debug("Command processor TERMINATING for thing {} at IP {}", thingID(), getIP());
         }
 
+        private void completeTransaction(String deviceReply) {
+            try {
+                dispatcher.completeTransaction(deviceReply);
+            } catch (IOException e) {
+                handleCommError(e);
+            }
+        }
+
+        private void failTransactions(String deviceReply) {
+            dispatcher.failTransactions(deviceReply);
+        }
+
+        private Map<String, String> getTransactionStatistics() {
+            return dispatcher.getTransactionStatistics();
+        }
+
         /*
-         * Write the command to the device.
+         * Must not be called while holding the lock of the dispatcher, as the connection manager fails the
+         * transactions of the dispatcher when disconnecting.
          */
-        private void writeCommandToDevice(RequestMessage requestMessage) throws IOException {
-            logger.trace("Processor for thing {} writing command to device", thingID());
-
-            if (connectionManager.getCommandOut() == null) {
-                logger.debug("Error writing to device because output stream object is null");
-                return;
+        private void handleCommError(IOException e) {
+            if (connectionManager != null) {
+                logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
+                connectionManager.setCommError("ERROR: " + e.getMessage());
+                connectionManager.disconnect();
             }
-
-            byte[] deviceCommand = (requestMessage.getDeviceCommand() + '\r').getBytes();
-            connectionManager.getCommandOut().write(deviceCommand);
-            connectionManager.getCommandOut().flush();
         }
 
         /*
-         * Read command reply from the device, then remove the CR at the end of the line.
+         * Write the command to the device.
          */
-        private String readReplyFromDevice(RequestMessage requestMessage) throws IOException {
-            logger.trace("Processor for thing {} reading reply from device", thingID());
+        @Override
+        public void writeCommand(RequestMessage requestMessage) throws IOException {
+            logger.trace("Processor for thing {} writing command to device", thingID());
 
-            if (connectionManager.getCommandIn() == null) {
-                logger.debug("Error reading from device because input stream object is null");
-                return "ERROR: BufferedReader is null!";
+            DataOutputStream out = connectionManager.getCommandOut();
+            if (out == null) {
+                throw new IOException("Command output stream is null");
             }
 
-            logger.trace("Processor for thing {} reading response from device", thingID());
-            return connectionManager.getCommandIn().readLine().trim();
+            byte[] deviceCommand = (requestMessage.getDeviceCommand() + '\r').getBytes();
+            out.write(deviceCommand);
+            out.flush();
         }
 
         /*
          * Write a serial command to the device
          */
-        private void writeSerialToDevice(RequestMessage requestMessage) throws IOException {
+        @Override
+        public void writeSerial(RequestMessage requestMessage) throws IOException {
             DataOutputStream out = connectionManager.getSerialOut(requestMessage.getCommandType());
             if (out == null) {
                 logger.warn("Can't send serial command; output stream is null!");
@@ -578,6 +677,67 @@ public class GlobalCacheHandler extends BaseThingHandler {
         }
     }
 
+    /*
+     * The {@link CommandReplyReader} class reads the replies from the command connection and hands them to the
+     * {@link CommandProcessor}, which correlates them with the outstanding transactions.
+     *
+     * @author agent - Initial contribution
+     */
+    private class CommandReplyReader {
+        private Logger logger = LoggerFactory.getLogger(CommandReplyReader.class);
+
+        private ConnectionManager connectionManager;
+        private BufferedReader commandIn;
+        private ScheduledFuture<?> commandReplyReaderJob;
+        private volatile boolean terminateCommandReplyReader;
+
+        CommandReplyReader(ConnectionManager connectionManager, BufferedReader commandIn) {
+            if (commandIn == null) {
+                throw new IllegalArgumentException("Command input stream is not set");
+            }
+            this.connectionManager = connectionManager;
+            this.commandIn = commandIn;
+            commandReplyReaderJob = null;
+            terminateCommandReplyReader = false;
+        }
+
+        public void start() {
+            commandReplyReaderJob = scheduledExecutorService.schedule(this::commandReplyReader, 0, TimeUnit.SECONDS);
+        }
+
+        public void stop() {
+            terminateCommandReplyReader = true;
+            if (commandReplyReaderJob != null) {
+                commandReplyReaderJob.cancel(true);
+                commandReplyReaderJob = null;
+            }
+        }
+
+        private void commandReplyReader() {
+            logger.debug("Command reply reader RUNNING for {} on {}", thingID(), getIP());
+
+            while (!terminateCommandReplyReader) {
+                String deviceReply;
+                try {
+                    deviceReply = commandIn.readLine();
+                    if (deviceReply == null) {
+                        throw new IOException("Unexpected end of stream");
+                    }
+                } catch (IOException e) {
+                    if (!terminateCommandReplyReader) {
+                        logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
+                        connectionManager.setCommError("ERROR: " + e.getMessage());
+                        connectionManager.disconnect();
+                    }
+                    break;
+                }
+                logger.trace("Command reply reader for thing {} received reply: {}", thingID(), deviceReply);
+                commandProcessor.completeTransaction(deviceReply.trim());
+            }
+            logger.debug("Command reply reader STOPPING for {} on {}", thingID(), getIP());
+        }
+    }
+
     /*
      * The {@link ConnectionManager} class is responsible for managing the state of the connections to the
      * command port and the serial port(s) of the device.
@@ -591,10 +751,11 @@ public class GlobalCacheHandler extends BaseThingHandler {
         private DeviceConnection serialPort1Connection;
         private DeviceConnection serialPort2Connection;
 
+        private CommandReplyReader commandReplyReader;
         private SerialPortReader serialReaderPort1;
         private SerialPortReader serialReaderPort2;
 
-        private boolean deviceIsConnected;
+        private volatile boolean deviceIsConnected;
 
         private final String COMMAND_NAME = "command";
         private final String SERIAL1_NAME = "serial-1";
@@ -640,7 +801,7 @@ public class GlobalCacheHandler extends BaseThingHandler {
          * Connect to the command and serial port(s) on the device. The serial connections are established only for
          * devices that support serial.
          */
-        protected void connect() {
+        protected synchronized void connect() {
             if (isConnected()) {
                 return;
             }
@@ -669,10 +830,11 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
             /*
              * All connections opened successfully, so we can mark the thing online
-             * and start the serial port readers
+             * and start the command reply reader and the serial port readers
              */
             markThingOnline();
             deviceIsConnected = true;
+            startCommandReplyReader();
             startSerialPortReaders();
         }
 
@@ -745,10 +907,11 @@ public class GlobalCacheHandler extends BaseThingHandler {
          * Disconnect from the command and serial port(s) on the device. Only disconnect the serial port
          * connections if the devices have serial ports.
          */
-        protected void disconnect() {
+        protected synchronized void disconnect() {
             if (!isConnected()) {
                 return;
             }
+            stopCommandReplyReader();
             commandDisconnect(commandConnection);
 
             stopSerialPortReaders();
@@ -761,6 +924,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
             markThingOffline();
             deviceIsConnected = false;
+
+            // Replies of the outstanding transactions will not arrive anymore
+            commandProcessor.failTransactions("ERROR: " + "No connection to device");
         }
 
         private void commandDisconnect(DeviceConnection conn) {
@@ -878,12 +1044,27 @@ public class GlobalCacheHandler extends BaseThingHandler {
                 logger.trace("Connection check successful for thing {} at IP {}", thingID(), commandConnection.getIP());
                 markThingOnline();
                 deviceIsConnected = true;
+                updateTransactionStatistics();
             } else {
                 logger.debug("Connection check failed for thing {} at IP {}", thingID(), commandConnection.getIP());
                 disconnect();
             }
         }
 
+        private void startCommandReplyReader() {
+            commandReplyReader = new CommandReplyReader(this, getCommandIn());
+            commandReplyReader.start();
+        }
+
+        private void stopCommandReplyReader() {
+            if (commandReplyReader != null) {
+                logger.debug("Stopping command reply reader for thing {} at IP {}", thingID(),
+                        commandConnection.getIP());
+                commandReplyReader.stop();
+                commandReplyReader = null;
+            }
+        }
+
         private void startSerialPortReaders() {
             if (deviceSupportsSerialPort1()) {
                 serialReaderPort1 = startSerialPortReader(CommandType.SERIAL1, CONFIG_ENABLE_TWO_WAY_PORT_1,
@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.globalcache.internal.command;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link CommandDispatcher} class dispatches the requests for a GlobalCache device to a {@link CommandPipeline}
+ * per module:connector, so a slow transaction on one connector (e.g. an IR command with many repeats) does not delay
+ * the transactions on the other connectors. Each pipeline has at most one outstanding transaction.
+ *
+ * Replies are correlated with the outstanding transactions by the module:connector they contain. IR replies also
+ * contain the id of the IR command, so the late reply of a timed out IR command is ignored. Any other reply that does
+ * not belong to the outstanding transaction of its connector fails that transaction, and a reply without
+ * module:connector fails all outstanding transactions, instead of being assigned to a transaction it may not belong
+ * to. Requests which are not addressed to a connector (e.g. getversion) are sent only when no other transaction is
+ * outstanding, so their replies can be correlated.
+ *
+ * Serial strings are written to the serial port connections, which have their own pipelines. The device does not
+ * reply to them, so they complete as soon as they are written.
+ *
+ * @author agent - Initial contribution
+ */
+public class CommandDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(CommandDispatcher.class);
+
+    // Matches the module:connector of commands and replies, e.g. sendir,1:1,... or ERR_1:1,008
+    private static final Pattern CONNECTOR_PATTERN = Pattern.compile("^(?:[^,]+,|ERR_)(\\d+:\\d+)");
+
+    // Matches the module:connector and the id of IR commands and their replies, e.g. completeir,1:1,5
+    private static final Pattern IR_ID_PATTERN = Pattern.compile("^(?:sendir|completeir|busyIR),(\\d+:\\d+),(\\d+)");
+
+    private static final String DEVICE_PIPELINE = "device";
+    private static final String SERIAL1_PIPELINE = "serial-1";
+    private static final String SERIAL2_PIPELINE = "serial-2";
+
+    /**
+     * Writes the requests to the device.
+     */
+    public interface DeviceWriter {
+        void writeCommand(RequestMessage requestMessage) throws IOException;
+
+        void writeSerial(RequestMessage requestMessage) throws IOException;
+    }
+
+    private final String thingID;
+    private final DeviceWriter writer;
+    private final long transactionTimeout;
+
+    private final Map<String, CommandPipeline> pipelines = new LinkedHashMap<>();
+
+    /**
+     * @param thingID the id of the thing, used for logging
+     * @param writer the writer sending the requests to the device
+     * @param transactionTimeout the time in ms after which a transaction without reply fails
+     */
+    public CommandDispatcher(String thingID, DeviceWriter writer, long transactionTimeout) {
+        this.thingID = thingID;
+        this.writer = writer;
+        this.transactionTimeout = TimeUnit.MILLISECONDS.toNanos(transactionTimeout);
+    }
+
+    /**
+     * Queue the request on the pipeline of its connector and send it if the connector is idle.
+     *
+     * @throws IOException if writing to the device failed; the transaction has been failed already
+     */
+    public synchronized void dispatch(RequestMessage requestMessage) throws IOException {
+        pipelines.computeIfAbsent(pipelineKey(requestMessage), CommandPipeline::new).add(requestMessage);
+        sendPendingTransactions();
+    }
+
+    /**
+     * Complete the outstanding transaction the reply belongs to, then send the next request of that connector.
+     *
+     * @throws IOException if writing the next request to the device failed
+     */
+    public synchronized void completeTransaction(String deviceReply) throws IOException {
+        Matcher matcher = CONNECTOR_PATTERN.matcher(deviceReply);
+        if (matcher.find()) {
+            CommandPipeline pipeline = pipelines.get(matcher.group(1));
+            if (pipeline == null || !pipeline.isOutstanding()) {
+                logger.debug("Ignoring reply for thing {} without outstanding transaction: {}", thingID, deviceReply);
+                return;
+            }
+            if (isStaleIRReply(pipeline.getOutstanding(), deviceReply)) {
+                logger.debug("Ignoring late reply for thing {} on {}: {}", thingID, pipeline.getKey(), deviceReply);
+                return;
+            } else if (isReplyOf(pipeline.getOutstanding(), deviceReply)) {
+                complete(pipeline, deviceReply);
+            } else {
+                logger.debug("Reply for thing {} does not match transaction '{}' on {}: {}", thingID,
+                        pipeline.getOutstanding().getDeviceCommand(), pipeline.getKey(), deviceReply);
+                complete(pipeline, "ERROR: " + "Unexpected reply from device: " + deviceReply);
+            }
+        } else {
+            CommandPipeline devicePipeline = pipelines.get(DEVICE_PIPELINE);
+            if (devicePipeline != null && devicePipeline.isOutstanding()) {
+                complete(devicePipeline, deviceReply);
+            } else {
+                logger.debug("Reply for thing {} can't be correlated with a connector: {}", thingID, deviceReply);
+                failOutstandingTransactions("ERROR: " + "Uncorrelated reply from device: " + deviceReply);
+            }
+        }
+        sendPendingTransactions();
+    }
+
+    /**
+     * Fail the transactions which did not get a reply in time, so their connectors are not blocked.
+     *
+     * @throws IOException if writing the next request to the device failed
+     */
+    public synchronized void expireTransactions() throws IOException {
+        long now = System.nanoTime();
+        for (CommandPipeline pipeline : pipelines.values()) {
+            if (pipeline.isOutstanding() && now - pipeline.getStartTime() >= transactionTimeout) {
+                logger.debug("Transaction '{}' for thing {} on {} timed out",
+                        pipeline.getOutstanding().getCommandName(), thingID, pipeline.getKey());
+                complete(pipeline, "ERROR: " + "Timed out waiting for reply from device");
+            }
+        }
+        sendPendingTransactions();
+    }
+
+    /**
+     * Fail the outstanding and the queued transactions of all connectors, e.g. when the connection was lost.
+     */
+    public synchronized void failTransactions(String deviceReply) {
+        for (CommandPipeline pipeline : pipelines.values()) {
+            if (pipeline.isOutstanding()) {
+                complete(pipeline, deviceReply);
+            }
+            RequestMessage requestMessage;
+            while ((requestMessage = pipeline.poll()) != null) {
+                respond(requestMessage, deviceReply);
+            }
+        }
+    }
+
+    /**
+     * Return the time to wait for the next request, so the outstanding transactions are expired in time.
+     *
+     * @param idleTimeout the time in ms to wait when no transaction is outstanding
+     * @return the time in ms until the next transaction times out, but at most the idle timeout
+     */
+    public synchronized long getPollTimeout(long idleTimeout) {
+        long timeout = idleTimeout;
+        long now = System.nanoTime();
+        for (CommandPipeline pipeline : pipelines.values()) {
+            if (pipeline.isOutstanding()) {
+                long remaining = pipeline.getStartTime() + transactionTimeout - now;
+                timeout = Math.min(timeout, TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+            }
+        }
+        return Math.max(timeout, 1);
+    }
+
+    /**
+     * Return the transaction statistics of all connectors, by module:connector.
+     */
+    public synchronized Map<String, String> getTransactionStatistics() {
+        Map<String, String> statistics = new LinkedHashMap<>();
+        for (CommandPipeline pipeline : pipelines.values()) {
+            if (pipeline.getTransactionCount() > 0) {
+                statistics.put(pipeline.getKey(), pipeline.getStatistics());
+            }
+        }
+        return statistics;
+    }
+
+    /*
+     * Start the next transaction of each idle connector.
+     */
+    private void sendPendingTransactions() throws IOException {
+        CommandPipeline devicePipeline = pipelines.get(DEVICE_PIPELINE);
+        boolean deviceRequestWaiting = devicePipeline != null
+                && (devicePipeline.isOutstanding() || devicePipeline.hasQueued());
+
+        if (devicePipeline != null && devicePipeline.hasQueued() && !devicePipeline.isOutstanding()
+                && !isCommandTransactionOutstanding()) {
+            sendNext(devicePipeline);
+        }
+
+        for (CommandPipeline pipeline : pipelines.values()) {
+            if (pipeline == devicePipeline || (deviceRequestWaiting && !pipeline.isSerial())) {
+                continue;
+            }
+            // Serial transactions complete as soon as they are written, so drain their queue
+            while (pipeline.hasQueued() && !pipeline.isOutstanding()) {
+                sendNext(pipeline);
+            }
+        }
+    }
+
+    private void sendNext(CommandPipeline pipeline) throws IOException {
+        RequestMessage requestMessage = pipeline.start();
+        try {
+            if (requestMessage.isCommand()) {
+                writer.writeCommand(requestMessage);
+            } else {
+                writer.writeSerial(requestMessage);
+                complete(pipeline, "successful");
+            }
+        } catch (IOException e) {
+            complete(pipeline, "ERROR: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private void complete(CommandPipeline pipeline, String deviceReply) {
+        RequestMessage requestMessage = pipeline.getOutstanding();
+        long duration = pipeline.complete();
+        logger.debug("Transaction '{}' for thing {} on {} took {} ms", requestMessage.getCommandName(), thingID,
+                pipeline.getKey(), TimeUnit.NANOSECONDS.toMillis(duration));
+        respond(requestMessage, deviceReply);
+    }
+
+    private void failOutstandingTransactions(String deviceReply) {
+        for (CommandPipeline pipeline : pipelines.values()) {
+            if (pipeline.isOutstanding() && !pipeline.isSerial()) {
+                complete(pipeline, deviceReply);
+            }
+        }
+    }
+
+    /**
+     * Respond to the caller of a request. The caller may have given up waiting, so this never blocks.
+     */
+    public static void respond(RequestMessage requestMessage, String deviceReply) {
+        requestMessage.getReceiveQueue().offer(new ResponseMessage(deviceReply));
+    }
+
+    private boolean isCommandTransactionOutstanding() {
+        for (CommandPipeline pipeline : pipelines.values()) {
+            if (pipeline.isOutstanding() && !pipeline.isSerial()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * IR replies with another id than the outstanding IR command belong to an earlier IR command.
+     */
+    private boolean isStaleIRReply(RequestMessage requestMessage, String deviceReply) {
+        Matcher replyMatcher = IR_ID_PATTERN.matcher(deviceReply);
+        if (!replyMatcher.find()) {
+            return false;
+        }
+        Matcher requestMatcher = IR_ID_PATTERN.matcher(requestMessage.getDeviceCommand());
+        return !requestMatcher.find() || !requestMatcher.group(2).equals(replyMatcher.group(2));
+    }
+
+    /*
+     * Error replies belong to any command of their connector. IR commands are completed by IR replies only.
+     */
+    private boolean isReplyOf(RequestMessage requestMessage, String deviceReply) {
+        if (deviceReply.startsWith("ERR_")) {
+            return true;
+        }
+        boolean isIRCommand = IR_ID_PATTERN.matcher(requestMessage.getDeviceCommand()).find();
+        boolean isIRReply = IR_ID_PATTERN.matcher(deviceReply).find();
+        return isIRCommand == isIRReply;
+    }
+
+    private String pipelineKey(RequestMessage requestMessage) {
+        if (requestMessage.isSerial1()) {
+            return SERIAL1_PIPELINE;
+        } else if (requestMessage.isSerial2()) {
+            return SERIAL2_PIPELINE;
+        }
+        Matcher matcher = CONNECTOR_PATTERN.matcher(requestMessage.getDeviceCommand());
+        return matcher.find() ? matcher.group(1) : DEVICE_PIPELINE;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.globalcache.internal.command;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link CommandPipeline} class holds the queued requests and the outstanding transaction of one
+ * module:connector (or serial port) of the device, as well as the latency of its transactions.
+ *
+ * @author agent - Initial contribution
+ */
+public class CommandPipeline {
+    private final String key;
+    private final Queue<RequestMessage> queue = new ArrayDeque<>();
+
+    private RequestMessage outstanding;
+    private long startTime;
+
+    private long transactionCount;
+    private long totalDuration;
+    private long maxDuration;
+
+    public CommandPipeline(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isSerial() {
+        return key.startsWith("serial");
+    }
+
+    public void add(RequestMessage requestMessage) {
+        queue.add(requestMessage);
+    }
+
+    public RequestMessage poll() {
+        return queue.poll();
+    }
+
+    public boolean hasQueued() {
+        return !queue.isEmpty();
+    }
+
+    public boolean isOutstanding() {
+        return outstanding != null;
+    }
+
+    public RequestMessage getOutstanding() {
+        return outstanding;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /*
+     * Make the oldest queued request the outstanding transaction.
+     */
+    public RequestMessage start() {
+        outstanding = queue.poll();
+        startTime = System.nanoTime();
+        return outstanding;
+    }
+
+    /*
+     * End the outstanding transaction and return its duration in nanoseconds.
+     */
+    public long complete() {
+        long duration = System.nanoTime() - startTime;
+        outstanding = null;
+        transactionCount++;
+        totalDuration += duration;
+        maxDuration = Math.max(maxDuration, duration);
+        return duration;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public String getStatistics() {
+        return String.format("%d transactions, average %d ms, max %d ms", transactionCount,
+                TimeUnit.NANOSECONDS.toMillis(totalDuration / transactionCount),
+                TimeUnit.NANOSECONDS.toMillis(maxDuration));
+    }
+}
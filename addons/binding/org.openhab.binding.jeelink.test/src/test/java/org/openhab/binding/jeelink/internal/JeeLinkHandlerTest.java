@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.jeelink.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.openhab.binding.jeelink.JeeLinkBindingConstants.JEELINK_USB_STICK_THING_TYPE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.smarthome.core.thing.binding.builder.BridgeBuilder;
+import org.junit.Test;
+import org.openhab.binding.jeelink.internal.ec3k.Ec3kReading;
+import org.openhab.binding.jeelink.internal.lacrosse.LaCrosseTemperatureReading;
+
+/**
+ * Tests for the routing of readings by sensor id in {@link JeeLinkHandler#handleInput(String)}.
+ *
+ * @author agent - Initial contribution
+ */
+public class JeeLinkHandlerTest {
+    private final List<String> sensorIdsInUse = new ArrayList<>();
+
+    private final JeeLinkHandler handler = new JeeLinkHandler(
+            BridgeBuilder.create(JEELINK_USB_STICK_THING_TYPE, "jeelink").build()) {
+        @Override
+        void sensorIdInUse(String sensorId, ReadingHandler<? extends Reading> h) {
+            sensorIdsInUse.add(sensorId);
+            super.sensorIdInUse(sensorId, h);
+        }
+    };
+
+    @Test
+    public void assertReadingIsPassedToTheHandlerOfItsSensorOnly() {
+        RecordingHandler<LaCrosseTemperatureReading> sensor56 = laCrosseHandler();
+        RecordingHandler<LaCrosseTemperatureReading> sensor49 = laCrosseHandler();
+        handler.addReadingHandler("56", sensor56);
+        handler.addReadingHandler("49", sensor49);
+
+        handler.handleInput("OK 9 56 1 4 156 37");
+
+        assertThat(sensor56.sensorIds, is(Collections.singletonList("56")));
+        assertThat(sensor49.sensorIds.isEmpty(), is(true));
+    }
+
+    @Test
+    public void assertReadingIsNotPassedToTheHandlersOfOtherReadingClasses() {
+        RecordingHandler<Ec3kReading> ec3k = new RecordingHandler<>(Ec3kReading.class);
+        handler.addReadingHandler("56", ec3k);
+
+        handler.handleInput("OK 9 56 1 4 156 37");
+
+        assertThat(ec3k.sensorIds.isEmpty(), is(true));
+    }
+
+    @Test
+    public void assertDiscoveryHandlerReceivesAllReadings() {
+        RecordingHandler<LaCrosseTemperatureReading> sensor56 = laCrosseHandler();
+        RecordingHandler<Reading> discovery = new RecordingHandler<>(Reading.class);
+        handler.addReadingHandler("56", sensor56);
+        handler.startDiscovery(discovery);
+
+        handler.handleInput("OK 9 56 1 4 156 37");
+        handler.handleInput("OK 9 49 1 4 182 54");
+        handler.handleInput("OK 22 188 129 0 209 209 102 0 174 89 187 0 1 123 102 0 0 10 117 2 0");
+        handler.stopDiscovery();
+        handler.handleInput("OK 9 57 1 4 182 54");
+
+        assertThat(discovery.sensorIds, is(Arrays.asList("56", "49", "BC81")));
+        assertThat(sensor56.sensorIds, is(Collections.singletonList("56")));
+    }
+
+    @Test
+    public void assertLinesThatAreNoReadingsAreIgnored() {
+        RecordingHandler<Reading> discovery = new RecordingHandler<>(Reading.class);
+        handler.startDiscovery(discovery);
+
+        handler.handleInput("[LaCrosseITPlusReader.10.1s (RFM69CW f:868300 r:17241)]");
+        handler.handleInput("OK 9 56 1 4 156 37 ");
+        handler.handleInput("OK 9 56 1 4 156");
+        handler.handleInput("OK 99 56 1 4 156 37");
+
+        assertThat(discovery.sensorIds.isEmpty(), is(true));
+    }
+
+    @Test
+    public void assertRemovedHandlerReceivesNoReadings() {
+        RecordingHandler<LaCrosseTemperatureReading> sensor56 = laCrosseHandler();
+        handler.addReadingHandler("56", sensor56);
+        handler.removeReadingHandler("56", sensor56);
+
+        handler.handleInput("OK 9 56 1 4 156 37");
+
+        assertThat(sensor56.sensorIds.isEmpty(), is(true));
+    }
+
+    @Test
+    public void assertDuplicateSensorIdIsReportedAndOnlyTheLastHandlerReceivesReadings() {
+        RecordingHandler<LaCrosseTemperatureReading> first = laCrosseHandler();
+        RecordingHandler<LaCrosseTemperatureReading> second = laCrosseHandler();
+        handler.addReadingHandler("56", first);
+        handler.addReadingHandler("56", first);
+        assertThat(sensorIdsInUse.isEmpty(), is(true));
+
+        handler.addReadingHandler("56", second);
+        handler.handleInput("OK 9 56 1 4 156 37");
+
+        assertThat(sensorIdsInUse, is(Collections.singletonList("56")));
+        assertThat(first.sensorIds.isEmpty(), is(true));
+        assertThat(second.sensorIds, is(Collections.singletonList("56")));
+    }
+
+    @Test
+    public void assertRemovingTheReplacedHandlerKeepsTheLastHandler() {
+        RecordingHandler<LaCrosseTemperatureReading> first = laCrosseHandler();
+        RecordingHandler<LaCrosseTemperatureReading> second = laCrosseHandler();
+        handler.addReadingHandler("56", first);
+        handler.addReadingHandler("56", second);
+        handler.removeReadingHandler("56", first);
+
+        handler.handleInput("OK 9 56 1 4 156 37");
+
+        assertThat(second.sensorIds, is(Collections.singletonList("56")));
+    }
+
+    private static RecordingHandler<LaCrosseTemperatureReading> laCrosseHandler() {
+        return new RecordingHandler<>(LaCrosseTemperatureReading.class);
+    }
+
+    private static class RecordingHandler<R extends Reading> implements ReadingHandler<R> {
+        private final Class<R> readingClass;
+        private final List<String> sensorIds = new ArrayList<>();
+
+        RecordingHandler(Class<R> readingClass) {
+            this.readingClass = readingClass;
+        }
+
+        @Override
+        public void handleReading(R r) {
+            sensorIds.add(r.getSensorId());
+        }
+
+        @Override
+        public Class<R> getReadingClass() {
+            return readingClass;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.jeelink.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.openhab.binding.jeelink.internal.ec3k.Ec3kReading;
+import org.openhab.binding.jeelink.internal.ec3k.Ec3kReadingConverter;
+import org.openhab.binding.jeelink.internal.lacrosse.LaCrosseTemperatureReading;
+import org.openhab.binding.jeelink.internal.lacrosse.LaCrosseTemperatureReadingConverter;
+import org.openhab.binding.jeelink.internal.pca301.Pca301Reading;
+import org.openhab.binding.jeelink.internal.pca301.Pca301ReadingConverter;
+
+/**
+ * Tests for the {@link JeeLinkReadingConverter}s of the LaCrosse, ec3k and PCA301 sensors, which take the numbers
+ * returned by the {@link ReadingTokenizer}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ReadingConverterTest {
+    private static final int[] LACROSSE = { 9, 55, 129, 4, 192, 56 };
+    private static final int[] EC3K = { 22, 188, 129, 0, 209, 209, 102, 0, 174, 89, 187, 0, 1, 123, 102, 0, 0, 10,
+            117, 2, 0 };
+    private static final int[] PCA301 = { 24, 1, 4, 1, 160, 236, 1, 0, 123, 3, 40 };
+
+    @Test
+    public void assertLaCrosseReadingIsCreated() {
+        LaCrosseTemperatureReading reading = new LaCrosseTemperatureReadingConverter().createReading(LACROSSE);
+
+        assertThat(reading.getSensorId(), is("55"));
+        assertThat(reading.getSensorType(), is(0));
+        assertThat(reading.getChannel(), is(1));
+        assertThat(reading.getTemperature(), is(21.6f));
+        assertThat(reading.getHumidity(), is(56));
+        assertThat(reading.isBatteryNew(), is(true));
+        assertThat(reading.isBatteryLow(), is(false));
+    }
+
+    @Test
+    public void assertLaCrosseReadingNeedsSixNumbers() {
+        LaCrosseTemperatureReadingConverter converter = new LaCrosseTemperatureReadingConverter();
+
+        assertThat(converter.createReading(Arrays.copyOf(LACROSSE, 5)), is(nullValue()));
+        assertThat(converter.createReading(Arrays.copyOf(LACROSSE, 7)), is(nullValue()));
+    }
+
+    @Test
+    public void assertEc3kReadingIsCreated() {
+        Ec3kReading reading = new Ec3kReadingConverter().createReading(EC3K);
+
+        assertThat(reading.getSensorId(), is("BC81"));
+        assertThat(reading.getSensorTime(), is((209L << 16) + (209L << 8) + 102));
+        assertThat(reading.getApplianceTime(), is((174L << 16) + (89L << 8) + 187));
+        assertThat(reading.getConsumptionTotal(), is(((1L << 16) + (123L << 8) + 102) / 1000));
+        assertThat(reading.getCurrentWatt(), is(0f));
+        assertThat(reading.getMaxWatt(), is(((10 << 8) + 117) / 10f));
+        assertThat(reading.getResets(), is(2));
+    }
+
+    @Test
+    public void assertEc3kReadingNeedsTwentyOneNumbers() {
+        Ec3kReadingConverter converter = new Ec3kReadingConverter();
+
+        assertThat(converter.createReading(Arrays.copyOf(EC3K, 20)), is(nullValue()));
+        assertThat(converter.createReading(Arrays.copyOf(EC3K, 22)), is(nullValue()));
+    }
+
+    @Test
+    public void assertEc3kReadingNeedsItsSensorType() {
+        int[] values = EC3K.clone();
+        values[0] = 23;
+
+        assertThat(new Ec3kReadingConverter().createReading(values), is(nullValue()));
+    }
+
+    @Test
+    public void assertPca301ReadingIsCreated() {
+        Pca301Reading reading = new Pca301ReadingConverter().createReading(PCA301);
+
+        assertThat(reading.getSensorId(), is("1-160-236"));
+        assertThat(reading.getChannel(), is(1));
+        assertThat(reading.isOn(), is(true));
+        assertThat(reading.getCurrent(), is(12.3f));
+        assertThat(reading.getTotal(), is(((3L << 8) + 40) * 10));
+        assertThat(reading.isConfigReading(), is(false));
+    }
+
+    @Test
+    public void assertPca301ReadingNeedsElevenNumbers() {
+        Pca301ReadingConverter converter = new Pca301ReadingConverter();
+
+        assertThat(converter.createReading(Arrays.copyOf(PCA301, 10)), is(nullValue()));
+        assertThat(converter.createReading(Arrays.copyOf(PCA301, 12)), is(nullValue()));
+    }
+
+    @Test
+    public void assertPca301ReadingNeedsItsSensorTypeAndMeasureCommand() {
+        Pca301ReadingConverter converter = new Pca301ReadingConverter();
+        int[] otherType = PCA301.clone();
+        otherType[0] = 25;
+        int[] switchCommand = PCA301.clone();
+        switchCommand[2] = 5;
+
+        assertThat(converter.createReading(otherType), is(nullValue()));
+        assertThat(converter.createReading(switchCommand), is(nullValue()));
+    }
+
+    @Test
+    public void assertIgnoringConverterCreatesNoReading() {
+        assertThat(new IgnoringConverter().createReading(LACROSSE), is(nullValue()));
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.jeelink.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.openhab.binding.jeelink.internal.ec3k.Ec3kReading;
+import org.openhab.binding.jeelink.internal.lacrosse.LaCrosseTemperatureReading;
+import org.openhab.binding.jeelink.internal.pca301.Pca301Reading;
+
+/**
+ * Replays the lines of <code>reading-lines.txt</code> through the {@link ReadingTokenizer} and the converters, and
+ * compares the readings with those of the regular expressions the lines were matched with before.
+ *
+ * The lines were written by hand in the format of the LaCrosseITPlusReader, ec3kSerial and pcaSerial sketches,
+ * including lines that are no readings. Running {@link #main(String[])} replays them repeatedly through both paths and
+ * prints the time per line, as a benchmark of the parsing.
+ *
+ * @author agent - Initial contribution
+ */
+public class ReadingReplayTest {
+    private static final Pattern READING_P = Pattern.compile("^OK\\s+([0-9]+)(?:\\s+([0-9]+))+$");
+    private static final Pattern LACROSSE_P = Pattern
+            .compile("OK\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)");
+    private static final Pattern EC3K_P = Pattern.compile("OK\\s+22((?:\\s+[0-9]+){20})");
+    private static final Pattern PCA301_P = Pattern.compile("OK\\s+24\\s+([0-9]+)\\s+4((?:\\s+[0-9]+){8})");
+
+    @Test
+    public void assertReplayedLinesGiveTheReadingsOfTheRegularExpressions() throws IOException {
+        int readings = 0;
+        for (String line : readLines()) {
+            String expected = describe(parseWithRegularExpressions(line));
+
+            assertThat(line, describe(parse(line)), is(expected));
+            if (expected != null) {
+                readings++;
+            }
+        }
+
+        // the replayed lines contain readings of all sensors
+        assertThat(readings > 100, is(true));
+    }
+
+    /**
+     * Replays the lines through both parsers and prints the time per line.
+     */
+    public static void main(String[] args) throws IOException {
+        List<String> lines = readLines();
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        for (int i = 0; i < 3; i++) {
+            System.out.printf("regex:     %6.0f ns/line%n", replay(lines, rounds, true));
+            System.out.printf("tokenizer: %6.0f ns/line%n", replay(lines, rounds, false));
+        }
+    }
+
+    private static double replay(List<String> lines, int rounds, boolean regex) {
+        int readings = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String line : lines) {
+                if ((regex ? parseWithRegularExpressions(line) : parse(line)) != null) {
+                    readings++;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (readings == 0) {
+            throw new IllegalStateException("No readings replayed");
+        }
+        return (double) elapsed / ((long) rounds * lines.size());
+    }
+
+    /**
+     * The path of {@link JeeLinkHandler#handleInput(String)}.
+     */
+    private static Reading parse(String line) {
+        int[] values = ReadingTokenizer.tokenize(line);
+        if (values == null) {
+            return null;
+        }
+
+        JeeLinkReadingConverter<?> converter = SensorDefinition.getConverter(String.valueOf(values[0]));
+        return converter == null ? null : converter.createReading(values);
+    }
+
+    /**
+     * The matching of the handler and the converters before the lines were tokenized.
+     */
+    private static Reading parseWithRegularExpressions(String line) {
+        Matcher matcher = READING_P.matcher(line);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        switch (matcher.group(1)) {
+            case "9":
+                matcher = LACROSSE_P.matcher(line);
+                if (matcher.matches()) {
+                    int int3 = Integer.parseInt(matcher.group(3));
+                    int int6 = Integer.parseInt(matcher.group(6));
+                    float temperature = (float) (Integer.parseInt(matcher.group(4)) * 256
+                            + Integer.parseInt(matcher.group(5)) - 1000) / 10;
+                    return new LaCrosseTemperatureReading(Integer.parseInt(matcher.group(2)), (int3 & 0x70) >> 4,
+                            int3 & 0x0F, temperature, int6 & 0x7f, (int3 & 0x80) >> 7 == 1, (int6 & 0x80) >> 7 == 1);
+                }
+                return null;
+            case "22":
+                matcher = EC3K_P.matcher(line);
+                if (matcher.matches()) {
+                    long[] v = numbers(matcher.group(1));
+                    long secondsTotal = (v[2] << 24) + (v[3] << 16) + (v[4] << 8) + v[5];
+                    long secondsOn = (v[6] << 24) + (v[7] << 16) + (v[8] << 8) + v[9];
+                    long consumptionTotal = ((v[10] << 24) + (v[11] << 16) + (v[12] << 8) + v[13]) / 1000;
+                    return new Ec3kReading(String.format("%02X%02X", v[0], v[1]), ((v[14] << 8) + v[15]) / 10f,
+                            ((v[16] << 8) + v[17]) / 10f, consumptionTotal, secondsOn, secondsTotal, (int) v[18]);
+                }
+                return null;
+            case "24":
+                matcher = PCA301_P.matcher(line);
+                if (matcher.matches()) {
+                    long[] v = numbers(matcher.group(2));
+                    return new Pca301Reading(v[0] + "-" + v[1] + "-" + v[2], Integer.parseInt(matcher.group(1)),
+                            v[3] == 1, ((v[4] << 8) + v[5]) / 10f, ((v[6] << 8) + v[7]) * 10);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static long[] numbers(String group) {
+        String[] tokens = group.trim().split("\\s+");
+        long[] numbers = new long[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            numbers[i] = Long.parseLong(tokens[i]);
+        }
+        return numbers;
+    }
+
+    private static String describe(Reading r) {
+        if (r instanceof LaCrosseTemperatureReading) {
+            LaCrosseTemperatureReading l = (LaCrosseTemperatureReading) r;
+            return "LaCrosse " + l.getSensorId() + " " + l.getSensorType() + " " + l.getChannel() + " "
+                    + l.getTemperature() + " " + l.getHumidity() + " " + l.isBatteryNew() + " " + l.isBatteryLow();
+        } else if (r instanceof Pca301Reading) {
+            Pca301Reading p = (Pca301Reading) r;
+            return "PCA301 " + p.getSensorId() + " " + p.getChannel() + " " + p.isOn() + " " + p.getCurrent() + " "
+                    + p.getTotal() + " " + p.isConfigReading();
+        }
+        return r == null ? null : r.getClass().getSimpleName() + " " + r;
+    }
+
+    private static List<String> readLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (InputStream inputStream = ReadingReplayTest.class.getResourceAsStream("reading-lines.txt");
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(inputStream, StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.jeelink.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ReadingTokenizer}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ReadingTokenizerTest {
+    @Test
+    public void assertLaCrosseLineIsTokenized() {
+        assertThat(ReadingTokenizer.tokenize("OK 9 56 1 4 156 37"), is(new int[] { 9, 56, 1, 4, 156, 37 }));
+    }
+
+    @Test
+    public void assertEc3kLineIsTokenized() {
+        assertThat(ReadingTokenizer.tokenize("OK 22 188 129 0 209 209 102 0 174 89 187 0 1 123 102 0 0 10 117 2 0"),
+                is(new int[] { 22, 188, 129, 0, 209, 209, 102, 0, 174, 89, 187, 0, 1, 123, 102, 0, 0, 10, 117, 2,
+                        0 }));
+    }
+
+    @Test
+    public void assertPca301LineIsTokenized() {
+        assertThat(ReadingTokenizer.tokenize("OK 24 1 4 1 160 236 0 0 12 3 40"),
+                is(new int[] { 24, 1, 4, 1, 160, 236, 0, 0, 12, 3, 40 }));
+    }
+
+    @Test
+    public void assertNumbersMayBeSeparatedByAnyWhitespace() {
+        assertThat(ReadingTokenizer.tokenize("OK\t9  56 \t1 4 156 37"), is(new int[] { 9, 56, 1, 4, 156, 37 }));
+    }
+
+    @Test
+    public void assertLongestAllowedNumberIsTokenized() {
+        assertThat(ReadingTokenizer.tokenize("OK 9 999999999"), is(new int[] { 9, 999999999 }));
+    }
+
+    @Test
+    public void assertLineWithoutOkIsNoReading() {
+        assertThat(ReadingTokenizer.tokenize(""), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("O"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("9 56 1 4 156 37"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("ok 9 56 1 4 156 37"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize(" OK 9 56 1 4 156 37"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("L 24 1 0 : 1 4 1 160 236 0 0 0 0 0"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("[LaCrosseITPlusReader.10.1s (RFM69CW f:868300 r:17241)]"),
+                is(nullValue()));
+    }
+
+    @Test
+    public void assertLineWithTrailingWhitespaceIsNoReading() {
+        assertThat(ReadingTokenizer.tokenize("OK 9 56 1 4 156 37 "), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK 9 56 1 4 156 37\r"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK "), is(nullValue()));
+    }
+
+    @Test
+    public void assertLineWithNonDigitsIsNoReading() {
+        assertThat(ReadingTokenizer.tokenize("OK 9 56 1 4 156 3a"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK 9 -56 1 4 156 37"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK 9 56 1 4 15.6 37"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK9 56 1 4 156 37"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK 9 56 : 1 4 156 37"), is(nullValue()));
+    }
+
+    @Test
+    public void assertLineWithTooManyDigitsIsNoReading() {
+        assertThat(ReadingTokenizer.tokenize("OK 9 1000000000"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK 9 56 1 4 156 99999999999999999999"), is(nullValue()));
+    }
+
+    @Test
+    public void assertLineWithLessThanTwoNumbersIsNoReading() {
+        assertThat(ReadingTokenizer.tokenize("OK"), is(nullValue()));
+        assertThat(ReadingTokenizer.tokenize("OK 9"), is(nullValue()));
+    }
+
+    @Test
+    public void assertLineWithManyNumbersIsTokenized() {
+        StringBuilder line = new StringBuilder("OK");
+        for (int i = 0; i < 50; i++) {
+            line.append(' ').append(i);
+        }
+
+        int[] values = ReadingTokenizer.tokenize(line.toString());
+
+        assertThat(values.length, is(50));
+        assertThat(values[49], is(49));
+    }
+}
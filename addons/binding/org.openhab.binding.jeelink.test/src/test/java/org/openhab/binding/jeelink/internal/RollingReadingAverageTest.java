@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.jeelink.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.openhab.binding.jeelink.internal.ec3k.Ec3kReading;
+import org.openhab.binding.jeelink.internal.ec3k.Ec3kRollingReadingAverage;
+import org.openhab.binding.jeelink.internal.lacrosse.LaCrosseRollingReadingAverage;
+import org.openhab.binding.jeelink.internal.lacrosse.LaCrosseTemperatureReading;
+
+/**
+ * Tests for the {@link RollingReadingAverage} of LaCrosse and ec3k readings.
+ *
+ * @author agent - Initial contribution
+ */
+public class RollingReadingAverageTest {
+    @Test
+    public void assertAverageWithoutReadingsIsNull() {
+        assertThat(new LaCrosseRollingReadingAverage(3).getAverage(), is(nullValue()));
+    }
+
+    @Test
+    public void assertBufferOfSizeOneReturnsLatestReading() {
+        LaCrosseRollingReadingAverage average = new LaCrosseRollingReadingAverage(1);
+
+        average.add(temperatureReading(20.5f, 50));
+        average.add(temperatureReading(22.25f, 60));
+
+        assertThat(average.getAverage().getTemperature(), is(22.25f));
+        assertThat(average.getAverage().getHumidity(), is(60));
+    }
+
+    @Test
+    public void assertPartlyFilledBufferAveragesAddedReadingsOnly() {
+        LaCrosseRollingReadingAverage average = new LaCrosseRollingReadingAverage(5);
+
+        average.add(temperatureReading(20f, 50));
+        assertThat(average.getAverage().getTemperature(), is(20f));
+
+        average.add(temperatureReading(23f, 60));
+        assertThat(average.getAverage().getTemperature(), is(21.5f));
+        assertThat(average.getAverage().getHumidity(), is(55));
+    }
+
+    @Test
+    public void assertOldestReadingsAreReplacedWhenBufferWrapsAround() {
+        LaCrosseRollingReadingAverage average = new LaCrosseRollingReadingAverage(3);
+
+        for (int i = 1; i <= 4; i++) {
+            average.add(temperatureReading(i * 10f, i * 10));
+        }
+        // 20, 30 and 40
+        assertThat(average.getAverage().getTemperature(), is(30f));
+        assertThat(average.getAverage().getHumidity(), is(30));
+
+        for (int i = 5; i <= 100; i++) {
+            average.add(temperatureReading(i, i));
+        }
+        // 98, 99 and 100
+        assertThat(average.getAverage().getTemperature(), is(99f));
+        assertThat(average.getAverage().getHumidity(), is(99));
+    }
+
+    @Test
+    public void assertAverageHumidityIsTruncated() {
+        LaCrosseRollingReadingAverage average = new LaCrosseRollingReadingAverage(3);
+
+        average.add(temperatureReading(20f, 50));
+        average.add(temperatureReading(20f, 51));
+        average.add(temperatureReading(20f, 51));
+
+        // 50.67
+        assertThat(average.getAverage().getHumidity(), is(50));
+    }
+
+    @Test
+    public void assertTemperatureValuesThatAreNotAveragedAreTakenFromLatestReading() {
+        LaCrosseRollingReadingAverage average = new LaCrosseRollingReadingAverage(3);
+
+        average.add(new LaCrosseTemperatureReading("11", 1, 1, 20f, 50, true, false));
+        average.add(new LaCrosseTemperatureReading("12", 2, 3, 22f, 60, false, true));
+
+        LaCrosseTemperatureReading reading = average.getAverage();
+        assertThat(reading.getSensorId(), is("12"));
+        assertThat(reading.getSensorType(), is(2));
+        assertThat(reading.getChannel(), is(3));
+        assertThat(reading.isBatteryNew(), is(false));
+        assertThat(reading.isBatteryLow(), is(true));
+    }
+
+    @Test
+    public void assertPowerValuesThatAreNotAveragedAreTakenFromLatestReading() {
+        Ec3kRollingReadingAverage average = new Ec3kRollingReadingAverage(2);
+
+        average.add(new Ec3kReading("1", 100f, 150f, 1000, 10, 20, 0));
+        average.add(new Ec3kReading("1", 200f, 250f, 2000, 30, 40, 1));
+
+        Ec3kReading reading = average.getAverage();
+        assertThat(reading.getCurrentWatt(), is(150f));
+        assertThat(reading.getMaxWatt(), is(250f));
+        assertThat(reading.getConsumptionTotal(), is(2000L));
+        assertThat(reading.getApplianceTime(), is(30L));
+        assertThat(reading.getSensorTime(), is(40L));
+        assertThat(reading.getResets(), is(1));
+    }
+
+    private static LaCrosseTemperatureReading temperatureReading(float temperature, int humidity) {
+        return new LaCrosseTemperatureReading("1", 1, 1, temperature, humidity, false, false);
+    }
+}
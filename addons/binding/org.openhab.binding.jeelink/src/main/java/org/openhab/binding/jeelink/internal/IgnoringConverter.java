@@ -16,7 +16,7 @@ package org.openhab.binding.jeelink.internal;
 public class IgnoringConverter implements JeeLinkReadingConverter<Reading> {
 
     @Override
-    public Reading createReading(String inputLine) {
+    public Reading createReading(int[] values) {
         return null;
     }
 }
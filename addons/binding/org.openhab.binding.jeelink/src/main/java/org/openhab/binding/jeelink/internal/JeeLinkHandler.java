@@ -8,16 +8,12 @@
  */
 package org.openhab.binding.jeelink.internal;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -39,13 +35,13 @@ import org.slf4j.LoggerFactory;
  * @author Volker Bier - Initial contribution
  */
 public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler, ConnectionListener {
-    private static final Pattern READING_P = Pattern.compile("^OK\\s+([0-9]+)(?:\\s+([0-9]+))+$");
-
     private final Logger logger = LoggerFactory.getLogger(JeeLinkHandler.class);
 
     private JeeLinkConnection connection;
-    private Map<String, JeeLinkReadingConverter<?>> sensorTypeConvertersMap = new HashMap<>();
-    private Map<Class<?>, List<ReadingHandler<? extends Reading>>> readingClassHandlerMap = new HashMap<>();
+    private Map<Integer, JeeLinkReadingConverter<?>> sensorTypeConvertersMap = new ConcurrentHashMap<>();
+    // the handlers by reading class and sensor id, so each reading is passed to the handler of its sensor only
+    private Map<Class<?>, Map<String, ReadingHandler<? extends Reading>>> readingClassHandlerMap =
+            new ConcurrentHashMap<>();
 
     private final AtomicReference<ReadingHandler<Reading>> discoveryHandler = new AtomicReference<>();
 
@@ -93,28 +89,44 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
         connectionInitialized.set(false);
     }
 
-    public void addReadingHandler(ReadingHandler<? extends Reading> h) {
+    public void addReadingHandler(String sensorId, ReadingHandler<? extends Reading> h) {
+        if (sensorId == null) {
+            logger.debug("Not adding reading handler for class {} without sensor id: {}", h.getReadingClass(), h);
+            return;
+        }
+
         synchronized (readingClassHandlerMap) {
-            List<ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(h.getReadingClass());
-            if (handlers == null) {
-                handlers = new ArrayList<>();
-                readingClassHandlerMap.put(h.getReadingClass(), handlers);
+            Map<String, ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap
+                    .computeIfAbsent(h.getReadingClass(), c -> new ConcurrentHashMap<>());
+
+            ReadingHandler<? extends Reading> previous = handlers.put(sensorId, h);
+            if (previous != h) {
+                logger.debug("Adding reading handler for class {} and sensor id {}: {}", h.getReadingClass(), sensorId,
+                        h);
+                if (previous != null) {
+                    sensorIdInUse(sensorId, h);
+                }
             }
+        }
+    }
 
-            if (!handlers.contains(h)) {
-                logger.debug("Adding reading handler for class {}: {}", h.getReadingClass(), h);
+    /**
+     * Called when a reading handler is added for a sensor id that already has a handler.
+     */
+    void sensorIdInUse(String sensorId, ReadingHandler<? extends Reading> h) {
+        logger.warn("Sensor id {} is used by more than one thing, readings are only passed to {}", sensorId, h);
+    }
 
-                handlers.add(h);
-            }
+    public void removeReadingHandler(String sensorId, ReadingHandler<? extends Reading> h) {
+        if (sensorId == null) {
+            return;
         }
-    }
 
-    public void removeReadingHandler(ReadingHandler<? extends Reading> h) {
         synchronized (readingClassHandlerMap) {
-            List<ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(h.getReadingClass());
-            if (handlers != null) {
-                logger.debug("Removing reading handler for class {}: {}", h.getReadingClass(), h);
-                handlers.remove(h);
+            Map<String, ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(h.getReadingClass());
+            if (handlers != null && handlers.remove(sensorId, h)) {
+                logger.debug("Removing reading handler for class {} and sensor id {}: {}", h.getReadingClass(),
+                        sensorId, h);
 
                 if (handlers.isEmpty()) {
                     readingClassHandlerMap.remove(h.getReadingClass());
@@ -129,8 +141,8 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
 
     @Override
     public void handleInput(String input) {
-        Matcher matcher = READING_P.matcher(input);
-        if (matcher.matches()) {
+        int[] values = ReadingTokenizer.tokenize(input);
+        if (values != null) {
             if (!connectionInitialized.getAndSet(true)) {
                 JeeLinkConfig cfg = getConfig().as(JeeLinkConfig.class);
 
@@ -141,40 +153,34 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
                 }
             }
 
-            String sensorType = matcher.group(1);
-            JeeLinkReadingConverter<?> converter;
+            int sensorType = values[0];
+            JeeLinkReadingConverter<?> converter = sensorTypeConvertersMap.get(sensorType);
 
-            synchronized (sensorTypeConvertersMap) {
-                converter = sensorTypeConvertersMap.get(sensorType);
-                if (converter == null) {
-                    converter = SensorDefinition.getConverter(sensorType);
+            if (converter == null) {
+                converter = sensorTypeConvertersMap.computeIfAbsent(sensorType, type -> {
+                    JeeLinkReadingConverter<?> newConverter = SensorDefinition.getConverter(String.valueOf(type));
 
-                    if (converter == null) {
-                        logger.debug("Missing converter for sensor type {}. Ignoring readings.", sensorType);
-                        converter = new IgnoringConverter();
-                    } else {
-                        logger.debug("Registering converter for sensor type {}: {}", sensorType, converter);
+                    if (newConverter == null) {
+                        logger.debug("Missing converter for sensor type {}. Ignoring readings.", type);
+                        return new IgnoringConverter();
                     }
-
-                    sensorTypeConvertersMap.put(sensorType, converter);
-                }
+                    logger.debug("Registering converter for sensor type {}: {}", type, newConverter);
+                    return newConverter;
+                });
             }
 
-            Reading r = converter.createReading(input);
+            Reading r = converter.createReading(values);
             if (r != null) {
                 ReadingHandler<Reading> d = discoveryHandler.get();
                 if (d != null) {
                     d.handleReading(r);
                 }
 
-                // propagate to the appropriate sensor handler
-                synchronized (readingClassHandlerMap) {
-                    List<ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(r.getClass());
-                    if (handlers != null) {
-                        for (ReadingHandler h : handlers) {
-                            h.handleReading(r);
-                        }
-                    }
+                // propagate to the handler of the sensor
+                Map<String, ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(r.getClass());
+                ReadingHandler h = handlers == null ? null : handlers.get(r.getSensorId());
+                if (h != null) {
+                    h.handleReading(r);
                 }
             }
         }
@@ -191,9 +197,7 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
             connection.closeConnection();
         }
 
-        synchronized (sensorTypeConvertersMap) {
-            sensorTypeConvertersMap.clear();
-        }
+        sensorTypeConvertersMap.clear();
         synchronized (readingClassHandlerMap) {
             readingClassHandlerMap.clear();
         }
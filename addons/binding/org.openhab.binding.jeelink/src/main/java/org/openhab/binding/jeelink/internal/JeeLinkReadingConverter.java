@@ -14,5 +14,12 @@ package org.openhab.binding.jeelink.internal;
  * @author Volker Bier - Initial contribution
  */
 public interface JeeLinkReadingConverter<R extends Reading> {
-    public R createReading(String inputLine);
+    /**
+     * Creates the reading from the numbers of a reading line.
+     *
+     * @param values the numbers of the line as returned by {@link ReadingTokenizer#tokenize(String)}, starting with
+     *            the sensor type
+     * @return the reading or null if the numbers do not form a reading of this converter
+     */
+    public R createReading(int[] values);
 }
@@ -55,9 +55,6 @@ public abstract class JeeLinkSensorHandler<R extends Reading> extends BaseThingH
 
     @Override
     public synchronized void initialize() {
-        JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
-        jlh.addReadingHandler(this);
-
         JeeLinkSensorConfig cfg = getConfigAs(JeeLinkSensorConfig.class);
         id = cfg.sensorId;
 
@@ -65,15 +62,18 @@ public abstract class JeeLinkSensorHandler<R extends Reading> extends BaseThingH
 
         publisher = createPublisher();
 
+        JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
+        jlh.addReadingHandler(id, this);
+
         updateStatus(ThingStatus.UNKNOWN);
     }
 
     @Override
     public synchronized void dispose() {
-        id = null;
-
         JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
-        jlh.removeReadingHandler(this);
+        jlh.removeReadingHandler(id, this);
+
+        id = null;
 
         if (statusUpdateJob != null) {
             statusUpdateJob.cancel(true);
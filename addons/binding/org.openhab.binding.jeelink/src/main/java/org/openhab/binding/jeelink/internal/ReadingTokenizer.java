@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.jeelink.internal;
+
+import java.util.Arrays;
+
+/**
+ * Tokenizer for the reading lines written by the JeeLink sketches, e.g. <code>OK 9 56 1 4 156 37</code>. A reading
+ * line consists of <code>OK</code> followed by the sensor type and at least one more unsigned number, all separated
+ * by whitespace.
+ *
+ * @author agent - Initial contribution
+ */
+public class ReadingTokenizer {
+    private static final int MAX_DIGITS = 9;
+
+    private ReadingTokenizer() {
+    }
+
+    /**
+     * Splits a reading line into its numbers.
+     *
+     * @param line the line read from the JeeLink
+     * @return the numbers following <code>OK</code>, starting with the sensor type, or null if the line is no reading
+     */
+    public static int[] tokenize(String line) {
+        int length = line.length();
+        if (length < 2 || line.charAt(0) != 'O' || line.charAt(1) != 'K') {
+            return null;
+        }
+
+        int[] values = new int[24];
+        int count = 0;
+        int pos = 2;
+        while (pos < length) {
+            int start = pos;
+            while (pos < length && isWhitespace(line.charAt(pos))) {
+                pos++;
+            }
+            if (pos == start || pos == length) {
+                // numbers must be separated by whitespace, trailing whitespace is not allowed
+                return null;
+            }
+
+            start = pos;
+            int value = 0;
+            while (pos < length && !isWhitespace(line.charAt(pos))) {
+                char c = line.charAt(pos++);
+                if (c < '0' || c > '9' || pos - start > MAX_DIGITS) {
+                    return null;
+                }
+                value = value * 10 + (c - '0');
+            }
+
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+        }
+
+        return count < 2 ? null : Arrays.copyOf(values, count);
+    }
+
+    private static boolean isWhitespace(char c) {
+        // the characters matched by \s of java.util.regex.Pattern
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
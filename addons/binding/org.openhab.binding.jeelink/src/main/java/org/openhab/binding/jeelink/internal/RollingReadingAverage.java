@@ -11,48 +11,72 @@ package org.openhab.binding.jeelink.internal;
 /**
  * Computes a rolling average of readings.
  *
+ * The averaged values of the readings are kept in a ring buffer of primitives per value together with their running
+ * total, so adding a reading neither allocates nor iterates over the buffer. All values that are not averaged are
+ * taken from the latest reading.
+ *
  * @author Volker Bier - Initial contribution
  */
 public abstract class RollingReadingAverage<R extends Reading> {
     private int size = 0;
     private int maxSize;
-    private R total = null;
     private int index = 0;
-    private R[] samples;
+    private R latest = null;
+    private double[] totals;
+    private double[][] samples;
 
-    public RollingReadingAverage(R[] array) {
-        maxSize = array.length;
-        samples = array;
+    public RollingReadingAverage(int valueCount, int bufferSize) {
+        maxSize = bufferSize;
+        totals = new double[valueCount];
+        samples = new double[valueCount][bufferSize];
     }
 
-    public void add(R reading) {
+    public synchronized void add(R reading) {
         if (size < maxSize) {
             size++;
         }
 
-        if (total == null) {
-            total = reading;
-        } else {
-            total = add(total, reading);
-            total = substract(total, samples[index]);
+        for (int i = 0; i < totals.length; i++) {
+            double value = getValue(reading, i);
+
+            totals[i] += value - samples[i][index];
+            samples[i][index] = value;
         }
 
-        samples[index] = reading;
+        latest = reading;
         if (++index == maxSize) {
             index = 0;
         }
     }
 
-    public R getAverage() {
-        if (total == null) {
+    public synchronized R getAverage() {
+        if (latest == null) {
             return null;
         }
-        return divide(total, size);
+        return createAverage(latest);
     }
 
-    protected abstract R add(R value1, R value2);
+    /**
+     * Returns the average of a value over the readings in the buffer.
+     *
+     * @param valueIndex the index of the value, as passed to {@link #getValue(Reading, int)}
+     */
+    protected double getAverage(int valueIndex) {
+        return totals[valueIndex] / size;
+    }
 
-    protected abstract R substract(R from, R value);
+    /**
+     * Returns a value of the reading to average.
+     *
+     * @param reading the reading
+     * @param valueIndex the index of the value, between 0 and the value count passed to the constructor
+     */
+    protected abstract double getValue(R reading, int valueIndex);
 
-    protected abstract R divide(R value, int count);
+    /**
+     * Creates the average reading from the averages returned by {@link #getAverage(int)}.
+     *
+     * @param latest the latest reading, providing the values that are not averaged
+     */
+    protected abstract R createAverage(R latest);
 }
@@ -8,8 +8,7 @@
  */
 package org.openhab.binding.jeelink.internal.lacrosse;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 import org.openhab.binding.jeelink.internal.JeeLinkReadingConverter;
 import org.slf4j.Logger;
@@ -21,51 +20,45 @@ import org.slf4j.LoggerFactory;
  * @author Volker Bier - Initial contribution
  */
 public class LaCrosseTemperatureReadingConverter implements JeeLinkReadingConverter<LaCrosseTemperatureReading> {
-    private static final Pattern LINE_P = Pattern
-            .compile("OK\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)");
-
     private final Logger logger = LoggerFactory.getLogger(LaCrosseTemperatureReadingConverter.class);
 
     @Override
-    public LaCrosseTemperatureReading createReading(String inputLine) {
-        // parse lines only if we have registered listeners
-        if (inputLine != null) {
-            Matcher matcher = LINE_P.matcher(inputLine);
-            if (matcher.matches()) {
-                // Format
-                //
-                // OK 9 56 1 4 156 37 (ID = 56 T: 18.0 H: 37 no NewBatt)
-                // OK 9 49 1 4 182 54 (ID = 49 T: 20.6 H: 54 no NewBatt)
-                // OK 9 55 129 4 192 56 (ID = 55 T: 21.6 H: 56 WITH NewBatt)
-                // OK 9 ID XXX XXX XXX XXX
-                // | | | | | | |
-                // | | | | | | --- Humidity incl. WeakBatteryFlag
-                // | | | | | |------ Temp * 10 + 1000 LSB
-                // | | | | |---------- Temp * 10 + 1000 MSB
-                // | | | |-------------- Sensor type (1 or 2) +128 if NewBatteryFlag
-                // | | |----------------- Sensor ID
-                // | |------------------- fix "9"
-                // |---------------------- fix "OK"
-                logger.trace("Creating reading from: {}", inputLine);
+    public LaCrosseTemperatureReading createReading(int[] values) {
+        if (values.length == 6) {
+            // Format
+            //
+            // OK 9 56 1 4 156 37 (ID = 56 T: 18.0 H: 37 no NewBatt)
+            // OK 9 49 1 4 182 54 (ID = 49 T: 20.6 H: 54 no NewBatt)
+            // OK 9 55 129 4 192 56 (ID = 55 T: 21.6 H: 56 WITH NewBatt)
+            // OK 9 ID XXX XXX XXX XXX
+            // | | | | | | |
+            // | | | | | | --- Humidity incl. WeakBatteryFlag
+            // | | | | | |------ Temp * 10 + 1000 LSB
+            // | | | | |---------- Temp * 10 + 1000 MSB
+            // | | | |-------------- Sensor type (1 or 2) +128 if NewBatteryFlag
+            // | | |----------------- Sensor ID
+            // | |------------------- fix "9"
+            // |---------------------- fix "OK"
+            if (logger.isTraceEnabled()) {
+                logger.trace("Creating reading from: {}", Arrays.toString(values));
+            }
 
-                int sensorId = Integer.parseInt(matcher.group(2));
-                int int3 = Integer.parseInt(matcher.group(3));
+            int sensorId = values[1];
+            int int3 = values[2];
 
-                int batteryNewInt = (int3 & 0x80) >> 7;
-                int type = (int3 & 0x70) >> 4;
-                int channel = int3 & 0x0F;
+            int batteryNewInt = (int3 & 0x80) >> 7;
+            int type = (int3 & 0x70) >> 4;
+            int channel = int3 & 0x0F;
 
-                float temperature = (float) (Integer.parseInt(matcher.group(4)) * 256
-                        + Integer.parseInt(matcher.group(5)) - 1000) / 10;
-                int humidity = Integer.parseInt(matcher.group(6)) & 0x7f;
-                int batteryLowInt = (Integer.parseInt(matcher.group(6)) & 0x80) >> 7;
+            float temperature = (float) (values[3] * 256 + values[4] - 1000) / 10;
+            int humidity = values[5] & 0x7f;
+            int batteryLowInt = (values[5] & 0x80) >> 7;
 
-                boolean batteryLow = batteryLowInt == 1;
-                boolean batteryNew = batteryNewInt == 1;
+            boolean batteryLow = batteryLowInt == 1;
+            boolean batteryNew = batteryNewInt == 1;
 
-                return new LaCrosseTemperatureReading(sensorId, type, channel, temperature, humidity, batteryNew,
-                        batteryLow);
-            }
+            return new LaCrosseTemperatureReading(sensorId, type, channel, temperature, humidity, batteryNew,
+                    batteryLow);
         }
 
         return null;
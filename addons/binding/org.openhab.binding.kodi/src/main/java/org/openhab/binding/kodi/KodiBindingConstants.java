@@ -67,6 +67,9 @@ public class KodiBindingConstants {
 
     // Module Properties
     public static final String PROPERTY_VERSION = "version";
+    public static final String PROPERTY_STATUS_UPDATE_COUNT = "statusUpdateCount";
+    public static final String PROPERTY_STATUS_UPDATE_LATENCY_AVERAGE = "statusUpdateLatencyAverage";
+    public static final String PROPERTY_STATUS_UPDATE_LATENCY_MAX = "statusUpdateLatencyMax";
 
     // Used for Discovery service
     public static final String MANUFACTURER = "XBMC Foundation";
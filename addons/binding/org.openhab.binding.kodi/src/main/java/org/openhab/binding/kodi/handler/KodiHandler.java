@@ -306,6 +306,7 @@ public class KodiHandler extends BaseThingHandler implements KodiEventListener {
                 statusUpdaterFuture = scheduler.scheduleWithFixedDelay(() -> {
                     if (KodiState.Play.equals(connection.getState())) {
                         connection.updatePlayerStatus();
+                        updateStatusUpdateProperties();
                     }
                 }, 1, getIntConfigParameter(REFRESH_PARAMETER, 10), TimeUnit.SECONDS);
             }
@@ -315,6 +316,12 @@ public class KodiHandler extends BaseThingHandler implements KodiEventListener {
         }
     }
 
+    private void updateStatusUpdateProperties() {
+        updateProperty(PROPERTY_STATUS_UPDATE_COUNT, String.valueOf(connection.getStatusUpdateCount()));
+        updateProperty(PROPERTY_STATUS_UPDATE_LATENCY_AVERAGE, connection.getStatusUpdateLatencyAverage() + " ms");
+        updateProperty(PROPERTY_STATUS_UPDATE_LATENCY_MAX, connection.getStatusUpdateLatencyMax() + " ms");
+    }
+
     private void updatePVRChannelStateDescription(final String pvrChannelType, final String channelId) {
         if (isLinked(channelId)) {
             int pvrChannelGroupId = getPVRChannelGroupId(pvrChannelType, channelId);
@@ -10,9 +10,16 @@ package org.openhab.binding.kodi.internal.protocol;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
@@ -25,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -33,6 +41,9 @@ import com.google.gson.JsonParser;
  * KodiClientSocket implements the low level communication to Kodi through
  * websocket. Usually this communication is done through port 9090
  *
+ * Responses are matched to their requests by the JSON-RPC id, so several requests can be outstanding at the same time.
+ * Requests that are needed together can be sent as a single JSON-RPC batch.
+ *
  * @author Paul Frank
  *
  */
@@ -43,9 +54,8 @@ public class KodiClientSocket {
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
+    private final Map<Integer, CompletableFuture<JsonObject>> pendingRequests = new ConcurrentHashMap<>();
 
     private boolean connected = false;
 
@@ -133,14 +143,19 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.debug("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                logger.debug("Response received from server: {}", json);
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // the response to a batch request
+                for (JsonElement response : element.getAsJsonArray()) {
+                    if (response.isJsonObject()) {
+                        handleResponse(response.getAsJsonObject());
+                    }
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.debug("Event received from server: {}", json);
                 if (eventHandler != null) {
@@ -161,6 +176,12 @@ public class KodiClientSocket {
             logger.debug("Closing a WebSocket due to {}", reason);
             session = null;
             connected = false;
+            // nobody will answer the outstanding requests anymore
+            IOException closed = new IOException("websocket closed: " + reason);
+            for (CompletableFuture<JsonObject> pendingRequest : pendingRequests.values()) {
+                pendingRequest.completeExceptionally(closed);
+            }
+            pendingRequests.clear();
             if (eventHandler != null) {
                 scheduler.submit(() -> {
                     try {
@@ -173,10 +194,27 @@ public class KodiClientSocket {
         }
     }
 
+    private void handleResponse(JsonObject json) {
+        logger.debug("Response received from server: {}", json);
+        JsonElement id = json.get("id");
+        if (id != null && !id.isJsonNull()) {
+            CompletableFuture<JsonObject> pendingRequest = pendingRequests.remove(id.getAsInt());
+            if (pendingRequest != null) {
+                pendingRequest.complete(json);
+            } else {
+                logger.debug("No request waiting for response with id {}", id);
+            }
+        }
+    }
+
     private void sendMessage(String str) throws IOException {
-        if (isConnected()) {
+        Session currentSession = session;
+        if (isConnected() && currentSession != null) {
             logger.debug("send message: {}", str);
-            session.getRemote().sendString(str);
+            // blocking sends on the same remote endpoint must not overlap
+            synchronized (this) {
+                currentSession.getRemote().sendString(str);
+            }
         } else {
             throw new IOException("socket not initialized");
         }
@@ -186,39 +224,97 @@ public class KodiClientSocket {
         return callMethod(methodName, null);
     }
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
+    public JsonElement callMethod(String methodName, JsonObject params) {
+        int id = nextMessageId.getAndIncrement();
+        CompletableFuture<JsonObject> pendingRequest = new CompletableFuture<>();
+        pendingRequests.put(id, pendingRequest);
         try {
-            JsonObject payloadObject = new JsonObject();
-            payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
-
-            if (params != null) {
-                payloadObject.add("params", params);
-            }
+            sendMessage(mapper.toJson(createRequest(id, methodName, params)));
+            JsonObject response = pendingRequest.get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            logger.debug("callMethod returns {}", response);
+            return getResult(response);
+        } catch (TimeoutException e) {
+            logger.debug("Timeout during callMethod({}, {})", methodName, params);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IOException | ExecutionException | RuntimeException e) {
+            logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
+            return null;
+        } finally {
+            pendingRequests.remove(id);
+        }
+    }
 
-            String message = mapper.toJson(payloadObject);
-
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
-
-            sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns {}", commandResponse);
-                if (commandResponse.has("result")) {
-                    return commandResponse.get("result");
-                } else {
-                    JsonElement error = commandResponse.get("error");
-                    logger.debug("Error received from server: {}", error);
-                    return null;
+    /**
+     * Sends the methods as a single JSON-RPC batch request and waits for all of their results.
+     *
+     * @param methodNames the names of the methods
+     * @param params the parameters of the methods (an element may be null), in the same order as the names
+     * @return the results in the order of the methods, a result is null if the method failed or timed out
+     */
+    public List<JsonElement> callMethods(String[] methodNames, JsonObject[] params) {
+        List<Integer> ids = new ArrayList<>(methodNames.length);
+        List<CompletableFuture<JsonObject>> requests = new ArrayList<>(methodNames.length);
+        List<JsonElement> results = new ArrayList<>(methodNames.length);
+        JsonArray batch = new JsonArray();
+        for (int i = 0; i < methodNames.length; i++) {
+            int id = nextMessageId.getAndIncrement();
+            CompletableFuture<JsonObject> pendingRequest = new CompletableFuture<>();
+            pendingRequests.put(id, pendingRequest);
+            ids.add(id);
+            requests.add(pendingRequest);
+            batch.add(createRequest(id, methodNames[i], params[i]));
+        }
+        try {
+            sendMessage(mapper.toJson(batch));
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(REQUEST_TIMEOUT_MS);
+            for (int i = 0; i < methodNames.length; i++) {
+                JsonObject response = null;
+                try {
+                    response = requests.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    logger.debug("Timeout during callMethods({}, {})", methodNames[i], params[i]);
+                } catch (ExecutionException e) {
+                    logger.debug("Error during callMethods({}): {}", methodNames[i], e.getMessage(), e);
                 }
-            } else {
-                logger.debug("Timeout during callMethod({}, {})", methodName, params);
-                return null;
+                results.add(response != null ? getResult(response) : null);
             }
-        } catch (Exception e) {
-            logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
+            logger.debug("callMethods returns {}", results);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Error during callMethods({}): {}", String.join(", ", methodNames), e.getMessage(), e);
+        } finally {
+            for (Integer id : ids) {
+                pendingRequests.remove(id);
+            }
+        }
+        while (results.size() < methodNames.length) {
+            results.add(null);
+        }
+        return results;
+    }
+
+    private JsonObject createRequest(int id, String methodName, JsonObject params) {
+        JsonObject payloadObject = new JsonObject();
+        payloadObject.addProperty("jsonrpc", "2.0");
+        payloadObject.addProperty("id", id);
+        payloadObject.addProperty("method", methodName);
+
+        if (params != null) {
+            payloadObject.add("params", params);
+        }
+        return payloadObject;
+    }
+
+    private JsonElement getResult(JsonObject response) {
+        if (response.has("result")) {
+            return response.get("result");
+        } else {
+            JsonElement error = response.get("error");
+            logger.debug("Error received from server: {}", error);
             return null;
         }
     }
@@ -15,6 +15,9 @@ import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -53,10 +56,25 @@ public class KodiConnection implements KodiClientSocketEventListener {
             TimeUnit.MINUTES.toMillis(15));
     private static final ExpiringCacheMap<String, JsonElement> REQUEST_CACHE = new ExpiringCacheMap<>(
             TimeUnit.MINUTES.toMillis(5));
+    // the image downloads in progress by URL, so that each image is only downloaded once at a time
+    private static final Map<String, CompletableFuture<RawType>> IMAGE_DOWNLOADS = new ConcurrentHashMap<>();
+
+    private static final String[] PLAYER_PROPERTIES = { "speed", "position" };
+    private static final String[] ITEM_PROPERTIES = { "title", "album", "artist", "director", "thumbnail", "file",
+            "fanart", "showtitle", "streamdetails", "channel", "channeltype" };
 
     private URI wsUri;
     private URI imageUri;
     private KodiClientSocket socket;
+    private ScheduledExecutorService scheduler;
+
+    // the URLs of the images of the current item, used to drop downloads that completed after the item changed
+    private volatile String thumbnailUrl;
+    private volatile String fanartUrl;
+
+    private long statusUpdateCount;
+    private long statusUpdateNanosTotal;
+    private long statusUpdateNanosMax;
 
     private int volume = 0;
     private KodiState currentState = KodiState.Stop;
@@ -79,6 +97,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
 
     public synchronized void connect(String hostName, int port, ScheduledExecutorService scheduler, URI imageUri) {
         this.imageUri = imageUri;
+        this.scheduler = scheduler;
         try {
             close();
             wsUri = new URI("ws", null, hostName, port, "/jsonrpc", null, null);
@@ -209,13 +228,10 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     private int getSpeed(int activePlayer) {
-        final String[] properties = { "speed", "position" };
-
-        JsonObject params = new JsonObject();
-        params.addProperty("playerid", activePlayer);
-        params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
+        return getSpeed(socket.callMethod("Player.GetProperties", getPlayerParams(activePlayer, PLAYER_PROPERTIES)));
+    }
 
+    private int getSpeed(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("speed")) {
@@ -225,11 +241,20 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return 0;
     }
 
+    /**
+     * Updates the state and the current item of the player. The properties and the item of the active player are
+     * requested in a single batch.
+     */
     public synchronized void updatePlayerStatus() {
         if (socket.isConnected()) {
+            long start = System.nanoTime();
             int activePlayer = getActivePlayer();
             if (activePlayer >= 0) {
-                int speed = getSpeed(activePlayer);
+                List<JsonElement> responses = socket.callMethods(
+                        new String[] { "Player.GetProperties", "Player.GetItem" },
+                        new JsonObject[] { getPlayerParams(activePlayer, PLAYER_PROPERTIES),
+                                getPlayerParams(activePlayer, ITEM_PROPERTIES) });
+                int speed = getSpeed(responses.get(0));
                 if (speed == 0) {
                     updateState(KodiState.Stop);
                 } else if (speed == 1) {
@@ -239,22 +264,54 @@ public class KodiConnection implements KodiClientSocketEventListener {
                 } else {
                     updateState(KodiState.FastForward);
                 }
-                requestPlayerUpdate(activePlayer);
+                updatePlayerItem(responses.get(1));
             } else {
                 updateState(KodiState.Stop);
             }
+            recordStatusUpdate(System.nanoTime() - start);
         }
     }
 
-    private void requestPlayerUpdate(int activePlayer) {
-        final String[] properties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
-                "showtitle", "streamdetails", "channel", "channeltype" };
+    private void recordStatusUpdate(long nanos) {
+        statusUpdateCount++;
+        statusUpdateNanosTotal += nanos;
+        statusUpdateNanosMax = Math.max(statusUpdateNanosMax, nanos);
+        logger.debug("Player status updated in {} ms", TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * @return the number of player status updates
+     */
+    public synchronized long getStatusUpdateCount() {
+        return statusUpdateCount;
+    }
+
+    /**
+     * @return the average duration of a player status update in milliseconds
+     */
+    public synchronized long getStatusUpdateLatencyAverage() {
+        return statusUpdateCount > 0 ? TimeUnit.NANOSECONDS.toMillis(statusUpdateNanosTotal / statusUpdateCount) : 0;
+    }
 
+    /**
+     * @return the maximum duration of a player status update in milliseconds
+     */
+    public synchronized long getStatusUpdateLatencyMax() {
+        return TimeUnit.NANOSECONDS.toMillis(statusUpdateNanosMax);
+    }
+
+    private JsonObject getPlayerParams(int activePlayer, String[] properties) {
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetItem", params);
+        return params;
+    }
 
+    private void requestPlayerUpdate(int activePlayer) {
+        updatePlayerItem(socket.callMethod("Player.GetItem", getPlayerParams(activePlayer, ITEM_PROPERTIES)));
+    }
+
+    private void updatePlayerItem(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("item")) {
@@ -300,15 +357,10 @@ public class KodiConnection implements KodiClientSocketEventListener {
                     channel = item.get("channel").getAsString();
                 }
 
-                RawType thumbnail = null;
-                if (item.has("thumbnail")) {
-                    thumbnail = downloadImage(convertToImageUrl(item.get("thumbnail")));
-                }
-
-                RawType fanart = null;
-                if (item.has("fanart")) {
-                    fanart = downloadImage(convertToImageUrl(item.get("fanart")));
-                }
+                String thumbnail = item.has("thumbnail") ? convertToImageUrl(item.get("thumbnail")) : null;
+                String fanart = item.has("fanart") ? convertToImageUrl(item.get("fanart")) : null;
+                thumbnailUrl = thumbnail;
+                fanartUrl = fanart;
 
                 try {
                     listener.updateAlbum(album);
@@ -317,11 +369,27 @@ public class KodiConnection implements KodiClientSocketEventListener {
                     listener.updateArtist(artist);
                     listener.updateMediaType(mediaType);
                     listener.updatePVRChannel(channel);
-                    listener.updateThumbnail(thumbnail);
-                    listener.updateFanart(fanart);
                 } catch (Exception e) {
                     logger.error("Event listener invoking error", e);
                 }
+
+                // the images are updated as soon as they are downloaded, unless the item changed in the meantime
+                downloadImageAsync(thumbnail).thenAccept(image -> {
+                    if (StringUtils.equals(thumbnail, thumbnailUrl)) {
+                        listener.updateThumbnail(image);
+                    }
+                }).exceptionally(e -> {
+                    logger.error("Event listener invoking error", e);
+                    return null;
+                });
+                downloadImageAsync(fanart).thenAccept(image -> {
+                    if (StringUtils.equals(fanart, fanartUrl)) {
+                        listener.updateFanart(image);
+                    }
+                }).exceptionally(e -> {
+                    logger.error("Event listener invoking error", e);
+                    return null;
+                });
             }
         }
     }
@@ -362,6 +430,35 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return null;
     }
 
+    /**
+     * Downloads the image in the background. Concurrent requests for the same URL share a single download and the
+     * downloaded images are cached in {@link #IMAGE_CACHE}.
+     *
+     * @param url the URL of the image, may be null
+     * @return the future image, which is null if there is no URL or the download failed
+     */
+    private CompletableFuture<RawType> downloadImageAsync(String url) {
+        if (StringUtils.isEmpty(url)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<RawType> download = new CompletableFuture<>();
+        CompletableFuture<RawType> runningDownload = IMAGE_DOWNLOADS.putIfAbsent(url, download);
+        if (runningDownload != null) {
+            return runningDownload;
+        }
+        scheduler.execute(() -> {
+            try {
+                download.complete(downloadImage(url));
+            } catch (RuntimeException e) {
+                logger.debug("Failed to download the content of URL {}", url, e);
+                download.complete(null);
+            } finally {
+                IMAGE_DOWNLOADS.remove(url, download);
+            }
+        });
+        return download;
+    }
+
     private RawType downloadImage(String url) {
         if (StringUtils.isNotEmpty(url)) {
             RawType image = IMAGE_CACHE.putIfAbsentAndGet(url, () -> {
@@ -391,6 +488,8 @@ public class KodiConnection implements KodiClientSocketEventListener {
             listener.updatePlayerState(state);
             // if this is a Stop then clear everything else
             if (state == KodiState.Stop) {
+                thumbnailUrl = null;
+                fanartUrl = null;
                 listener.updateAlbum("");
                 listener.updateTitle("");
                 listener.updateShowTitle("");
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.handler;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.openhab.binding.lutron.internal.protocol.LutronCommand;
+import org.openhab.binding.lutron.internal.protocol.LutronCommandType;
+import org.openhab.binding.lutron.internal.protocol.LutronOperation;
+
+/**
+ * Tests for the coalescing of the commands the {@link IPBridgeHandler} writes to the bridge in one batch.
+ *
+ * @author agent - Initial contribution
+ */
+public class IPBridgeHandlerTest {
+    private static final int ZONE_LEVEL = 1;
+    private static final int RAISE = 2;
+    private static final int STOP = 4;
+
+    @Test
+    public void assertLastLevelOfAnOutputWins() {
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(level(5, 10), level(5, 20), level(5, 30))),
+                is(Arrays.asList("#OUTPUT,5,1,30")));
+    }
+
+    @Test
+    public void assertLevelsAreCoalescedPerIntegrationId() {
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(level(5, 10), level(6, 20), level(5, 30), level(7, 40))),
+                is(Arrays.asList("#OUTPUT,6,1,20", "#OUTPUT,5,1,30", "#OUTPUT,7,1,40")));
+    }
+
+    @Test
+    public void assertLevelWithFadeTimeSupersedesAnEarlierLevel() {
+        LutronCommand fade = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.OUTPUT, 5, ZONE_LEVEL, 80,
+                "0:05");
+
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(level(5, 10), fade)),
+                is(Arrays.asList("#OUTPUT,5,1,80,0:05")));
+    }
+
+    @Test
+    public void assertOtherOutputCommandKeepsTheLevelsAroundIt() {
+        LutronCommand raise = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.OUTPUT, 5, RAISE);
+        LutronCommand stop = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.OUTPUT, 5, STOP);
+
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(level(5, 10), raise, stop, level(5, 20), level(5, 30))),
+                is(Arrays.asList("#OUTPUT,5,1,10", "#OUTPUT,5,2", "#OUTPUT,5,4", "#OUTPUT,5,1,30")));
+    }
+
+    @Test
+    public void assertOtherOutputCommandDoesNotKeepTheLevelsOfOtherOutputs() {
+        LutronCommand raise = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.OUTPUT, 6, RAISE);
+
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(level(5, 10), raise, level(5, 20))),
+                is(Arrays.asList("#OUTPUT,6,2", "#OUTPUT,5,1,20")));
+    }
+
+    @Test
+    public void assertIdenticalQueriesAreSentOnce() {
+        LutronCommand query = new LutronCommand(LutronOperation.QUERY, LutronCommandType.OUTPUT, 5, ZONE_LEVEL);
+        LutronCommand otherQuery = new LutronCommand(LutronOperation.QUERY, LutronCommandType.OUTPUT, 6, ZONE_LEVEL);
+        LutronCommand systemQuery = new LutronCommand(LutronOperation.QUERY, LutronCommandType.SYSTEM, -1, 10);
+
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(query, systemQuery, otherQuery, query, systemQuery)),
+                is(Arrays.asList("?OUTPUT,6,1", "?OUTPUT,5,1", "?SYSTEM,10")));
+    }
+
+    @Test
+    public void assertQueryDoesNotSupersedeALevel() {
+        LutronCommand query = new LutronCommand(LutronOperation.QUERY, LutronCommandType.OUTPUT, 5, ZONE_LEVEL);
+
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(level(5, 10), query, level(5, 20))),
+                is(Arrays.asList("?OUTPUT,5,1", "#OUTPUT,5,1,20")));
+    }
+
+    @Test
+    public void assertDeviceAndMonitoringCommandsAreNotCoalesced() {
+        LutronCommand press = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.DEVICE, 7, 3, 3);
+        LutronCommand release = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.DEVICE, 7, 3, 4);
+        LutronCommand monitoring = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.MONITORING, -1, 12,
+                2);
+
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(press, release, monitoring, press, release, monitoring)),
+                is(Arrays.asList("#DEVICE,7,3,3", "#DEVICE,7,3,4", "#MONITORING,12,2", "#DEVICE,7,3,3",
+                        "#DEVICE,7,3,4", "#MONITORING,12,2")));
+    }
+
+    @Test
+    public void assertMixedBatchKeepsTheOrderOfTheSentCommands() {
+        LutronCommand press = new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.DEVICE, 7, 3, 3);
+        LutronCommand query = new LutronCommand(LutronOperation.QUERY, LutronCommandType.OUTPUT, 6, ZONE_LEVEL);
+
+        assertThat(IPBridgeHandler.coalesce(Arrays.asList(level(5, 10), press, query, level(6, 50), level(5, 20))),
+                is(Arrays.asList("#DEVICE,7,3,3", "?OUTPUT,6,1", "#OUTPUT,6,1,50", "#OUTPUT,5,1,20")));
+    }
+
+    @Test
+    public void assertEmptyBatchGivesNoLines() {
+        assertThat(IPBridgeHandler.coalesce(Collections.emptyList()).isEmpty(), is(true));
+    }
+
+    private static LutronCommand level(int integrationId, int level) {
+        return new LutronCommand(LutronOperation.EXECUTE, LutronCommandType.OUTPUT, integrationId, ZONE_LEVEL, level);
+    }
+}
@@ -11,11 +11,17 @@ package org.openhab.binding.lutron.handler;
 import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,6 +34,7 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.lutron.internal.config.IPBridgeConfig;
 import org.openhab.binding.lutron.internal.discovery.LutronDeviceDiscoveryService;
@@ -46,6 +53,11 @@ import org.slf4j.LoggerFactory;
  * @author Allan Tong - Initial contribution
  */
 public class IPBridgeHandler extends BaseBridgeHandler {
+    private static final String PROPERTY_LINES_PARSED = "linesParsed";
+    private static final String PROPERTY_COMMANDS_SENT = "commandsSent";
+    private static final String PROPERTY_COMMANDS_COALESCED = "commandsCoalesced";
+    private static final String PROPERTY_MAX_QUEUE_DEPTH = "maxQueueDepth";
+
     private static final Pattern STATUS_REGEX = Pattern.compile("~(OUTPUT|DEVICE|SYSTEM),([^,]+),(.*)");
 
     private static final String DB_UPDATE_DATE_FORMAT = "MM/dd/yyyy HH:mm:ss";
@@ -57,6 +69,11 @@ public class IPBridgeHandler extends BaseBridgeHandler {
 
     private static final int MAX_LOGIN_ATTEMPTS = 2;
 
+    // Maximum number of commands written to the bridge at once
+    private static final int MAX_COMMAND_BATCH = 32;
+
+    private static final String ACTION_ZONELEVEL = "1";
+
     private static final String DEFAULT_USER = "lutron";
     private static final String DEFAULT_PASSWORD = "integration";
 
@@ -66,8 +83,18 @@ public class IPBridgeHandler extends BaseBridgeHandler {
 
     private TelnetSession session;
     private BlockingQueue<LutronCommand> sendQueue = new LinkedBlockingQueue<>();
+    // Commands of a batch the sender failed to write, sent first after the reconnect
+    private final List<LutronCommand> unsentCommands = new ArrayList<>();
+
+    // Handlers of the things of this bridge by integration ID
+    private final Map<Integer, LutronHandler> handlers = new ConcurrentHashMap<>();
 
-    private ScheduledFuture<?> messageSender;
+    private final AtomicLong linesParsed = new AtomicLong();
+    private final AtomicLong commandsSent = new AtomicLong();
+    private final AtomicLong commandsCoalesced = new AtomicLong();
+    private volatile int maxQueueDepth;
+
+    private Thread messageSender;
     private ScheduledFuture<?> keepAlive;
     private ScheduledFuture<?> keepAliveReconnect;
 
@@ -103,6 +130,12 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     public void initialize() {
         this.config = getThing().getConfiguration().as(IPBridgeConfig.class);
 
+        for (Thing thing : getThing().getThings()) {
+            if (thing.getHandler() instanceof LutronHandler) {
+                registerHandler((LutronHandler) thing.getHandler());
+            }
+        }
+
         if (validConfiguration(this.config)) {
             LutronDeviceDiscoveryService discovery = new LutronDeviceDiscoveryService(this);
 
@@ -170,12 +203,10 @@ public class IPBridgeHandler extends BaseBridgeHandler {
             return;
         }
 
-        this.messageSender = this.scheduler.schedule(new Runnable() {
-            @Override
-            public void run() {
-                sendCommands();
-            }
-        }, 0, TimeUnit.SECONDS);
+        // A dedicated thread, as it blocks on the send queue for the lifetime of the connection
+        this.messageSender = new Thread(this::sendCommands, "Lutron sender " + getThing().getUID());
+        this.messageSender.setDaemon(true);
+        this.messageSender.start();
 
         updateStatus(ThingStatus.ONLINE);
 
@@ -188,20 +219,46 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     }
 
     private void sendCommands() {
+        List<LutronCommand> batch = new ArrayList<>();
+
+        synchronized (this.unsentCommands) {
+            // Commands of a batch that could not be written before the reconnect are sent first
+            batch.addAll(this.unsentCommands);
+            this.unsentCommands.clear();
+        }
+
         try {
-            while (true) {
-                LutronCommand command = this.sendQueue.take();
+            while (!Thread.currentThread().isInterrupted()) {
+                // Wait for a command, then take the commands queued meanwhile as well
+                if (batch.isEmpty()) {
+                    batch.add(this.sendQueue.take());
+                }
+
+                int queueDepth = this.sendQueue.size() + batch.size();
+                if (queueDepth > this.maxQueueDepth) {
+                    this.maxQueueDepth = queueDepth;
+                }
 
-                this.logger.debug("Sending command {}", command);
+                this.sendQueue.drainTo(batch, Math.max(0, MAX_COMMAND_BATCH - batch.size()));
+
+                List<String> lines = coalesce(batch);
+
+                this.logger.debug("Sending commands {}", lines);
 
                 try {
-                    this.session.writeLine(command.toString());
+                    this.session.writeLines(lines);
+                    this.commandsSent.addAndGet(lines.size());
+                    this.commandsCoalesced.addAndGet(batch.size() - lines.size());
+                    batch.clear();
                 } catch (IOException e) {
                     this.logger.error("Communication error, will try to reconnect", e);
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
 
-                    // Requeue command
-                    this.sendQueue.add(command);
+                    // Keep the batch for the sender thread of the new connection. The send queue is left to the
+                    // producers, so no command queued meanwhile is lost or reordered.
+                    synchronized (this.unsentCommands) {
+                        this.unsentCommands.addAll(batch);
+                    }
 
                     reconnect();
 
@@ -214,6 +271,58 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Returns the lines to send for a batch of commands. A command setting the level of an output is skipped when a
+     * later command in the batch sets the level of the same output (unless another command for that output, like
+     * raise or lower, is in between), and identical queries are sent only once.
+     */
+    static List<String> coalesce(List<LutronCommand> batch) {
+        List<String> lines = new ArrayList<>(batch.size());
+        List<String> keys = new ArrayList<>(batch.size());
+        Map<String, Integer> lastIndexes = new HashMap<>();
+        Map<Integer, Integer> barriers = new HashMap<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            LutronCommand command = batch.get(i);
+            String line = command.toString();
+            String key = null;
+
+            if (command.getOperation() == LutronOperation.QUERY) {
+                key = line;
+            } else if (command.getType() == LutronCommandType.OUTPUT) {
+                Object[] parameters = command.getParameters();
+                int integrationId = command.getIntegrationId();
+
+                if (parameters != null && parameters.length > 0
+                        && ACTION_ZONELEVEL.equals(String.valueOf(parameters[0]))) {
+                    int barrier = barriers.getOrDefault(integrationId, 0);
+                    key = LutronCommandType.OUTPUT + "," + integrationId + "," + barrier;
+                } else {
+                    barriers.merge(integrationId, 1, Integer::sum);
+                }
+            }
+
+            lines.add(line);
+            keys.add(key);
+
+            if (key != null) {
+                lastIndexes.put(key, i);
+            }
+        }
+
+        List<String> coalesced = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < lines.size(); i++) {
+            String key = keys.get(i);
+
+            if (key == null || lastIndexes.get(key) == i) {
+                coalesced.add(lines.get(i));
+            }
+        }
+
+        return coalesced;
+    }
+
     private synchronized void disconnect() {
         this.logger.debug("Disconnecting from bridge");
 
@@ -228,7 +337,12 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         }
 
         if (this.messageSender != null) {
-            this.messageSender.cancel(true);
+            // This method can be called from the sender thread when a write fails. Don't interrupt ourselves,
+            // the sender thread terminates after the reconnection attempt.
+            if (this.messageSender != Thread.currentThread()) {
+                this.messageSender.interrupt();
+            }
+            this.messageSender = null;
         }
 
         try {
@@ -271,18 +385,32 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         this.sendQueue.add(command);
     }
 
-    private LutronHandler findThingHandler(int integrationId) {
-        for (Thing thing : getThing().getThings()) {
-            if (thing.getHandler() instanceof LutronHandler) {
-                LutronHandler handler = (LutronHandler) thing.getHandler();
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof LutronHandler) {
+            registerHandler((LutronHandler) childHandler);
+        }
+    }
 
-                if (handler.getIntegrationId() == integrationId) {
-                    return handler;
-                }
-            }
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof LutronHandler) {
+            this.handlers.values().remove(childHandler);
+        }
+    }
+
+    private void registerHandler(LutronHandler handler) {
+        try {
+            // The integration ID may have changed, so drop the handler from the index first
+            this.handlers.values().remove(handler);
+            this.handlers.put(handler.getIntegrationId(), handler);
+        } catch (IllegalStateException e) {
+            this.logger.debug("Handler for {} not initialized, not indexing it", handler.getThing().getUID());
         }
+    }
 
-        return null;
+    private LutronHandler findThingHandler(int integrationId) {
+        return this.handlers.get(integrationId);
     }
 
     private void parseUpdates() {
@@ -293,6 +421,7 @@ public class IPBridgeHandler extends BaseBridgeHandler {
             }
 
             this.logger.debug("Received message {}", line);
+            this.linesParsed.incrementAndGet();
 
             // System is alive, cancel reconnect task.
             if (this.keepAliveReconnect != null) {
@@ -342,6 +471,18 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         }, 30, TimeUnit.SECONDS);
 
         sendCommand(new LutronCommand(LutronOperation.QUERY, LutronCommandType.SYSTEM, -1, SYSTEM_DBEXPORTDATETIME));
+
+        updateStatistics();
+    }
+
+    private void updateStatistics() {
+        this.logger.debug("Lines parsed: {}, commands sent: {}, commands coalesced: {}, max queue depth: {}",
+                this.linesParsed.get(), this.commandsSent.get(), this.commandsCoalesced.get(), this.maxQueueDepth);
+
+        updateProperty(PROPERTY_LINES_PARSED, String.valueOf(this.linesParsed.get()));
+        updateProperty(PROPERTY_COMMANDS_SENT, String.valueOf(this.commandsSent.get()));
+        updateProperty(PROPERTY_COMMANDS_COALESCED, String.valueOf(this.commandsCoalesced.get()));
+        updateProperty(PROPERTY_MAX_QUEUE_DEPTH, String.valueOf(this.maxQueueDepth));
     }
 
     private void setDbUpdateDate(String dateString, String timeString) {
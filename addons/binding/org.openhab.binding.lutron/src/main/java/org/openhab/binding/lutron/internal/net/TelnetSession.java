@@ -218,4 +218,21 @@ public class TelnetSession implements Closeable {
             throw new IOException("Could not write to stream");
         }
     }
+
+    /**
+     * Writes several lines at once. The lines are flushed together, so they are sent in as few packets as possible.
+     */
+    public void writeLines(List<String> lines) throws IOException {
+        StringBuilder builder = new StringBuilder();
+
+        for (String line : lines) {
+            builder.append(line).append("\r\n");
+        }
+
+        this.outstream.print(builder.toString());
+
+        if (this.outstream.checkError()) {
+            throw new IOException("Could not write to stream");
+        }
+    }
 }
@@ -262,7 +262,8 @@ public abstract class MieleApplianceHandler<E extends Enum<E> & ApplianceChannel
             ThingHandler handler = bridge.getHandler();
             if (handler instanceof MieleBridgeHandler) {
                 this.bridgeHandler = (MieleBridgeHandler) handler;
-                this.bridgeHandler.registerApplianceStatusListener(this);
+                this.bridgeHandler.registerApplianceStatusListener(
+                        "hdm:ZigBee:" + (String) getThing().getConfiguration().getProperties().get(APPLIANCE_ID), this);
             } else {
                 return null;
             }
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -60,6 +61,11 @@ import com.google.gson.JsonParser;
  * The {@link MieleBridgeHandler} is responsible for handling commands, which are
  * sent to one of the channels.
  *
+ * The multicast events of the gateway are the primary source of appliance state changes. The polling job only fetches
+ * the device class objects of the appliances that signalled a change, except for a full poll of all appliances every
+ * {@link #FULL_POLLING_PERIOD} seconds. State changes are only passed to the listeners registered for the UID of the
+ * appliance and to the listeners registered for all appliances.
+ *
  * @author Karel Goderis - Initial contribution
  * @author Kai Kreuzer - Fixed lifecycle issues
  */
@@ -71,6 +77,7 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
             .compile("^(([01]?\\d\\d?|2[0-4]\\d|25[0-5])\\.){3}([01]?\\d\\d?|2[0-4]\\d|25[0-5])$");
 
     protected final int POLLING_PERIOD = 15; // in seconds
+    protected final int FULL_POLLING_PERIOD = 120; // in seconds
     protected final int JSON_RPC_PORT = 2810;
     protected final String JSON_RPC_MULTICAST_IP1 = "239.255.68.139";
     protected final String JSON_RPC_MULTICAST_IP2 = "224.255.68.139";
@@ -82,10 +89,13 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
     private final Logger logger = LoggerFactory.getLogger(MieleBridgeHandler.class);
 
     protected List<ApplianceStatusListener> applianceStatusListeners = new CopyOnWriteArrayList<>();
+    protected Map<String, List<ApplianceStatusListener>> applianceStatusListenersByUID = new ConcurrentHashMap<>();
     protected ScheduledFuture<?> pollingJob;
     protected ScheduledFuture<?> eventListenerJob;
 
-    protected List<HomeDevice> previousHomeDevices = new CopyOnWriteArrayList<HomeDevice>();
+    protected Map<String, HomeDevice> previousHomeDevices = new HashMap<>();
+    protected Set<String> changedAppliances = ConcurrentHashMap.newKeySet();
+    private volatile long nextFullPoll = 0;
 
     protected URL url;
     protected Map<String, String> headers;
@@ -208,34 +218,25 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
 
                     if (currentBridgeConnectionState) {
                         if (getThing().getStatus() == ThingStatus.ONLINE) {
-                            List<HomeDevice> currentHomeDevices = getHomeDevices();
-                            for (HomeDevice hd : currentHomeDevices) {
-                                boolean isExisting = false;
-                                for (HomeDevice phd : previousHomeDevices) {
-                                    if (phd.UID.equals(hd.UID)) {
-                                        isExisting = true;
-                                        break;
-                                    }
-                                }
-                                if (!isExisting) {
+                            Map<String, HomeDevice> currentHomeDevices = new HashMap<>();
+                            for (HomeDevice hd : getHomeDevices()) {
+                                currentHomeDevices.put(hd.UID, hd);
+                            }
+
+                            for (HomeDevice hd : currentHomeDevices.values()) {
+                                if (!previousHomeDevices.containsKey(hd.UID)) {
                                     logger.info("A new appliance with ID '{}' has been added", hd.UID);
-                                    for (ApplianceStatusListener listener : applianceStatusListeners) {
+                                    changedAppliances.add(hd.UID);
+                                    for (ApplianceStatusListener listener : getApplianceStatusListeners(hd.UID)) {
                                         listener.onApplianceAdded(hd);
                                     }
                                 }
                             }
 
-                            for (HomeDevice hd : previousHomeDevices) {
-                                boolean isCurrent = false;
-                                for (HomeDevice chd : currentHomeDevices) {
-                                    if (chd.UID.equals(hd.UID)) {
-                                        isCurrent = true;
-                                        break;
-                                    }
-                                }
-                                if (!isCurrent) {
+                            for (HomeDevice hd : previousHomeDevices.values()) {
+                                if (!currentHomeDevices.containsKey(hd.UID)) {
                                     logger.info("The appliance with ID '{}' has been removed", hd);
-                                    for (ApplianceStatusListener listener : applianceStatusListeners) {
+                                    for (ApplianceStatusListener listener : getApplianceStatusListeners(hd.UID)) {
                                         listener.onApplianceRemoved(hd);
                                     }
                                 }
@@ -243,32 +244,28 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
 
                             previousHomeDevices = currentHomeDevices;
 
+                            // only fetch the appliances that signalled a change, unless a full poll is due
+                            boolean fullPoll = System.currentTimeMillis() >= nextFullPoll;
+                            if (fullPoll) {
+                                logger.debug("Fetching the state of all appliances");
+                                nextFullPoll = System.currentTimeMillis()
+                                        + TimeUnit.SECONDS.toMillis(FULL_POLLING_PERIOD);
+                            }
+
                             for (Thing appliance : getThing().getThings()) {
                                 if (appliance.getStatus() == ThingStatus.ONLINE) {
                                     String UID = "hdm:ZigBee:"
                                             + (String) appliance.getConfiguration().getProperties().get(APPLIANCE_ID);
 
-                                    Object[] args = new Object[2];
-                                    args[0] = UID;
-                                    args[1] = true;
-                                    JsonElement result = invokeRPC("HDAccess/getDeviceClassObjects", args);
-
-                                    if (result != null) {
-                                        for (JsonElement obj : result.getAsJsonArray()) {
-                                            try {
-                                                DeviceClassObject dco = gson.fromJson(obj, DeviceClassObject.class);
-
-                                                for (ApplianceStatusListener listener : applianceStatusListeners) {
-                                                    listener.onApplianceStateChanged(UID, dco);
-                                                }
-                                            } catch (Exception e) {
-                                                logger.debug("An exception occurred while quering an appliance : '{}'",
-                                                        e.getMessage());
-                                            }
-                                        }
+                                    if (changedAppliances.remove(UID) || fullPoll) {
+                                        fetchApplianceState(UID);
                                     }
                                 }
                             }
+
+                            if (fullPoll) {
+                                changedAppliances.clear();
+                            }
                         }
                     }
 
@@ -301,6 +298,46 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
         }
     };
 
+    private void fetchApplianceState(String UID) {
+        Object[] args = new Object[2];
+        args[0] = UID;
+        args[1] = true;
+        JsonElement result = invokeRPC("HDAccess/getDeviceClassObjects", args);
+
+        if (result != null) {
+            for (JsonElement obj : result.getAsJsonArray()) {
+                try {
+                    DeviceClassObject dco = gson.fromJson(obj, DeviceClassObject.class);
+
+                    for (ApplianceStatusListener listener : getApplianceStatusListeners(UID)) {
+                        listener.onApplianceStateChanged(UID, dco);
+                    }
+                } catch (Exception e) {
+                    logger.debug("An exception occurred while quering an appliance : '{}'", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the listeners registered for the given appliance and the listeners registered for all appliances.
+     *
+     * @param UID the UID of the appliance, e.g. "hdm:ZigBee:001D63FFFE020685"
+     * @return the listeners to call for changes of the appliance
+     */
+    private List<ApplianceStatusListener> getApplianceStatusListeners(String UID) {
+        List<ApplianceStatusListener> listeners = UID == null ? null : applianceStatusListenersByUID.get(UID);
+        if (listeners == null || listeners.isEmpty()) {
+            return applianceStatusListeners;
+        }
+        if (applianceStatusListeners.isEmpty()) {
+            return listeners;
+        }
+        List<ApplianceStatusListener> result = new ArrayList<>(listeners);
+        result.addAll(applianceStatusListeners);
+        return result;
+    }
+
     public List<HomeDevice> getHomeDevices() {
 
         List<HomeDevice> devices = new ArrayList<HomeDevice>();
@@ -380,7 +417,11 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
                                     }
                                 }
 
-                                for (ApplianceStatusListener listener : applianceStatusListeners) {
+                                if (uid != null) {
+                                    // fetch the complete state of the appliance with the next poll
+                                    changedAppliances.add(uid);
+                                }
+                                for (ApplianceStatusListener listener : getApplianceStatusListeners(uid)) {
                                     listener.onAppliancePropertyChanged(uid, dp);
                                 }
                             } catch (SocketTimeoutException e) {
@@ -569,6 +610,8 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
      * @param bridge the hue bridge the connection is resumed to
      */
     public void onConnectionResumed() {
+        // events may have been missed while the connection was lost
+        nextFullPoll = 0;
         updateStatus(ThingStatus.ONLINE);
         for (Thing thing : getThing().getThings()) {
             MieleApplianceHandler<?> handler = (MieleApplianceHandler<?>) thing.getHandler();
@@ -578,11 +621,44 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Registers a listener for changes of all appliances.
+     *
+     * @param applianceStatusListener the listener to register
+     * @return true if the listener has been registered
+     */
     public boolean registerApplianceStatusListener(ApplianceStatusListener applianceStatusListener) {
         if (applianceStatusListener == null) {
             throw new IllegalArgumentException("It's not allowed to pass a null ApplianceStatusListener.");
         }
-        boolean result = applianceStatusListeners.add(applianceStatusListener);
+        return onApplianceStatusListenerRegistered(applianceStatusListener,
+                applianceStatusListeners.add(applianceStatusListener));
+    }
+
+    /**
+     * Registers a listener for state and property changes, additions and removals of the appliance with the given
+     * UID.
+     *
+     * @param UID the UID of the appliance, e.g. "hdm:ZigBee:001D63FFFE020685"
+     * @param applianceStatusListener the listener to register
+     * @return true if the listener has been registered
+     */
+    public boolean registerApplianceStatusListener(String UID, ApplianceStatusListener applianceStatusListener) {
+        if (applianceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null ApplianceStatusListener.");
+        }
+        List<ApplianceStatusListener> listeners = applianceStatusListenersByUID.computeIfAbsent(UID,
+                k -> new CopyOnWriteArrayList<>());
+        boolean result = !listeners.contains(applianceStatusListener) && listeners.add(applianceStatusListener);
+        if (result) {
+            // fetch the current state of the appliance with the next poll
+            changedAppliances.add(UID);
+        }
+        return onApplianceStatusListenerRegistered(applianceStatusListener, result);
+    }
+
+    private boolean onApplianceStatusListenerRegistered(ApplianceStatusListener applianceStatusListener,
+            boolean result) {
         if (result && isInitialized()) {
             onUpdate();
 
@@ -596,6 +672,9 @@ public class MieleBridgeHandler extends BaseBridgeHandler {
 
     public boolean unregisterApplianceStatusListener(ApplianceStatusListener applianceStatusListener) {
         boolean result = applianceStatusListeners.remove(applianceStatusListener);
+        for (List<ApplianceStatusListener> listeners : applianceStatusListenersByUID.values()) {
+            result |= listeners.remove(applianceStatusListener);
+        }
         if (result && isInitialized()) {
             onUpdate();
         }
@@ -109,6 +109,11 @@ public class XiaomiGatewayBindingConstants {
     public static final String PORT = "port";
     public static final String TOKEN = "token";
 
+    // Bridge properties
+    public static final String PROPERTY_MESSAGES_RECEIVED = "messagesReceived";
+    public static final String PROPERTY_MESSAGES_PER_SECOND = "messagesPerSecond";
+    public static final String PROPERTY_DATA_DECODED = "dataDecoded";
+
     // Item config properties
     public static final String ITEM_ID = "itemId";
 }
@@ -13,14 +13,16 @@ import static org.openhab.binding.mihome.XiaomiGatewayBindingConstants.*;
 import java.math.BigDecimal;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.config.core.status.ConfigStatusMessage;
@@ -43,11 +45,16 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
 
 /**
  * The {@link XiaomiBridgeHandler} is responsible for handling commands, which are
  * sent to one of the channels for the bridge.
  *
+ * Received messages are dispatched to the item listeners through an index by sid. The data of a message (a JSON
+ * string inside the JSON message) is only decoded when it is needed and at most once, see
+ * {@link #getMessageData(JsonObject)}.
+ *
  * @author Patrick Boos - Initial contribution
  * @author Dieter Schmidt - added device update from heartbeat
  */
@@ -55,15 +62,18 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
 
     private static final int DISCOVERY_LOCK_TIME_MILLIS = 10000;
     private static final int READ_ACK_RETENTION_MILLIS = 60 * 60 * 1000; // 2 hours
+    private static final int STATISTICS_INTERVAL_SECONDS = 60;
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Collections.singleton(THING_TYPE_BRIDGE);
     private static final JsonParser PARSER = new JsonParser();
     private static final EncryptionHelper CRYPTER = new EncryptionHelper();
-    private static Map<String, JsonObject> retentionBox = new ConcurrentHashMap<>();
+    // the last read ack of each device, expired entries are ignored and replaced by the next read ack of the device
+    private static Map<String, RetainedMessage> retentionBox = new ConcurrentHashMap<>();
+    private static final AtomicLong DATA_DECODED_COUNT = new AtomicLong();
 
     private final Logger logger = LoggerFactory.getLogger(XiaomiBridgeHandler.class);
 
-    private List<XiaomiItemUpdateListener> itemListeners = new ArrayList<>();
-    private List<XiaomiItemUpdateListener> itemDiscoveryListeners = new ArrayList<>();
+    private Map<String, List<XiaomiItemUpdateListener>> itemListeners = new ConcurrentHashMap<>();
+    private List<XiaomiItemUpdateListener> itemDiscoveryListeners = new CopyOnWriteArrayList<>();
 
     private String gatewayToken;
     private long lastDiscoveryTime;
@@ -74,6 +84,12 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
     private int port;
     private XiaomiBridgeSocket socket;
 
+    private final AtomicLong messageCount = new AtomicLong();
+    private long lastStatisticsMessageCount;
+    private long lastStatisticsNanos;
+    private long lastStatisticsDataDecodedCount;
+    private ScheduledFuture<?> statisticsJob;
+
     public XiaomiBridgeHandler(Bridge bridge) {
         super(bridge);
     }
@@ -103,11 +119,20 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
         scheduler.schedule(() -> {
             discoverItems();
         }, 1, TimeUnit.SECONDS);
+
+        lastStatisticsNanos = System.nanoTime();
+        lastStatisticsDataDecodedCount = DATA_DECODED_COUNT.get();
+        statisticsJob = scheduler.scheduleWithFixedDelay(this::updateStatistics, STATISTICS_INTERVAL_SECONDS,
+                STATISTICS_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
 
     @Override
     public void dispose() {
         logger.debug("dispose");
+        if (statisticsJob != null) {
+            statisticsJob.cancel(true);
+            statisticsJob = null;
+        }
         socket.unregisterListener(this);
         super.dispose();
     }
@@ -120,11 +145,14 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
     @Override
     public void onDataReceived(JsonObject message) {
         logger.trace("Received message {}", message);
+        messageCount.incrementAndGet();
         String sid = message.has("sid") ? message.get("sid").getAsString() : null;
         String command = message.get("cmd").getAsString();
 
         updateDeviceStatus(sid);
-        updateStatus(ThingStatus.ONLINE);
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            updateStatus(ThingStatus.ONLINE);
+        }
         switch (command) {
             case "iam":
                 return;
@@ -134,7 +162,7 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
                 }
                 break;
             case "get_id_list_ack":
-                JsonArray devices = PARSER.parse(message.get("data").getAsString()).getAsJsonArray();
+                JsonArray devices = getMessageData(message).getAsJsonArray();
                 for (JsonElement deviceId : devices) {
                     String device = deviceId.getAsString();
                     sendCommandToBridge("read", device);
@@ -153,54 +181,64 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
         notifyListeners(command, message);
     }
 
-    private synchronized void retend(String sid, JsonObject message) {
-        synchronized (retentionBox) {
-            retentionBox.remove(sid);
-            retentionBox.put(sid, message);
-        }
-        scheduler.schedule(new RemoveRetentionRunnable(sid), READ_ACK_RETENTION_MILLIS, TimeUnit.MILLISECONDS);
+    private void retend(String sid, JsonObject message) {
+        retentionBox.put(sid, new RetainedMessage(message));
     }
 
-    private class RemoveRetentionRunnable implements Runnable {
-        private String sid;
+    private static class RetainedMessage {
+        private final JsonObject message;
+        private final long retainedMillis = System.currentTimeMillis();
 
-        public RemoveRetentionRunnable(String sid) {
-            this.sid = sid;
+        private RetainedMessage(JsonObject message) {
+            this.message = message;
         }
 
-        @Override
-        public synchronized void run() {
-            synchronized (retentionBox) {
-                retentionBox.remove(sid);
-            }
+        private boolean isExpired() {
+            return System.currentTimeMillis() - retainedMillis > READ_ACK_RETENTION_MILLIS;
         }
     }
 
-    public synchronized JsonObject getRetentedMessage(String sid) {
-        synchronized (retentionBox) {
-            JsonObject ret = retentionBox.get(sid);
-            if (ret != null) {
-                retentionBox.remove(sid);
-            }
-            return ret;
+    public JsonObject getRetentedMessage(String sid) {
+        RetainedMessage retainedMessage = retentionBox.remove(sid);
+        if (retainedMessage == null || retainedMessage.isExpired()) {
+            return null;
         }
+        return retainedMessage.message;
     }
 
-    private synchronized void notifyListeners(String command, JsonObject message) {
-        boolean knownDevice = false;
-        String sid = message.get("sid").getAsString();
+    /**
+     * Returns the data of a message. The data is sent as a JSON string inside the JSON message, it is decoded with
+     * the first call and replaces the string in the message, so that further calls (e.g. for a retained message) do
+     * not decode it again.
+     *
+     * @param message the message received from the gateway
+     * @return the decoded data
+     * @throws JsonSyntaxException if the data is not valid JSON
+     */
+    static JsonElement getMessageData(JsonObject message) {
+        JsonElement data = message.get("data");
+        if (data == null || !data.isJsonPrimitive()) {
+            return data;
+        }
+        JsonElement decodedData = PARSER.parse(data.getAsString());
+        DATA_DECODED_COUNT.incrementAndGet();
+        message.add("data", decodedData);
+        return decodedData;
+    }
 
+    private void notifyListeners(String command, JsonObject message) {
         // Not a message to pass to any itemListener
-        if (sid == null) {
+        if (!message.has("sid")) {
             return;
         }
-        for (XiaomiItemUpdateListener itemListener : itemListeners) {
-            if (sid.equals(itemListener.getItemId())) {
+        String sid = message.get("sid").getAsString();
+
+        List<XiaomiItemUpdateListener> listeners = itemListeners.get(sid);
+        if (listeners != null && !listeners.isEmpty()) {
+            for (XiaomiItemUpdateListener itemListener : listeners) {
                 itemListener.onItemUpdate(sid, command, message);
-                knownDevice = true;
             }
-        }
-        if (!knownDevice) {
+        } else {
             for (XiaomiItemUpdateListener itemListener : itemDiscoveryListeners) {
                 itemListener.onItemUpdate(sid, command, message);
             }
@@ -214,16 +252,48 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
         } else if (listener instanceof XiaomiItemDiscoveryService) {
             result = !(itemDiscoveryListeners.contains(listener)) ? itemDiscoveryListeners.add(listener) : false;
             logger.debug("Having {} Item Discovery listeners", itemDiscoveryListeners.size());
+        } else if (listener.getItemId() == null) {
+            logger.warn("It's not allowed to pass a XiaomiItemUpdateListener without item id");
         } else {
             logger.debug("Adding item listener for device {}", listener.getItemId());
-            result = !(itemListeners.contains(listener)) ? itemListeners.add(listener) : false;
-            logger.debug("Having {} Item listeners", itemListeners.size());
+            List<XiaomiItemUpdateListener> listeners = itemListeners.computeIfAbsent(listener.getItemId(),
+                    sid -> new CopyOnWriteArrayList<>());
+            result = !(listeners.contains(listener)) ? listeners.add(listener) : false;
+            logger.debug("Having Item listeners for {} devices", itemListeners.size());
         }
         return result;
     }
 
     public synchronized boolean unregisterItemListener(XiaomiItemUpdateListener listener) {
-        return itemListeners.remove(listener);
+        boolean result = itemDiscoveryListeners.remove(listener);
+        for (Map.Entry<String, List<XiaomiItemUpdateListener>> entry : itemListeners.entrySet()) {
+            if (entry.getValue().remove(listener)) {
+                result = true;
+                if (entry.getValue().isEmpty()) {
+                    itemListeners.remove(entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    private void updateStatistics() {
+        long nanos = System.nanoTime();
+        long messages = messageCount.get();
+        long dataDecoded = DATA_DECODED_COUNT.get();
+        double seconds = (nanos - lastStatisticsNanos) / 1e9;
+        if (seconds > 0) {
+            double messagesPerSecond = (messages - lastStatisticsMessageCount) / seconds;
+            updateProperty(PROPERTY_MESSAGES_RECEIVED, String.valueOf(messages));
+            updateProperty(PROPERTY_MESSAGES_PER_SECOND, String.format("%.2f", messagesPerSecond));
+            updateProperty(PROPERTY_DATA_DECODED, String.valueOf(dataDecoded));
+            logger.debug("Received {} messages ({} per second), decoded {} data objects of all gateways since last",
+                    messages - lastStatisticsMessageCount, String.format("%.2f", messagesPerSecond),
+                    dataDecoded - lastStatisticsDataDecodedCount);
+        }
+        lastStatisticsNanos = nanos;
+        lastStatisticsMessageCount = messages;
+        lastStatisticsDataDecodedCount = dataDecoded;
     }
 
     private void sendMessageToBridge(String message) {
@@ -29,7 +29,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
 /**
@@ -55,8 +54,6 @@ public abstract class XiaomiDeviceBaseHandler extends BaseThingHandler implement
 
     private static final long ONLINE_TIMEOUT_MILLIS = 2 * 60 * 60 * 1000; // 2 hours
 
-    private JsonParser parser = new JsonParser();
-
     private XiaomiBridgeHandler bridgeHandler;
 
     private String itemId;
@@ -110,7 +107,7 @@ public abstract class XiaomiDeviceBaseHandler extends BaseThingHandler implement
             updateThingStatus();
             logger.debug("Item got update: {}", message);
             try {
-                JsonObject data = parser.parse(message.get("data").getAsString()).getAsJsonObject();
+                JsonObject data = XiaomiBridgeHandler.getMessageData(message).getAsJsonObject();
                 parseCommand(command, data);
             } catch (JsonSyntaxException e) {
                 logger.warn("Unable to parse message as valid JSON: {}", message);
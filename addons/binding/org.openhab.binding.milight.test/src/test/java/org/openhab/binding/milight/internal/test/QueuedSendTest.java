@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.milight.internal.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openhab.binding.milight.MilightBindingConstants;
+import org.openhab.binding.milight.internal.MilightThingState;
+import org.openhab.binding.milight.internal.protocol.MilightV6RGB_CW_WW;
+import org.openhab.binding.milight.internal.protocol.MilightV6SessionManager;
+import org.openhab.binding.milight.internal.protocol.QueueItem;
+import org.openhab.binding.milight.internal.protocol.QueuedSend;
+
+/**
+ * Tests for the {@link QueuedSend}: Replacing of queued commands of the same category and pacing of commands that are
+ * confirmed by the {@link EmulatedV6Bridge}.
+ *
+ * @author agent - Initial contribution
+ */
+public class QueuedSendTest {
+    private static final int DELAY_BETWEEN_COMMANDS = 100;
+    private static final int COMMANDS = 20;
+
+    private QueuedSend queuedSend;
+    private DatagramSocket receiver;
+    private ScheduledExecutorService scheduler;
+    private MilightV6SessionManager session;
+
+    @BeforeClass
+    public static void startBridge() {
+        // The emulated bridge listens on the fixed bridge ports and can't be stopped, so it is shared by all tests
+        new EmulatedV6Bridge();
+    }
+
+    @After
+    public void tearDown() {
+        if (session != null) {
+            session.dispose();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (queuedSend != null) {
+            queuedSend.dispose();
+        }
+        if (receiver != null) {
+            receiver.close();
+        }
+    }
+
+    @Test
+    public void assertQueuedCommandIsReplacedByCommandOfSameCategory() throws IOException {
+        receiver = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        receiver.setSoTimeout(1000);
+        queuedSend = createQueuedSend(receiver.getLocalPort());
+
+        // Keeps the queue busy, while the other commands are added
+        queuedSend.queue(QueueItem.createRepeatable(2, new byte[] { 0 }, 300));
+        queuedSend.queue(QueueItem.createRepeatable(1, new byte[] { 1 }));
+        queuedSend.queue(QueueItem.createNonRepeatable(new byte[] { 10 }));
+        queuedSend.queue(QueueItem.createRepeatable(1, new byte[] { 2 }));
+        queuedSend.queue(QueueItem.createNonRepeatable(new byte[] { 11 }));
+        queuedSend.queue(QueueItem.createRepeatable(1, new byte[] { 3 }));
+
+        assertThat(receive(), is((byte) 0));
+        assertThat(receive(), is((byte) 10));
+        assertThat(receive(), is((byte) 11));
+        // The newest command of a category is sent after all other queued commands
+        assertThat(receive(), is((byte) 3));
+
+        receiver.setSoTimeout(DELAY_BETWEEN_COMMANDS * 3);
+        try {
+            receiver.receive(new DatagramPacket(new byte[1], 1));
+            fail("The replaced commands must not be sent");
+        } catch (SocketTimeoutException e) {
+        }
+    }
+
+    @Test
+    public void assertGeneratedCommandIsCreatedWhenSent() throws IOException {
+        receiver = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        receiver.setSoTimeout(1000);
+        queuedSend = createQueuedSend(receiver.getLocalPort());
+
+        AtomicInteger value = new AtomicInteger(1);
+        queuedSend.queue(QueueItem.createRepeatable(2, new byte[] { 0 }, 300));
+        queuedSend.queue(QueueItem.createGenerated(1,
+                () -> QueueItem.createNonRepeatable(new byte[] { (byte) value.get() })));
+        value.set(5);
+
+        assertThat(receive(), is((byte) 0));
+        assertThat(receive(), is((byte) 5));
+    }
+
+    @Test
+    public void assertConfirmedCommandsDoNotWaitForTheDelay() throws Exception {
+        queuedSend = createQueuedSend(MilightBindingConstants.PORT_VER6);
+        scheduler = Executors.newScheduledThreadPool(1);
+        session = new MilightV6SessionManager(queuedSend, "ACCF23F57AD4", scheduler, state -> {
+        }, InetAddress.getLoopbackAddress());
+        for (int i = 0; i < 50 && !session.isValid(); ++i) {
+            Thread.sleep(100);
+        }
+        assertThat(session.isValid(), is(true));
+
+        MilightV6RGB_CW_WW bulb = new MilightV6RGB_CW_WW(queuedSend, session, 1);
+        MilightThingState state = new MilightThingState();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < COMMANDS; ++i) {
+            bulb.changeSpeed(2, state);
+        }
+        awaitQueueProcessed();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Waiting the full delay after each command would take COMMANDS * DELAY_BETWEEN_COMMANDS ms
+        assertThat("Sending took " + elapsed + " ms", elapsed < COMMANDS * DELAY_BETWEEN_COMMANDS / 2, is(true));
+    }
+
+    private QueuedSend createQueuedSend(int port) throws IOException {
+        QueuedSend queuedSend = new QueuedSend();
+        queuedSend.setAddress(InetAddress.getLoopbackAddress());
+        queuedSend.setPort(port);
+        queuedSend.setDelayBetweenCommands(DELAY_BETWEEN_COMMANDS);
+        queuedSend.start();
+        return queuedSend;
+    }
+
+    private byte receive() throws IOException {
+        DatagramPacket packet = new DatagramPacket(new byte[1], 1);
+        receiver.receive(packet);
+        return packet.getData()[0];
+    }
+
+    /**
+     * Queues a command without data, that is generated after all previously queued commands have been sent.
+     */
+    private void awaitQueueProcessed() throws InterruptedException {
+        CountDownLatch processed = new CountDownLatch(1);
+        queuedSend.queue(QueueItem.createGenerated(QueuedSend.NO_CATEGORY, () -> {
+            processed.countDown();
+            return null;
+        }));
+        assertThat(processed.await(10, TimeUnit.SECONDS), is(true));
+    }
+}
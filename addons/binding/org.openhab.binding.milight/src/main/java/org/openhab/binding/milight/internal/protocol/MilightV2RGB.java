@@ -24,6 +24,8 @@ import org.slf4j.LoggerFactory;
 public class MilightV2RGB extends AbstractBulbInterface {
     protected final Logger logger = LoggerFactory.getLogger(MilightV2RGB.class);
     protected static final int brLevels = 9;
+    // The brightness level that has been send to the bulb, -1 if nothing has been send yet.
+    private volatile int sentLevel = -1;
 
     public MilightV2RGB(QueuedSend sendQueue, int zone) {
         super(5, sendQueue, zone);
@@ -95,6 +97,9 @@ public class MilightV2RGB extends AbstractBulbInterface {
 
     }
 
+    // The bulb only knows relative brightness steps. The steps are generated when the command is send, starting
+    // from the last level that has been send. A newer brightness value replaces a queued one before any of its steps
+    // have been send.
     @Override
     public void setBrightness(int value, MilightThingState state) {
         if (value <= 0) {
@@ -102,44 +107,44 @@ public class MilightV2RGB extends AbstractBulbInterface {
             return;
         }
 
-        if (value > state.brightness) {
-            int repeatCount = (value - state.brightness) / 10;
-            for (int i = 0; i < repeatCount; i++) {
-
-                changeBrightness(+1, state);
-
-            }
-        } else if (value < state.brightness) {
-            int repeatCount = (state.brightness - value) / 10;
-            for (int i = 0; i < repeatCount; i++) {
-
-                changeBrightness(-1, state);
-            }
+        setPower(true, state);
+        if (sentLevel == -1) {
+            sentLevel = toLevel(state.brightness);
         }
+        final int targetLevel = toLevel(Math.min(100, value));
+        sendQueue.queue(
+                QueueItem.createGenerated(uidc(CAT_BRIGHTNESS_SET), () -> createBrightnessSteps(targetLevel)));
 
-        state.brightness = value;
+        state.brightness = Math.min(100, value);
     }
 
     @Override
     public void changeBrightness(int relative_brightness, MilightThingState state) {
-        int newPercent = state.brightness + relative_brightness;
-        if (newPercent < 0) {
-            newPercent = 0;
-        }
-        if (newPercent > 100) {
-            newPercent = 100;
-        }
+        int newPercent = Math.max(0, Math.min(100, state.brightness + relative_brightness));
         if (state.brightness != -1 && newPercent == 0) {
             setPower(false, state);
+            state.brightness = newPercent;
         } else {
-            setPower(true, state);
-            int steps = (int) Math.abs(Math.floor(relative_brightness * brLevels / 100.0));
-            for (int s = 0; s < steps; ++s) {
-                byte[] t = { (byte) (relative_brightness < 0 ? 0x24 : 0x23), 0x00, 0x55 };
-                sendQueue.queue(QueueItem.createNonRepeatable(t));
-            }
+            setBrightness(newPercent, state);
+        }
+    }
+
+    private int toLevel(int brightness) {
+        return (int) Math.ceil(Math.max(0, brightness) * brLevels / 100.0);
+    }
+
+    private QueueItem createBrightnessSteps(int targetLevel) {
+        final int fromLevel = sentLevel;
+        sentLevel = targetLevel;
+
+        final int steps = Math.abs(targetLevel - fromLevel);
+        logger.debug("milight: dim from level '{}' to '{}' via '{}' steps.", fromLevel, targetLevel, steps);
+        QueueItem item = null;
+        for (int s = 0; s < steps; ++s) {
+            byte[] t = { (byte) (targetLevel < fromLevel ? 0x24 : 0x23), 0x00, 0x55 };
+            item = item == null ? QueueItem.createNonRepeatable(t) : item.addNonRepeatable(t);
         }
-        state.brightness = newPercent;
+        return item;
     }
 
     @Override
@@ -8,16 +8,19 @@
  */
 package org.openhab.binding.milight.internal.protocol;
 
+import java.util.function.Supplier;
+
 /**
  *
  * @author David Graeff - Initial contribution
  */
 public class QueueItem {
-    static final int INVALID = -1;
     byte[] data;
     int unique_command_id;
     boolean repeatable;
     int custom_delay_time;
+    // Creates the commands to be send at the time the item is processed by the send thread
+    Supplier<QueueItem> generator;
 
     private QueueItem root, last = null;
     QueueItem next = null;
@@ -68,6 +71,21 @@ public class QueueItem {
         return new QueueItem(unique_command_id, data, false, 0);
     }
 
+    /**
+     * Creates an item whose command chain is only generated when the send thread processes it. This is used for
+     * relative step commands, that need to be computed from the state that has actually been send to a bulb, because
+     * a later added item with the same id replaces a queued one before its steps have been send.
+     *
+     * @param unique_command_id A unique command id. Commands with the same id will overwrite themself.
+     * @param generator Creates the chain of commands to be send. May return null if nothing needs to be send.
+     * @return Returns a QueuedItem for being used with the {@see QueuedSend.queue()} method.
+     */
+    public static QueueItem createGenerated(int unique_command_id, Supplier<QueueItem> generator) {
+        QueueItem item = new QueueItem(unique_command_id, null, false, 0);
+        item.generator = generator;
+        return item;
+    }
+
     /**
      * Add non-categorised, non-repeatable data to the send queue
      * Commands which need to be queued up and not replacing same type commands must use this method.
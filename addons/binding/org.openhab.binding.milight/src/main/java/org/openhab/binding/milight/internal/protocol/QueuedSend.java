@@ -13,9 +13,12 @@ import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.SocketException;
 import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +30,13 @@ import org.slf4j.LoggerFactory;
  * delay only. The user may issue absolute brightness or color changes faster than 1/10s though, and we don't
  * want to just queue up those commands but apply the newest command only.
  *
+ * The queue therefore holds at most one item per id (zone, bulb type and command category). Step commands for
+ * bulbs without absolute values are generated when the item is send (see {@link QueueItem#createGenerated}), so that
+ * they start from the state that has actually been send to the bulb.
+ *
+ * Older bridges do not confirm commands and the configured delay is waited after each command. The V6 bridge confirms
+ * each command, so the next command is send as soon as the confirmation arrives and the delay is only the upper bound.
+ *
  * @author David Graeff <david.graeff@web.de>
  * @since 2.1
  *
@@ -34,7 +44,17 @@ import org.slf4j.LoggerFactory;
 public class QueuedSend implements Runnable {
     private final Logger logger = LoggerFactory.getLogger(QueuedSend.class);
 
-    BlockingQueue<QueueItem> queue = new LinkedBlockingQueue<>(20);
+    private static final int MAX_NON_CATEGORISED_ITEMS = 20;
+
+    // The queued items in send order. A categorised item is stored by its id, a non-categorised item by a key of its
+    // own.
+    private final Map<Object, QueueItem> queue = new LinkedHashMap<>();
+    private int nonCategorisedItems = 0;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition itemAdded = lock.newCondition();
+    // Released for each command confirmed by the bridge
+    private final Semaphore confirmations = new Semaphore(0);
+    private volatile boolean waitForConfirmation = false;
     protected final DatagramPacket packet;
     protected final DatagramSocket datagramSocket;
     private int delay_between_commands = 100;
@@ -83,6 +103,23 @@ public class QueuedSend implements Runnable {
         delay_between_commands = ms;
     }
 
+    /**
+     * Enable this for bridges that confirm each received command. The next command is send as soon as the previous
+     * one has been confirmed (see {@link #commandConfirmed()}) or the delay between commands passed.
+     *
+     * @param waitForConfirmation True if the bridge confirms commands.
+     */
+    public void setWaitForConfirmation(boolean waitForConfirmation) {
+        this.waitForConfirmation = waitForConfirmation;
+    }
+
+    /**
+     * Called when the bridge confirmed a command.
+     */
+    public void commandConfirmed() {
+        confirmations.release();
+    }
+
     /**
      * The queue process
      */
@@ -96,24 +133,26 @@ public class QueuedSend implements Runnable {
             } else {
                 try {
                     // block/wait for another item
-                    item = queue.take();
+                    item = take();
                 } catch (InterruptedException e) {
                     if (!willbeclosed) {
                         logger.error("Queue take failed: {}", e.getLocalizedMessage());
                     }
                     break;
                 }
+                if (item.generator != null) {
+                    item = item.generator.get();
+                    if (item == null) {
+                        continue;
+                    }
+                }
             }
 
-            if (item == null || item.unique_command_id == QueueItem.INVALID) {
-                // Just in case it is a command chain, set the item to null to not process any chained commands.
-                item = null;
-                continue;
-            }
-
+            final int repeats = item.repeatable ? repeat_commands : 1;
             packet.setData(item.data);
+            confirmations.drainPermits();
             try {
-                for (int i = 0; i < (item.repeatable ? repeat_commands : 1); ++i) {
+                for (int i = 0; i < repeats; ++i) {
                     datagramSocket.send(packet);
 
                     if (logger.isDebugEnabled()) {
@@ -132,7 +171,13 @@ public class QueuedSend implements Runnable {
             }
 
             try {
-                Thread.sleep((item.custom_delay_time != 0) ? item.custom_delay_time : delay_between_commands);
+                if (item.custom_delay_time != 0) {
+                    Thread.sleep(item.custom_delay_time);
+                } else if (waitForConfirmation) {
+                    confirmations.tryAcquire(repeats, delay_between_commands, TimeUnit.MILLISECONDS);
+                } else {
+                    Thread.sleep(delay_between_commands);
+                }
             } catch (InterruptedException e) {
                 if (!willbeclosed) {
                     logger.error("Queue sleep failed: {}", e.getLocalizedMessage());
@@ -163,28 +208,26 @@ public class QueuedSend implements Runnable {
     }
 
     /**
-     * Mark all commands in the queue invalid that have the same unique id as the given one. This does not synchronise
-     * with the sender thread. If an element has been started to being processed, this method has no more effect on that
-     * element. Command chains are always executed in a row. Even if the head of the command queue has been marked
-     * as invalid, if the processing has been started, the chain will be processed completely.
+     * Removes the oldest item from the queue. Blocks until an item is available.
      *
-     * @param unique_command_id
+     * @return The oldest item
+     * @throws InterruptedException
      */
-    private void remove_from_queue(int unique_command_id) {
-        Iterator<QueueItem> iterator = queue.iterator();
-        while (iterator.hasNext()) {
-            try {
-                QueueItem item = iterator.next();
-                if (item != null && item.unique_command_id == unique_command_id) {
-                    item.unique_command_id = QueueItem.INVALID; // invalidate
-                }
-            } catch (IllegalStateException e) {
-                // Ignore threading errors
-                logger.error("{}", e.getLocalizedMessage());
-            } catch (NoSuchElementException e) {
-                // The element might have been processed already while iterate.
-                // Ignore NoSuchElementException here.
+    private QueueItem take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty()) {
+                itemAdded.await();
+            }
+            Iterator<Map.Entry<Object, QueueItem>> iterator = queue.entrySet().iterator();
+            Map.Entry<Object, QueueItem> entry = iterator.next();
+            iterator.remove();
+            if (!(entry.getKey() instanceof Integer)) {
+                --nonCategorisedItems;
             }
+            return entry.getValue();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -202,13 +245,12 @@ public class QueuedSend implements Runnable {
      * @param data Data to be send
      */
     public void queueRepeatable(int unique_command_id, byte[]... data) {
-        remove_from_queue(unique_command_id);
         QueueItem item = QueueItem.createRepeatable(unique_command_id, data[0]);
         QueueItem next = item;
         for (int i = 1; i < data.length; ++i) {
             next = next.addRepeatable(data[i]);
         }
-        queue.offer(item);
+        queue(item);
     }
 
     /**
@@ -216,14 +258,27 @@ public class QueuedSend implements Runnable {
      * You have to create your own QueueItem, but this allows to you create a chain of commands. A chain will always
      * executed in order and without interrupting the sequence with another command. A chain will be removed completely
      * if another command with the same category is added except if the chain has been started to be processed.
+     * The new command is send after all other queued commands.
      *
      * @param item A queue item, cannot be null.
      */
     public void queue(QueueItem item) {
-        if (item.unique_command_id != NO_CATEGORY) {
-            remove_from_queue(item.unique_command_id);
+        lock.lock();
+        try {
+            if (item.unique_command_id != NO_CATEGORY) {
+                queue.remove(item.unique_command_id);
+                queue.put(item.unique_command_id, item);
+            } else if (nonCategorisedItems < MAX_NON_CATEGORISED_ITEMS) {
+                ++nonCategorisedItems;
+                queue.put(new Object(), item);
+            } else {
+                logger.debug("Send queue full, dropping command for bridge {}", getAddr());
+                return;
+            }
+            itemAdded.signal();
+        } finally {
+            lock.unlock();
         }
-        queue.offer(item);
     }
 
     public InetAddress getAddr() {
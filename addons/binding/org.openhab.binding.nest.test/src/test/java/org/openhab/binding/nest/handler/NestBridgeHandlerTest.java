@@ -14,6 +14,13 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.HashSet;
+
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ThingStatus;
@@ -25,6 +32,15 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.openhab.binding.nest.internal.config.NestBridgeConfiguration;
+import org.openhab.binding.nest.internal.data.NestIdentifiable;
+import org.openhab.binding.nest.internal.data.Structure;
+import org.openhab.binding.nest.internal.data.Thermostat;
+import org.openhab.binding.nest.internal.data.TopLevelData;
+import org.openhab.binding.nest.internal.data.TopLevelStreamingData;
+import org.openhab.binding.nest.internal.listener.NestDeviceDataListener;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 
 /**
  * Tests cases for {@link NestBridgeHandler}.
@@ -34,6 +50,7 @@ import org.openhab.binding.nest.internal.config.NestBridgeConfiguration;
 public class NestBridgeHandlerTest {
 
     private ThingHandler handler;
+    private NestBridgeHandler bridgeHandler;
 
     @Mock
     private ThingHandlerCallback callback;
@@ -51,7 +68,7 @@ public class NestBridgeHandlerTest {
     public void setUp() {
         initMocks(this);
 
-        handler = new NestBridgeHandler(bridge) {
+        handler = bridgeHandler = new NestBridgeHandler(bridge) {
             @Override
             protected NestRedirectUrlSupplier getRedirectUrlSupplier() {
                 // we don't want to put extra load on real Nest servers when running unit tests
@@ -84,4 +101,56 @@ public class NestBridgeHandlerTest {
         assertThat(thingStatusInfo.getStatus(), is(equalTo(ThingStatus.UNKNOWN)));
     }
 
+    @Test
+    public void streamingUpdatesAreOnlyPropagatedToListenersOfChangedObjects() throws UnsupportedEncodingException {
+        NestDeviceDataListener thermostatListener = mockIdentifiableListener("therm1");
+        NestDeviceDataListener smokeDetectorListener = mockIdentifiableListener("smoke1");
+        NestDeviceDataListener otherListener = mock(NestDeviceDataListener.class);
+        bridgeHandler.addDeviceDataListener(thermostatListener);
+        bridgeHandler.addDeviceDataListener(smokeDetectorListener);
+        bridgeHandler.addDeviceDataListener(otherListener);
+
+        // the initial data is new for every listener
+        bridgeHandler.onNewTopLevelData(readStreamingData("top-level-streaming-data.json"));
+        verify(thermostatListener).onUpdatedNestThermostatData(any(Thermostat.class), anySetOf(String.class));
+        verify(thermostatListener, never()).onUpdatedNestStructureData(any(Structure.class),
+                anySetOf(String.class));
+        verify(smokeDetectorListener, never()).onUpdatedNestThermostatData(any(Thermostat.class),
+                anySetOf(String.class));
+        verify(otherListener).onUpdatedNestThermostatData(any(Thermostat.class), anySetOf(String.class));
+        verify(otherListener).onUpdatedNestStructureData(any(Structure.class), anySetOf(String.class));
+        reset(thermostatListener, smokeDetectorListener, otherListener);
+
+        // only the humidity of the thermostat and the away state of the structure changed
+        bridgeHandler.onNewTopLevelData(readStreamingData("top-level-streaming-data-update.json"));
+        verify(thermostatListener).onUpdatedNestThermostatData(any(Thermostat.class),
+                eq(new HashSet<>(Arrays.asList("humidity"))));
+        verify(otherListener).onUpdatedNestThermostatData(any(Thermostat.class),
+                eq(new HashSet<>(Arrays.asList("humidity"))));
+        verify(otherListener).onUpdatedNestStructureData(any(Structure.class),
+                eq(new HashSet<>(Arrays.asList("away"))));
+        verifyNoMoreInteractions(thermostatListener, otherListener);
+        verifyZeroInteractions(smokeDetectorListener);
+        reset(thermostatListener, smokeDetectorListener, otherListener);
+
+        // replaying the same data does not result in any updates
+        bridgeHandler.onNewTopLevelData(readStreamingData("top-level-streaming-data-update.json"));
+        verifyZeroInteractions(thermostatListener, smokeDetectorListener, otherListener);
+    }
+
+    private NestDeviceDataListener mockIdentifiableListener(String id) {
+        NestDeviceDataListener listener = mock(NestDeviceDataListener.class,
+                withSettings().extraInterfaces(NestIdentifiable.class));
+        when(((NestIdentifiable) listener).getId()).thenReturn(id);
+        return listener;
+    }
+
+    private static TopLevelData readStreamingData(String fileName) throws UnsupportedEncodingException {
+        String filePath = "src/test/resources/org/openhab/binding/nest/internal/data/" + fileName;
+        InputStream inputStream = NestBridgeHandlerTest.class.getClassLoader().getResourceAsStream(filePath);
+        Reader reader = new InputStreamReader(inputStream, "UTF-8");
+        Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+        return gson.fromJson(reader, TopLevelStreamingData.class).getData();
+    }
+
 }
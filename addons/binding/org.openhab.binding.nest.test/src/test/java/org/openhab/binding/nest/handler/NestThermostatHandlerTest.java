@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.handler;
+
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.openhab.binding.nest.NestBindingConstants.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
+import org.eclipse.smarthome.core.thing.binding.builder.ChannelBuilder;
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
+import org.eclipse.smarthome.core.types.State;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.openhab.binding.nest.internal.config.NestDeviceConfiguration;
+import org.openhab.binding.nest.internal.data.Thermostat;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests that the {@link NestThermostatHandler} only updates the channels affected by changed thermostat data.
+ *
+ * @author agent - Initial contribution
+ */
+public class NestThermostatHandlerTest {
+
+    private static final String DEVICE_ID = "G1jouHN5yl6mXFaQw5iGwXOu-iQr8PMV";
+
+    private final ThingUID thingUID = new ThingUID(THING_TYPE_THERMOSTAT, "thermostat1");
+    private final ChannelUID humidityChannel = new ChannelUID(thingUID, CHANNEL_HUMIDITY);
+    private final ChannelUID temperatureChannel = new ChannelUID(thingUID, CHANNEL_TEMPERATURE);
+    private final ChannelUID modeChannel = new ChannelUID(thingUID, CHANNEL_MODE);
+    private final ChannelUID previousModeChannel = new ChannelUID(thingUID, CHANNEL_PREVIOUS_MODE);
+
+    private NestThermostatHandler handler;
+    private Thermostat thermostat;
+
+    @Mock
+    private ThingHandlerCallback callback;
+
+    @Before
+    public void setUp() throws UnsupportedEncodingException {
+        initMocks(this);
+
+        Configuration configuration = new Configuration(
+                Collections.singletonMap(NestDeviceConfiguration.DEVICE_ID, DEVICE_ID));
+        // @formatter:off
+        Thing thing = ThingBuilder.create(THING_TYPE_THERMOSTAT, thingUID)
+                .withConfiguration(configuration)
+                .withChannel(ChannelBuilder.create(humidityChannel, "Number").build())
+                .withChannel(ChannelBuilder.create(temperatureChannel, "Number").build())
+                .withChannel(ChannelBuilder.create(modeChannel, "String").build())
+                .withChannel(ChannelBuilder.create(previousModeChannel, "String").build())
+                .build();
+        // @formatter:on
+
+        handler = new NestThermostatHandler(thing);
+        handler.setCallback(callback);
+        thermostat = readThermostat("thermostat-data.json");
+    }
+
+    @Test
+    public void onlyTheChannelOfAChangedFieldIsUpdated() {
+        handler.onUpdatedNestThermostatData(thermostat, Collections.singleton("humidity"));
+
+        verify(callback).stateUpdated(humidityChannel, new DecimalType(thermostat.getHumidity()));
+        verify(callback, never()).stateUpdated(eq(temperatureChannel), any(State.class));
+        verify(callback, never()).stateUpdated(eq(modeChannel), any(State.class));
+        verify(callback, never()).stateUpdated(eq(previousModeChannel), any(State.class));
+    }
+
+    @Test
+    public void allChannelsDerivedFromAChangedFieldAreUpdated() {
+        handler.onUpdatedNestThermostatData(thermostat, Collections.singleton("hvac_mode"));
+
+        verify(callback).stateUpdated(modeChannel, new StringType(thermostat.getMode().name()));
+        verify(callback).stateUpdated(eq(previousModeChannel), any(State.class));
+        verify(callback, never()).stateUpdated(eq(humidityChannel), any(State.class));
+        verify(callback, never()).stateUpdated(eq(temperatureChannel), any(State.class));
+    }
+
+    @Test
+    public void changesOfFieldsWithoutChannelsDoNotUpdateChannels() {
+        handler.onUpdatedNestThermostatData(thermostat,
+                new HashSet<>(Arrays.asList("ambient_temperature_f", "name_long")));
+
+        verify(callback, never()).stateUpdated(any(ChannelUID.class), any(State.class));
+    }
+
+    @Test
+    public void dataOfOtherThermostatsIsIgnored() {
+        Thermostat otherThermostat = new Gson().fromJson("{\"device_id\":\"other\"}", Thermostat.class);
+
+        handler.onUpdatedNestThermostatData(otherThermostat, Collections.singleton("humidity"));
+
+        verifyZeroInteractions(callback);
+    }
+
+    @Test
+    public void newDataUpdatesAllChannels() {
+        handler.onNewNestThermostatData(thermostat);
+
+        verify(callback).stateUpdated(eq(humidityChannel), any(State.class));
+        verify(callback).stateUpdated(eq(temperatureChannel), any(State.class));
+        verify(callback).stateUpdated(eq(modeChannel), any(State.class));
+        verify(callback).stateUpdated(eq(previousModeChannel), any(State.class));
+    }
+
+    private static Thermostat readThermostat(String fileName) throws UnsupportedEncodingException {
+        String filePath = "src/test/resources/org/openhab/binding/nest/internal/data/" + fileName;
+        InputStream inputStream = NestThermostatHandlerTest.class.getClassLoader().getResourceAsStream(filePath);
+        Reader reader = new InputStreamReader(inputStream, "UTF-8");
+        Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+        return gson.fromJson(reader, Thermostat.class);
+    }
+
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.data;
+
+import static org.junit.Assert.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests cases for {@link NestDataDiffer} replaying recorded streaming data.
+ *
+ * @author agent - Initial contribution
+ */
+public class NestDataDifferTest {
+
+    private static final String THERMOSTAT_ID = "therm1";
+    private static final String STRUCTURE_ID = "struct1";
+    private static final String SMOKE_DETECTOR_ID = "smoke1";
+
+    private NestDataDiffer differ;
+
+    private static TopLevelData readStreamingData(String fileName) throws UnsupportedEncodingException {
+        String packagePath = (NestDataDifferTest.class.getPackage().getName()).replaceAll("\\.", "/");
+        String filePath = "src/test/resources/" + packagePath + "/" + fileName;
+        InputStream inputStream = NestDataDifferTest.class.getClassLoader().getResourceAsStream(filePath);
+        Reader reader = new InputStreamReader(inputStream, "UTF-8");
+        Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+        return gson.fromJson(reader, TopLevelStreamingData.class).getData();
+    }
+
+    @Before
+    public void setUp() {
+        differ = new NestDataDiffer();
+    }
+
+    @Test
+    public void initialDataReportsAllFields() throws UnsupportedEncodingException {
+        TopLevelData data = readStreamingData("top-level-streaming-data.json");
+
+        Set<String> changedFields = differ.getChangedFields(THERMOSTAT_ID,
+                data.getDevices().getThermostats().get(THERMOSTAT_ID));
+
+        assertTrue(changedFields.contains("humidity"));
+        assertTrue(changedFields.contains("hvac_mode"));
+        assertTrue(changedFields.contains("device_id"));
+    }
+
+    @Test
+    public void replayingSameDataReportsNoChanges() throws UnsupportedEncodingException {
+        TopLevelData data = readStreamingData("top-level-streaming-data.json");
+        diffAll(data);
+
+        TopLevelData replayed = readStreamingData("top-level-streaming-data.json");
+        assertEquals(Collections.emptySet(), diffThermostat(replayed));
+        assertEquals(Collections.emptySet(), diffStructure(replayed));
+        assertEquals(Collections.emptySet(), differ.getChangedFields(SMOKE_DETECTOR_ID,
+                replayed.getDevices().getSmokeDetectors().get(SMOKE_DETECTOR_ID)));
+    }
+
+    @Test
+    public void updateReportsOnlyChangedFields() throws UnsupportedEncodingException {
+        diffAll(readStreamingData("top-level-streaming-data.json"));
+
+        TopLevelData update = readStreamingData("top-level-streaming-data-update.json");
+        assertEquals(new HashSet<>(Arrays.asList("humidity")), diffThermostat(update));
+        assertEquals(new HashSet<>(Arrays.asList("away")), diffStructure(update));
+        assertEquals(Collections.emptySet(), differ.getChangedFields(SMOKE_DETECTOR_ID,
+                update.getDevices().getSmokeDetectors().get(SMOKE_DETECTOR_ID)));
+
+        // replaying the update again does not result in any changes
+        TopLevelData replayed = readStreamingData("top-level-streaming-data-update.json");
+        assertEquals(Collections.emptySet(), diffThermostat(replayed));
+        assertEquals(Collections.emptySet(), diffStructure(replayed));
+    }
+
+    @Test
+    public void removedObjectsAreReportedAsNewWhenTheyReturn() throws UnsupportedEncodingException {
+        TopLevelData data = readStreamingData("top-level-streaming-data.json");
+        diffAll(data);
+
+        differ.retainAll(Collections.singleton(STRUCTURE_ID));
+
+        assertTrue(diffThermostat(data).contains("humidity"));
+        assertEquals(Collections.emptySet(), diffStructure(data));
+    }
+
+    private void diffAll(TopLevelData data) {
+        data.getDevices().getThermostats().forEach(differ::getChangedFields);
+        data.getDevices().getCameras().forEach(differ::getChangedFields);
+        data.getDevices().getSmokeDetectors().forEach(differ::getChangedFields);
+        data.getStructures().forEach(differ::getChangedFields);
+    }
+
+    private Set<String> diffThermostat(TopLevelData data) {
+        return differ.getChangedFields(THERMOSTAT_ID, data.getDevices().getThermostats().get(THERMOSTAT_ID));
+    }
+
+    private Set<String> diffStructure(TopLevelData data) {
+        return differ.getChangedFields(STRUCTURE_ID, data.getStructures().get(STRUCTURE_ID));
+    }
+}
@@ -11,6 +11,9 @@ package org.openhab.binding.nest.handler;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -41,6 +44,7 @@ import org.slf4j.LoggerFactory;
  * @author David Bennett - initial contribution
  * @author Martin van Wingerden - Splitted of NestBaseHandler
  * @author Wouter Born - Add generic update data type
+ * @author agent - Update only the channels affected by changed data
  *
  * @param <T> the type of update data
  */
@@ -135,6 +139,22 @@ abstract class NestBaseHandler<T> extends BaseThingHandler implements NestDevice
         getThing().getChannels().forEach(c -> updateState(c.getUID(), getChannelState(c.getUID(), data)));
     }
 
+    protected void updateChannels(T data, Set<String> changedFields) {
+        getThing().getChannels().stream().filter(c -> isAffected(c.getUID(), changedFields))
+                .forEach(c -> updateState(c.getUID(), getChannelState(c.getUID(), data)));
+    }
+
+    private boolean isAffected(ChannelUID channelUID, Set<String> changedFields) {
+        List<String> fields = getChannelFields().get(channelUID.getId());
+        return fields == null || fields.stream().anyMatch(changedFields::contains);
+    }
+
+    /**
+     * Returns the JSON names of the data fields each channel state is derived from, keyed by channel id. The state of
+     * a channel without fields is updated with every change.
+     */
+    protected abstract Map<String, List<String>> getChannelFields();
+
     @Override
     public void onNewNestCameraData(Camera camera) {
         // can be overridden by subclasses for handling new camera data
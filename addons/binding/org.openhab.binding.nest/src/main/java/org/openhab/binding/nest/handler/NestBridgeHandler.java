@@ -17,8 +17,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +40,7 @@ import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.nest.NestBindingConstants;
 import org.openhab.binding.nest.internal.config.NestBridgeConfiguration;
 import org.openhab.binding.nest.internal.data.ErrorData;
+import org.openhab.binding.nest.internal.data.NestDataDiffer;
 import org.openhab.binding.nest.internal.data.NestDevices;
 import org.openhab.binding.nest.internal.data.NestIdentifiable;
 import org.openhab.binding.nest.internal.data.Structure;
@@ -64,6 +67,7 @@ import com.google.gson.GsonBuilder;
  * @author David Bennett - initial contribution
  * @author Martin van Wingerden - Use listeners not only for discovery but for all data processing
  * @author Wouter Born - Improve exception and URL redirect handling
+ * @author agent - Propagate only changed streaming data
  */
 public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamingDataListener {
     private static final int REQUEST_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(30);
@@ -71,6 +75,9 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
     private final Logger logger = LoggerFactory.getLogger(NestBridgeHandler.class);
 
     private final List<NestDeviceDataListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, List<NestDeviceDataListener>> identifiableListeners = new ConcurrentHashMap<>();
+    private final List<NestDeviceDataListener> otherListeners = new CopyOnWriteArrayList<>();
+    private final NestDataDiffer differ = new NestDataDiffer();
     private final List<NestUpdateRequest> nestUpdateRequests = new CopyOnWriteArrayList<>();
     private final Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
 
@@ -181,6 +188,7 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
         this.authorizer = null;
         this.redirectUrlSupplier = null;
         this.streamingRestClient = null;
+        differ.clear();
     }
 
     /**
@@ -233,6 +241,43 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
         structures.forEach(listener::onNewNestStructureData);
     }
 
+    private void broadcastChanges(TopLevelData data) {
+        Set<String> ids = new HashSet<>();
+        NestDevices devices = data.getDevices();
+        if (devices != null) {
+            broadcastChanges(devices.getThermostats(), ids, NestDeviceDataListener::onUpdatedNestThermostatData);
+            broadcastChanges(devices.getCameras(), ids, NestDeviceDataListener::onUpdatedNestCameraData);
+            broadcastChanges(devices.getSmokeDetectors(), ids, NestDeviceDataListener::onUpdatedNestSmokeDetectorData);
+        }
+        broadcastChanges(data.getStructures(), ids, NestDeviceDataListener::onUpdatedNestStructureData);
+        differ.retainAll(ids);
+    }
+
+    private <T> void broadcastChanges(Map<String, T> objects, Set<String> ids, ChangeBroadcaster<T> broadcaster) {
+        if (objects == null) {
+            return;
+        }
+        objects.forEach((id, object) -> {
+            ids.add(id);
+            Set<String> changedFields = differ.getChangedFields(id, object);
+            if (changedFields.isEmpty()) {
+                logger.trace("No changes for '{}'", id);
+                return;
+            }
+            logger.debug("Changed fields of '{}': {}", id, changedFields);
+            List<NestDeviceDataListener> idListeners = identifiableListeners.get(id);
+            if (idListeners != null) {
+                idListeners.forEach(listener -> broadcaster.broadcast(listener, object, changedFields));
+            }
+            otherListeners.forEach(listener -> broadcaster.broadcast(listener, object, changedFields));
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChangeBroadcaster<T> {
+        void broadcast(NestDeviceDataListener listener, T object, Set<String> changedFields);
+    }
+
     private String getExistingOrNewAccessToken() throws InvalidAccessTokenException {
         if (StringUtils.isEmpty(config.accessToken)) {
             config.accessToken = authorizer.getNewAccessToken();
@@ -255,6 +300,12 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
      */
     public boolean addDeviceDataListener(NestDeviceDataListener listener) {
         boolean success = listeners.add(listener);
+        String id = listener instanceof NestIdentifiable ? ((NestIdentifiable) listener).getId() : null;
+        if (id != null) {
+            identifiableListeners.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>()).add(listener);
+        } else {
+            otherListeners.add(listener);
+        }
         if (streamingRestClient != null) {
             scheduler.schedule(() -> {
                 TopLevelData data = streamingRestClient.getLastReceivedTopLevelData();
@@ -279,6 +330,8 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
      * @param nestDeviceDataListener The device added listener to remove
      */
     public boolean removeDeviceDataListener(NestDeviceDataListener listener) {
+        identifiableListeners.values().forEach(idListeners -> idListeners.remove(listener));
+        otherListeners.remove(listener);
         return listeners.remove(listener);
     }
 
@@ -389,13 +442,7 @@ public class NestBridgeHandler extends BaseBridgeHandler implements NestStreamin
 
     @Override
     public void onNewTopLevelData(TopLevelData data) {
-        if (data.getDevices() != null) {
-            broadcastDevices(data.getDevices());
-        }
-        if (data.getStructures() != null) {
-            broadcastStructures(data.getStructures().values());
-        }
-
+        broadcastChanges(data);
         setMissingThingsOffline(data);
         updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Receiving streaming data");
     }
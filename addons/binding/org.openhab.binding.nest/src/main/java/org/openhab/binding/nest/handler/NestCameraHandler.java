@@ -12,6 +12,12 @@ import static org.eclipse.smarthome.core.thing.Thing.PROPERTY_FIRMWARE_VERSION;
 import static org.eclipse.smarthome.core.types.RefreshType.REFRESH;
 import static org.openhab.binding.nest.NestBindingConstants.*;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -31,6 +37,20 @@ import org.slf4j.LoggerFactory;
  * @author Wouter Born - Handle channel refresh command
  */
 public class NestCameraHandler extends NestBaseHandler<Camera> {
+    private static final Map<String, List<String>> CHANNEL_FIELDS = new HashMap<>();
+
+    static {
+        CHANNEL_FIELDS.put(CHANNEL_APP_URL, Arrays.asList("app_url"));
+        CHANNEL_FIELDS.put(CHANNEL_AUDIO_INPUT_ENABLED, Arrays.asList("is_audio_input_enabled"));
+        CHANNEL_FIELDS.put(CHANNEL_LAST_ONLINE_CHANGE, Arrays.asList("last_is_online_change"));
+        CHANNEL_FIELDS.put(CHANNEL_PUBLIC_SHARE_ENABLED, Arrays.asList("is_public_share_enabled"));
+        CHANNEL_FIELDS.put(CHANNEL_PUBLIC_SHARE_URL, Arrays.asList("public_share_url"));
+        CHANNEL_FIELDS.put(CHANNEL_SNAPSHOT_URL, Arrays.asList("snapshot_url"));
+        CHANNEL_FIELDS.put(CHANNEL_STREAMING, Arrays.asList("is_streaming"));
+        CHANNEL_FIELDS.put(CHANNEL_VIDEO_HISTORY_ENABLED, Arrays.asList("is_video_history_enabled"));
+        CHANNEL_FIELDS.put(CHANNEL_WEB_URL, Arrays.asList("web_url"));
+    }
+
     private final Logger logger = LoggerFactory.getLogger(NestCameraHandler.class);
 
     public NestCameraHandler(Thing thing) {
@@ -64,6 +84,11 @@ public class NestCameraHandler extends NestBaseHandler<Camera> {
         }
     }
 
+    @Override
+    protected Map<String, List<String>> getChannelFields() {
+        return CHANNEL_FIELDS;
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (REFRESH.equals(command)) {
@@ -94,6 +119,21 @@ public class NestCameraHandler extends NestBaseHandler<Camera> {
         updateProperty(PROPERTY_FIRMWARE_VERSION, camera.getSoftwareVersion());
     }
 
+    @Override
+    public void onUpdatedNestCameraData(Camera camera, Set<String> changedFields) {
+        if (isNotHandling(camera)) {
+            logger.debug("Camera {} is not handling update for {}", getDeviceId(), camera.getDeviceId());
+            return;
+        }
+
+        logger.debug("Updating camera {} fields {}", camera.getDeviceId(), changedFields);
+
+        setLastUpdate(camera);
+        updateChannels(camera, changedFields);
+        updateStatus(camera.isOnline() ? ThingStatus.ONLINE : ThingStatus.OFFLINE);
+        updateProperty(PROPERTY_FIRMWARE_VERSION, camera.getSoftwareVersion());
+    }
+
     private void addUpdateRequest(String field, Object value) {
         addUpdateRequest(NEST_CAMERA_UPDATE_URL, field, value);
     }
@@ -12,6 +12,12 @@ import static org.eclipse.smarthome.core.thing.Thing.PROPERTY_FIRMWARE_VERSION;
 import static org.eclipse.smarthome.core.types.RefreshType.REFRESH;
 import static org.openhab.binding.nest.NestBindingConstants.*;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -31,6 +37,18 @@ import org.slf4j.LoggerFactory;
  * @author Wouter Born - Handle channel refresh command
  */
 public class NestSmokeDetectorHandler extends NestBaseHandler<SmokeDetector> {
+    private static final Map<String, List<String>> CHANNEL_FIELDS = new HashMap<>();
+
+    static {
+        CHANNEL_FIELDS.put(CHANNEL_CO_ALARM_STATE, Arrays.asList("co_alarm_state"));
+        CHANNEL_FIELDS.put(CHANNEL_LAST_CONNECTION, Arrays.asList("last_connection"));
+        CHANNEL_FIELDS.put(CHANNEL_LAST_MANUAL_TEST_TIME, Arrays.asList("last_manual_test_time"));
+        CHANNEL_FIELDS.put(CHANNEL_LOW_BATTERY, Arrays.asList("battery_health"));
+        CHANNEL_FIELDS.put(CHANNEL_MANUAL_TEST_ACTIVE, Arrays.asList("is_manual_test_active"));
+        CHANNEL_FIELDS.put(CHANNEL_SMOKE_ALARM_STATE, Arrays.asList("smoke_alarm_state"));
+        CHANNEL_FIELDS.put(CHANNEL_UI_COLOR_STATE, Arrays.asList("ui_color_state"));
+    }
+
     private final Logger logger = LoggerFactory.getLogger(NestSmokeDetectorHandler.class);
 
     public NestSmokeDetectorHandler(Thing thing) {
@@ -60,6 +78,11 @@ public class NestSmokeDetectorHandler extends NestBaseHandler<SmokeDetector> {
         }
     }
 
+    @Override
+    protected Map<String, List<String>> getChannelFields() {
+        return CHANNEL_FIELDS;
+    }
+
     /**
      * Handles any incoming command requests.
      */
@@ -87,4 +110,19 @@ public class NestSmokeDetectorHandler extends NestBaseHandler<SmokeDetector> {
         updateProperty(PROPERTY_FIRMWARE_VERSION, smokeDetector.getSoftwareVersion());
     }
 
+    @Override
+    public void onUpdatedNestSmokeDetectorData(SmokeDetector smokeDetector, Set<String> changedFields) {
+        if (isNotHandling(smokeDetector)) {
+            logger.debug("Smoke detector {} is not handling update for {}", getDeviceId(), smokeDetector.getDeviceId());
+            return;
+        }
+
+        logger.debug("Updating smoke detector {} fields {}", smokeDetector.getDeviceId(), changedFields);
+
+        setLastUpdate(smokeDetector);
+        updateChannels(smokeDetector, changedFields);
+        updateStatus(smokeDetector.isOnline() ? ThingStatus.ONLINE : ThingStatus.OFFLINE);
+        updateProperty(PROPERTY_FIRMWARE_VERSION, smokeDetector.getSoftwareVersion());
+    }
+
 }
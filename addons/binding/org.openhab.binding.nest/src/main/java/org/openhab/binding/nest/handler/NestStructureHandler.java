@@ -11,6 +11,12 @@ package org.openhab.binding.nest.handler;
 import static org.eclipse.smarthome.core.types.RefreshType.REFRESH;
 import static org.openhab.binding.nest.NestBindingConstants.*;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -31,6 +37,21 @@ import org.slf4j.LoggerFactory;
  * @author Wouter Born - Handle channel refresh command
  */
 public class NestStructureHandler extends NestBaseHandler<Structure> {
+    private static final Map<String, List<String>> CHANNEL_FIELDS = new HashMap<>();
+
+    static {
+        CHANNEL_FIELDS.put(CHANNEL_AWAY, Arrays.asList("away"));
+        CHANNEL_FIELDS.put(CHANNEL_CO_ALARM_STATE, Arrays.asList("co_alarm_state"));
+        CHANNEL_FIELDS.put(CHANNEL_COUNTRY_CODE, Arrays.asList("country_code"));
+        CHANNEL_FIELDS.put(CHANNEL_ETA_BEGIN, Arrays.asList("eta_begin"));
+        CHANNEL_FIELDS.put(CHANNEL_PEAK_PERIOD_END_TIME, Arrays.asList("peak_period_end_time"));
+        CHANNEL_FIELDS.put(CHANNEL_PEAK_PERIOD_START_TIME, Arrays.asList("peak_period_start_time"));
+        CHANNEL_FIELDS.put(CHANNEL_POSTAL_CODE, Arrays.asList("postal_code"));
+        CHANNEL_FIELDS.put(CHANNEL_RUSH_HOUR_REWARDS_ENROLLMENT, Arrays.asList("rhr_enrollment"));
+        CHANNEL_FIELDS.put(CHANNEL_SMOKE_ALARM_STATE, Arrays.asList("smoke_alarm_state"));
+        CHANNEL_FIELDS.put(CHANNEL_TIME_ZONE, Arrays.asList("time_zone"));
+    }
+
     private final Logger logger = LoggerFactory.getLogger(NestStructureHandler.class);
 
     public NestStructureHandler(Thing thing) {
@@ -75,6 +96,11 @@ public class NestStructureHandler extends NestBaseHandler<Structure> {
         return getConfigAs(NestStructureConfiguration.class).structureId;
     }
 
+    @Override
+    protected Map<String, List<String>> getChannelFields() {
+        return CHANNEL_FIELDS;
+    }
+
     /**
      * Handles updating the details on this structure by sending the request all the way
      * to Nest.
@@ -112,4 +138,18 @@ public class NestStructureHandler extends NestBaseHandler<Structure> {
         updateStatus(ThingStatus.ONLINE);
     }
 
+    @Override
+    public void onUpdatedNestStructureData(Structure structure, Set<String> changedFields) {
+        if (isNotHandling(structure)) {
+            logger.debug("Structure {} is not handling update for {}", getStructureId(), structure.getStructureId());
+            return;
+        }
+
+        logger.debug("Updating structure {} fields {}", structure.getStructureId(), changedFields);
+
+        setLastUpdate(structure);
+        updateChannels(structure, changedFields);
+        updateStatus(ThingStatus.ONLINE);
+    }
+
 }
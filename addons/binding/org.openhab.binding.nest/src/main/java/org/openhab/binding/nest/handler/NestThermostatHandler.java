@@ -12,6 +12,12 @@ import static org.eclipse.smarthome.core.thing.Thing.PROPERTY_FIRMWARE_VERSION;
 import static org.eclipse.smarthome.core.types.RefreshType.REFRESH;
 import static org.openhab.binding.nest.NestBindingConstants.*;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
@@ -34,6 +40,34 @@ import org.slf4j.LoggerFactory;
  * @author Wouter Born - Handle channel refresh command
  */
 public class NestThermostatHandler extends NestBaseHandler<Thermostat> {
+    private static final Map<String, List<String>> CHANNEL_FIELDS = new HashMap<>();
+
+    static {
+        CHANNEL_FIELDS.put(CHANNEL_CAN_COOL, Arrays.asList("can_cool"));
+        CHANNEL_FIELDS.put(CHANNEL_CAN_HEAT, Arrays.asList("can_heat"));
+        CHANNEL_FIELDS.put(CHANNEL_FAN_TIMER_ACTIVE, Arrays.asList("fan_timer_active"));
+        CHANNEL_FIELDS.put(CHANNEL_FAN_TIMER_DURATION, Arrays.asList("fan_timer_duration"));
+        CHANNEL_FIELDS.put(CHANNEL_FAN_TIMER_TIMEOUT, Arrays.asList("fan_timer_timeout"));
+        CHANNEL_FIELDS.put(CHANNEL_HAS_FAN, Arrays.asList("has_fan"));
+        CHANNEL_FIELDS.put(CHANNEL_HAS_LEAF, Arrays.asList("has_leaf"));
+        CHANNEL_FIELDS.put(CHANNEL_HUMIDITY, Arrays.asList("humidity"));
+        CHANNEL_FIELDS.put(CHANNEL_LAST_CONNECTION, Arrays.asList("last_connection"));
+        CHANNEL_FIELDS.put(CHANNEL_LOCKED, Arrays.asList("is_locked"));
+        CHANNEL_FIELDS.put(CHANNEL_LOCKED_MAX_SET_POINT, Arrays.asList("locked_temp_max_c"));
+        CHANNEL_FIELDS.put(CHANNEL_LOCKED_MIN_SET_POINT, Arrays.asList("locked_temp_min_c"));
+        CHANNEL_FIELDS.put(CHANNEL_MAX_SET_POINT, Arrays.asList("target_temperature_high_c"));
+        CHANNEL_FIELDS.put(CHANNEL_MIN_SET_POINT, Arrays.asList("target_temperature_low_c"));
+        CHANNEL_FIELDS.put(CHANNEL_MODE, Arrays.asList("hvac_mode"));
+        CHANNEL_FIELDS.put(CHANNEL_PREVIOUS_MODE, Arrays.asList("previous_hvac_mode", "hvac_mode"));
+        CHANNEL_FIELDS.put(CHANNEL_STATE, Arrays.asList("hvac_state"));
+        CHANNEL_FIELDS.put(CHANNEL_SET_POINT, Arrays.asList("target_temperature_c"));
+        CHANNEL_FIELDS.put(CHANNEL_SUNLIGHT_CORRECTION_ACTIVE, Arrays.asList("sunlight_correction_active"));
+        CHANNEL_FIELDS.put(CHANNEL_SUNLIGHT_CORRECTION_ENABLED, Arrays.asList("sunlight_correction_enabled"));
+        CHANNEL_FIELDS.put(CHANNEL_TEMPERATURE, Arrays.asList("ambient_temperature_c"));
+        CHANNEL_FIELDS.put(CHANNEL_TIME_TO_TARGET_MINS, Arrays.asList("time_to_target"));
+        CHANNEL_FIELDS.put(CHANNEL_USING_EMERGENCY_HEAT, Arrays.asList("is_using_emergency_heat"));
+    }
+
     private final Logger logger = LoggerFactory.getLogger(NestThermostatHandler.class);
 
     public NestThermostatHandler(Thing thing) {
@@ -97,6 +131,11 @@ public class NestThermostatHandler extends NestBaseHandler<Thermostat> {
         }
     }
 
+    @Override
+    protected Map<String, List<String>> getChannelFields() {
+        return CHANNEL_FIELDS;
+    }
+
     /**
      * Handle the command to do things to the thermostat, this will change the
      * value of a channel by sending the request to Nest.
@@ -159,4 +198,19 @@ public class NestThermostatHandler extends NestBaseHandler<Thermostat> {
         updateProperty(PROPERTY_FIRMWARE_VERSION, thermostat.getSoftwareVersion());
     }
 
+    @Override
+    public void onUpdatedNestThermostatData(Thermostat thermostat, Set<String> changedFields) {
+        if (isNotHandling(thermostat)) {
+            logger.debug("Thermostat {} is not handling update for {}", getDeviceId(), thermostat.getDeviceId());
+            return;
+        }
+
+        logger.debug("Updating thermostat {} fields {}", thermostat.getDeviceId(), changedFields);
+
+        setLastUpdate(thermostat);
+        updateChannels(thermostat, changedFields);
+        updateStatus(thermostat.isOnline() ? ThingStatus.ONLINE : ThingStatus.OFFLINE);
+        updateProperty(PROPERTY_FIRMWARE_VERSION, thermostat.getSoftwareVersion());
+    }
+
 }
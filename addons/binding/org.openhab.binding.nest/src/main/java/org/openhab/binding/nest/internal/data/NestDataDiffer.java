@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Compares the Nest objects (devices and structures) in consecutive {@link TopLevelData} snapshots. For every object
+ * it remembers the JSON fields of the previous snapshot so the fields that changed can be determined.
+ *
+ * @author agent - Initial contribution
+ */
+public class NestDataDiffer {
+
+    private final Gson gson = new Gson();
+    private final Map<String, JsonObject> snapshots = new HashMap<>();
+
+    /**
+     * Compares the given object with the previous snapshot of the object having the same identifier and stores it as
+     * the new snapshot.
+     *
+     * @param id the identifier of the object (deviceId or structureId)
+     * @param object the new data of the object
+     * @return the JSON names of the fields that changed, all fields when the object is new, or an empty set when
+     *         nothing changed
+     */
+    public synchronized Set<String> getChangedFields(String id, Object object) {
+        JsonObject current = gson.toJsonTree(object).getAsJsonObject();
+        JsonObject previous = snapshots.put(id, current);
+        if (previous == null) {
+            return fieldNames(current);
+        }
+
+        Set<String> changedFields = new HashSet<>();
+        for (Entry<String, JsonElement> entry : current.entrySet()) {
+            if (!Objects.equals(entry.getValue(), previous.get(entry.getKey()))) {
+                changedFields.add(entry.getKey());
+            }
+        }
+        for (Entry<String, JsonElement> entry : previous.entrySet()) {
+            if (!current.has(entry.getKey())) {
+                changedFields.add(entry.getKey());
+            }
+        }
+        return changedFields.isEmpty() ? Collections.emptySet() : changedFields;
+    }
+
+    /**
+     * Forgets the snapshots of all objects that are no longer present.
+     *
+     * @param ids the identifiers of the objects that are still present
+     */
+    public synchronized void retainAll(Collection<String> ids) {
+        snapshots.keySet().retainAll(ids);
+    }
+
+    /**
+     * Forgets all snapshots, so all fields of every object are reported as changed on the next comparison.
+     */
+    public synchronized void clear() {
+        snapshots.clear();
+    }
+
+    private Set<String> fieldNames(JsonObject object) {
+        Set<String> names = new HashSet<>();
+        for (Entry<String, JsonElement> entry : object.entrySet()) {
+            names.add(entry.getKey());
+        }
+        return names;
+    }
+}
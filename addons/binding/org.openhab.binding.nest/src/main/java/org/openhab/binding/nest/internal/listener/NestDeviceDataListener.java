@@ -8,16 +8,25 @@
  */
 package org.openhab.binding.nest.internal.listener;
 
+import java.util.Set;
+
 import org.openhab.binding.nest.internal.data.Camera;
 import org.openhab.binding.nest.internal.data.SmokeDetector;
 import org.openhab.binding.nest.internal.data.Structure;
 import org.openhab.binding.nest.internal.data.Thermostat;
 
 /**
- * Used to track incoming data for devices
+ * Used to track incoming data for devices.
+ *
+ * The bridge calls the <code>onNew...Data</code> methods with the complete data of an object, e.g. when a listener is
+ * added or a refresh is requested. When the streaming data changes, only the <code>onUpdated...Data</code> methods
+ * are called for the objects that actually changed, together with the JSON names of the changed fields. Listeners that
+ * implement {@link org.openhab.binding.nest.internal.data.NestIdentifiable} only receive updates of the object having
+ * the same identifier.
  *
  * @author David Bennett - Initial Contribution
  * @author Martin van Wingerden - Separated listeners to also use them for the handlers
+ * @author agent - Add change sets for propagating only changed data
  */
 public interface NestDeviceDataListener {
 
@@ -40,4 +49,32 @@ public interface NestDeviceDataListener {
      * Called when a structure is discovered.
      */
     void onNewNestStructureData(Structure struct);
+
+    /**
+     * Called when fields of a thermostat have changed.
+     */
+    default void onUpdatedNestThermostatData(Thermostat thermostat, Set<String> changedFields) {
+        onNewNestThermostatData(thermostat);
+    }
+
+    /**
+     * Called when fields of a camera have changed.
+     */
+    default void onUpdatedNestCameraData(Camera camera, Set<String> changedFields) {
+        onNewNestCameraData(camera);
+    }
+
+    /**
+     * Called when fields of a smoke detector have changed.
+     */
+    default void onUpdatedNestSmokeDetectorData(SmokeDetector smokeDetector, Set<String> changedFields) {
+        onNewNestSmokeDetectorData(smokeDetector);
+    }
+
+    /**
+     * Called when fields of a structure have changed.
+     */
+    default void onUpdatedNestStructureData(Structure struct, Set<String> changedFields) {
+        onNewNestStructureData(struct);
+    }
 }
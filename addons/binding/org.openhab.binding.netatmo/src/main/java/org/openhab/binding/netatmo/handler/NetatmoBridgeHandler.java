@@ -18,11 +18,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.oltu.oauth2.client.request.OAuthClientRequest;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -31,6 +34,7 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.netatmo.internal.RateLimiter;
 import org.openhab.binding.netatmo.internal.WelcomeWebHookServlet;
 import org.openhab.binding.netatmo.internal.config.NetatmoBridgeConfiguration;
 import org.slf4j.Logger;
@@ -70,6 +74,22 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
     private APIMap apiMap;
     private WelcomeWebHookServlet webHookServlet;
 
+    // Netatmo allows 50 requests per 10 seconds and 500 requests per hour for a user
+    private final RateLimiter rateLimiter = new RateLimiter(50, 500, 1, TimeUnit.HOURS);
+    private final AtomicLong apiCalls = new AtomicLong();
+    private final AtomicLong apiCallsSaved = new AtomicLong();
+
+    // One call returns the data of all devices of the account, so it is shared by all things for a short
+    // time window, kept below the retry delay of the RefreshStrategy so that a retry always gets fresh data
+    private final ApiCache<NAStationDataBody> stationsDataCache = new ApiCache<>("station",
+            () -> getStationApi().getstationsdata(null).getBody());
+    private final ApiCache<NAHealthyHomeCoachDataBody> homecoachDataCache = new ApiCache<>("homecoach",
+            () -> getHomeCoachApi().gethomecoachsdata(null).getBody());
+    private final ApiCache<NAThermostatDataBody> thermostatsDataCache = new ApiCache<>("thermostat",
+            () -> getThermostatApi().getthermostatsdata(null).getBody());
+    private final ApiCache<NAWelcomeHomeData> welcomeDataCache = new ApiCache<>("welcome",
+            () -> getWelcomeApi().gethomedata(null, null).getBody());
+
     @NonNullByDefault
     private class APIMap extends HashMap<Class<?>, Object> {
         private static final long serialVersionUID = -2024031764691952343L;
@@ -245,30 +265,85 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
         }
     }
 
-    public NAStationDataBody getStationsDataBody(String equipmentId) {
-        NAStationDataBody data = getStationApi().getstationsdata(equipmentId).getBody();
-        updateStatus(ThingStatus.ONLINE);
-        return data;
+    public NAStationDataBody getStationsDataBody() {
+        return getCachedData(stationsDataCache);
     }
 
-    public NAHealthyHomeCoachDataBody getHomecoachDataBody(String equipmentId) {
-        NAHealthyHomeCoachDataBody data = getHomeCoachApi().gethomecoachsdata(equipmentId).getBody();
-        updateStatus(ThingStatus.ONLINE);
-        return data;
+    public NAHealthyHomeCoachDataBody getHomecoachDataBody() {
+        return getCachedData(homecoachDataCache);
     }
 
-    public NAThermostatDataBody getThermostatsDataBody(String equipmentId) {
-        NAThermostatDataBody data = getThermostatApi().getthermostatsdata(equipmentId).getBody();
-        updateStatus(ThingStatus.ONLINE);
-        return data;
+    public NAThermostatDataBody getThermostatsDataBody() {
+        return getCachedData(thermostatsDataCache);
     }
 
-    public NAWelcomeHomeData getWelcomeDataBody(String homeId) {
-        NAWelcomeHomeData data = getWelcomeApi().gethomedata(homeId, null).getBody();
-        updateStatus(ThingStatus.ONLINE);
+    public NAWelcomeHomeData getWelcomeDataBody() {
+        return getCachedData(welcomeDataCache);
+    }
+
+    /**
+     * Makes the next request of thermostat data call the API, e.g. after a command changed the thermostat
+     */
+    public void invalidateThermostatsData() {
+        thermostatsDataCache.invalidate();
+    }
+
+    public long getApiCalls() {
+        return apiCalls.get();
+    }
+
+    public long getApiCallsSaved() {
+        return apiCallsSaved.get();
+    }
+
+    private <T> T getCachedData(ApiCache<T> cache) {
+        T data = cache.getValue();
+        if (data != null) {
+            updateStatus(ThingStatus.ONLINE);
+        }
         return data;
     }
 
+    @NonNullByDefault
+    private class ApiCache<T> {
+        private static final long VALIDITY = 25000;
+
+        private final String name;
+        private final Supplier<T> action;
+        private @Nullable T value;
+        private long timestamp;
+
+        public ApiCache(String name, Supplier<T> action) {
+            this.name = name;
+            this.action = action;
+        }
+
+        public synchronized @Nullable T getValue() {
+            T current = value;
+            if (current != null && System.currentTimeMillis() - timestamp < VALIDITY) {
+                apiCallsSaved.incrementAndGet();
+                return current;
+            }
+            if (!rateLimiter.tryAcquire()) {
+                logger.debug("Netatmo API quota reached, using {} data aged of {} s", name,
+                        (System.currentTimeMillis() - timestamp) / 1000);
+                apiCallsSaved.incrementAndGet();
+                return current;
+            }
+            current = action.get();
+            value = current;
+            timestamp = System.currentTimeMillis();
+            logger.debug("Fetched {} data from Netatmo API ({} calls, {} calls saved)", name,
+                    apiCalls.incrementAndGet(), apiCallsSaved.get());
+            return current;
+        }
+
+        public synchronized void invalidate() {
+            // keep the value, it is still returned when the API quota is reached
+            timestamp = 0;
+        }
+    }
+
     /**
      * Returns the Url of the picture
      *
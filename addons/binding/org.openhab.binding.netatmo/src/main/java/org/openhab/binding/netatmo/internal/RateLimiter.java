@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.netatmo.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * {@link RateLimiter} is a token bucket used to keep the number of
+ * requests sent to the Netatmo API within the user quota
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class RateLimiter {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param capacity number of requests that may be sent in a burst
+     * @param requests number of requests allowed per period
+     * @param period length of the period
+     * @param unit unit of the period
+     */
+    public RateLimiter(int capacity, int requests, long period, TimeUnit unit) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) requests / unit.toNanos(period);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token from the bucket if one is available
+     *
+     * @return true if a request may be sent now
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens--;
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -65,7 +65,7 @@ public class NetatmoModuleDiscoveryService extends AbstractDiscoveryService {
     }
 
     private void discoverThermostat() {
-        NAThermostatDataBody thermostatsDataBody = netatmoBridgeHandler.getThermostatsDataBody(null);
+        NAThermostatDataBody thermostatsDataBody = netatmoBridgeHandler.getThermostatsDataBody();
         if (thermostatsDataBody != null) {
             thermostatsDataBody.getDevices().forEach(plug -> {
                 onDeviceAddedInternal(plug.getId(), null, plug.getType(), plug.getStationName(), plug.getFirmware());
@@ -78,7 +78,7 @@ public class NetatmoModuleDiscoveryService extends AbstractDiscoveryService {
     }
 
     private void discoverHomeCoach() {
-        NAHealthyHomeCoachDataBody homecoachDataBody = netatmoBridgeHandler.getHomecoachDataBody(null);
+        NAHealthyHomeCoachDataBody homecoachDataBody = netatmoBridgeHandler.getHomecoachDataBody();
         if (homecoachDataBody != null) {
             homecoachDataBody.getDevices().forEach(homecoach -> {
                 onDeviceAddedInternal(homecoach.getId(), null, homecoach.getType(), homecoach.getName(),
@@ -88,7 +88,7 @@ public class NetatmoModuleDiscoveryService extends AbstractDiscoveryService {
     }
 
     private void discoverWeatherStation() {
-        NAStationDataBody stationDataBody = netatmoBridgeHandler.getStationsDataBody(null);
+        NAStationDataBody stationDataBody = netatmoBridgeHandler.getStationsDataBody();
         if (stationDataBody != null) {
             stationDataBody.getDevices().forEach(station -> {
                 onDeviceAddedInternal(station.getId(), null, station.getType(), station.getStationName(),
@@ -102,7 +102,7 @@ public class NetatmoModuleDiscoveryService extends AbstractDiscoveryService {
     }
 
     private void discoverWelcomeHome() {
-        NAWelcomeHomeData welcomeHomeData = netatmoBridgeHandler.getWelcomeDataBody(null);
+        NAWelcomeHomeData welcomeHomeData = netatmoBridgeHandler.getWelcomeDataBody();
         if (welcomeHomeData != null) {
             List<NAWelcomeHome> homes = welcomeHomeData.getHomes();
             if (homes != null) {
@@ -37,10 +37,11 @@ public class NAHealthyHomeCoachHandler extends NetatmoDeviceHandler<NAHealthyHom
     @Override
     protected NAHealthyHomeCoach updateReadings() {
         NAHealthyHomeCoach result = null;
-        NAHealthyHomeCoachDataBody homecoachDataBody = getBridgeHandler().getHomecoachDataBody(getId());
+        NAHealthyHomeCoachDataBody homecoachDataBody = getBridgeHandler().getHomecoachDataBody();
         if (homecoachDataBody != null) {
             userAdministrative = homecoachDataBody.getUser().getAdministrative();
-            result = homecoachDataBody.getDevices().get(0);
+            result = homecoachDataBody.getDevices().stream()
+                    .filter(device -> device.getId().equalsIgnoreCase(getId())).findFirst().orElse(null);
         }
         return result;
     }
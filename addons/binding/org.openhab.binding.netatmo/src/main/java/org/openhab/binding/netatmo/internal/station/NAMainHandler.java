@@ -38,7 +38,7 @@ public class NAMainHandler extends NetatmoDeviceHandler<NAMain> {
     @Override
     protected NAMain updateReadings() {
         NAMain result = null;
-        NAStationDataBody stationDataBody = getBridgeHandler().getStationsDataBody(getId());
+        NAStationDataBody stationDataBody = getBridgeHandler().getStationsDataBody();
         if (stationDataBody != null) {
             userAdministrative = stationDataBody.getUser().getAdministrative();
 
@@ -41,7 +41,7 @@ public class NAPlugHandler extends NetatmoDeviceHandler<NAPlug> {
     @Override
     protected NAPlug updateReadings() {
         NAPlug result = null;
-        NAThermostatDataBody thermostatDataBody = getBridgeHandler().getThermostatsDataBody(getId());
+        NAThermostatDataBody thermostatDataBody = getBridgeHandler().getThermostatsDataBody();
         if (thermostatDataBody != null) {
             userAdministrative = thermostatDataBody.getUser().getAdministrative();
 
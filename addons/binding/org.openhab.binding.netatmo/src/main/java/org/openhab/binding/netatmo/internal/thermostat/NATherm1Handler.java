@@ -139,6 +139,7 @@ public class NATherm1Handler extends NetatmoModuleHandler<NAThermostat> {
                                 null, null);
 
                         updateState(channelUID, new StringType(command.toString()));
+                        getBridgeHandler().invalidateThermostatsData();
                         requestParentRefresh();
                         break;
                     }
@@ -149,6 +150,7 @@ public class NATherm1Handler extends NetatmoModuleHandler<NAThermostat> {
                         getBridgeHandler().getThermostatApi().setthermpoint(getParentId(), getId(), "manual",
                                 (int) (cal.getTimeInMillis() / 1000), Float.parseFloat(command.toString()));
                         updateState(channelUID, new DecimalType(command.toString()));
+                        getBridgeHandler().invalidateThermostatsData();
                         requestParentRefresh();
                         break;
                     }
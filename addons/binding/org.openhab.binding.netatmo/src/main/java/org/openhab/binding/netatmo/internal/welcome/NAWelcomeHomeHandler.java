@@ -55,7 +55,7 @@ public class NAWelcomeHomeHandler extends NetatmoDeviceHandler<NAWelcomeHome> {
     @Override
     protected NAWelcomeHome updateReadings() {
         NAWelcomeHome result = null;
-        NAWelcomeHomeData homeDataBody = getBridgeHandler().getWelcomeDataBody(getId());
+        NAWelcomeHomeData homeDataBody = getBridgeHandler().getWelcomeDataBody();
         if (homeDataBody != null) {
             // data time stamp is updated to now as WelcomeDataBody does not provide any information according to this
             // need
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.plugwise.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests for the pacing of the messages sent by the {@link PlugwiseMessageSender}.
+ *
+ * @author agent - Initial contribution
+ */
+public class PlugwiseMessageSenderTest {
+
+    private static final double DELTA = 0.000001;
+
+    private static final int MESSAGE_WAIT_TIME = 100;
+    private static final int WINDOW_SIZE = 4;
+
+    @Test
+    public void assertWaitTimeGrowsWithTheMessagesWaitingForAResponse() {
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 10, 0, WINDOW_SIZE), is(10L));
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 10, 2, WINDOW_SIZE), is(50L));
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 10, 3, WINDOW_SIZE), is(75L));
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 10, 4, WINDOW_SIZE), is(100L));
+    }
+
+    @Test
+    public void assertWaitTimeIsAtLeastTheAcknowledgementLatency() {
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 60.4, 1, WINDOW_SIZE), is(60L));
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 60.5, 0, WINDOW_SIZE), is(61L));
+    }
+
+    @Test
+    public void assertWaitTimeIsCappedAtTheMessageWaitTime() {
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 500, 0, WINDOW_SIZE), is(100L));
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, 500, 4, WINDOW_SIZE), is(100L));
+        assertThat(PlugwiseMessageSender.computeWaitTime(0, 30, 2, WINDOW_SIZE), is(0L));
+    }
+
+    @Test
+    public void assertFirstLatencyIsTakenAsTheAverage() {
+        assertEquals(80, PlugwiseMessageSender.movingAverage(0, 80), DELTA);
+    }
+
+    @Test
+    public void assertAverageMovesAFifthTowardsANewLatency() {
+        assertEquals(70, PlugwiseMessageSender.movingAverage(80, 30), DELTA);
+        assertEquals(84, PlugwiseMessageSender.movingAverage(80, 100), DELTA);
+    }
+
+    @Test
+    public void assertSlowAcknowledgementsDoNotPaceBeyondTheMessageWaitTime() {
+        double average = 0;
+        for (int i = 0; i < 20; i++) {
+            average = PlugwiseMessageSender.movingAverage(average, 1000);
+            assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, average, i % WINDOW_SIZE,
+                    WINDOW_SIZE), is((long) MESSAGE_WAIT_TIME));
+        }
+    }
+
+    @Test
+    public void assertPacingFollowsTheAcknowledgementLatencyWhenTheStickSpeedsUp() {
+        double average = 0;
+        for (int i = 0; i < 50; i++) {
+            average = PlugwiseMessageSender.movingAverage(average, i < 10 ? 90 : 20);
+        }
+
+        assertThat(PlugwiseMessageSender.computeWaitTime(MESSAGE_WAIT_TIME, average, 0, WINDOW_SIZE), is(20L));
+    }
+}
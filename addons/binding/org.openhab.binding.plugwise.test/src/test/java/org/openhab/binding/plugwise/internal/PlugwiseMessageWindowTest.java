@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.plugwise.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.openhab.binding.plugwise.internal.PlugwiseMessageWindow.RESPONSE_TIMEOUT_MILLIS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.openhab.binding.plugwise.internal.protocol.PingRequestMessage;
+import org.openhab.binding.plugwise.internal.protocol.field.MACAddress;
+
+/**
+ * Tests for the {@link PlugwiseMessageWindow}. Except for the test of a sender waiting for the oldest message to
+ * expire, the messages are acknowledged at the times of a clock set by the tests.
+ *
+ * @author agent - Initial contribution
+ */
+public class PlugwiseMessageWindowTest {
+
+    private volatile long nowNanos = 0;
+    private final PlugwiseMessageWindow window = new PlugwiseMessageWindow(() -> nowNanos);
+
+    @Test
+    public void assertMessagesAreRemovedBySequenceNumber() {
+        PlugwiseQueuedMessage first = queuedMessage();
+        PlugwiseQueuedMessage second = queuedMessage();
+        window.put(1, first);
+        window.put(2, second);
+
+        assertThat(window.remove(2), is(sameInstance(second)));
+        assertThat(window.size(), is(1));
+        assertThat(window.remove(2), is(nullValue()));
+        assertThat(window.remove(3), is(nullValue()));
+        assertThat(window.remove(1), is(sameInstance(first)));
+        assertThat(window.size(), is(0));
+    }
+
+    @Test(timeout = 5000)
+    public void assertSenderDoesNotWaitWhileTheWindowHasCapacity() throws InterruptedException {
+        window.put(1, queuedMessage());
+        window.put(2, queuedMessage());
+
+        window.awaitCapacity(3);
+
+        assertThat(window.size(), is(2));
+    }
+
+    @Test(timeout = 5000)
+    public void assertMessagesExpireAfterTheResponseTimeout() throws InterruptedException {
+        window.put(1, queuedMessage());
+        nowNanos = TimeUnit.SECONDS.toNanos(1);
+        window.put(2, queuedMessage());
+
+        nowNanos = TimeUnit.MILLISECONDS.toNanos(RESPONSE_TIMEOUT_MILLIS) - 1;
+        window.awaitCapacity(3);
+        assertThat(window.size(), is(2));
+
+        nowNanos = TimeUnit.MILLISECONDS.toNanos(RESPONSE_TIMEOUT_MILLIS);
+        window.awaitCapacity(3);
+        assertThat(window.size(), is(1));
+        assertThat(window.remove(1), is(nullValue()));
+        assertThat(window.remove(2), is(notNullValue()));
+    }
+
+    @Test(timeout = 5000)
+    public void assertReusedSequenceNumberIsTheNewestMessage() throws InterruptedException {
+        PlugwiseQueuedMessage reused = queuedMessage();
+        window.put(1, queuedMessage());
+        nowNanos = TimeUnit.SECONDS.toNanos(1);
+        window.put(2, queuedMessage());
+        nowNanos = TimeUnit.SECONDS.toNanos(2);
+        window.put(1, reused);
+
+        nowNanos = TimeUnit.SECONDS.toNanos(1) + TimeUnit.MILLISECONDS.toNanos(RESPONSE_TIMEOUT_MILLIS);
+        window.awaitCapacity(3);
+
+        assertThat(window.size(), is(1));
+        assertThat(window.remove(1), is(sameInstance(reused)));
+    }
+
+    @Test(timeout = 5000)
+    public void assertSenderWaitsUntilAResponseIsReceived() throws InterruptedException {
+        window.put(1, queuedMessage());
+        window.put(2, queuedMessage());
+        Thread sender = startAwaitingCapacity(2);
+
+        sender.join(300);
+        assertThat(sender.isAlive(), is(true));
+
+        window.remove(2);
+        sender.join(2000);
+        assertThat(sender.isAlive(), is(false));
+    }
+
+    @Test(timeout = 5000)
+    public void assertSenderIsReleasedWhenTheWindowIsCleared() throws InterruptedException {
+        window.put(1, queuedMessage());
+        Thread sender = startAwaitingCapacity(1);
+
+        sender.join(300);
+        assertThat(sender.isAlive(), is(true));
+
+        window.clear();
+        sender.join(2000);
+        assertThat(sender.isAlive(), is(false));
+        assertThat(window.size(), is(0));
+    }
+
+    @Test(timeout = 10000)
+    public void assertSenderWaitsUntilTheOldestMessageExpires() throws InterruptedException {
+        PlugwiseMessageWindow window = new PlugwiseMessageWindow();
+        window.put(1, queuedMessage());
+        long start = System.nanoTime();
+
+        window.awaitCapacity(1);
+
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("waited " + waitedMillis + " ms", waitedMillis >= RESPONSE_TIMEOUT_MILLIS - 50);
+        assertThat(window.size(), is(0));
+    }
+
+    private Thread startAwaitingCapacity(int size) {
+        Thread thread = new Thread(() -> {
+            try {
+                window.awaitCapacity(size);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static PlugwiseQueuedMessage queuedMessage() {
+        return new PlugwiseQueuedMessage(new PingRequestMessage(new MACAddress("000D6F0000A1B2C3")),
+                PlugwiseMessagePriority.COMMAND);
+    }
+}
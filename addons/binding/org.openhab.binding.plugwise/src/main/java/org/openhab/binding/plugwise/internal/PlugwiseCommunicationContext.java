@@ -14,7 +14,6 @@ import java.util.Enumeration;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.io.IOUtils;
 import org.openhab.binding.plugwise.internal.config.PlugwiseStickConfig;
@@ -56,7 +55,7 @@ public class PlugwiseCommunicationContext {
         public int compare(PlugwiseQueuedMessage o1, PlugwiseQueuedMessage o2) {
             int result = o1.getPriority().compareTo(o2.getPriority());
             if (result == 0) {
-                result = o1.getDateTime().compareTo(o2.getDateTime());
+                result = Long.compare(o1.getSequence(), o2.getSequence());
             }
             return result;
         }
@@ -68,8 +67,7 @@ public class PlugwiseCommunicationContext {
     private final BlockingQueue<Message> receivedQueue = new ArrayBlockingQueue<>(MAX_BUFFER_SIZE, true);
     private final PriorityBlockingQueue<PlugwiseQueuedMessage> sendQueue = new PriorityBlockingQueue<>(MAX_BUFFER_SIZE,
             QUEUED_MESSAGE_COMPERATOR);
-    private final BlockingQueue<PlugwiseQueuedMessage> sentQueue = new ArrayBlockingQueue<>(MAX_BUFFER_SIZE, true);
-    private final ReentrantLock sentQueueLock = new ReentrantLock();
+    private final PlugwiseMessageWindow sentMessages = new PlugwiseMessageWindow();
     private final PlugwiseFilteredMessageListenerList filteredListeners = new PlugwiseFilteredMessageListenerList();
 
     private PlugwiseStickConfig configuration;
@@ -79,7 +77,7 @@ public class PlugwiseCommunicationContext {
         acknowledgedQueue.clear();
         receivedQueue.clear();
         sendQueue.clear();
-        sentQueue.clear();
+        sentMessages.clear();
     }
 
     public void closeSerialPort() {
@@ -140,12 +138,8 @@ public class PlugwiseCommunicationContext {
         return sendQueue;
     }
 
-    public BlockingQueue<PlugwiseQueuedMessage> getSentQueue() {
-        return sentQueue;
-    }
-
-    public ReentrantLock getSentQueueLock() {
-        return sentQueueLock;
+    public PlugwiseMessageWindow getSentMessages() {
+        return sentMessages;
     }
 
     public SerialPort getSerialPort() {
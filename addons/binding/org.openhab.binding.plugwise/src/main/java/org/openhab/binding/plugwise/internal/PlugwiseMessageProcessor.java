@@ -12,7 +12,6 @@ import static org.openhab.binding.plugwise.internal.PlugwiseCommunicationContext
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.Iterator;
 import java.util.TooManyListenersException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -142,25 +141,13 @@ public class PlugwiseMessageProcessor implements SerialPortEventListener {
     private void processMessage(Message message) {
         context.getFilteredListeners().notifyListeners(message);
 
-        // After processing the response to a message, we remove any reference to the original request
-        // stored in the sentQueue
+        // After processing the response to a message, we remove the original request from the window of sent
+        // messages so the next message can be sent
         // WARNING: We assume that each request sent out can only be followed bye EXACTLY ONE response - so
         // far it seems that the Plugwise protocol is operating in that way
-
-        try {
-            context.getSentQueueLock().lock();
-
-            Iterator<PlugwiseQueuedMessage> messageIterator = context.getSentQueue().iterator();
-            while (messageIterator.hasNext()) {
-                PlugwiseQueuedMessage queuedSentMessage = messageIterator.next();
-                if (queuedSentMessage.getMessage().getSequenceNumber() == message.getSequenceNumber()) {
-                    logger.debug("Removing from sentQueue: {}", queuedSentMessage.getMessage());
-                    context.getSentQueue().remove(queuedSentMessage);
-                    break;
-                }
-            }
-        } finally {
-            context.getSentQueueLock().unlock();
+        PlugwiseQueuedMessage queuedSentMessage = context.getSentMessages().remove(message.getSequenceNumber());
+        if (queuedSentMessage != null) {
+            logger.debug("Removed from sent messages: {}", queuedSentMessage.getMessage());
         }
     }
 
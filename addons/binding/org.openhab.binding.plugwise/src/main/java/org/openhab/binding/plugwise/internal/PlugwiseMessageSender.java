@@ -17,6 +17,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.TimeUnit;
 
+import org.openhab.binding.plugwise.internal.config.PlugwiseStickConfig;
 import org.openhab.binding.plugwise.internal.protocol.AcknowledgementMessage;
 import org.openhab.binding.plugwise.internal.protocol.Message;
 import org.slf4j.Logger;
@@ -25,6 +26,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Sends messages to the Plugwise Stick using a serial connection.
  *
+ * Messages are sent one at a time to the Stick, which acknowledges each message with a sequence number. Acknowledged
+ * messages are kept in the {@link PlugwiseMessageWindow} until the response with the same sequence number has been
+ * received. New messages are sent as long as the window is not full. The time waited between messages adapts to the
+ * time the Stick takes to acknowledge messages and grows towards the configured message wait time while the window
+ * fills up.
+ *
  * @author Karel Goderis
  * @author Wouter Born - Initial contribution
  */
@@ -47,7 +54,7 @@ public class PlugwiseMessageSender {
                         continue;
                     }
                     sendMessage(queuedMessage);
-                    sleep(context.getConfiguration().getMessageWaitTime());
+                    waitBeforeNextMessage();
                 } catch (InterruptedException e) {
                     // That's our signal to stop
                     break;
@@ -65,6 +72,9 @@ public class PlugwiseMessageSender {
     /** After exceeding this threshold the Stick is set offline */
     private static final int MAX_SEQUENTIAL_WRITE_ERRORS = 15;
 
+    /** The weight of a new acknowledgement latency in the moving average */
+    private static final double ACK_LATENCY_WEIGHT = 0.2;
+
     private final Logger logger = LoggerFactory.getLogger(PlugwiseMessageSender.class);
     private final PlugwiseCommunicationContext context;
 
@@ -72,6 +82,9 @@ public class PlugwiseMessageSender {
     private int sequentialWriteErrors;
     private MessageSenderThread thread;
 
+    /** Moving average of the time the Stick takes to acknowledge a message (in ms) */
+    private double ackLatencyAverage;
+
     public PlugwiseMessageSender(PlugwiseCommunicationContext context) {
         this.context = context;
     }
@@ -100,6 +113,7 @@ public class PlugwiseMessageSender {
             bytebuffer.put(packetString.getBytes());
             bytebuffer.rewind();
 
+            long writeNanos = System.nanoTime();
             try {
                 logger.debug("Sending: {} as {}", message, messageHexString);
                 outputChannel.write(bytebuffer);
@@ -128,23 +142,14 @@ public class PlugwiseMessageSender {
                     logger.warn("Error sending: Negative ACK: {}", messageHexString);
                 }
             } else {
+                updateAckLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - writeNanos));
+
                 // Update the sent message with the new sequence number
                 message.setSequenceNumber(ack.getSequenceNumber());
 
-                // Place the sent message in the sent queue
-                logger.debug("Adding to sentQueue: {}", message);
-                context.getSentQueueLock().lock();
-                try {
-                    if (context.getSentQueue().size() == PlugwiseCommunicationContext.MAX_BUFFER_SIZE) {
-                        // For some reason Plugwise devices, or the Stick, does not send responses to Requests.
-                        // They clog the sent queue. Let's flush some part of the queue
-                        PlugwiseQueuedMessage someMessage = context.getSentQueue().poll();
-                        logger.debug("Flushing from sentQueue: {}", someMessage);
-                    }
-                    context.getSentQueue().put(queuedMessage);
-                } finally {
-                    context.getSentQueueLock().unlock();
-                }
+                // Place the sent message in the window of messages waiting for a response
+                logger.debug("Adding to sent messages: {}", message);
+                context.getSentMessages().put(ack.getSequenceNumber(), queuedMessage);
             }
         } else {
             // Max attempts reached. We give up, and to a network reset
@@ -153,8 +158,52 @@ public class PlugwiseMessageSender {
         }
     }
 
+    private void updateAckLatency(long ackLatency) {
+        ackLatencyAverage = movingAverage(ackLatencyAverage, ackLatency);
+    }
+
+    /**
+     * Returns the exponential moving average of the acknowledgement latency after a new latency, the first latency
+     * is taken as it is.
+     */
+    static double movingAverage(double average, long latency) {
+        if (average == 0) {
+            return latency;
+        }
+        return average + ACK_LATENCY_WEIGHT * (latency - average);
+    }
+
+    /**
+     * Returns the time to wait before sending the next message: at least the average acknowledgement latency and
+     * growing with the number of messages waiting for a response, but never more than the message wait time.
+     */
+    static long computeWaitTime(int messageWaitTime, double ackLatencyAverage, int pendingMessages, int windowSize) {
+        return Math.min(messageWaitTime,
+                Math.max(Math.round(ackLatencyAverage), (long) messageWaitTime * pendingMessages / windowSize));
+    }
+
+    /**
+     * Waits until the window of messages waiting for a response has room for another message and paces the messages
+     * based on the acknowledgement latency and the number of messages waiting for a response.
+     */
+    private void waitBeforeNextMessage() throws InterruptedException {
+        PlugwiseStickConfig configuration = context.getConfiguration();
+        int windowSize = Math.max(1, configuration.getMessageWindowSize());
+        PlugwiseMessageWindow sentMessages = context.getSentMessages();
+        sentMessages.awaitCapacity(windowSize);
+
+        long waitTime = computeWaitTime(configuration.getMessageWaitTime(), ackLatencyAverage, sentMessages.size(),
+                windowSize);
+        logger.trace("Waiting {}ms before sending next message (ackLatencyAverage={}ms, sentMessages={})", waitTime,
+                Math.round(ackLatencyAverage), sentMessages.size());
+        if (waitTime > 0) {
+            Thread.sleep(waitTime);
+        }
+    }
+
     public void start() throws PlugwiseInitializationException {
         sequentialWriteErrors = 0;
+        ackLatencyAverage = 0;
         try {
             outputChannel = Channels.newChannel(context.getSerialPort().getOutputStream());
         } catch (IOException e) {
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.plugwise.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The window of messages that have been acknowledged by the Stick and are still waiting for a response. The messages
+ * are looked up by the sequence number assigned by the Stick, so a response can be matched in constant time.
+ *
+ * Because some requests are never answered by the Plugwise devices, messages are removed from the window after
+ * waiting {@link #RESPONSE_TIMEOUT_MILLIS} for their response.
+ *
+ * @author agent - Initial contribution
+ */
+public class PlugwiseMessageWindow {
+
+    private static class PendingMessage {
+        private final PlugwiseQueuedMessage queuedMessage;
+        private final long acknowledgedNanos;
+
+        private PendingMessage(PlugwiseQueuedMessage queuedMessage, long acknowledgedNanos) {
+            this.queuedMessage = queuedMessage;
+            this.acknowledgedNanos = acknowledgedNanos;
+        }
+    }
+
+    /** The time after which a message without response is removed from the window */
+    public static final long RESPONSE_TIMEOUT_MILLIS = 3000;
+
+    private final Logger logger = LoggerFactory.getLogger(PlugwiseMessageWindow.class);
+
+    /** The pending messages by sequence number, ordered from oldest to newest */
+    private final Map<Integer, PendingMessage> pendingMessages = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageRemoved = lock.newCondition();
+    private final LongSupplier nanoTime;
+
+    public PlugwiseMessageWindow() {
+        this(System::nanoTime);
+    }
+
+    PlugwiseMessageWindow(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Waits until less than the given number of messages are waiting for a response.
+     *
+     * @param size the size of the window
+     * @throws InterruptedException when interrupted while waiting
+     */
+    public void awaitCapacity(int size) throws InterruptedException {
+        lock.lock();
+        try {
+            removeExpiredMessages();
+            while (pendingMessages.size() >= size) {
+                // wait until a response is received or the oldest message expires
+                long oldestNanos = pendingMessages.values().iterator().next().acknowledgedNanos;
+                long waitNanos = oldestNanos + TimeUnit.MILLISECONDS.toNanos(RESPONSE_TIMEOUT_MILLIS)
+                        - nanoTime.getAsLong();
+                if (waitNanos > 0) {
+                    messageRemoved.awaitNanos(waitNanos);
+                }
+                removeExpiredMessages();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            pendingMessages.clear();
+            messageRemoved.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(int sequenceNumber, PlugwiseQueuedMessage queuedMessage) {
+        lock.lock();
+        try {
+            // a sequence number is reused by the Stick after it wrapped around, keep the insertion order correct
+            pendingMessages.remove(sequenceNumber);
+            pendingMessages.put(sequenceNumber, new PendingMessage(queuedMessage, nanoTime.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the message with the given sequence number from the window.
+     *
+     * @param sequenceNumber the sequence number of the response
+     * @return the removed message or null when there is no message with the sequence number
+     */
+    public PlugwiseQueuedMessage remove(int sequenceNumber) {
+        lock.lock();
+        try {
+            PendingMessage pendingMessage = pendingMessages.remove(sequenceNumber);
+            if (pendingMessage == null) {
+                return null;
+            }
+            messageRemoved.signalAll();
+            return pendingMessage.queuedMessage;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return pendingMessages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeExpiredMessages() {
+        long expiredNanos = nanoTime.getAsLong() - TimeUnit.MILLISECONDS.toNanos(RESPONSE_TIMEOUT_MILLIS);
+        Iterator<PendingMessage> iterator = pendingMessages.values().iterator();
+        while (iterator.hasNext()) {
+            PendingMessage pendingMessage = iterator.next();
+            if (pendingMessage.acknowledgedNanos - expiredNanos > 0) {
+                break;
+            }
+            logger.debug("No response received, removing from window: {}", pendingMessage.queuedMessage.getMessage());
+            iterator.remove();
+        }
+    }
+
+}
@@ -9,6 +9,7 @@
 package org.openhab.binding.plugwise.internal;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.openhab.binding.plugwise.internal.protocol.Message;
 
@@ -19,8 +20,11 @@ import org.openhab.binding.plugwise.internal.protocol.Message;
  */
 public class PlugwiseQueuedMessage {
 
+    private static final AtomicLong SEQUENCE_GENERATOR = new AtomicLong();
+
     private final PlugwiseMessagePriority priority;
     private final LocalDateTime dateTime = LocalDateTime.now();
+    private final long sequence = SEQUENCE_GENERATOR.incrementAndGet();
     private final Message message;
     private int attempts;
 
@@ -37,6 +41,14 @@ public class PlugwiseQueuedMessage {
         return dateTime;
     }
 
+    /**
+     * Returns the order in which messages were queued. Unlike the date/time it is unique, so messages with the same
+     * priority are always sent in the order they were queued.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
     public Message getMessage() {
         return message;
     }
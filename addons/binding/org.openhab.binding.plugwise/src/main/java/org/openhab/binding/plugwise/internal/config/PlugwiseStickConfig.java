@@ -17,6 +17,7 @@ public class PlugwiseStickConfig {
 
     private String serialPort;
     private int messageWaitTime = 150; // milliseconds
+    private int messageWindowSize = 8;
 
     public String getSerialPort() {
         return serialPort;
@@ -26,6 +27,10 @@ public class PlugwiseStickConfig {
         return messageWaitTime;
     }
 
+    public int getMessageWindowSize() {
+        return messageWindowSize;
+    }
+
     public void setSerialPort(String serialPort) {
         this.serialPort = serialPort;
     }
@@ -34,8 +39,13 @@ public class PlugwiseStickConfig {
         this.messageWaitTime = messageWaitTime;
     }
 
+    public void setMessageWindowSize(int messageWindowSize) {
+        this.messageWindowSize = messageWindowSize;
+    }
+
     @Override
     public String toString() {
-        return "PlugwiseStickConfig [serialPort=" + serialPort + ", messageWaitTime=" + messageWaitTime + "]";
+        return "PlugwiseStickConfig [serialPort=" + serialPort + ", messageWaitTime=" + messageWaitTime
+                + ", messageWindowSize=" + messageWindowSize + "]";
     }
 }
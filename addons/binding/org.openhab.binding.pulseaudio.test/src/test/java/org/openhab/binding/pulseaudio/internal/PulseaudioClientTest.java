@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.pulseaudio.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig.State;
+import org.openhab.binding.pulseaudio.internal.items.Sink;
+import org.openhab.binding.pulseaudio.internal.items.SinkInput;
+import org.openhab.binding.pulseaudio.internal.items.Source;
+import org.openhab.binding.pulseaudio.internal.items.SourceOutput;
+
+/**
+ * Tests for the item index of the {@link PulseaudioClient} and the relinking of the items after a partial update,
+ * with a fake server of the command line interface. The sinks and sink-inputs are the recorded answers of the
+ * {@link org.openhab.binding.pulseaudio.internal.cli.Parser} tests.
+ *
+ * @author agent - Initial contribution
+ */
+public class PulseaudioClientTest {
+
+    private static final String ANALOG = "alsa_output.pci-0000_00_1b.0.analog-stereo";
+    private static final String SURROUND = "alsa_output.usb-surround";
+
+    private static final String MODULES = "3 module(s) loaded.\n" //
+            + "    index: 6\n\tname: <module-alsa-card>\n\targument: <device_id=0>\n" //
+            + "    index: 7\n\tname: <module-alsa-card>\n\targument: <device_id=1>\n" //
+            + "    index: 12\n\tname: <module-combine-sink>\n\targument: <sink_name=combined>\n";
+
+    private static final String SOURCES = "3 source(s) available.\n" //
+            + "  * index: 0\n\tname: <" + ANALOG + ".monitor>\n\tstate: SUSPENDED\n\tmonitor_of: 0\n\tmodule: 6\n"
+            + "    index: 1\n\tname: <alsa_input.pci-0000_00_1b.0.analog-stereo>\n\tstate: RUNNING\n\tmodule: 6\n"
+            + "    index: 2\n\tname: <combined.monitor>\n\tstate: RUNNING\n\tmonitor_of: 2\n\tmodule: 12\n";
+
+    private static final String SOURCE_OUTPUTS = "1 source output(s) available.\n" //
+            + "    index: 4\n\tstate: RUNNING\n\tsource: 1 <alsa_input.pci-0000_00_1b.0.analog-stereo>\n";
+
+    /**
+     * A server answering the commands of the command line interface like module-cli-protocol-tcp of newer versions:
+     * the answer is followed by closing the connection (the client connects again for every command).
+     */
+    private static class FakeCliServer implements Runnable {
+        private final ServerSocket serverSocket;
+        private final Map<String, String> answers = new ConcurrentHashMap<>();
+        private final List<String> commands = new CopyOnWriteArrayList<>();
+
+        private FakeCliServer() throws IOException {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread thread = new Thread(this, "fake-pulseaudio-cli");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    String command = in.readLine();
+                    if (command != null) {
+                        commands.add(command);
+                        String answer = answers.get(command);
+                        if (answer != null) {
+                            OutputStream out = socket.getOutputStream();
+                            out.write(answer.getBytes(StandardCharsets.UTF_8));
+                            out.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+
+    private FakeCliServer server;
+    private PulseaudioClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new FakeCliServer();
+        server.answers.put("list-modules", MODULES);
+        server.answers.put("list-sinks", read("cli/list-sinks.txt"));
+        server.answers.put("list-sources", SOURCES);
+        server.answers.put("list-sink-inputs", read("cli/list-sink-inputs.txt"));
+        server.answers.put("list-source-outputs", SOURCE_OUTPUTS);
+
+        client = new PulseaudioClient(InetAddress.getLoopbackAddress().getHostAddress(), server.getPort());
+        server.commands.clear();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.disconnect();
+        server.close();
+    }
+
+    @Test
+    public void assertItemsAreIndexedByIdAndName() {
+        Sink analog = client.getSink(0);
+
+        assertThat(analog.getPaName(), is(ANALOG));
+        assertThat(client.getSink(ANALOG), is(sameInstance(analog)));
+        assertThat(client.getSink(ANALOG.toUpperCase()), is(sameInstance(analog)));
+        assertThat(client.getSink(SURROUND).getId(), is(1));
+        assertThat(client.getSinkInput("Spotify"), is(sameInstance(client.getSinkInput(5))));
+        assertThat(client.getSource("combined.monitor"), is(sameInstance(client.getSource(2))));
+        assertThat(client.getSourceOutput(4).getSource(), is(sameInstance(client.getSource(1))));
+        assertThat(client.getModule(12).getPaName(), is("module-combine-sink"));
+        assertThat(client.getItems().size(), is(3 + 3 + 3 + 1));
+    }
+
+    @Test
+    public void assertUnknownItemsAreNotFound() {
+        assertThat(client.getSink(99), is(nullValue()));
+        assertThat(client.getSink((String) null), is(nullValue()));
+        assertThat(client.getSink("unknown"), is(nullValue()));
+        assertThat(client.getSinkInput(0), is(nullValue()));
+        assertThat(client.getModule(8), is(nullValue()));
+    }
+
+    @Test
+    public void assertGenericItemIsFoundInTheIndexOfItsType() {
+        assertThat(client.getGenericAudioItem(SURROUND), is(sameInstance(client.getSink(1))));
+        assertThat(client.getGenericAudioItem("combined.monitor"), is(sameInstance(client.getSource(2))));
+        assertThat(client.getGenericAudioItem("Notification"), is(sameInstance(client.getSinkInput(7))));
+    }
+
+    @Test
+    public void assertItemsReferToTheIndexedItems() {
+        Sink combined = client.getSink("combined");
+
+        assertThat(combined.isCombinedSink(), is(true));
+        assertThat(combined.getCombinedSinkNames(), is(Arrays.asList(ANALOG, SURROUND)));
+        assertThat(client.getSinkInput(8).getSink(), is(sameInstance(combined)));
+        assertThat(client.getSource(0).getMonitorOf(), is(sameInstance(client.getSink(0))));
+    }
+
+    @Test
+    public void assertSinkUpdateOnlyRequestsTheSinks() {
+        Sink analog = client.getSink(0);
+        server.answers.put("list-sinks", server.answers.get("list-sinks").replace("SUSPENDED", "RUNNING"));
+
+        client.suspendSink(analog, false);
+
+        assertThat(server.commands, is(Arrays.asList("suspend-sink 0 0", "list-sinks")));
+        assertThat(client.getSink(0).getState(), is(State.RUNNING));
+    }
+
+    @Test
+    public void assertReferencesAreRelinkedAfterASinkUpdate() {
+        Sink analog = client.getSink(0);
+
+        client.update(analog);
+
+        Sink updated = client.getSink(0);
+        assertThat(updated, is(not(sameInstance(analog))));
+        SinkInput spotify = client.getSinkInput(5);
+        assertThat(spotify.getSink(), is(sameInstance(updated)));
+        assertThat(client.getSource(0).getMonitorOf(), is(sameInstance(updated)));
+        assertThat(client.getSinkInput(8).getSink(), is(sameInstance(client.getSink("combined"))));
+    }
+
+    @Test
+    public void assertReferencesAreRelinkedAfterASourceUpdate() {
+        Source input = client.getSource(1);
+
+        client.update(input);
+
+        Source updated = client.getSource(1);
+        assertThat(updated, is(not(sameInstance(input))));
+        SourceOutput recording = client.getSourceOutput(4);
+        assertThat(recording.getSource(), is(sameInstance(updated)));
+    }
+
+    @Test
+    public void assertCombinedSinkIsRelinkedByIdAfterItsSlavesChanged() {
+        Sink combined = client.getSink("combined");
+        SourceOutput recording = client.getSourceOutput(4);
+        // the server loads the combined sink with a new module and sink index
+        server.answers.put("list-modules", MODULES.replace("index: 12", "index: 13"));
+        server.answers.put("list-sinks",
+                server.answers.get("list-sinks").replace("index: 2name: <combined>", "index: 3name: <combined>")
+                        .replace("module: 12", "module: 13").replace(ANALOG + "," + SURROUND, ANALOG));
+        server.answers.put("list-sources", SOURCES.replace("monitor_of: 2", "monitor_of: 3")
+                .replace("module: 12", "module: 13"));
+        server.answers.put("list-sink-inputs",
+                server.answers.get("list-sink-inputs").replace("sink: 2 <combined>", "sink: 3 <combined>"));
+
+        client.setCombinedSinkSlaves(combined, Arrays.asList(client.getSink(0)));
+
+        assertThat(server.commands,
+                is(Arrays.asList("unload-module 12",
+                        "load-module module-combine-sink sink_name=combined slaves=" + ANALOG, "list-modules",
+                        "list-sinks", "list-sources", "list-sink-inputs")));
+
+        Sink reloaded = client.getSink("combined");
+        assertThat(reloaded.getId(), is(3));
+        assertThat(client.getSink(2), is(nullValue()));
+        assertThat(client.getSink(3), is(sameInstance(reloaded)));
+        assertThat(reloaded.getModule(), is(sameInstance(client.getModule(13))));
+        assertThat(reloaded.getCombinedSinkNames(), is(Arrays.asList(ANALOG)));
+        assertThat(client.getSinkInput(8).getSink(), is(sameInstance(reloaded)));
+        assertThat(client.getSource("combined.monitor").getMonitorOf(), is(sameInstance(reloaded)));
+
+        // the source-outputs are not requested, but refer to the current sources
+        assertThat(client.getSourceOutput(4), is(sameInstance(recording)));
+        assertThat(recording.getSource(), is(sameInstance(client.getSource(1))));
+    }
+
+    private static String read(String fileName) throws IOException {
+        try (InputStream inputStream = PulseaudioClientTest.class.getResourceAsStream(fileName)) {
+            return IOUtils.toString(inputStream, "UTF-8");
+        }
+    }
+}
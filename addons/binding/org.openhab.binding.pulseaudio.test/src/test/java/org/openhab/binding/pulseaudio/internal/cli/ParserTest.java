@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.pulseaudio.internal.cli;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.pulseaudio.internal.PulseaudioClient;
+import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig.State;
+import org.openhab.binding.pulseaudio.internal.items.Module;
+import org.openhab.binding.pulseaudio.internal.items.Sink;
+import org.openhab.binding.pulseaudio.internal.items.SinkInput;
+
+/**
+ * Tests for the {@link Parser} with answers of the pulseaudio command line interface
+ *
+ * @author agent - Initial contribution
+ */
+public class ParserTest {
+    private PulseaudioClient client;
+
+    private Module alsaModule;
+    private Module combineModule;
+
+    @Before
+    public void setUp() {
+        client = mock(PulseaudioClient.class);
+
+        alsaModule = new Module(6, "module-alsa-card");
+        combineModule = new Module(12, "module-combine-sink");
+        when(client.getModule(6)).thenReturn(alsaModule);
+        when(client.getModule(12)).thenReturn(combineModule);
+    }
+
+    @Test
+    public void assertSinksAreParsed() throws IOException {
+        Map<Integer, Sink> sinks = byId(Parser.parseSinks(read("list-sinks.txt"), client));
+
+        assertThat(sinks.size(), is(3));
+
+        Sink analog = sinks.get(0);
+        assertThat(analog.getPaName(), is("alsa_output.pci-0000_00_1b.0.analog-stereo"));
+        assertThat(analog.getState(), is(State.SUSPENDED));
+        assertThat(analog.isMuted(), is(false));
+        assertThat(analog.getModule(), is(alsaModule));
+        assertThat(analog.isCombinedSink(), is(false));
+
+        Sink surround = sinks.get(1);
+        assertThat(surround.getPaName(), is("alsa_output.usb-surround"));
+        assertThat(surround.getState(), is(State.IDLE));
+        assertThat(surround.getModule(), is(nullValue()));
+    }
+
+    @Test
+    public void assertSinkVolumeIsTheAverageOfAllChannels() throws IOException {
+        Map<Integer, Sink> sinks = byId(Parser.parseSinks(read("list-sinks.txt"), client));
+
+        // front-left 80%, front-right 70%
+        assertThat(sinks.get(0).getVolume(), is(75));
+        // 5.1 channels: 100%, 100%, 90%, 90%, 80%, 80%
+        assertThat(sinks.get(1).getVolume(), is(90));
+        assertThat(sinks.get(2).getVolume(), is(50));
+    }
+
+    @Test
+    public void assertCombinedSinkAfterMissingLineFeedIsParsed() throws IOException {
+        Map<Integer, Sink> sinks = byId(Parser.parseSinks(read("list-sinks.txt"), client));
+
+        Sink combined = sinks.get(2);
+        assertThat(combined.getPaName(), is("combined"));
+        assertThat(combined.getState(), is(State.RUNNING));
+        assertThat(combined.isMuted(), is(true));
+        assertThat(combined.getModule(), is(combineModule));
+        assertThat(combined.isCombinedSink(), is(true));
+        assertThat(combined.getCombinedSinkNames(),
+                hasItems("alsa_output.pci-0000_00_1b.0.analog-stereo", "alsa_output.usb-surround"));
+    }
+
+    @Test
+    public void assertSinkInputsAreParsed() throws IOException {
+        Sink analog = new Sink(0, "alsa_output.pci-0000_00_1b.0.analog-stereo", alsaModule);
+        Sink surround = new Sink(1, "alsa_output.usb-surround", null);
+        when(client.getSink(0)).thenReturn(analog);
+        when(client.getSink(1)).thenReturn(surround);
+
+        List<SinkInput> sinkInputs = Parser.parseSinkInputs(read("list-sink-inputs.txt"), client);
+
+        assertThat(sinkInputs.size(), is(3));
+
+        SinkInput spotify = sinkInputs.get(0);
+        assertThat(spotify.getId(), is(5));
+        assertThat(spotify.getPaName(), is("Spotify"));
+        assertThat(spotify.getState(), is(State.RUNNING));
+        assertThat(spotify.isMuted(), is(false));
+        assertThat(spotify.getVolume(), is(60));
+        assertThat(spotify.getSink(), is(analog));
+
+        SinkInput notification = sinkInputs.get(1);
+        assertThat(notification.getId(), is(7));
+        assertThat(notification.getPaName(), is("Notification"));
+        assertThat(notification.getState(), is(State.CORKED));
+        assertThat(notification.isMuted(), is(true));
+        assertThat(notification.getVolume(), is(30));
+        assertThat(notification.getSink(), is(surround));
+    }
+
+    @Test
+    public void assertVolumeOfOlderServersIsParsed() throws IOException {
+        List<SinkInput> sinkInputs = Parser.parseSinkInputs(read("list-sink-inputs.txt"), client);
+
+        // "0:  80% 1:  70%", without the raw volume and dB values
+        SinkInput unnamed = sinkInputs.get(2);
+        assertThat(unnamed.getId(), is(8));
+        assertThat(unnamed.getVolume(), is(75));
+        assertThat(unnamed.getSink(), is(nullValue()));
+    }
+
+    @Test
+    public void assertAnswerWithoutItemsIsEmpty() {
+        assertThat(Parser.parseSinks("0 sink(s) available.\n", client).isEmpty(), is(true));
+        assertThat(Parser.parseSinkInputs("0 sink input(s) available.\n", client).isEmpty(), is(true));
+    }
+
+    private static Map<Integer, Sink> byId(Collection<Sink> sinks) {
+        Map<Integer, Sink> result = new HashMap<>();
+        for (Sink sink : sinks) {
+            result.put(sink.getId(), sink);
+        }
+        return result;
+    }
+
+    private String read(String fileName) throws IOException {
+        try (InputStream inputStream = ParserTest.class.getResourceAsStream(fileName)) {
+            return IOUtils.toString(inputStream, "UTF-8");
+        }
+    }
+}
@@ -16,12 +16,19 @@ import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.pulseaudio.internal.cli.Parser;
 import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig;
 import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig.State;
+import org.openhab.binding.pulseaudio.internal.items.AbstractDeviceConfig;
 import org.openhab.binding.pulseaudio.internal.items.Module;
 import org.openhab.binding.pulseaudio.internal.items.Sink;
 import org.openhab.binding.pulseaudio.internal.items.SinkInput;
@@ -37,6 +44,9 @@ import org.slf4j.LoggerFactory;
  *
  * On the pulseaudio server the module-cli-protocol-tcp has to be loaded.
  *
+ * The items are indexed by id and name per type. As the CLI protocol offers no change notifications, only the list
+ * of the type that is affected by a command is requested again instead of all lists.
+ *
  * @author Tobias Bräutigam - Initial contribution
  * @since 1.2.0
  */
@@ -48,8 +58,43 @@ public class PulseaudioClient {
     private int port;
     private Socket client;
 
-    private List<AbstractAudioDeviceConfig> items;
-    private List<Module> modules;
+    /**
+     * the items of one type, indexed by id and by (lower case) name
+     */
+    private static class ItemIndex<T extends AbstractDeviceConfig> {
+        private volatile Map<Integer, T> byId = Collections.emptyMap();
+        private volatile Map<String, T> byName = Collections.emptyMap();
+
+        private void set(Collection<? extends T> items) {
+            Map<Integer, T> newById = new LinkedHashMap<>();
+            Map<String, T> newByName = new HashMap<>();
+            for (T item : items) {
+                newById.put(item.getId(), item);
+                // the first item wins, like a lookup in the list did
+                newByName.putIfAbsent(item.getPaName().toLowerCase(Locale.ROOT), item);
+            }
+            byId = newById;
+            byName = newByName;
+        }
+
+        private T get(int id) {
+            return byId.get(id);
+        }
+
+        private T get(String name) {
+            return name == null ? null : byName.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        private Collection<T> values() {
+            return byId.values();
+        }
+    }
+
+    private final ItemIndex<Module> modules = new ItemIndex<>();
+    private final ItemIndex<Sink> sinks = new ItemIndex<>();
+    private final ItemIndex<Source> sources = new ItemIndex<>();
+    private final ItemIndex<SinkInput> sinkInputs = new ItemIndex<>();
+    private final ItemIndex<SourceOutput> sourceOutputs = new ItemIndex<>();
 
     /**
      * corresponding name to execute actions on sink items
@@ -119,9 +164,6 @@ public class PulseaudioClient {
         this.host = host;
         this.port = port;
 
-        items = new ArrayList<>();
-        modules = new ArrayList<>();
-
         connect();
         update();
     }
@@ -133,17 +175,70 @@ public class PulseaudioClient {
     /**
      * updates the item states and their relationships
      */
-    public void update() {
-        modules.clear();
-        modules.addAll(Parser.parseModules(listModules()));
+    public synchronized void update() {
+        updateModules();
+        updateSinks();
+        updateSources();
+        updateSinkInputs();
+        updateSourceOutputs();
+
+        logger.debug("Pulseaudio server {}: {} modules, {} sinks, {} sources, {} sink-inputs and {} source-outputs"
+                + " updated", host, modules.values().size(), sinks.values().size(), sources.values().size(),
+                sinkInputs.values().size(), sourceOutputs.values().size());
+    }
+
+    /**
+     * updates only the items of the same type as the given item
+     *
+     * @param item the item which state should be updated
+     */
+    public synchronized void update(AbstractAudioDeviceConfig item) {
+        if (item instanceof Sink) {
+            updateSinks();
+        } else if (item instanceof Source) {
+            updateSources();
+        } else if (item instanceof SinkInput) {
+            updateSinkInputs();
+        } else if (item instanceof SourceOutput) {
+            updateSourceOutputs();
+        }
+    }
+
+    private void updateModules() {
+        modules.set(Parser.parseModules(listModules()));
+    }
+
+    private void updateSinks() {
+        sinks.set(Parser.parseSinks(listSinks(), this));
+        // keep the references of the other items pointing to the current sink objects
+        for (Source source : sources.values()) {
+            if (source.getMonitorOf() != null) {
+                source.setMonitorOf(getSink(source.getMonitorOf().getId()));
+            }
+        }
+        for (SinkInput sinkInput : sinkInputs.values()) {
+            if (sinkInput.getSink() != null) {
+                sinkInput.setSink(getSink(sinkInput.getSink().getId()));
+            }
+        }
+    }
 
-        items.clear();
-        items.addAll(Parser.parseSinks(listSinks(), this));
-        items.addAll(Parser.parseSources(listSources(), this));
-        items.addAll(Parser.parseSinkInputs(listSinkInputs(), this));
-        items.addAll(Parser.parseSourceOutputs(listSourceOutputs(), this));
+    private void updateSources() {
+        sources.set(Parser.parseSources(listSources(), this));
+        // keep the references of the source-outputs pointing to the current source objects
+        for (SourceOutput sourceOutput : sourceOutputs.values()) {
+            if (sourceOutput.getSource() != null) {
+                sourceOutput.setSource(getSource(sourceOutput.getSource().getId()));
+            }
+        }
+    }
+
+    private void updateSinkInputs() {
+        sinkInputs.set(Parser.parseSinkInputs(listSinkInputs(), this));
+    }
 
-        logger.debug("Pulseaudio server {}: {} modules and {} items updated", host, modules.size(), items.size());
+    private void updateSourceOutputs() {
+        sourceOutputs.set(Parser.parseSourceOutputs(listSourceOutputs(), this));
     }
 
     private String listModules() {
@@ -173,12 +268,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link Module} to the given <code>id</code>
      */
     public Module getModule(int id) {
-        for (Module module : modules) {
-            if (module.getId() == id) {
-                return module;
-            }
-        }
-        return null;
+        return modules.get(id);
     }
 
     /**
@@ -198,12 +288,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link Sink} to the given <code>name</code>
      */
     public Sink getSink(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof Sink) {
-                return (Sink) item;
-            }
-        }
-        return null;
+        return sinks.get(name);
     }
 
     /**
@@ -212,12 +297,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link Sink} to the given <code>id</code>
      */
     public Sink getSink(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof Sink) {
-                return (Sink) item;
-            }
-        }
-        return null;
+        return sinks.get(id);
     }
 
     /**
@@ -226,12 +306,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link SinkInput} to the given <code>name</code>
      */
     public SinkInput getSinkInput(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof SinkInput) {
-                return (SinkInput) item;
-            }
-        }
-        return null;
+        return sinkInputs.get(name);
     }
 
     /**
@@ -240,12 +315,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link SinkInput} to the given <code>id</code>
      */
     public SinkInput getSinkInput(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof SinkInput) {
-                return (SinkInput) item;
-            }
-        }
-        return null;
+        return sinkInputs.get(id);
     }
 
     /**
@@ -254,12 +324,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link Source} to the given <code>name</code>
      */
     public Source getSource(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof Source) {
-                return (Source) item;
-            }
-        }
-        return null;
+        return sources.get(name);
     }
 
     /**
@@ -268,12 +333,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link Source} to the given <code>id</code>
      */
     public Source getSource(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof Source) {
-                return (Source) item;
-            }
-        }
-        return null;
+        return sources.get(id);
     }
 
     /**
@@ -282,12 +342,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link SourceOutput} to the given <code>name</code>
      */
     public SourceOutput getSourceOutput(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name) && item instanceof SourceOutput) {
-                return (SourceOutput) item;
-            }
-        }
-        return null;
+        return sourceOutputs.get(name);
     }
 
     /**
@@ -296,12 +351,7 @@ public class PulseaudioClient {
      * @return the corresponding {@link SourceOutput} to the given <code>id</code>
      */
     public SourceOutput getSourceOutput(int id) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getId() == id && item instanceof SourceOutput) {
-                return (SourceOutput) item;
-            }
-        }
-        return null;
+        return sourceOutputs.get(id);
     }
 
     /**
@@ -310,15 +360,25 @@ public class PulseaudioClient {
      * @return the corresponding {@link AbstractAudioDeviceConfig} to the given <code>name</code>
      */
     public AbstractAudioDeviceConfig getGenericAudioItem(String name) {
-        for (AbstractAudioDeviceConfig item : items) {
-            if (item.getPaName().equalsIgnoreCase(name)) {
-                return item;
-            }
+        AbstractAudioDeviceConfig item = getSink(name);
+        if (item == null) {
+            item = getSource(name);
         }
-        return null;
+        if (item == null) {
+            item = getSinkInput(name);
+        }
+        if (item == null) {
+            item = getSourceOutput(name);
+        }
+        return item;
     }
 
     public List<AbstractAudioDeviceConfig> getItems() {
+        List<AbstractAudioDeviceConfig> items = new ArrayList<>();
+        items.addAll(sinks.values());
+        items.addAll(sources.values());
+        items.addAll(sinkInputs.values());
+        items.addAll(sourceOutputs.values());
         return items;
     }
 
@@ -427,7 +487,7 @@ public class PulseaudioClient {
         sendRawCommand(CMD_LOAD_MODULE + " " + MODULE_COMBINE_SINK + " sink_name=" + combinedSink.getPaName()
                 + " slaves=" + StringUtils.join(slaves, ","));
         // 3. update internal data structure because the combined sink has a new number + other slaves
-        update();
+        updateCombinedSink();
     }
 
     /**
@@ -475,7 +535,7 @@ public class PulseaudioClient {
             sendRawCommand("suspend-source " + source.getId() + " 0");
             // unsuspending the source could result in different states (RUNNING,IDLE,...)
             // update to get the new state
-            update();
+            update(source);
         }
     }
 
@@ -496,7 +556,7 @@ public class PulseaudioClient {
             sendRawCommand("suspend-sink " + sink.getId() + " 0");
             // unsuspending the sink could result in different states (RUNNING,IDLE,...)
             // update to get the new state
-            update();
+            update(sink);
         }
     }
 
@@ -518,7 +578,18 @@ public class PulseaudioClient {
         sendRawCommand(CMD_LOAD_MODULE + " " + MODULE_COMBINE_SINK + " sink_name=" + combinedSinkName + " slaves="
                 + StringUtils.join(slaves, ","));
         // update internal data structure because the combined sink is new
-        update();
+        updateCombinedSink();
+    }
+
+    /**
+     * updates the items affected by loading or unloading a combined sink: its module, the sink itself, its monitor
+     * source and the sink-inputs that were routed to it
+     */
+    private synchronized void updateCombinedSink() {
+        updateModules();
+        updateSinks();
+        updateSources();
+        updateSinkInputs();
     }
 
     private void sendRawCommand(String command) {
@@ -537,7 +608,7 @@ public class PulseaudioClient {
     private String sendRawRequest(String command) {
         logger.trace("_sendRawRequest({})", command);
         checkConnection();
-        String result = "";
+        StringBuilder result = new StringBuilder();
         try {
             PrintStream out = new PrintStream(client.getOutputStream(), true);
             out.print(command + "\r\n");
@@ -555,10 +626,11 @@ public class PulseaudioClient {
                         String line = new String(buff, 0, retRead);
                         // System.out.println("'"+line+"'");
                         if (line.endsWith(">>> ") && lc > 1) {
-                            result += line.substring(0, line.length() - 4);
+                            result.append(line, 0, line.length() - 4);
                             break;
                         }
-                        result += line.trim();
+                        // keep the line feeds, the parser reads the answer line by line
+                        result.append(line);
                     }
                 } while (retRead > 0);
             } catch (SocketTimeoutException e) {
@@ -570,11 +642,11 @@ public class PulseaudioClient {
             instr.close();
             out.close();
             client.close();
-            return result;
+            return result.toString();
         } catch (IOException e) {
             logger.error("{}", e.getLocalizedMessage(), e);
         }
-        return result;
+        return result.toString();
     }
 
     private void checkConnection() {
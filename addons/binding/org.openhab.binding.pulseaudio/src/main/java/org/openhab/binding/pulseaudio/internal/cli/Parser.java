@@ -10,10 +10,10 @@ package org.openhab.binding.pulseaudio.internal.cli;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 import org.openhab.binding.pulseaudio.internal.PulseaudioClient;
 import org.openhab.binding.pulseaudio.internal.items.AbstractAudioDeviceConfig;
@@ -28,18 +28,25 @@ import org.slf4j.LoggerFactory;
 /**
  * Parsers for the pulseaudio return strings
  *
+ * The answers of the list commands are read in a single pass: every line starting a new object ("index: 1") opens a
+ * block and the following property lines ("name: <alsa_output>", "combine.slaves = "a,b"") are added to it, so no
+ * regular expressions are evaluated and the answer is not split into intermediate strings.
+ *
  * @author Tobias Bräutigam - Initial contribution
  * @since 1.2.0
  */
 public class Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(Parser.class);
 
-    private static final Pattern PATTERN = Pattern.compile("^\\s+([a-z\\s._]+)[:=]\\s*<?\"?([^>\"]+)\"?>?$");
-    private static final Pattern VOLUME_PATTERN = Pattern
-            .compile("^([\\w\\-]+):( *[\\d]+ \\/)? *([\\d]+)% *\\/? *([\\d\\-., dB]+)?$");
-    private static final Pattern FALL_BACK_PATTERN = Pattern
-            .compile("^([0-9]+)([a-z\\s._]+)[:=]\\s*<?\"?([^>\"]+)\"?>?$");
-    private static final Pattern NUMBER_VALUE_PATTERN = Pattern.compile("^([0-9]+).*$");
+    private static final String INDEX = "index: ";
+
+    /**
+     * the properties of one object (module, sink,...) in the answer of a list command
+     */
+    private static class Block {
+        private int id;
+        private final Map<String, String> properties = new HashMap<>();
+    }
 
     /**
      * parses the pulseaudio servers answer to the list-modules command and returns a list of
@@ -50,33 +57,10 @@ public class Parser {
      */
     public static List<Module> parseModules(String raw) {
         List<Module> modules = new ArrayList<>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return modules;
-        }
-        // skip first part
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = FALL_BACK_PATTERN.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = PATTERN.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            Map<String, String> properties = block.properties;
             if (properties.containsKey("name")) {
-                Module module = new Module(id, properties.get("name"));
+                Module module = new Module(block.id, properties.get("name"));
                 if (properties.containsKey("argument")) {
                     module.setArgument(properties.get("argument"));
                 }
@@ -95,32 +79,10 @@ public class Parser {
      */
     public static Collection<Sink> parseSinks(String raw, PulseaudioClient client) {
         Hashtable<String, Sink> sinks = new Hashtable<>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return sinks.values();
-        }
-        // skip first part
         List<Sink> combinedSinks = new ArrayList<>();
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = FALL_BACK_PATTERN.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = PATTERN.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            Map<String, String> properties = block.properties;
+            int id = block.id;
             if (properties.containsKey("name")) {
                 Sink sink = new Sink(id, properties.get("name"),
                         client.getModule(getNumberValue(properties.get("module"))));
@@ -135,7 +97,7 @@ public class Parser {
                     sink.setMuted(properties.get("muted").equalsIgnoreCase("yes"));
                 }
                 if (properties.containsKey("volume")) {
-                    sink.setVolume(Integer.valueOf(parseVolume(properties.get("volume"))));
+                    sink.setVolume(parseVolume(properties.get("volume")));
                 }
                 if (properties.containsKey("combine.slaves")) {
                     // this is a combined sink, the combined sink object should be
@@ -164,30 +126,9 @@ public class Parser {
      */
     public static List<SinkInput> parseSinkInputs(String raw, PulseaudioClient client) {
         List<SinkInput> items = new ArrayList<>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return items;
-        }
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = FALL_BACK_PATTERN.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = PATTERN.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            Map<String, String> properties = block.properties;
+            int id = block.id;
             if (properties.containsKey("sink")) {
                 String name = properties.containsKey("media.name") ? properties.get("media.name")
                         : properties.get("sink");
@@ -203,11 +144,9 @@ public class Parser {
                     item.setMuted(properties.get("muted").equalsIgnoreCase("yes"));
                 }
                 if (properties.containsKey("volume")) {
-                    item.setVolume(Integer.valueOf(parseVolume(properties.get("volume"))));
-                }
-                if (properties.containsKey("sink")) {
-                    item.setSink(client.getSink(Integer.valueOf(getNumberValue(properties.get("sink")))));
+                    item.setVolume(parseVolume(properties.get("volume")));
                 }
+                item.setSink(client.getSink(getNumberValue(properties.get("sink"))));
                 items.add(item);
             }
         }
@@ -223,31 +162,9 @@ public class Parser {
      */
     public static List<Source> parseSources(String raw, PulseaudioClient client) {
         List<Source> sources = new ArrayList<>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return sources;
-        }
-        // skip first part
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = FALL_BACK_PATTERN.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = PATTERN.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            Map<String, String> properties = block.properties;
+            int id = block.id;
             if (properties.containsKey("name")) {
                 Source source = new Source(id, properties.get("name"),
                         client.getModule(getNumberValue(properties.get("module"))));
@@ -262,10 +179,10 @@ public class Parser {
                     source.setMuted(properties.get("muted").equalsIgnoreCase("yes"));
                 }
                 if (properties.containsKey("volume")) {
-                    source.setVolume(Integer.valueOf(parseVolume(properties.get("volume"))));
+                    source.setVolume(parseVolume(properties.get("volume")));
                 }
                 if (properties.containsKey("monitor_of")) {
-                    source.setMonitorOf(client.getSink(Integer.valueOf(properties.get("monitor_of"))));
+                    source.setMonitorOf(client.getSink(getNumberValue(properties.get("monitor_of"))));
                 }
                 sources.add(source);
             }
@@ -282,31 +199,9 @@ public class Parser {
      */
     public static List<SourceOutput> parseSourceOutputs(String raw, PulseaudioClient client) {
         List<SourceOutput> items = new ArrayList<>();
-        String[] parts = raw.split("index: ");
-        if (parts.length <= 1) {
-            return items;
-        }
-        // skip first part
-        for (int i = 1; i < parts.length; i++) {
-            String[] lines = parts[i].split("\n");
-            Hashtable<String, String> properties = new Hashtable<>();
-            int id = 0;
-            try {
-                id = Integer.valueOf(lines[0].trim());
-            } catch (NumberFormatException e) {
-                // sometime the line feed is missing here
-                Matcher matcher = FALL_BACK_PATTERN.matcher(lines[0].trim());
-                if (matcher.find()) {
-                    id = Integer.valueOf(matcher.group(1));
-                    properties.put(matcher.group(2).trim(), matcher.group(3).trim());
-                }
-            }
-            for (int j = 1; j < lines.length; j++) {
-                Matcher matcher = PATTERN.matcher(lines[j]);
-                if (matcher.find()) {
-                    properties.put(matcher.group(1).trim(), matcher.group(2).trim());
-                }
-            }
+        for (Block block : parseBlocks(raw)) {
+            Map<String, String> properties = block.properties;
+            int id = block.id;
             if (properties.containsKey("source")) {
                 SourceOutput item = new SourceOutput(id, properties.get("source"),
                         client.getModule(getNumberValue(properties.get("module"))));
@@ -321,17 +216,129 @@ public class Parser {
                     item.setMuted(properties.get("muted").equalsIgnoreCase("yes"));
                 }
                 if (properties.containsKey("volume")) {
-                    item.setVolume(Integer.valueOf(parseVolume(properties.get("volume"))));
-                }
-                if (properties.containsKey("source")) {
-                    item.setSource(client.getSource(Integer.valueOf(getNumberValue(properties.get("source")))));
+                    item.setVolume(parseVolume(properties.get("volume")));
                 }
+                item.setSource(client.getSource(getNumberValue(properties.get("source"))));
                 items.add(item);
             }
         }
         return items;
     }
 
+    /**
+     * splits the answer of a list command into the blocks of the listed objects in a single pass.
+     * Everything before the first "index: " is ignored.
+     *
+     * @param raw the given string from the pulseaudio server
+     * @return the blocks in the order of the answer
+     */
+    private static List<Block> parseBlocks(String raw) {
+        List<Block> blocks = new ArrayList<>();
+        Block block = null;
+        int pos = 0;
+        int length = raw.length();
+        int index = raw.indexOf(INDEX);
+        while (pos < length) {
+            int end = raw.indexOf('\n', pos);
+            if (end < 0) {
+                end = length;
+            }
+            int lineStart = pos;
+            pos = end + 1;
+
+            // sometimes the line feed before an index is missing, so it is searched in the whole line
+            while (index >= 0 && index < end) {
+                if (block != null) {
+                    parseProperty(raw, lineStart, index, block.properties);
+                }
+                block = new Block();
+                blocks.add(block);
+                lineStart = parseIndex(raw, index + INDEX.length(), end, block);
+                index = raw.indexOf(INDEX, lineStart);
+            }
+            if (block != null) {
+                parseProperty(raw, lineStart, end, block.properties);
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * reads the number following "index: " into the block
+     *
+     * @return the position after the number, where a property follows if the line feed is missing
+     */
+    private static int parseIndex(String raw, int start, int end, Block block) {
+        int pos = skipWhitespace(raw, start, end);
+        int id = 0;
+        while (pos < end && Character.isDigit(raw.charAt(pos))) {
+            id = id * 10 + (raw.charAt(pos) - '0');
+            pos++;
+        }
+        block.id = id;
+        return pos;
+    }
+
+    /**
+     * parses a property line like <code>name: &lt;alsa_output&gt;</code> or <code>combine.slaves = "a,b"</code>.
+     * Lines which are no simple properties (e.g. the channel balance) are ignored.
+     */
+    private static void parseProperty(String raw, int start, int end, Map<String, String> properties) {
+        int pos = skipWhitespace(raw, start, end);
+        int keyStart = pos;
+        while (pos < end) {
+            char c = raw.charAt(pos);
+            if (c == ':' || c == '=') {
+                break;
+            }
+            if (!(c >= 'a' && c <= 'z') && c != '.' && c != '_' && !Character.isWhitespace(c)) {
+                return;
+            }
+            pos++;
+        }
+        if (pos >= end || pos == keyStart) {
+            return;
+        }
+        String key = raw.substring(keyStart, pos).trim();
+
+        int valueStart = skipWhitespace(raw, pos + 1, end);
+        int valueEnd = end;
+        while (valueEnd > valueStart && Character.isWhitespace(raw.charAt(valueEnd - 1))) {
+            valueEnd--;
+        }
+        // strip the enclosing <> and ""
+        if (valueStart < valueEnd && raw.charAt(valueStart) == '<') {
+            valueStart++;
+        }
+        if (valueStart < valueEnd && raw.charAt(valueStart) == '"') {
+            valueStart++;
+        }
+        if (valueEnd > valueStart && raw.charAt(valueEnd - 1) == '>') {
+            valueEnd--;
+        }
+        if (valueEnd > valueStart && raw.charAt(valueEnd - 1) == '"') {
+            valueEnd--;
+        }
+        for (int i = valueStart; i < valueEnd; i++) {
+            char c = raw.charAt(i);
+            if (c == '>' || c == '"') {
+                return;
+            }
+        }
+        String value = raw.substring(valueStart, valueEnd).trim();
+        if (!key.isEmpty() && !value.isEmpty()) {
+            properties.put(key, value);
+        }
+    }
+
+    private static int skipWhitespace(String raw, int start, int end) {
+        int pos = start;
+        while (pos < end && Character.isWhitespace(raw.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
     /**
      * converts the volume value given by the pulseaudio server
      * to a percentage value. The pulseaudio server sends 2 values for left and right channel volume
@@ -343,14 +350,19 @@ public class Parser {
     private static int parseVolume(String vol) {
         int volumeTotal = 0;
         int nChannels = 0;
-        for (String channel : vol.split(", ")) {
-            Matcher matcher = VOLUME_PATTERN.matcher(channel.trim());
-            if (matcher.find()) {
-                volumeTotal += Integer.valueOf(matcher.group(3));
+        int percent = vol.indexOf('%');
+        while (percent >= 0) {
+            int start = percent;
+            while (start > 0 && Character.isDigit(vol.charAt(start - 1))) {
+                start--;
+            }
+            if (start < percent) {
+                volumeTotal += Integer.parseInt(vol.substring(start, percent));
                 nChannels++;
             } else {
-                LOGGER.debug("Unable to parse channel volume '{}'", channel);
+                LOGGER.debug("Unable to parse channel volume '{}'", vol);
             }
+            percent = vol.indexOf('%', percent + 1);
         }
         if (nChannels > 0) {
             return Math.round(volumeTotal / nChannels);
@@ -367,18 +379,16 @@ public class Parser {
      * @return
      */
     private static int getNumberValue(String raw) {
-        int id = -1;
         if (raw == null) {
             return 0;
         }
-        try {
-            id = Integer.valueOf(raw.trim());
-        } catch (NumberFormatException e) {
-            Matcher matcher = NUMBER_VALUE_PATTERN.matcher(raw.trim());
-            if (matcher.find()) {
-                id = Integer.valueOf(matcher.group(1));
-            }
+        String value = raw.trim();
+        int id = 0;
+        int pos = 0;
+        while (pos < value.length() && Character.isDigit(value.charAt(pos))) {
+            id = id * 10 + (value.charAt(pos) - '0');
+            pos++;
         }
-        return id;
+        return pos > 0 ? id : -1;
     }
 }
@@ -0,0 +1,290 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.net;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ResponseRouter}. The RIO responses in the resources of this package are routed to listeners
+ * registered with the keys of the zone, controller, source, presets, system and system favorites protocols, and every
+ * listener recognizes responses with the regular expressions of its protocol. Each response must reach every listener
+ * that recognizes it, as it did when every response was broadcast to every protocol.
+ *
+ * @author agent - Initial contribution
+ */
+public class ResponseRouterTest {
+
+    /**
+     * A listener recognizing responses like a protocol: one of its patterns matches and the numbers in the first
+     * groups of the match (controller and zone, controller or source) are the ones of the protocol
+     */
+    private static class ProtocolListener implements SocketSessionListener {
+        private final String name;
+        private final List<Pattern> patterns;
+        private final int[] ids;
+        private final List<String> received = new ArrayList<>();
+        private final List<IOException> exceptions = new ArrayList<>();
+
+        private ProtocolListener(String name, List<Pattern> patterns, int... ids) {
+            this.name = name;
+            this.patterns = patterns;
+            this.ids = ids;
+        }
+
+        private boolean recognizes(String response) {
+            for (Pattern pattern : patterns) {
+                Matcher m = pattern.matcher(response);
+                if (m.matches() && idsMatch(m)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean idsMatch(Matcher m) {
+            for (int i = 0; i < ids.length; i++) {
+                if (Integer.parseInt(m.group(i + 1)) != ids[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void responseReceived(String response) {
+            received.add(response);
+        }
+
+        @Override
+        public void responseException(IOException e) {
+            exceptions.add(e);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    // the patterns of the protocols in org.openhab.binding.russound.internal.rio
+    private static final List<Pattern> ZONE_PATTERNS = Arrays.asList(
+            Pattern.compile("(?i)^[SN] C\\[(\\d+)\\]\\.Z\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$"),
+            Pattern.compile("(?i)^[SN] C\\[(\\d+)\\].Z\\[(\\d+)\\].favorite\\[(\\d+)\\].(\\w+)=\"(.*)\"$"));
+    private static final List<Pattern> CONTROLLER_PATTERNS = Arrays
+            .asList(Pattern.compile("(?i)^[SN] C\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$"));
+    private static final List<Pattern> SOURCE_PATTERNS = Arrays.asList(
+            Pattern.compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].(\\w+)=\"(.*)\"$"),
+            Pattern.compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].P\\[(\\d+)\\].(\\w+)=\"(.*)\"$"),
+            Pattern.compile("(?i)^[SN] S\\[(\\d+)\\]\\.([a-zA-Z_0-9.\\[\\]]+)=\"(.*)\"$"));
+    private static final List<Pattern> SOURCE_MENU_PATTERNS = Arrays.asList(Pattern.compile("^\\{.*\\}$"));
+    private static final List<Pattern> PRESETS_PATTERNS = Arrays.asList(
+            Pattern.compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].P\\[(\\d+)\\].(\\w+)=\"(.*)\"$"),
+            Pattern.compile("^[SN] S\\[(\\d+)\\]\\.type=\"(.*)\"$"));
+    private static final List<Pattern> SYSTEM_PATTERNS = Arrays.asList(
+            Pattern.compile("(?i)^S VERSION=\"(.+)\"$"), Pattern.compile("(?i)^E (.*)"),
+            Pattern.compile("(?i)^[SN] System\\.(\\w+)=\"(.*)\"$"));
+    private static final List<Pattern> SYSTEM_FAVORITES_PATTERNS = Arrays
+            .asList(Pattern.compile("(?i)^[SN] System.favorite\\[(\\d+)\\].(\\w+)=\"(.*)\"$"));
+
+    private final ResponseRouter router = new ResponseRouter();
+    private final List<ProtocolListener> listeners = new ArrayList<>();
+    private final List<String> responses = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        for (int[] zone : new int[][] { { 1, 1 }, { 1, 2 }, { 1, 3 }, { 2, 1 } }) {
+            add(ResponseRouter.getZoneKey(zone[0], zone[1]),
+                    new ProtocolListener("zone " + zone[0] + "." + zone[1], ZONE_PATTERNS, zone[0], zone[1]));
+        }
+        for (int controller = 1; controller <= 2; controller++) {
+            add(ResponseRouter.getControllerKey(controller),
+                    new ProtocolListener("controller " + controller, CONTROLLER_PATTERNS, controller));
+        }
+        for (int source = 1; source <= 3; source++) {
+            add(ResponseRouter.getSourceKey(source),
+                    new ProtocolListener("source " + source, SOURCE_PATTERNS, source));
+            // the media management menus of a source are not numbered
+            add(ResponseRouter.getSourceKey(source),
+                    new ProtocolListener("source menu " + source, SOURCE_MENU_PATTERNS));
+        }
+        add(ResponseRouter.KEY_SOURCE, new ProtocolListener("presets", PRESETS_PATTERNS));
+        add(ResponseRouter.KEY_SYSTEM, new ProtocolListener("system", SYSTEM_PATTERNS));
+        add(ResponseRouter.KEY_SYSTEM, new ProtocolListener("system favorites", SYSTEM_FAVORITES_PATTERNS));
+
+        try (InputStream inputStream = ResponseRouterTest.class.getResourceAsStream("rio-responses.txt");
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                responses.add(line);
+            }
+        }
+    }
+
+    @Test
+    public void assertEveryResponseReachesTheListenersRecognizingIt() throws InterruptedException {
+        for (String response : responses) {
+            router.responseReceived(response);
+        }
+
+        for (ProtocolListener listener : listeners) {
+            List<String> expected = new ArrayList<>();
+            List<String> recognized = new ArrayList<>();
+            for (String response : responses) {
+                if (listener.recognizes(response)) {
+                    expected.add(response);
+                }
+            }
+            for (String response : listener.received) {
+                if (listener.recognizes(response)) {
+                    recognized.add(response);
+                }
+            }
+            assertThat(listener.toString(), recognized, is(expected));
+        }
+    }
+
+    @Test
+    public void assertOnlyResponsesOfOtherThingsAreNotRecognized() {
+        int unrecognized = 0;
+        for (String response : responses) {
+            boolean recognized = false;
+            for (ProtocolListener listener : listeners) {
+                recognized |= listener.recognizes(response);
+            }
+            if (!recognized) {
+                unrecognized++;
+            }
+        }
+
+        // "OK", zone 10 of controller 1, controller 3 and source 5 are for no listener of the test
+        assertThat(unrecognized, is(4));
+    }
+
+    @Test
+    public void assertResponsesAreNotBroadcast() throws InterruptedException {
+        for (String response : responses) {
+            router.responseReceived(response);
+        }
+
+        int received = 0;
+        for (ProtocolListener listener : listeners) {
+            received += listener.received.size();
+        }
+        assertTrue("received " + received, received < responses.size() * listeners.size() / 3);
+    }
+
+    @Test
+    public void assertZoneResponseOnlyReachesItsZone() throws InterruptedException {
+        router.responseReceived("N C[1].Z[2].status=\"ON\"");
+
+        assertThat(receivers(), is(Arrays.asList("zone 1.2")));
+    }
+
+    @Test
+    public void assertSourceResponseReachesItsSourceAndThePresets() throws InterruptedException {
+        router.responseReceived("N S[1].B[1].P[1].name=\"WXYZ\"");
+
+        assertThat(receivers(), is(Arrays.asList("source 1", "source menu 1", "presets")));
+    }
+
+    @Test
+    public void assertResponseWithoutAKeyReachesAllListeners() throws InterruptedException {
+        router.responseReceived("E Invalid Command");
+
+        assertThat(receivers().size(), is(listeners.size()));
+    }
+
+    @Test
+    public void assertListenerWithoutAKeyReceivesAllResponses() throws InterruptedException {
+        ProtocolListener all = new ProtocolListener("all", SYSTEM_PATTERNS);
+        router.addListener(all);
+
+        for (String response : responses) {
+            router.responseReceived(response);
+        }
+
+        assertThat(all.received, is(responses));
+    }
+
+    @Test
+    public void assertExceptionReachesAllListeners() throws InterruptedException {
+        IOException e = new IOException("closed");
+
+        router.responseException(e);
+
+        for (ProtocolListener listener : listeners) {
+            assertThat(listener.toString(), listener.exceptions, is(Arrays.asList(e)));
+        }
+    }
+
+    @Test
+    public void assertRemovedListenerReceivesNoResponses() throws InterruptedException {
+        ProtocolListener zone = listeners.get(0);
+
+        assertTrue(router.removeListener(zone));
+        router.responseReceived("N C[1].Z[1].volume=\"20\"");
+
+        assertThat(zone.received.isEmpty(), is(true));
+        assertFalse(router.removeListener(zone));
+    }
+
+    @Test
+    public void assertRouterIsEmptyWhenAllListenersAreRemoved() {
+        assertFalse(router.isEmpty());
+
+        router.clearListeners();
+
+        assertTrue(router.isEmpty());
+    }
+
+    @Test
+    public void assertKeysAreParsed() {
+        assertThat(ResponseRouter.getKey("N C[1].Z[2].volume=\"10\""), is("C[1].Z[2]"));
+        assertThat(ResponseRouter.getKey("n c[1].z[2].mute=\"OFF\""), is("C[1].Z[2]"));
+        assertThat(ResponseRouter.getKey("S C[12].type=\"MCA-C5\""), is("C[12]"));
+        assertThat(ResponseRouter.getKey("N S[3].B[2].P[4].name=\"Classic\""), is("S[3]"));
+        assertThat(ResponseRouter.getKey("N System.status=\"ON\""), is("System"));
+        assertThat(ResponseRouter.getKey("S VERSION=\"02.00.07\""), is(nullValue()));
+        assertThat(ResponseRouter.getKey("E Invalid Command"), is(nullValue()));
+        assertThat(ResponseRouter.getKey("{\"action\":\"update\"}"), is(nullValue()));
+        assertThat(ResponseRouter.getKey("N C[].volume=\"10\""), is(nullValue()));
+        assertThat(ResponseRouter.getKey(""), is(nullValue()));
+    }
+
+    private void add(String key, ProtocolListener listener) {
+        router.addListener(key, listener);
+        listeners.add(listener);
+    }
+
+    private List<String> receivers() {
+        List<String> receivers = new ArrayList<>();
+        for (ProtocolListener listener : listeners) {
+            if (!listener.received.isEmpty()) {
+                receivers.add(listener.toString());
+            }
+        }
+        return receivers;
+    }
+}
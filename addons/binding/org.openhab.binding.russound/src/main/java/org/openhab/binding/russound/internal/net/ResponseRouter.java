@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.net;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Routes the responses of a {@link SocketSession} to its {@link SocketSessionListener}s. The key of a RIO response
+ * (the part before the property name - like "C[1].Z[2]" in 'N C[1].Z[2].volume="10"') is parsed once per response and
+ * the response is only dispatched to the listeners registered for that key (or for the type of the key - like "S"
+ * for "S[3]") and to the listeners that have been registered without a key. Responses without a key (errors, the
+ * version, media management menus, login prompts, etc) are dispatched to all listeners.
+ *
+ * @author agent - Initial contribution
+ */
+public class ResponseRouter {
+
+    /**
+     * The key type of a controller ("C[x]") and a zone ("C[x].Z[y]") response
+     */
+    public static final String KEY_CONTROLLER = "C";
+
+    /**
+     * The key type of a source response ("S[x]")
+     */
+    public static final String KEY_SOURCE = "S";
+
+    /**
+     * The key of a system response
+     */
+    public static final String KEY_SYSTEM = "System";
+
+    /**
+     * The listeners that will receive all responses
+     */
+    private final List<SocketSessionListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The listeners that will receive the responses for a specific key (or key type)
+     */
+    private final Map<String, List<SocketSessionListener>> keyedListeners = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the key of a controller
+     *
+     * @param controller the controller number
+     * @return a non-null, non-empty key
+     */
+    public static String getControllerKey(int controller) {
+        return KEY_CONTROLLER + "[" + controller + "]";
+    }
+
+    /**
+     * Returns the key of a zone
+     *
+     * @param controller the controller number
+     * @param zone the zone number
+     * @return a non-null, non-empty key
+     */
+    public static String getZoneKey(int controller, int zone) {
+        return getControllerKey(controller) + ".Z[" + zone + "]";
+    }
+
+    /**
+     * Returns the key of a source
+     *
+     * @param source the source number
+     * @return a non-null, non-empty key
+     */
+    public static String getSourceKey(int source) {
+        return KEY_SOURCE + "[" + source + "]";
+    }
+
+    /**
+     * Adds a {@link SocketSessionListener} that will receive all responses
+     *
+     * @param listener a non-null {@link SocketSessionListener}
+     */
+    public void addListener(SocketSessionListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Adds a {@link SocketSessionListener} that will only receive the responses for the given key (or key type) and
+     * the responses without a key
+     *
+     * @param key a non-null, non-empty key (like "C[1].Z[2]") or key type (like "S")
+     * @param listener a non-null {@link SocketSessionListener}
+     */
+    public void addListener(String key, SocketSessionListener listener) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("key cannot be null or empty");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        keyedListeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Removes a {@link SocketSessionListener} (regardless of the key it was registered with)
+     *
+     * @param listener a non-null {@link SocketSessionListener} to remove
+     * @return true if removed, false otherwise
+     */
+    public boolean removeListener(SocketSessionListener listener) {
+        boolean removed = listeners.remove(listener);
+        for (List<SocketSessionListener> list : keyedListeners.values()) {
+            removed |= list.remove(listener);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all listeners
+     */
+    public void clearListeners() {
+        listeners.clear();
+        keyedListeners.clear();
+    }
+
+    /**
+     * Determines if there are no listeners
+     *
+     * @return true if no listener has been registered, false otherwise
+     */
+    public boolean isEmpty() {
+        if (!listeners.isEmpty()) {
+            return false;
+        }
+        for (List<SocketSessionListener> list : keyedListeners.values()) {
+            if (!list.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Dispatches the response to the listeners registered without a key and to the listeners registered for the key
+     * of the response. A response without a key is dispatched to all listeners.
+     *
+     * @param response a non-null, possibly empty response
+     * @throws InterruptedException if a listener was interrupted
+     */
+    public void responseReceived(String response) throws InterruptedException {
+        for (SocketSessionListener listener : listeners) {
+            listener.responseReceived(response);
+        }
+
+        final String key = getKey(response);
+        if (key == null) {
+            for (List<SocketSessionListener> list : keyedListeners.values()) {
+                for (SocketSessionListener listener : list) {
+                    listener.responseReceived(response);
+                }
+            }
+            return;
+        }
+
+        dispatch(key, response);
+
+        final int idx = key.indexOf('[');
+        if (idx > 0) {
+            dispatch(key.substring(0, idx), response);
+        }
+    }
+
+    /**
+     * Dispatches the exception to all listeners
+     *
+     * @param e a non-null {@link IOException}
+     * @throws InterruptedException if a listener was interrupted
+     */
+    public void responseException(IOException e) throws InterruptedException {
+        for (SocketSessionListener listener : listeners) {
+            listener.responseException(e);
+        }
+        for (List<SocketSessionListener> list : keyedListeners.values()) {
+            for (SocketSessionListener listener : list) {
+                listener.responseException(e);
+            }
+        }
+    }
+
+    /**
+     * Dispatches the response to the listeners registered for the given key
+     *
+     * @param key a non-null key
+     * @param response a non-null response
+     * @throws InterruptedException if a listener was interrupted
+     */
+    private void dispatch(String key, String response) throws InterruptedException {
+        final List<SocketSessionListener> list = keyedListeners.get(key);
+        if (list != null) {
+            for (SocketSessionListener listener : list) {
+                listener.responseReceived(response);
+            }
+        }
+    }
+
+    /**
+     * Parses the key of a status ("S ") or notification ("N ") response. The key is either "C[x].Z[y]", "C[x]",
+     * "S[x]" or "System" (regardless of the case of the response).
+     *
+     * @param response a non-null, possibly empty response
+     * @return the key of the response or null if the response has no key
+     */
+    static String getKey(String response) {
+        if (response.length() < 4 || response.charAt(1) != ' ') {
+            return null;
+        }
+        final char type = Character.toUpperCase(response.charAt(0));
+        if (type != 'S' && type != 'N') {
+            return null;
+        }
+
+        final char first = Character.toUpperCase(response.charAt(2));
+        if (first == 'C') {
+            final int end = getIndexEnd(response, 3);
+            if (end < 0) {
+                return null;
+            }
+            if (response.length() > end + 3 && response.charAt(end) == '.'
+                    && Character.toUpperCase(response.charAt(end + 1)) == 'Z') {
+                final int zoneEnd = getIndexEnd(response, end + 2);
+                if (zoneEnd > 0) {
+                    return KEY_CONTROLLER + response.substring(3, end) + ".Z" + response.substring(end + 2, zoneEnd);
+                }
+            }
+            return KEY_CONTROLLER + response.substring(3, end);
+        } else if (first == 'S') {
+            final int end = getIndexEnd(response, 3);
+            if (end > 0) {
+                return KEY_SOURCE + response.substring(3, end);
+            }
+            if (response.regionMatches(true, 2, KEY_SYSTEM + ".", 0, KEY_SYSTEM.length() + 1)) {
+                return KEY_SYSTEM;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position after an index ("[123]") that starts at the given position
+     *
+     * @param response a non-null response
+     * @param start the position of the opening bracket
+     * @return the position after the closing bracket or -1 if there is no index at the given position
+     */
+    private static int getIndexEnd(String response, int start) {
+        if (start >= response.length() || response.charAt(start) != '[') {
+            return -1;
+        }
+        int pos = start + 1;
+        while (pos < response.length() && Character.isDigit(response.charAt(pos))) {
+            pos++;
+        }
+        if (pos == start + 1 || pos >= response.length() || response.charAt(pos) != ']') {
+            return -1;
+        }
+        return pos + 1;
+    }
+}
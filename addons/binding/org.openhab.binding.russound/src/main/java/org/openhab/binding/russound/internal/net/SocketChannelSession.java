@@ -13,10 +13,8 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousCloseException;
 import java.nio.channels.SocketChannel;
-import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -54,9 +52,9 @@ public class SocketChannelSession implements SocketSession {
     private final BlockingQueue<Object> responses = new ArrayBlockingQueue<>(50);
 
     /**
-     * The {@link SocketSessionListener} that the {@link #dispatcher} will call
+     * The {@link ResponseRouter} holding the {@link SocketSessionListener} that the {@link #dispatcher} will call
      */
-    private List<SocketSessionListener> sessionListeners = new CopyOnWriteArrayList<>();
+    private final ResponseRouter router = new ResponseRouter();
 
     /**
      * The thread dispatching responses - will be null if not connected
@@ -88,20 +86,22 @@ public class SocketChannelSession implements SocketSession {
 
     @Override
     public void addListener(SocketSessionListener listener) {
-        if (listener == null) {
-            throw new IllegalArgumentException("listener cannot be null");
-        }
-        sessionListeners.add(listener);
+        router.addListener(listener);
+    }
+
+    @Override
+    public void addListener(String key, SocketSessionListener listener) {
+        router.addListener(key, listener);
     }
 
     @Override
     public void clearListeners() {
-        sessionListeners.clear();
+        router.clearListeners();
     }
 
     @Override
     public boolean removeListener(SocketSessionListener listener) {
-        return sessionListeners.remove(listener);
+        return router.removeListener(listener);
     }
 
     @Override
@@ -262,10 +262,10 @@ public class SocketChannelSession implements SocketSession {
     }
 
     /**
-     * The dispatcher runnable is responsible for reading the response queue and dispatching it to the current callable.
-     * Since the dispatcher is ONLY started when a callable is set, responses may pile up in the queue and be dispatched
-     * when a callable is set. Unlike the socket reader, this can be assigned to another thread (no state outside of the
-     * class).
+     * The dispatcher runnable is responsible for reading the response queue and dispatching it (via the
+     * {@link ResponseRouter}) to the current callable. Since the dispatcher is ONLY started when a callable is set,
+     * responses may pile up in the queue and be dispatched when a callable is set. Unlike the socket reader, this can
+     * be assigned to another thread (no state outside of the class).
      *
      * @author Tim Roberts
      */
@@ -277,10 +277,8 @@ public class SocketChannelSession implements SocketSession {
         public void run() {
             while (!Thread.currentThread().isInterrupted()) {
                 try {
-                    final SocketSessionListener[] listeners = sessionListeners.toArray(new SocketSessionListener[0]);
-
                     // if no listeners, we don't want to start dispatching yet.
-                    if (listeners.length == 0) {
+                    if (router.isEmpty()) {
                         Thread.sleep(250);
                         continue;
                     }
@@ -290,14 +288,10 @@ public class SocketChannelSession implements SocketSession {
                     if (response != null) {
                         if (response instanceof String) {
                             logger.debug("Dispatching response: {}", response);
-                            for (SocketSessionListener listener : listeners) {
-                                listener.responseReceived((String) response);
-                            }
+                            router.responseReceived((String) response);
                         } else if (response instanceof IOException) {
                             logger.debug("Dispatching exception: {}", response);
-                            for (SocketSessionListener listener : listeners) {
-                                listener.responseException((IOException) response);
-                            }
+                            router.responseException((IOException) response);
                         } else {
                             logger.warn("Unknown response class: {}", response);
                         }
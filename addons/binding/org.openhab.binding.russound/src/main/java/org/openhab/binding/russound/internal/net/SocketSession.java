@@ -25,6 +25,16 @@ public interface SocketSession {
      */
     void addListener(SocketSessionListener listener);
 
+    /**
+     * Adds a {@link SocketSessionListener} that will only be called for the responses with the given key (like
+     * "C[1].Z[2]", "S[3]" or "System") or key type (like "S" for all sources) and for the responses without a key. See
+     * {@link ResponseRouter} for details.
+     *
+     * @param key a non-null, non-empty response key or key type
+     * @param listener a non-null {@link SocketSessionListener} to use
+     */
+    void addListener(String key, SocketSessionListener listener);
+
     /**
      * Clears all listeners
      */
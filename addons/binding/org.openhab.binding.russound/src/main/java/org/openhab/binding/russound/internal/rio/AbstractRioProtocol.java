@@ -43,6 +43,21 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
      * @param callback a non-null {@link RioHandlerCallback} to update state and status
      */
     protected AbstractRioProtocol(SocketSession session, RioHandlerCallback callback) {
+        this(session, null, callback);
+    }
+
+    /**
+     * Constructs the protocol handler from given parameters and will add this handler as a
+     * {@link SocketSessionListener} for the responses with the given key to the specified {@link SocketSession} via
+     * {@link SocketSession#addListener(String, SocketSessionListener)}. The handler will then only be called for the
+     * responses of that key (and the responses without a key) rather than for every response of the session.
+     *
+     * @param session a non-null {@link SocketSession} (may be connected or disconnected)
+     * @param responseKey the response key (like "C[1].Z[2]") or key type (like "S") of the responses this handler
+     *            processes or null to process all responses
+     * @param callback a non-null {@link RioHandlerCallback} to update state and status
+     */
+    protected AbstractRioProtocol(SocketSession session, String responseKey, RioHandlerCallback callback) {
         if (session == null) {
             throw new IllegalArgumentException("session cannot be null");
         }
@@ -52,7 +67,11 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
         }
 
         this.session = session;
-        this.session.addListener(this);
+        if (responseKey == null) {
+            this.session.addListener(this);
+        } else {
+            this.session.addListener(responseKey, this);
+        }
         this.callback = callback;
     }
 
@@ -17,6 +17,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.russound.internal.net.ResponseRouter;
 import org.openhab.binding.russound.internal.net.SocketSession;
 import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.models.GsonUtilities;
@@ -87,7 +88,7 @@ public class RioSystemFavoritesProtocol extends AbstractRioProtocol {
      * @param callback a non-null {@link RioHandlerCallback} to use
      */
     public RioSystemFavoritesProtocol(SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, ResponseRouter.KEY_SYSTEM, callback);
 
         gson = GsonUtilities.createGson();
 
@@ -12,6 +12,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.russound.internal.net.ResponseRouter;
 import org.openhab.binding.russound.internal.net.SocketSession;
 import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
@@ -52,7 +53,7 @@ class RioControllerProtocol extends AbstractRioProtocol {
      * @param callback a non-null {@link RioHandlerCallback} to callback
      */
     RioControllerProtocol(int controller, SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, ResponseRouter.getControllerKey(controller), callback);
         this.controller = controller;
     }
 
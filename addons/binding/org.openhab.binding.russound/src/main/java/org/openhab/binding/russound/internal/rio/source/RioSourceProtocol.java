@@ -22,6 +22,7 @@ import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.types.State;
+import org.openhab.binding.russound.internal.net.ResponseRouter;
 import org.openhab.binding.russound.internal.net.SocketSession;
 import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
@@ -152,7 +153,7 @@ class RioSourceProtocol extends AbstractRioProtocol {
      * @throws Exception exception when starting the {@link HttpClient}
      */
     RioSourceProtocol(int source, SocketSession session, RioHandlerCallback callback) throws Exception {
-        super(session, callback);
+        super(session, ResponseRouter.getSourceKey(source), callback);
         if (source < 1 || source > 12) {
             throw new IllegalArgumentException("Source must be between 1-12: " + source);
         }
@@ -17,6 +17,7 @@ import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.openhab.binding.russound.internal.net.ResponseRouter;
 import org.openhab.binding.russound.internal.net.SocketSession;
 import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
@@ -61,7 +62,7 @@ class RioSystemProtocol extends AbstractRioProtocol {
      * @param callback a non-null {@link RioHandlerCallback} to callback
      */
     RioSystemProtocol(SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, ResponseRouter.KEY_SYSTEM, callback);
     }
 
     /**
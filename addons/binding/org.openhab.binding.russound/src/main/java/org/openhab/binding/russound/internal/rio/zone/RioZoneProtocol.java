@@ -19,6 +19,7 @@ import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.PercentType;
 import org.eclipse.smarthome.core.library.types.StringType;
+import org.openhab.binding.russound.internal.net.ResponseRouter;
 import org.openhab.binding.russound.internal.net.SocketSession;
 import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
@@ -116,7 +117,7 @@ class RioZoneProtocol extends AbstractRioProtocol
      */
     RioZoneProtocol(int zone, int controller, RioSystemFavoritesProtocol favoritesProtocol,
             RioPresetsProtocol presetsProtocol, SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, ResponseRouter.getZoneKey(controller, zone), callback);
 
         if (controller < 1 || controller > 6) {
             throw new IllegalArgumentException("Controller must be between 1-6: " + controller);
@@ -45,6 +45,10 @@ public class SatelBindingConstants {
     // Virtual devices
     public static final Set<ThingTypeUID> VIRTUAL_THING_TYPES_UIDS = Collections.singleton(THING_TYPE_SYSTEM);
 
+    // List of all bridge properties
+    public static final String PROPERTY_REFRESH_COMMANDS_REQUESTED = "refreshCommandsRequested";
+    public static final String PROPERTY_REFRESH_COMMANDS_SENT = "refreshCommandsSent";
+
     // List of all Channel ids
     public static final String CHANNEL_SHUTTER_STATE = "shutter_state";
     public static final String CHANNEL_DATE_TIME = "date_time";
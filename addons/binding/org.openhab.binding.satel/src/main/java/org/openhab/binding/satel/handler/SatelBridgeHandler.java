@@ -8,30 +8,52 @@
  */
 package org.openhab.binding.satel.handler;
 
+import static org.openhab.binding.satel.SatelBindingConstants.*;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.ConfigStatusBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.satel.internal.command.IntegraStateCommand;
 import org.openhab.binding.satel.internal.command.NewStatesCommand;
 import org.openhab.binding.satel.internal.command.SatelCommand;
 import org.openhab.binding.satel.internal.config.SatelBridgeConfig;
 import org.openhab.binding.satel.internal.event.ConnectionStatusEvent;
+import org.openhab.binding.satel.internal.event.IntegraStateEvent;
+import org.openhab.binding.satel.internal.event.NewStatesEvent;
 import org.openhab.binding.satel.internal.event.SatelEvent;
 import org.openhab.binding.satel.internal.event.SatelEventListener;
 import org.openhab.binding.satel.internal.protocol.SatelModule;
 import org.openhab.binding.satel.internal.types.IntegraType;
+import org.openhab.binding.satel.internal.types.ObjectType;
+import org.openhab.binding.satel.internal.types.StateType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link SatelBridgeHandler} is base class for all bridge handlers.
  *
+ * Besides managing the communication module, the bridge plans refreshing states of its things: for every
+ * {@link NewStatesEvent} it collects the state commands required by all things and sends each of them only once. The
+ * resulting {@link IntegraStateEvent}s are then passed only to the things representing objects, which state has
+ * changed, and to the things that requested refreshing their states.
+ *
  * @author Krzysztof Goworek - Initial contribution
  */
 public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler implements SatelEventListener {
@@ -43,6 +65,14 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
     private ScheduledFuture<?> pollingJob;
     private String userCodeOverride;
 
+    private final Set<SatelThingHandler> thingHandlers = new CopyOnWriteArraySet<>();
+    private final Map<ObjectType, Map<Integer, Set<SatelThingHandler>>> objectHandlers = new ConcurrentHashMap<>();
+    private final Map<Byte, Set<StateType>> refreshedStates = new ConcurrentHashMap<>();
+    private final Map<Byte, Set<SatelThingHandler>> refreshRequesters = new ConcurrentHashMap<>();
+    private final Map<Byte, IntegraStateEvent> lastStateEvents = new ConcurrentHashMap<>();
+    private final AtomicLong refreshCommandsRequested = new AtomicLong();
+    private final AtomicLong refreshCommandsSent = new AtomicLong();
+
     public SatelBridgeHandler(Bridge bridge) {
         super(bridge);
     }
@@ -52,6 +82,8 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
         if (event instanceof ConnectionStatusEvent) {
             ConnectionStatusEvent statusEvent = (ConnectionStatusEvent) event;
             // update bridge status and get new states from the system
+            // states read before the connection status changed may be out of date
+            lastStateEvents.clear();
             if (statusEvent.isConnected()) {
                 updateStatus(ThingStatus.ONLINE);
                 satelModule.sendCommand(new NewStatesCommand(satelModule.getIntegraType().hasExtPayload()));
@@ -59,6 +91,39 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR,
                         statusEvent.getReason());
             }
+        } else if (event instanceof NewStatesEvent) {
+            refreshStates((NewStatesEvent) event);
+        } else if (event instanceof IntegraStateEvent) {
+            distributeStates((IntegraStateEvent) event);
+        }
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SatelThingHandler) {
+            SatelThingHandler thingHandler = (SatelThingHandler) childHandler;
+            thingHandlers.add(thingHandler);
+            ObjectType objectType = thingHandler.getObjectType();
+            if (objectType != null) {
+                Map<Integer, Set<SatelThingHandler>> handlersById = objectHandlers.computeIfAbsent(objectType,
+                        k -> new ConcurrentHashMap<>());
+                for (int objectId : thingHandler.getObjectIds()) {
+                    handlersById.computeIfAbsent(objectId, k -> new CopyOnWriteArraySet<>()).add(thingHandler);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        thingHandlers.remove(childHandler);
+        for (Map<Integer, Set<SatelThingHandler>> handlersById : objectHandlers.values()) {
+            for (Set<SatelThingHandler> handlers : handlersById.values()) {
+                handlers.remove(childHandler);
+            }
+        }
+        for (Set<SatelThingHandler> handlers : refreshRequesters.values()) {
+            handlers.remove(childHandler);
         }
     }
 
@@ -72,6 +137,8 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
         logger.debug("Initializing bridge handler");
 
         this.config = getConfigAs(SatelBridgeConfig.class);
+        this.lastStateEvents.clear();
+        this.refreshRequesters.clear();
         this.satelModule = satelModule;
         this.satelModule.addEventListener(this);
         this.satelModule.open();
@@ -173,6 +240,90 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
         return config.getEncoding();
     }
 
+    /**
+     * Collects state commands required by all things and sends each of them once.
+     *
+     * @param event event with list of states that have changed
+     */
+    private void refreshStates(NewStatesEvent event) {
+        SatelModule satelModule = this.satelModule;
+        if (satelModule == null) {
+            return;
+        }
+
+        Set<SatelCommand> commands = new LinkedHashSet<>();
+        int requested = 0;
+        for (SatelThingHandler thingHandler : thingHandlers) {
+            // states refreshed on thing's request must be passed to the thing even if they have not changed
+            boolean forceRefresh = thingHandler.isRefreshPending();
+            for (SatelCommand command : thingHandler.getRefreshCommands(event)) {
+                requested++;
+                commands.add(command);
+                if (command instanceof IntegraStateCommand) {
+                    StateType stateType = ((IntegraStateCommand) command).getStateType();
+                    Byte commandCode = stateType.getRefreshCommand();
+                    refreshedStates.computeIfAbsent(commandCode, k -> new CopyOnWriteArraySet<>()).add(stateType);
+                    if (forceRefresh) {
+                        refreshRequesters.computeIfAbsent(commandCode, k -> new CopyOnWriteArraySet<>())
+                                .add(thingHandler);
+                    }
+                }
+            }
+        }
+        if (requested == 0) {
+            return;
+        }
+
+        for (SatelCommand command : commands) {
+            satelModule.sendCommand(command);
+        }
+        logger.debug("Refreshing states: {} commands requested by things, {} commands sent", requested,
+                commands.size());
+        updateProperty(PROPERTY_REFRESH_COMMANDS_REQUESTED,
+                String.valueOf(refreshCommandsRequested.addAndGet(requested)));
+        updateProperty(PROPERTY_REFRESH_COMMANDS_SENT, String.valueOf(refreshCommandsSent.addAndGet(commands.size())));
+    }
+
+    /**
+     * Passes given state event to the things representing objects, which state has changed since the previous event
+     * for the same command, and to the things that requested refreshing the state.
+     *
+     * @param event event with current state of objects
+     */
+    private void distributeStates(IntegraStateEvent event) {
+        Byte commandCode = event.getCommand();
+        IntegraStateEvent lastEvent = lastStateEvents.put(commandCode, event);
+
+        Set<SatelThingHandler> recipients = new LinkedHashSet<>();
+        Set<SatelThingHandler> requesters = refreshRequesters.remove(commandCode);
+        if (requesters != null) {
+            recipients.addAll(requesters);
+        }
+        for (StateType stateType : refreshedStates.getOrDefault(commandCode, Collections.emptySet())) {
+            Map<Integer, Set<SatelThingHandler>> handlersById = objectHandlers.get(stateType.getObjectType());
+            if (handlersById == null) {
+                continue;
+            }
+            if (lastEvent == null) {
+                handlersById.values().forEach(recipients::addAll);
+                continue;
+            }
+            BitSet changedBits = (BitSet) event.getStateBits(stateType).clone();
+            changedBits.xor(lastEvent.getStateBits(stateType));
+            for (int bitNbr = changedBits.nextSetBit(0); bitNbr >= 0; bitNbr = changedBits.nextSetBit(bitNbr + 1)) {
+                Set<SatelThingHandler> handlers = handlersById.get(bitNbr + 1);
+                if (handlers != null) {
+                    recipients.addAll(handlers);
+                }
+            }
+        }
+
+        logger.trace("Distributing {} to {} things", event, recipients.size());
+        for (SatelThingHandler thingHandler : recipients) {
+            thingHandler.handleStateEvent(event);
+        }
+    }
+
     /**
      * Sends given command to communication module.
      *
@@ -23,7 +23,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.satel.internal.command.ControlObjectCommand;
 import org.openhab.binding.satel.internal.command.SatelCommand;
 import org.openhab.binding.satel.internal.event.IntegraStateEvent;
-import org.openhab.binding.satel.internal.event.SatelEvent;
+import org.openhab.binding.satel.internal.types.ObjectType;
 import org.openhab.binding.satel.internal.types.OutputControl;
 import org.openhab.binding.satel.internal.types.OutputState;
 import org.openhab.binding.satel.internal.types.StateType;
@@ -47,28 +47,23 @@ public class SatelShutterHandler extends SatelThingHandler {
     }
 
     @Override
-    public void incomingEvent(SatelEvent event) {
-        if (event instanceof IntegraStateEvent) {
-            logger.trace("Handling incoming event: {}", event);
+    protected void handleStateEvent(IntegraStateEvent stateEvent) {
+        logger.trace("Handling state event: {}", stateEvent);
 
-            IntegraStateEvent stateEvent = (IntegraStateEvent) event;
-            if (thingConfig.isCommandOnly() || !stateEvent.hasDataForState(OutputState.STATE)) {
-                return;
-            }
-            Channel channel = getThing().getChannel(CHANNEL_SHUTTER_STATE);
-            if (channel != null) {
-                int upBitNbr = thingConfig.getUpId() - 1;
-                int downBitNbr = thingConfig.getDownId() - 1;
-                if (stateEvent.isSet(OutputState.STATE, upBitNbr)) {
-                    if (!stateEvent.isSet(OutputState.STATE, downBitNbr)) {
-                        updateState(channel.getUID(), UpDownType.UP);
-                    }
-                } else if (stateEvent.isSet(OutputState.STATE, downBitNbr)) {
-                    updateState(channel.getUID(), UpDownType.DOWN);
+        if (thingConfig.isCommandOnly() || !stateEvent.hasDataForState(OutputState.STATE)) {
+            return;
+        }
+        Channel channel = getThing().getChannel(CHANNEL_SHUTTER_STATE);
+        if (channel != null) {
+            int upBitNbr = thingConfig.getUpId() - 1;
+            int downBitNbr = thingConfig.getDownId() - 1;
+            if (stateEvent.isSet(OutputState.STATE, upBitNbr)) {
+                if (!stateEvent.isSet(OutputState.STATE, downBitNbr)) {
+                    updateState(channel.getUID(), UpDownType.UP);
                 }
+            } else if (stateEvent.isSet(OutputState.STATE, downBitNbr)) {
+                updateState(channel.getUID(), UpDownType.DOWN);
             }
-        } else {
-            super.incomingEvent(event);
         }
     }
 
@@ -77,6 +72,16 @@ public class SatelShutterHandler extends SatelThingHandler {
         return CHANNEL_SHUTTER_STATE.equals(channelId) ? OutputState.STATE : null;
     }
 
+    @Override
+    protected ObjectType getObjectType() {
+        return ObjectType.OUTPUT;
+    }
+
+    @Override
+    protected int[] getObjectIds() {
+        return new int[] { thingConfig.getUpId(), thingConfig.getDownId() };
+    }
+
     @Override
     protected SatelCommand convertCommand(ChannelUID channel, Command command) {
         if (CHANNEL_SHUTTER_STATE.equals(channel.getId())) {
@@ -32,6 +32,7 @@ import org.openhab.binding.satel.internal.event.IntegraStateEvent;
 import org.openhab.binding.satel.internal.event.NewStatesEvent;
 import org.openhab.binding.satel.internal.event.SatelEvent;
 import org.openhab.binding.satel.internal.event.SatelEventListener;
+import org.openhab.binding.satel.internal.types.ObjectType;
 import org.openhab.binding.satel.internal.types.StateType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,25 +105,27 @@ public abstract class SatelThingHandler extends BaseThingHandler implements Sate
                 updateStatus(ThingStatus.ONLINE);
                 requiresRefresh.set(true);
             }
-        } else if (event instanceof NewStatesEvent) {
-            // refresh all states that have changed
-            for (SatelCommand command : getRefreshCommands((NewStatesEvent) event)) {
-                bridgeHandler.sendCommand(command, true);
-            }
-        } else if (event instanceof IntegraStateEvent) {
-            // update thing's state unless it should accept commands only
-            IntegraStateEvent stateEvent = (IntegraStateEvent) event;
-            if (thingConfig.isCommandOnly()) {
-                return;
-            }
-            for (Channel channel : getThing().getChannels()) {
-                ChannelUID channelUID = channel.getUID();
-                StateType stateType = getStateType(channelUID.getId());
-                if (stateType != null && stateEvent.hasDataForState(stateType)) {
-                    int bitNbr = thingConfig.getId() - 1;
-                    boolean invertState = thingConfig.isStateInverted();
-                    updateSwitch(channelUID, stateEvent.isSet(stateType, bitNbr) ^ invertState);
-                }
+        }
+    }
+
+    /**
+     * Updates thing's channels from the given state event. Called by the bridge handler only when the state of one of
+     * the objects returned by {@link #getObjectIds()} has changed or when this thing requested refreshing its states.
+     *
+     * @param stateEvent event with current state of objects
+     */
+    protected void handleStateEvent(IntegraStateEvent stateEvent) {
+        // update thing's state unless it should accept commands only
+        if (thingConfig.isCommandOnly()) {
+            return;
+        }
+        for (Channel channel : getThing().getChannels()) {
+            ChannelUID channelUID = channel.getUID();
+            StateType stateType = getStateType(channelUID.getId());
+            if (stateType != null && stateEvent.hasDataForState(stateType)) {
+                int bitNbr = thingConfig.getId() - 1;
+                boolean invertState = thingConfig.isStateInverted();
+                updateSwitch(channelUID, stateEvent.isSet(stateType, bitNbr) ^ invertState);
             }
         }
     }
@@ -131,6 +134,20 @@ public abstract class SatelThingHandler extends BaseThingHandler implements Sate
 
     protected abstract StateType getStateType(String channelId);
 
+    /**
+     * @return type of Integra objects this thing represents or <code>null</code> if it does not represent any object
+     */
+    protected ObjectType getObjectType() {
+        return null;
+    }
+
+    /**
+     * @return numbers of Integra objects this thing represents
+     */
+    protected int[] getObjectIds() {
+        return new int[] { thingConfig.getId() };
+    }
+
     protected Channel getChannel(StateType stateType) {
         String channelId = stateType.toString().toLowerCase();
         Channel channel = getThing().getChannel(channelId);
@@ -177,4 +194,8 @@ public abstract class SatelThingHandler extends BaseThingHandler implements Sate
         return requiresRefresh.getAndSet(false);
     }
 
+    protected boolean isRefreshPending() {
+        return requiresRefresh.get();
+    }
+
 }
@@ -20,6 +20,7 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.satel.internal.command.ControlObjectCommand;
 import org.openhab.binding.satel.internal.command.SatelCommand;
+import org.openhab.binding.satel.internal.types.ObjectType;
 import org.openhab.binding.satel.internal.types.StateType;
 import org.openhab.binding.satel.internal.types.ZoneControl;
 import org.openhab.binding.satel.internal.types.ZoneState;
@@ -43,6 +44,11 @@ public class SatelZoneHandler extends SatelThingHandler {
         return ZoneState.valueOf(channelId.toUpperCase());
     }
 
+    @Override
+    protected ObjectType getObjectType() {
+        return ObjectType.ZONE;
+    }
+
     @Override
     protected SatelCommand convertCommand(ChannelUID channel, Command command) {
         if (command instanceof OnOffType) {
@@ -45,6 +45,13 @@ public class IntegraStateCommand extends SatelCommandBase {
         this.stateType = stateType;
     }
 
+    /**
+     * @return type of state this command refreshes
+     */
+    public StateType getStateType() {
+        return stateType;
+    }
+
     /**
      * @return <code>true</code> if current command is extended (256
      *         zones/outputs)
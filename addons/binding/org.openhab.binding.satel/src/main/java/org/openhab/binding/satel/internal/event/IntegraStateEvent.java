@@ -40,6 +40,13 @@ public class IntegraStateEvent implements SatelEvent {
         this.extendedData = extendedData;
     }
 
+    /**
+     * @return the command byte
+     */
+    public byte getCommand() {
+        return command;
+    }
+
     /**
      * Checks whether data in the event is valid for given type of state.
      *
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.smaenergymeter.internal.packet;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SMATelegram} decoding of multicast datagrams.
+ *
+ * The datagrams are hex dumps in the resources of this package: a 600 byte Energy Meter telegram (protocol 0x6069,
+ * firmware 1.2.4.R) and an inverter Speedwire telegram (protocol 0x6065) sent to the same multicast group.
+ *
+ * @author agent - Initial contribution
+ */
+public class SMATelegramTest {
+
+    private static final double DELTA = 0.000001;
+
+    @Test
+    public void assertEnergyMeterTelegramIsDecoded() throws IOException {
+        SMATelegram telegram = SMATelegram.parse(ByteBuffer.wrap(read("energy-meter-telegram.hex")));
+
+        assertThat(telegram.getSerialNumber(), is("1900123456"));
+        assertTrue(telegram.hasActualValue(SMATelegram.POWER_IN));
+        assertTrue(telegram.hasActualValue(SMATelegram.POWER_OUT));
+        assertTrue(telegram.hasCounterValue(SMATelegram.POWER_IN));
+        assertTrue(telegram.hasCounterValue(SMATelegram.POWER_OUT));
+        assertEquals(1234.5, telegram.getPower(SMATelegram.POWER_IN), DELTA);
+        assertEquals(0, telegram.getPower(SMATelegram.POWER_OUT), DELTA);
+        assertEquals(5123456789012L / 3600000.0, telegram.getEnergy(SMATelegram.POWER_IN), DELTA);
+        assertEquals(1876543210987L / 3600000.0, telegram.getEnergy(SMATelegram.POWER_OUT), DELTA);
+    }
+
+    @Test
+    public void assertPhaseMeasurementsAreDecoded() throws IOException {
+        SMATelegram telegram = SMATelegram.parse(ByteBuffer.wrap(read("energy-meter-telegram.hex")));
+
+        // L1 active power in, L2 current and L3 voltage, which are actual values only
+        assertThat(telegram.getActualValue(21), is(4115L));
+        assertThat(telegram.getCounterValue(21), is(1707818929670L));
+        assertThat(telegram.getActualValue(51), is(18210L));
+        assertFalse(telegram.hasCounterValue(51));
+        assertThat(telegram.getActualValue(72), is(230410L));
+    }
+
+    @Test
+    public void assertSoftwareVersionIsNotTakenForAMeasurement() throws IOException {
+        SMATelegram telegram = SMATelegram.parse(ByteBuffer.wrap(read("energy-meter-telegram.hex")));
+
+        assertFalse(telegram.hasActualValue(0));
+        assertFalse(telegram.hasCounterValue(0));
+    }
+
+    @Test
+    public void assertTelegramIsDecodedFromTheBufferPosition() throws IOException {
+        byte[] telegram = read("energy-meter-telegram.hex");
+        byte[] bytes = new byte[telegram.length + 8];
+        System.arraycopy(telegram, 0, bytes, 5, telegram.length);
+
+        SMATelegram decoded = SMATelegram.parse(ByteBuffer.wrap(bytes, 5, telegram.length));
+
+        assertThat(decoded.getSerialNumber(), is("1900123456"));
+        assertEquals(1234.5, decoded.getPower(SMATelegram.POWER_IN), DELTA);
+    }
+
+    @Test
+    public void assertTruncatedTelegramKeepsTheCompleteMeasurements() throws IOException {
+        byte[] telegram = Arrays.copyOf(read("energy-meter-telegram.hex"), 0x1C + 8 + 12 + 4);
+
+        SMATelegram decoded = SMATelegram.parse(ByteBuffer.wrap(telegram));
+
+        assertTrue(decoded.hasActualValue(SMATelegram.POWER_IN));
+        assertTrue(decoded.hasCounterValue(SMATelegram.POWER_IN));
+        assertFalse(decoded.hasActualValue(SMATelegram.POWER_OUT));
+    }
+
+    @Test(expected = IOException.class)
+    public void assertInverterTelegramIsRejected() throws IOException {
+        SMATelegram.parse(ByteBuffer.wrap(read("inverter-telegram.hex")));
+    }
+
+    @Test(expected = IOException.class)
+    public void assertDatagramWithoutSmaHeaderIsRejected() throws IOException {
+        byte[] telegram = read("energy-meter-telegram.hex");
+        telegram[0] = 'X';
+
+        SMATelegram.parse(ByteBuffer.wrap(telegram));
+    }
+
+    @Test(expected = IOException.class)
+    public void assertTooShortDatagramIsRejected() throws IOException {
+        SMATelegram.parse(ByteBuffer.wrap(Arrays.copyOf(read("energy-meter-telegram.hex"), 0x1B)));
+    }
+
+    private static byte[] read(String fileName) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream inputStream = SMATelegramTest.class.getResourceAsStream(fileName);
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(inputStream, StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (String hex : line.trim().split("\\s+")) {
+                    if (!hex.isEmpty()) {
+                        bytes.write(Integer.parseInt(hex, 16));
+                    }
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
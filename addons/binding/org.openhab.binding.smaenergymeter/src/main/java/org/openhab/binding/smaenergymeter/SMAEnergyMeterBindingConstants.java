@@ -32,7 +32,11 @@ public class SMAEnergyMeterBindingConstants {
 
     // List of all Channel IDs
     public static final String CHANNEL_POWER_IN = "powerIn";
+    public static final String CHANNEL_POWER_IN_MIN = "powerInMin";
+    public static final String CHANNEL_POWER_IN_MAX = "powerInMax";
     public static final String CHANNEL_POWER_OUT = "powerOut";
+    public static final String CHANNEL_POWER_OUT_MIN = "powerOutMin";
+    public static final String CHANNEL_POWER_OUT_MAX = "powerOutMax";
     public static final String CHANNEL_ENERGY_IN = "energyIn";
     public static final String CHANNEL_ENERGY_OUT = "energyOut";
 
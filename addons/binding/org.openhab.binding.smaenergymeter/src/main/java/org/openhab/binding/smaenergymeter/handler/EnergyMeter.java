@@ -8,99 +8,107 @@
  */
 package org.openhab.binding.smaenergymeter.handler;
 
-import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.InetAddress;
-import java.net.MulticastSocket;
-import java.nio.ByteBuffer;
-import java.util.Arrays;
 import java.util.Date;
 
-import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.openhab.binding.smaenergymeter.internal.packet.SMATelegram;
+import org.openhab.binding.smaenergymeter.internal.packet.TelegramListener;
 
 /**
- * The {@link EnergyMeter} class is responsible for communication with the SMA device
- * and extracting the data fields out of the received telegrams.
+ * The {@link EnergyMeter} class collects the telegrams of one SMA device and aggregates the data fields
+ * received between two calls of {@link #takeInterval()}.
  *
  * @author Osman Basha - Initial contribution
  */
-public class EnergyMeter {
+public class EnergyMeter implements TelegramListener {
 
-    private String multicastGroup;
-    private int port;
+    public static final String DEFAULT_MCAST_GRP = "239.12.255.254";
+    public static final int DEFAULT_MCAST_PORT = 9522;
 
     private String serialNumber;
     private Date lastUpdate;
 
-    private final FieldDTO powerIn;
-    private final FieldDTO energyIn;
-    private final FieldDTO powerOut;
-    private final FieldDTO energyOut;
+    private Interval interval = new Interval();
 
-    public static final String DEFAULT_MCAST_GRP = "239.12.255.254";
-    public static final int DEFAULT_MCAST_PORT = 9522;
-
-    public EnergyMeter(String multicastGroup, int port) {
-        this.multicastGroup = multicastGroup;
-        this.port = port;
-
-        powerIn = new FieldDTO(0x20, 4, 10);
-        energyIn = new FieldDTO(0x28, 8, 3600000);
-        powerOut = new FieldDTO(0x34, 4, 10);
-        energyOut = new FieldDTO(0x3C, 8, 3600000);
+    /**
+     * @param serialNumber the serial number of the device, or null to adopt the first device heard
+     */
+    public EnergyMeter(String serialNumber) {
+        this.serialNumber = serialNumber;
     }
 
-    public void update() throws IOException {
-        byte[] bytes = new byte[600];
-        try (MulticastSocket socket = new MulticastSocket(port)) {
-            socket.setSoTimeout(5000);
-            InetAddress address = InetAddress.getByName(multicastGroup);
-            socket.joinGroup(address);
-
-            DatagramPacket msgPacket = new DatagramPacket(bytes, bytes.length);
-            socket.receive(msgPacket);
-
-            String sma = new String(Arrays.copyOfRange(bytes, 0x00, 0x03));
-            if (!sma.equals("SMA")) {
-                throw new IOException("Not a SMA telegram." + sma);
-            }
+    @Override
+    public synchronized void telegramReceived(SMATelegram telegram) {
+        if (serialNumber == null) {
+            serialNumber = telegram.getSerialNumber();
+        } else if (!serialNumber.equals(telegram.getSerialNumber())) {
+            return;
+        }
 
-            ByteBuffer buffer = ByteBuffer.wrap(Arrays.copyOfRange(bytes, 0x14, 0x18));
-            serialNumber = String.valueOf(buffer.getInt());
+        if (telegram.hasActualValue(SMATelegram.POWER_IN)) {
+            interval.powerIn.add(telegram.getPower(SMATelegram.POWER_IN));
+        }
+        if (telegram.hasActualValue(SMATelegram.POWER_OUT)) {
+            interval.powerOut.add(telegram.getPower(SMATelegram.POWER_OUT));
+        }
+        if (telegram.hasCounterValue(SMATelegram.POWER_IN)) {
+            interval.energyIn.add(telegram.getEnergy(SMATelegram.POWER_IN));
+        }
+        if (telegram.hasCounterValue(SMATelegram.POWER_OUT)) {
+            interval.energyOut.add(telegram.getEnergy(SMATelegram.POWER_OUT));
+        }
+        interval.telegrams++;
 
-            powerIn.updateValue(bytes);
-            energyIn.updateValue(bytes);
-            powerOut.updateValue(bytes);
-            energyOut.updateValue(bytes);
+        lastUpdate = new Date(System.currentTimeMillis());
+    }
 
-            lastUpdate = new Date(System.currentTimeMillis());
-        } catch (Exception e) {
-            throw new IOException(e);
-        }
+    /**
+     * Returns the data aggregated since the previous call and starts a new interval.
+     */
+    public synchronized Interval takeInterval() {
+        Interval result = interval;
+        interval = new Interval();
+        return result;
     }
 
-    public String getSerialNumber() {
+    public synchronized String getSerialNumber() {
         return serialNumber;
     }
 
-    public Date getLastUpdate() {
+    public synchronized Date getLastUpdate() {
         return lastUpdate;
     }
 
-    public DecimalType getPowerIn() {
-        return new DecimalType(powerIn.getValue());
-    }
+    /**
+     * The data fields received during one polling interval.
+     */
+    public static class Interval {
 
-    public DecimalType getPowerOut() {
-        return new DecimalType(powerOut.getValue());
-    }
+        private int telegrams;
 
-    public DecimalType getEnergyIn() {
-        return new DecimalType(energyIn.getValue());
-    }
+        private final MeasurementStatistics powerIn = new MeasurementStatistics();
+        private final MeasurementStatistics powerOut = new MeasurementStatistics();
+        private final MeasurementStatistics energyIn = new MeasurementStatistics();
+        private final MeasurementStatistics energyOut = new MeasurementStatistics();
 
-    public DecimalType getEnergyOut() {
-        return new DecimalType(energyOut.getValue());
+        public int getTelegrams() {
+            return telegrams;
+        }
+
+        public MeasurementStatistics getPowerIn() {
+            return powerIn;
+        }
+
+        public MeasurementStatistics getPowerOut() {
+            return powerOut;
+        }
+
+        public MeasurementStatistics getEnergyIn() {
+            return energyIn;
+        }
+
+        public MeasurementStatistics getEnergyOut() {
+            return energyOut;
+        }
     }
 
 }
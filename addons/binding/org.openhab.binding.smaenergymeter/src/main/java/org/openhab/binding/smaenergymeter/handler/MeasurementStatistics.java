@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.smaenergymeter.handler;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+
+/**
+ * The {@link MeasurementStatistics} class aggregates the values of a single field (i.e. the power purchased)
+ * received during one polling interval.
+ *
+ * @author agent - Initial contribution
+ */
+public class MeasurementStatistics {
+
+    private int count;
+    private double sum;
+    private double min = Double.MAX_VALUE;
+    private double max = -Double.MAX_VALUE;
+    private double last;
+
+    public void add(double value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        last = value;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public DecimalType getAverage() {
+        return new DecimalType(count == 0 ? 0 : sum / count);
+    }
+
+    public DecimalType getMin() {
+        return new DecimalType(count == 0 ? 0 : min);
+    }
+
+    public DecimalType getMax() {
+        return new DecimalType(count == 0 ? 0 : max);
+    }
+
+    public DecimalType getLast() {
+        return new DecimalType(last);
+    }
+
+}
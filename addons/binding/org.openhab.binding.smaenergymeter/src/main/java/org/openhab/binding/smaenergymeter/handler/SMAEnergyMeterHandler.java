@@ -22,6 +22,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.smaenergymeter.internal.configuration.EnergyMeterConfig;
+import org.openhab.binding.smaenergymeter.internal.packet.MulticastReceiver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +35,9 @@ import org.slf4j.LoggerFactory;
 public class SMAEnergyMeterHandler extends BaseThingHandler {
 
     private final Logger logger = LoggerFactory.getLogger(SMAEnergyMeterHandler.class);
+    private MulticastReceiver receiver;
     private EnergyMeter energyMeter;
+    private EnergyMeter.Interval lastInterval;
     private ScheduledFuture<?> pollingJob;
 
     public SMAEnergyMeterHandler(Thing thing) {
@@ -45,7 +48,10 @@ public class SMAEnergyMeterHandler extends BaseThingHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command == RefreshType.REFRESH) {
             logger.debug("Refreshing {}", channelUID);
-            updateData();
+            EnergyMeter.Interval interval = lastInterval;
+            if (interval != null) {
+                updateChannels(interval);
+            }
         } else {
             logger.warn("This binding is a read-only binding and cannot handle commands");
         }
@@ -58,23 +64,30 @@ public class SMAEnergyMeterHandler extends BaseThingHandler {
         EnergyMeterConfig config = getConfigAs(EnergyMeterConfig.class);
 
         int port = (config.getPort() == null) ? EnergyMeter.DEFAULT_MCAST_PORT : config.getPort();
-        energyMeter = new EnergyMeter(config.getMcastGroup(), port);
         try {
-            energyMeter.update();
-
-            updateProperty(Thing.PROPERTY_VENDOR, "SMA");
-            updateProperty(Thing.PROPERTY_SERIAL_NUMBER, energyMeter.getSerialNumber());
-            logger.debug("Found a SMA Energy Meter with S/N '{}'", energyMeter.getSerialNumber());
+            receiver = MulticastReceiver.acquire(config.getMcastGroup(), port);
         } catch (IOException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, e.getMessage());
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             return;
         }
 
+        // Things created by discovery know their serial number, others adopt the first meter heard that no other
+        // thing uses
+        String serialNumber = getThing().getProperties().get(Thing.PROPERTY_SERIAL_NUMBER);
+        energyMeter = new EnergyMeter(serialNumber);
+        if (serialNumber != null) {
+            receiver.addListener(serialNumber, energyMeter);
+        } else {
+            receiver.addAdoptingListener(energyMeter);
+        }
+        updateProperty(Thing.PROPERTY_VENDOR, "SMA");
+
         int pollingPeriod = (config.getPollingPeriod() == null) ? 30 : config.getPollingPeriod();
-        pollingJob = scheduler.scheduleWithFixedDelay(this::updateData, 0, pollingPeriod, TimeUnit.SECONDS);
+        pollingJob = scheduler.scheduleWithFixedDelay(this::updateData, pollingPeriod, pollingPeriod,
+                TimeUnit.SECONDS);
         logger.debug("Polling job scheduled to run every {} sec. for '{}'", pollingPeriod, getThing().getUID());
 
-        updateStatus(ThingStatus.ONLINE);
+        updateStatus(ThingStatus.UNKNOWN);
     }
 
     @Override
@@ -85,26 +98,48 @@ public class SMAEnergyMeterHandler extends BaseThingHandler {
             pollingJob.cancel(true);
             pollingJob = null;
         }
+        if (receiver != null) {
+            receiver.removeListener(energyMeter);
+            MulticastReceiver.release(receiver);
+            receiver = null;
+        }
         energyMeter = null;
+        lastInterval = null;
     }
 
     private synchronized void updateData() {
         logger.debug("Update SMAEnergyMeter data '{}'", getThing().getUID());
 
-        try {
-            energyMeter.update();
+        EnergyMeter.Interval interval = energyMeter.takeInterval();
+        if (interval.getTelegrams() == 0) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "No telegram received during the last polling period");
+            return;
+        }
 
-            updateState(CHANNEL_POWER_IN, energyMeter.getPowerIn());
-            updateState(CHANNEL_POWER_OUT, energyMeter.getPowerOut());
-            updateState(CHANNEL_ENERGY_IN, energyMeter.getEnergyIn());
-            updateState(CHANNEL_ENERGY_OUT, energyMeter.getEnergyOut());
+        String serialNumber = energyMeter.getSerialNumber();
+        if (!serialNumber.equals(getThing().getProperties().get(Thing.PROPERTY_SERIAL_NUMBER))) {
+            logger.debug("Found a SMA Energy Meter with S/N '{}'", serialNumber);
+            updateProperty(Thing.PROPERTY_SERIAL_NUMBER, serialNumber);
+        }
 
-            if (getThing().getStatus().equals(ThingStatus.OFFLINE)) {
-                updateStatus(ThingStatus.ONLINE);
-            }
-        } catch (IOException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, e.getMessage());
+        lastInterval = interval;
+        updateChannels(interval);
+
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            updateStatus(ThingStatus.ONLINE);
         }
     }
 
+    private void updateChannels(EnergyMeter.Interval interval) {
+        updateState(CHANNEL_POWER_IN, interval.getPowerIn().getAverage());
+        updateState(CHANNEL_POWER_IN_MIN, interval.getPowerIn().getMin());
+        updateState(CHANNEL_POWER_IN_MAX, interval.getPowerIn().getMax());
+        updateState(CHANNEL_POWER_OUT, interval.getPowerOut().getAverage());
+        updateState(CHANNEL_POWER_OUT_MIN, interval.getPowerOut().getMin());
+        updateState(CHANNEL_POWER_OUT_MAX, interval.getPowerOut().getMax());
+        updateState(CHANNEL_ENERGY_IN, interval.getEnergyIn().getLast());
+        updateState(CHANNEL_ENERGY_OUT, interval.getEnergyOut().getLast());
+    }
+
 }
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.AbstractDiscoveryService;
@@ -24,6 +25,8 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.smaenergymeter.handler.EnergyMeter;
+import org.openhab.binding.smaenergymeter.internal.packet.MulticastReceiver;
+import org.openhab.binding.smaenergymeter.internal.packet.TelegramListener;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +40,8 @@ import org.slf4j.LoggerFactory;
 @Component(service = DiscoveryService.class, immediate = true, configurationPid = "discovery.smaenergymeter")
 public class SMAEnergyMeterDiscoveryService extends AbstractDiscoveryService {
 
+    private static final long DISCOVERY_LISTEN_TIME = 5000;
+
     private final Logger logger = LoggerFactory.getLogger(SMAEnergyMeterDiscoveryService.class);
 
     public SMAEnergyMeterDiscoveryService() {
@@ -61,22 +66,46 @@ public class SMAEnergyMeterDiscoveryService extends AbstractDiscoveryService {
     }
 
     private synchronized void discover() {
-        logger.debug("Try to discover a SMA Energy Meter device");
+        logger.debug("Try to discover SMA Energy Meter devices");
 
-        EnergyMeter energyMeter = new EnergyMeter(EnergyMeter.DEFAULT_MCAST_GRP, EnergyMeter.DEFAULT_MCAST_PORT);
+        MulticastReceiver receiver;
         try {
-            energyMeter.update();
+            receiver = MulticastReceiver.acquire(EnergyMeter.DEFAULT_MCAST_GRP, EnergyMeter.DEFAULT_MCAST_PORT);
         } catch (IOException e) {
             logger.debug("No SMA Energy Meter found.");
             logger.debug("Diagnostic: ", e);
             return;
         }
 
-        logger.debug("Adding a new SMA Engergy Meter with S/N '{}' to inbox", energyMeter.getSerialNumber());
+        Set<String> serialNumbers = ConcurrentHashMap.newKeySet();
+        TelegramListener listener = telegram -> {
+            if (serialNumbers.add(telegram.getSerialNumber())) {
+                meterDiscovered(telegram.getSerialNumber());
+            }
+        };
+
+        receiver.addListener(listener);
+        try {
+            // Energy meters send a telegram every second, so every meter on the group is heard in this time
+            Thread.sleep(DISCOVERY_LISTEN_TIME);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            receiver.removeListener(listener);
+            MulticastReceiver.release(receiver);
+        }
+
+        if (serialNumbers.isEmpty()) {
+            logger.debug("No SMA Energy Meter found.");
+        }
+    }
+
+    private void meterDiscovered(String serialNumber) {
+        logger.debug("Adding a new SMA Engergy Meter with S/N '{}' to inbox", serialNumber);
         Map<String, Object> properties = new HashMap<>();
         properties.put(Thing.PROPERTY_VENDOR, "SMA");
-        properties.put(Thing.PROPERTY_SERIAL_NUMBER, energyMeter.getSerialNumber());
-        ThingUID uid = new ThingUID(THING_TYPE_ENERGY_METER, energyMeter.getSerialNumber());
+        properties.put(Thing.PROPERTY_SERIAL_NUMBER, serialNumber);
+        ThingUID uid = new ThingUID(THING_TYPE_ENERGY_METER, serialNumber);
         DiscoveryResult result = DiscoveryResultBuilder.create(uid).withProperties(properties)
                 .withLabel("SMA Energy Meter").build();
         thingDiscovered(result);
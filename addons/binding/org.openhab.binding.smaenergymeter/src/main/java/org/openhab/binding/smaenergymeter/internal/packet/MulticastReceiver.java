@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.smaenergymeter.internal.packet;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link MulticastReceiver} keeps one multicast socket per group and port open for as long as it is in use,
+ * decodes every received telegram once and dispatches it by serial number of the sending meter.
+ *
+ * Telegrams of meters that have no listener registered for their serial number are passed to the unbound listeners,
+ * which is used by discovery. Things that do not know their serial number yet register an adopting listener, which
+ * is bound to the first such meter heard, so a meter is adopted by one thing only.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MulticastReceiver implements Runnable {
+
+    private static final int SOCKET_TIMEOUT = 5000;
+    private static final int BUFFER_SIZE = 1024;
+
+    private static final Map<String, MulticastReceiver> RECEIVERS = new HashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(MulticastReceiver.class);
+
+    private final String key;
+    private final InetAddress group;
+    private final MulticastSocket socket;
+    private final Thread thread;
+
+    private final Map<String, List<TelegramListener>> listeners = new ConcurrentHashMap<>();
+    private final Set<TelegramListener> unboundListeners = new CopyOnWriteArraySet<>();
+    private final List<TelegramListener> adoptingListeners = new ArrayList<>();
+
+    private int references;
+    private volatile boolean running = true;
+
+    private MulticastReceiver(String key, String multicastGroup, int port) throws IOException {
+        this.key = key;
+        this.group = InetAddress.getByName(multicastGroup);
+        this.socket = new MulticastSocket(port);
+        try {
+            socket.setSoTimeout(SOCKET_TIMEOUT);
+            socket.joinGroup(group);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        this.thread = new Thread(this, "OH-binding-smaenergymeter-" + key);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Get the shared receiver for the given multicast group and port, opening it if it is not in use yet.
+     * Every call must be paired with a call to {@link #release(MulticastReceiver)}.
+     *
+     * @throws IOException if the multicast socket cannot be opened
+     */
+    public static synchronized MulticastReceiver acquire(String multicastGroup, int port) throws IOException {
+        String key = multicastGroup + ":" + port;
+        MulticastReceiver receiver = RECEIVERS.get(key);
+        if (receiver == null) {
+            receiver = new MulticastReceiver(key, multicastGroup, port);
+            receiver.thread.start();
+            RECEIVERS.put(key, receiver);
+        }
+        receiver.references++;
+        return receiver;
+    }
+
+    /**
+     * Release a receiver obtained by {@link #acquire(String, int)}, closing it when it is no longer in use.
+     */
+    public static synchronized void release(MulticastReceiver receiver) {
+        if (--receiver.references <= 0) {
+            RECEIVERS.remove(receiver.key);
+            receiver.close();
+        }
+    }
+
+    /**
+     * Register a listener for the telegrams of the meter with the given serial number.
+     */
+    public synchronized void addListener(String serialNumber, TelegramListener listener) {
+        List<TelegramListener> serialListeners = listeners.computeIfAbsent(serialNumber,
+                serial -> new CopyOnWriteArrayList<>());
+        if (!serialListeners.contains(listener)) {
+            if (!serialListeners.isEmpty()) {
+                logger.warn("Meter with S/N '{}' is used by more than one thing on {}", serialNumber, key);
+            }
+            serialListeners.add(listener);
+        }
+    }
+
+    /**
+     * Register a listener for the telegrams of all meters that have no listener of their own.
+     */
+    public void addListener(TelegramListener listener) {
+        unboundListeners.add(listener);
+    }
+
+    /**
+     * Register a listener that adopts the first meter heard that has no listener of its own. From then on, the
+     * listener receives the telegrams of that meter only, as if registered for its serial number.
+     */
+    public synchronized void addAdoptingListener(TelegramListener listener) {
+        if (!adoptingListeners.contains(listener)) {
+            adoptingListeners.add(listener);
+        }
+    }
+
+    public synchronized void removeListener(TelegramListener listener) {
+        listeners.values().forEach(serialListeners -> serialListeners.remove(listener));
+        listeners.values().removeIf(List::isEmpty);
+        unboundListeners.remove(listener);
+        adoptingListeners.remove(listener);
+    }
+
+    @Override
+    public void run() {
+        byte[] bytes = new byte[BUFFER_SIZE];
+        DatagramPacket packet = new DatagramPacket(bytes, bytes.length);
+
+        while (running) {
+            try {
+                packet.setLength(bytes.length);
+                socket.receive(packet);
+                dispatch(SMATelegram.parse(ByteBuffer.wrap(bytes, 0, packet.getLength())));
+            } catch (SocketTimeoutException e) {
+                // nothing received, check if we are still running
+            } catch (IOException e) {
+                if (running) {
+                    logger.debug("Failed to receive telegram on {}: {}", key, e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to process telegram on {}", key, e);
+            }
+        }
+    }
+
+    private void dispatch(SMATelegram telegram) {
+        List<TelegramListener> serialListeners = listeners.get(telegram.getSerialNumber());
+        if (serialListeners == null || serialListeners.isEmpty()) {
+            for (TelegramListener unboundListener : unboundListeners) {
+                unboundListener.telegramReceived(telegram);
+            }
+            serialListeners = adopt(telegram.getSerialNumber());
+        }
+        if (serialListeners != null) {
+            for (TelegramListener listener : serialListeners) {
+                listener.telegramReceived(telegram);
+            }
+        }
+    }
+
+    /**
+     * Bind the oldest adopting listener to a meter that has no listener of its own.
+     *
+     * @return the listeners of the meter, or null if there is no listener to adopt it
+     */
+    private synchronized @Nullable List<TelegramListener> adopt(String serialNumber) {
+        List<TelegramListener> serialListeners = listeners.get(serialNumber);
+        if (serialListeners != null && !serialListeners.isEmpty()) {
+            // registered in the meantime
+            return serialListeners;
+        }
+        if (adoptingListeners.isEmpty()) {
+            return null;
+        }
+
+        TelegramListener listener = adoptingListeners.remove(0);
+        logger.debug("Meter with S/N '{}' on {} is adopted by {}", serialNumber, key, listener);
+        addListener(serialNumber, listener);
+        return listeners.get(serialNumber);
+    }
+
+    private void close() {
+        running = false;
+        try {
+            socket.leaveGroup(group);
+        } catch (IOException e) {
+            logger.debug("Failed to leave multicast group {}: {}", key, e.getMessage());
+        }
+        socket.close();
+    }
+
+}
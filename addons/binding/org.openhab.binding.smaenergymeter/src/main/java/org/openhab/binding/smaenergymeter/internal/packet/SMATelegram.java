@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.smaenergymeter.internal.packet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SMATelegram} class decodes a single SMA Energy Meter multicast telegram. All OBIS measurements
+ * contained in the telegram are read in one pass and kept by measurement index.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SMATelegram {
+
+    public static final int POWER_IN = 1;
+    public static final int POWER_OUT = 2;
+
+    private static final int HEADER_SMA = 0x534D4100; // "SMA\0"
+    private static final int PROTOCOL_ENERGY_METER = 0x6069;
+    private static final int OFFSET_DATA_LENGTH = 0x0C;
+    private static final int OFFSET_DATA = 0x10;
+    private static final int OFFSET_PROTOCOL_ID = 0x10;
+    private static final int OFFSET_SERIAL_NUMBER = 0x14;
+    private static final int OFFSET_MEASUREMENTS = 0x1C;
+
+    private static final int TYPE_ACTUAL = 4;
+    private static final int TYPE_COUNTER = 8;
+    private static final int CHANNEL_VERSION = 0x90;
+
+    private static final int POWER_DIVISOR = 10;
+    private static final int ENERGY_DIVISOR = 3600000;
+
+    private final String serialNumber;
+    private final long[] actualValues = new long[256];
+    private final long[] counterValues = new long[256];
+    private final boolean[] hasActual = new boolean[256];
+    private final boolean[] hasCounter = new boolean[256];
+
+    private SMATelegram(String serialNumber) {
+        this.serialNumber = serialNumber;
+    }
+
+    /**
+     * Decodes a telegram from the given buffer, reading from its position up to its limit.
+     *
+     * @param buffer the received datagram
+     * @return the decoded telegram
+     * @throws IOException if the datagram is not a SMA Energy Meter telegram
+     */
+    public static SMATelegram parse(ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        if (buffer.remaining() < OFFSET_MEASUREMENTS || buffer.getInt(start) != HEADER_SMA) {
+            throw new IOException("Not a SMA telegram.");
+        }
+        // Inverters send their Speedwire telegrams (protocol 0x6065) to the same multicast group
+        int protocolId = buffer.getShort(start + OFFSET_PROTOCOL_ID) & 0xFFFF;
+        if (protocolId != PROTOCOL_ENERGY_METER) {
+            throw new IOException(String.format("Not a SMA Energy Meter telegram (protocol 0x%04X).", protocolId));
+        }
+
+        SMATelegram telegram = new SMATelegram(String.valueOf(buffer.getInt(start + OFFSET_SERIAL_NUMBER)));
+
+        int dataLength = buffer.getShort(start + OFFSET_DATA_LENGTH) & 0xFFFF;
+        int end = Math.min(start + OFFSET_DATA + dataLength, buffer.limit());
+        int position = start + OFFSET_MEASUREMENTS;
+
+        while (position + 4 <= end) {
+            int channel = buffer.get(position) & 0xFF;
+            int index = buffer.get(position + 1) & 0xFF;
+            int type = buffer.get(position + 2) & 0xFF;
+            position += 4;
+
+            if (channel == CHANNEL_VERSION || type == TYPE_ACTUAL) {
+                if (position + 4 > end) {
+                    break;
+                }
+                if (channel != CHANNEL_VERSION) {
+                    telegram.actualValues[index] = buffer.getInt(position) & 0xFFFFFFFFL;
+                    telegram.hasActual[index] = true;
+                }
+                position += 4;
+            } else if (type == TYPE_COUNTER) {
+                if (position + 8 > end) {
+                    break;
+                }
+                telegram.counterValues[index] = buffer.getLong(position);
+                telegram.hasCounter[index] = true;
+                position += 8;
+            } else {
+                // End of data or an unknown measurement type we cannot skip
+                break;
+            }
+        }
+
+        return telegram;
+    }
+
+    public String getSerialNumber() {
+        return serialNumber;
+    }
+
+    public boolean hasActualValue(int index) {
+        return hasActual[index];
+    }
+
+    public boolean hasCounterValue(int index) {
+        return hasCounter[index];
+    }
+
+    /**
+     * @return the raw actual value of the measurement with the given OBIS index
+     */
+    public long getActualValue(int index) {
+        return actualValues[index];
+    }
+
+    /**
+     * @return the raw counter value of the measurement with the given OBIS index
+     */
+    public long getCounterValue(int index) {
+        return counterValues[index];
+    }
+
+    /**
+     * @return the actual power of the measurement with the given OBIS index in W (var, VA)
+     */
+    public double getPower(int index) {
+        return (double) actualValues[index] / POWER_DIVISOR;
+    }
+
+    /**
+     * @return the energy counter of the measurement with the given OBIS index in kWh (kvarh, kVAh)
+     */
+    public double getEnergy(int index) {
+        return (double) counterValues[index] / ENERGY_DIVISOR;
+    }
+
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.smaenergymeter.internal.packet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link TelegramListener} is notified about telegrams received by a {@link MulticastReceiver}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface TelegramListener {
+
+    /**
+     * Called from the receiver thread for every telegram dispatched to this listener.
+     *
+     * @param telegram the decoded telegram
+     */
+    void telegramReceived(SMATelegram telegram);
+
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.systeminfo.internal.model.DeviceNotFoundException;
+import org.openhab.binding.systeminfo.internal.model.JvmSysteminfo;
+
+/**
+ * Tests for the {@link JvmSysteminfo} with stubbed MXBeans
+ *
+ * @author agent - Initial contribution
+ */
+public class JvmSysteminfoTest {
+    private static final long MB = 1024 * 1024;
+
+    private MemoryMXBean memory;
+    private ThreadMXBean threads;
+    private ClassLoadingMXBean classLoading;
+    private GarbageCollectorMXBean youngCollector;
+    private GarbageCollectorMXBean oldCollector;
+
+    private JvmSysteminfo jvm;
+
+    @Before
+    public void setUp() {
+        memory = mock(MemoryMXBean.class);
+        threads = mock(ThreadMXBean.class);
+        classLoading = mock(ClassLoadingMXBean.class);
+        youngCollector = mock(GarbageCollectorMXBean.class);
+        oldCollector = mock(GarbageCollectorMXBean.class);
+
+        when(youngCollector.getName()).thenReturn("PS Scavenge");
+        when(youngCollector.getCollectionCount()).thenReturn(10L);
+        when(youngCollector.getCollectionTime()).thenReturn(100L);
+        when(oldCollector.getName()).thenReturn("PS MarkSweep");
+        when(oldCollector.getCollectionCount()).thenReturn(1L);
+        when(oldCollector.getCollectionTime()).thenReturn(50L);
+
+        jvm = new JvmSysteminfo(memory, threads, classLoading, Arrays.asList(youngCollector, oldCollector));
+    }
+
+    @Test
+    public void assertMemoryIsReportedInMB() {
+        when(memory.getHeapMemoryUsage()).thenReturn(new MemoryUsage(64 * MB, 200 * MB, 256 * MB, 1024 * MB));
+        when(memory.getNonHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 80 * MB, 90 * MB, -1));
+
+        assertThat(jvm.getHeapUsed(), is(new DecimalType(200)));
+        assertThat(jvm.getHeapMax(), is(new DecimalType(1024)));
+        assertThat(jvm.getNonHeapUsed(), is(new DecimalType(80)));
+    }
+
+    @Test
+    public void assertUndefinedHeapMaxIsNull() {
+        when(memory.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 200 * MB, 256 * MB, -1));
+
+        assertThat(jvm.getHeapMax(), is(nullValue()));
+    }
+
+    @Test
+    public void assertThreadsAndClassesAreReported() {
+        when(threads.getThreadCount()).thenReturn(120);
+        when(threads.getDaemonThreadCount()).thenReturn(80);
+        when(classLoading.getLoadedClassCount()).thenReturn(15000);
+
+        assertThat(jvm.getThreads(), is(new DecimalType(120)));
+        assertThat(jvm.getDaemonThreads(), is(new DecimalType(80)));
+        assertThat(jvm.getLoadedClasses(), is(new DecimalType(15000)));
+    }
+
+    @Test
+    public void assertGcIsReportedAsTotalSinceTheStartOfTheJvm() throws DeviceNotFoundException {
+        assertThat(jvm.getGcName(0), is(new StringType("PS Scavenge")));
+        assertThat(jvm.getGcName(1), is(new StringType("PS MarkSweep")));
+
+        assertThat(jvm.getGcCount(0), is(new DecimalType(10)));
+        assertThat(jvm.getGcTime(0), is(new DecimalType(100)));
+        assertThat(jvm.getGcCount(1), is(new DecimalType(1)));
+        assertThat(jvm.getGcTime(1), is(new DecimalType(50)));
+
+        // Reading the values does not change them
+        assertThat(jvm.getGcCount(0), is(new DecimalType(10)));
+        assertThat(jvm.getGcTime(1), is(new DecimalType(50)));
+    }
+
+    @Test
+    public void assertUnsupportedGcValuesAreNull() throws DeviceNotFoundException {
+        when(youngCollector.getCollectionCount()).thenReturn(-1L);
+        when(youngCollector.getCollectionTime()).thenReturn(-1L);
+
+        assertThat(jvm.getGcCount(0), is(nullValue()));
+        assertThat(jvm.getGcTime(0), is(nullValue()));
+    }
+
+    @Test(expected = DeviceNotFoundException.class)
+    public void assertUnknownGcIndexThrowsDeviceNotFoundException() throws DeviceNotFoundException {
+        jvm.getGcTime(2);
+    }
+
+}
@@ -16,6 +16,8 @@ import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Hashtable;
 import java.util.List;
 
@@ -63,6 +65,7 @@ import org.openhab.binding.systeminfo.internal.SysteminfoHandlerFactory;
 import org.openhab.binding.systeminfo.internal.discovery.SysteminfoDiscoveryService;
 import org.openhab.binding.systeminfo.internal.model.DeviceNotFoundException;
 import org.openhab.binding.systeminfo.internal.model.SysteminfoInterface;
+import org.openhab.binding.systeminfo.internal.model.SysteminfoInterface.Subsystem;
 
 /**
  * OSGi tests for the {@link SysteminfoHandler}
@@ -1020,6 +1023,62 @@ public class SysteminfoOSGiTest extends JavaOSGiTest {
         assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, mockedProcessLoad);
     }
 
+    @Test
+    public void assertChannelJvmHeapUsedIsUpdated() {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_JVM_HEAP_USED;
+        String acceptedItemType = "Number";
+
+        DecimalType mockedJvmHeapUsed = new DecimalType(256);
+        when(mockedSystemInfo.getJvmHeapUsed()).thenReturn(mockedJvmHeapUsed);
+
+        initializeThingWithChannel(channnelID, acceptedItemType);
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, mockedJvmHeapUsed);
+    }
+
+    @Test
+    public void assertChannelJvmGcTimeIsUpdated() throws DeviceNotFoundException {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_JVM_GC_TIME;
+        String acceptedItemType = "Number";
+
+        DecimalType mockedJvmGcTotalTime = new DecimalType(12);
+        when(mockedSystemInfo.getJvmGcTime(DEFAULT_DEVICE_INDEX)).thenReturn(mockedJvmGcTotalTime);
+
+        initializeThingWithChannel(channnelID, acceptedItemType);
+        // The channel shows the increase of the total time since its previous update
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, new DecimalType(0));
+    }
+
+    @Test
+    public void assertSnapshotIsTakenForTheSubsystemOfLinkedChannels() {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_MEMORY_AVAILABLE;
+        String acceptedItemType = "Number";
+
+        DecimalType mockedMemoryAvailableValue = new DecimalType(1000);
+        when(mockedSystemInfo.getMemoryAvailable()).thenReturn(mockedMemoryAvailableValue);
+
+        initializeThingWithChannel(channnelID, acceptedItemType);
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY,
+                mockedMemoryAvailableValue);
+        verify(mockedSystemInfo, atLeastOnce()).takeSnapshot(EnumSet.of(Subsystem.MEMORY), Collections.emptySet());
+        verify(mockedSystemInfo, never()).takeSnapshot(eq(EnumSet.of(Subsystem.CPU)), any());
+    }
+
+    @Test
+    public void assertSnapshotIsTakenForTheProcessOfLinkedChannels() throws DeviceNotFoundException {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_PROCESS_THREADS;
+        String acceptedItemType = "Number";
+        int pid = 2;
+
+        DecimalType mockedProcessThreadsCount = new DecimalType(4);
+        when(mockedSystemInfo.getProcessThreads(pid)).thenReturn(mockedProcessThreadsCount);
+
+        initializeThingWithChannelAndPID(channnelID, acceptedItemType, pid);
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY,
+                mockedProcessThreadsCount);
+        verify(mockedSystemInfo, atLeastOnce()).takeSnapshot(EnumSet.of(Subsystem.PROCESS),
+                Collections.singleton(pid));
+    }
+
     @Test
     public void testThingHandlesChannelPriorityChange() {
         String priorityKey = "priority";
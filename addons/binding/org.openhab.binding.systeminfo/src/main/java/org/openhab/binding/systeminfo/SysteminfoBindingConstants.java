@@ -303,6 +303,51 @@ public class SysteminfoBindingConstants {
      */
     public static final String CHANNEL_PROCESS_PATH = "process#path";
 
+    /**
+     * Used heap memory of the JVM in MB
+     */
+    public static final String CHANNEL_JVM_HEAP_USED = "jvm#heapUsed";
+
+    /**
+     * Maximum heap memory of the JVM in MB
+     */
+    public static final String CHANNEL_JVM_HEAP_MAX = "jvm#heapMax";
+
+    /**
+     * Used non-heap memory of the JVM in MB
+     */
+    public static final String CHANNEL_JVM_NON_HEAP_USED = "jvm#nonHeapUsed";
+
+    /**
+     * Number of live threads of the JVM
+     */
+    public static final String CHANNEL_JVM_THREADS = "jvm#threads";
+
+    /**
+     * Number of live daemon threads of the JVM
+     */
+    public static final String CHANNEL_JVM_DAEMON_THREADS = "jvm#daemonThreads";
+
+    /**
+     * Number of classes loaded by the JVM
+     */
+    public static final String CHANNEL_JVM_LOADED_CLASSES = "jvm#loadedClasses";
+
+    /**
+     * Name of the garbage collector
+     */
+    public static final String CHANNEL_JVM_GC_NAME = "jvm#gcName";
+
+    /**
+     * Number of collections of the garbage collector since the last refresh
+     */
+    public static final String CHANNEL_JVM_GC_COUNT = "jvm#gcCount";
+
+    /**
+     * Time spent collecting by the garbage collector since the last refresh in ms
+     */
+    public static final String CHANNEL_JVM_GC_TIME = "jvm#gcTime";
+
     // Thing configuraion
     /**
      * Name of the configuration parameter of the thing that defines refresh time for High priority channels
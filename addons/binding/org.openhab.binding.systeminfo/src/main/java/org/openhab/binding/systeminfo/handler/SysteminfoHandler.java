@@ -11,6 +11,9 @@ package org.openhab.binding.systeminfo.handler;
 import static org.openhab.binding.systeminfo.SysteminfoBindingConstants.*;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -21,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -33,6 +37,7 @@ import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.systeminfo.internal.model.DeviceNotFoundException;
 import org.openhab.binding.systeminfo.internal.model.SysteminfoInterface;
+import org.openhab.binding.systeminfo.internal.model.SysteminfoInterface.Subsystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -76,6 +81,12 @@ public class SysteminfoHandler extends BaseThingHandler {
      */
     private Set<ChannelUID> lowPriorityChannels = new HashSet<ChannelUID>();
 
+    /**
+     * Total values of the garbage collectors at the previous update of the GC count and time channels. They are kept
+     * per channel, so each channel shows the increase since its own previous update.
+     */
+    private Map<ChannelUID, Long> lastGcValues = new HashMap<ChannelUID, Long>();
+
     /**
      * Wait time for the creation of Item-Channel links in seconds. This delay is needed, because the Item-Channel
      * links have to be created before the thing state is updated, otherwise item state will not be updated.
@@ -235,13 +246,84 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     private void publishData(Set<ChannelUID> channels) {
         if (channels != null) {
+            Set<ChannelUID> linkedChannels = new HashSet<ChannelUID>();
             Iterator<ChannelUID> iter = channels.iterator();
             while (iter.hasNext()) {
                 ChannelUID channeUID = iter.next();
                 if (isLinked(channeUID.getId())) {
-                    publishDataForChannel(channeUID);
+                    linkedChannels.add(channeUID);
                 }
             }
+            publishDataForChannels(linkedChannels);
+        }
+    }
+
+    /**
+     * Publishes the data of the channels from a single snapshot of the subsystems needed by these channels (see
+     * {@link SysteminfoInterface#takeSnapshot(Set, Set)}).
+     *
+     * @param channels the channels to update
+     */
+    private void publishDataForChannels(Set<ChannelUID> channels) {
+        if (channels.isEmpty()) {
+            return;
+        }
+        // The systeminfo service and its snapshot are shared, the snapshot must not be replaced while it is read
+        synchronized (systeminfo) {
+            takeSnapshot(channels);
+            for (ChannelUID channelUID : channels) {
+                publishDataForChannel(channelUID);
+            }
+        }
+    }
+
+    private void takeSnapshot(Set<ChannelUID> channels) {
+        Set<Subsystem> subsystems = EnumSet.noneOf(Subsystem.class);
+        Set<Integer> pids = new HashSet<Integer>();
+        for (ChannelUID channelUID : channels) {
+            Subsystem subsystem = getSubsystem(channelUID);
+            if (subsystem != null) {
+                subsystems.add(subsystem);
+            }
+            if (subsystem == Subsystem.PROCESS) {
+                pids.add(getPID(channelUID));
+            }
+        }
+        try {
+            systeminfo.takeSnapshot(subsystems, pids);
+        } catch (Exception e) {
+            logger.debug("Can not take a snapshot of {}, the channels will query the system directly.", subsystems,
+                    e);
+        }
+    }
+
+    /**
+     * Returns the subsystem, whose changing information is published by the channel
+     *
+     * @param channelUID the UID of the channel
+     * @return the subsystem or null, if the channel publishes information that does not change
+     */
+    private Subsystem getSubsystem(ChannelUID channelUID) {
+        // All digits are deleted from the group ID, the same way as in getInfoForChannel()
+        String channelGroupID = channelUID.getGroupId().replaceAll("\\d+", "");
+        switch (channelGroupID) {
+            case "cpu":
+                return Subsystem.CPU;
+            case "memory":
+            case "swap":
+                return Subsystem.MEMORY;
+            case "storage":
+                return Subsystem.STORAGE;
+            case "network":
+                return Subsystem.NETWORK;
+            case "battery":
+                return Subsystem.BATTERY;
+            case "sensors":
+                return Subsystem.SENSORS;
+            case CHANNEL_GROUP_PROCESS:
+                return Subsystem.PROCESS;
+            default:
+                return null;
         }
     }
 
@@ -438,6 +520,33 @@ public class SysteminfoHandler extends BaseThingHandler {
                 case CHANNEL_PROCESS_THREADS:
                     state = systeminfo.getProcessThreads(deviceIndex);
                     break;
+                case CHANNEL_JVM_HEAP_USED:
+                    state = systeminfo.getJvmHeapUsed();
+                    break;
+                case CHANNEL_JVM_HEAP_MAX:
+                    state = systeminfo.getJvmHeapMax();
+                    break;
+                case CHANNEL_JVM_NON_HEAP_USED:
+                    state = systeminfo.getJvmNonHeapUsed();
+                    break;
+                case CHANNEL_JVM_THREADS:
+                    state = systeminfo.getJvmThreads();
+                    break;
+                case CHANNEL_JVM_DAEMON_THREADS:
+                    state = systeminfo.getJvmDaemonThreads();
+                    break;
+                case CHANNEL_JVM_LOADED_CLASSES:
+                    state = systeminfo.getJvmLoadedClasses();
+                    break;
+                case CHANNEL_JVM_GC_NAME:
+                    state = systeminfo.getJvmGcName(deviceIndex);
+                    break;
+                case CHANNEL_JVM_GC_COUNT:
+                    state = getGcIncrease(channelUID, systeminfo.getJvmGcCount(deviceIndex));
+                    break;
+                case CHANNEL_JVM_GC_TIME:
+                    state = getGcIncrease(channelUID, systeminfo.getJvmGcTime(deviceIndex));
+                    break;
                 default:
                     logger.error("Channel with unknown ID: {} !", channelID);
             }
@@ -451,6 +560,23 @@ public class SysteminfoHandler extends BaseThingHandler {
         return state != null ? state : UnDefType.UNDEF;
     }
 
+    /**
+     * Returns the increase of a total garbage collector value since the previous update of the channel. The first
+     * update of a channel has no previous value and shows no increase.
+     *
+     * @param channelUID the UID of the channel
+     * @param total the total value since the start of the JVM
+     * @return the increase or null, if the total is not available
+     */
+    private DecimalType getGcIncrease(ChannelUID channelUID, DecimalType total) {
+        if (total == null) {
+            return null;
+        }
+        long value = total.longValue();
+        Long lastValue = lastGcValues.put(channelUID, value);
+        return new DecimalType(lastValue == null ? 0 : Math.max(0, value - lastValue));
+    }
+
     /**
      * The device index is an optional part of the channelID - the last characters of the groupID. It is used to
      * identify unique device, when more than one devices are available (e.g. local disks with names C:\, D:\, E"\ - the
@@ -509,7 +635,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         if (thing.getStatus().equals(ThingStatus.ONLINE)) {
             if (command instanceof RefreshType) {
                 logger.debug("Refresh command received for channel {}!", channelUID);
-                publishDataForChannel(channelUID);
+                publishDataForChannels(Collections.singleton(channelUID));
             } else {
                 logger.debug("Unsupported command {}! Supported commands: REFRESH", command);
             }
@@ -579,7 +705,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         Object newValue = newConfig.get(parameter);
         logger.debug("Channel with UID : {} has changed its {} from {} to {}", channel.getUID(), parameter, oldValue,
                 newValue);
-        publishDataForChannel(channel.getUID());
+        publishDataForChannels(Collections.singleton(channel.getUID()));
     }
 
     private void stopScheduledUpdates() {
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.StringType;
+
+/**
+ * {@link JvmSysteminfo} provides information about the JVM openHAB is running in, read from the
+ * <code>java.lang.management</code> MXBeans. The garbage collectors are identified by their index in the list of
+ * collectors. Their collection count and time are the totals since the start of the JVM.
+ *
+ * @author agent - Initial contribution
+ */
+public class JvmSysteminfo {
+
+    private final MemoryMXBean memory;
+    private final ThreadMXBean threads;
+    private final ClassLoadingMXBean classLoading;
+    private final List<GarbageCollectorMXBean> garbageCollectors;
+
+    /**
+     * Creates an instance reading the MXBeans of the running JVM
+     */
+    public JvmSysteminfo() {
+        this(ManagementFactory.getMemoryMXBean(), ManagementFactory.getThreadMXBean(),
+                ManagementFactory.getClassLoadingMXBean(), ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    /**
+     * Creates an instance reading the given MXBeans
+     *
+     * @param memory - the memory MXBean
+     * @param threads - the thread MXBean
+     * @param classLoading - the class loading MXBean
+     * @param garbageCollectors - the garbage collector MXBeans
+     */
+    public JvmSysteminfo(MemoryMXBean memory, ThreadMXBean threads, ClassLoadingMXBean classLoading,
+            List<GarbageCollectorMXBean> garbageCollectors) {
+        this.memory = memory;
+        this.threads = threads;
+        this.classLoading = classLoading;
+        this.garbageCollectors = new ArrayList<>(garbageCollectors);
+    }
+
+    /**
+     * Returns the used heap memory
+     *
+     * @return memory size in MB
+     */
+    public DecimalType getHeapUsed() {
+        return new DecimalType(getSizeInMB(memory.getHeapMemoryUsage().getUsed()));
+    }
+
+    /**
+     * Returns the maximum heap memory
+     *
+     * @return memory size in MB or null, if the maximum is undefined
+     */
+    public DecimalType getHeapMax() {
+        long max = memory.getHeapMemoryUsage().getMax();
+        return max < 0 ? null : new DecimalType(getSizeInMB(max));
+    }
+
+    /**
+     * Returns the used non-heap memory, e.g. of the loaded classes and the compiled code
+     *
+     * @return memory size in MB
+     */
+    public DecimalType getNonHeapUsed() {
+        return new DecimalType(getSizeInMB(memory.getNonHeapMemoryUsage().getUsed()));
+    }
+
+    /**
+     * Returns the number of live threads, including the daemon threads
+     */
+    public DecimalType getThreads() {
+        return new DecimalType(threads.getThreadCount());
+    }
+
+    /**
+     * Returns the number of live daemon threads
+     */
+    public DecimalType getDaemonThreads() {
+        return new DecimalType(threads.getDaemonThreadCount());
+    }
+
+    /**
+     * Returns the number of currently loaded classes
+     */
+    public DecimalType getLoadedClasses() {
+        return new DecimalType(classLoading.getLoadedClassCount());
+    }
+
+    /**
+     * Returns the name of the garbage collector
+     *
+     * @param index - the index of the garbage collector
+     * @throws DeviceNotFoundException - thrown if there is no garbage collector with this index
+     */
+    public StringType getGcName(int index) throws DeviceNotFoundException {
+        return new StringType(getGarbageCollector(index).getName());
+    }
+
+    /**
+     * Returns the total number of collections of the garbage collector
+     *
+     * @param index - the index of the garbage collector
+     * @return the number of collections or null, if the collector does not provide it
+     * @throws DeviceNotFoundException - thrown if there is no garbage collector with this index
+     */
+    public DecimalType getGcCount(int index) throws DeviceNotFoundException {
+        long count = getGarbageCollector(index).getCollectionCount();
+        return count < 0 ? null : new DecimalType(count);
+    }
+
+    /**
+     * Returns the total time the garbage collector spent collecting
+     *
+     * @param index - the index of the garbage collector
+     * @return the time in ms or null, if the collector does not provide it
+     * @throws DeviceNotFoundException - thrown if there is no garbage collector with this index
+     */
+    public DecimalType getGcTime(int index) throws DeviceNotFoundException {
+        long time = getGarbageCollector(index).getCollectionTime();
+        return time < 0 ? null : new DecimalType(time);
+    }
+
+    private GarbageCollectorMXBean getGarbageCollector(int index) throws DeviceNotFoundException {
+        if (index < 0 || index >= garbageCollectors.size()) {
+            throw new DeviceNotFoundException("Garbage collector with index: " + index + " can not be found!");
+        }
+        return garbageCollectors.get(index);
+    }
+
+    private long getSizeInMB(long sizeInBytes) {
+        return sizeInBytes / (1024 * 1024);
+    }
+
+}
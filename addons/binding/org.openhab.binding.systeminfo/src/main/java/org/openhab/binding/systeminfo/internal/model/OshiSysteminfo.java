@@ -9,6 +9,11 @@
 package org.openhab.binding.systeminfo.internal.model;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -62,8 +67,82 @@ public class OshiSysteminfo implements SysteminfoInterface {
     private PowerSource[] powerSources;
     private HWDiskStore[] drives;
 
+    // The JVM information is read from the MXBeans, which are not part of a snapshot
+    private JvmSysteminfo jvm;
+
+    // The latest snapshot, replaced as a whole by takeSnapshot()
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptySet(), Collections.emptySet());
+
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
+    /**
+     * The changing information of some subsystems, sampled at the same instant. Objects of this class are not modified
+     * after their creation.
+     */
+    private class Snapshot {
+        private final Set<Subsystem> subsystems;
+
+        private final double cpuLoad;
+        private final double[] cpuLoadAverages;
+        private final long cpuUptime;
+        private final int cpuThreads;
+
+        private final long memoryTotal;
+        private final long memoryAvailable;
+        private final long swapTotal;
+        private final long swapUsed;
+
+        private final double cpuTemperature;
+        private final double cpuVoltage;
+        private final int[] fanSpeeds;
+
+        private final OSFileStore[] fileStores;
+        private final NetworkIF[] networks;
+        private final PowerSource[] powerSources;
+        private final Map<Integer, OSProcess> processes;
+
+        private Snapshot(Set<Subsystem> subsystems, Set<Integer> pids) {
+            this.subsystems = subsystems.isEmpty() ? EnumSet.noneOf(Subsystem.class) : EnumSet.copyOf(subsystems);
+
+            boolean sampleCpu = this.subsystems.contains(Subsystem.CPU);
+            cpuLoad = sampleCpu ? cpu.getSystemCpuLoad() : 0;
+            cpuLoadAverages = sampleCpu ? cpu.getSystemLoadAverage(3) : null;
+            cpuUptime = sampleCpu ? cpu.getSystemUptime() : 0;
+            cpuThreads = sampleCpu ? operatingSystem.getThreadCount() : 0;
+
+            boolean sampleMemory = this.subsystems.contains(Subsystem.MEMORY);
+            memoryTotal = sampleMemory ? memory.getTotal() : 0;
+            memoryAvailable = sampleMemory ? memory.getAvailable() : 0;
+            swapTotal = sampleMemory ? memory.getSwapTotal() : 0;
+            swapUsed = sampleMemory ? memory.getSwapUsed() : 0;
+
+            boolean sampleSensors = this.subsystems.contains(Subsystem.SENSORS);
+            cpuTemperature = sampleSensors ? sensors.getCpuTemperature() : 0;
+            cpuVoltage = sampleSensors ? sensors.getCpuVoltage() : 0;
+            fanSpeeds = sampleSensors ? sensors.getFanSpeeds() : null;
+
+            fileStores = this.subsystems.contains(Subsystem.STORAGE) ? operatingSystem.getFileSystem().getFileStores()
+                    : null;
+            networks = this.subsystems.contains(Subsystem.NETWORK) ? hal.getNetworkIFs() : null;
+            if (networks != null) {
+                for (NetworkIF network : networks) {
+                    network.updateNetworkStats();
+                }
+            }
+            powerSources = this.subsystems.contains(Subsystem.BATTERY) ? hal.getPowerSources() : null;
+
+            processes = new HashMap<>();
+            if (this.subsystems.contains(Subsystem.PROCESS)) {
+                for (Integer pid : pids) {
+                    OSProcess process = operatingSystem.getProcess(pid);
+                    if (process != null) {
+                        processes.put(pid, process);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Some of the methods used in this constructor execute native code and require execute permissions
      *
@@ -93,6 +172,26 @@ public class OshiSysteminfo implements SysteminfoInterface {
         fileStores = operatingSystem.getFileSystem().getFileStores();
         powerSources = hal.getPowerSources();
         drives = hal.getDiskStores();
+
+        jvm = new JvmSysteminfo();
+    }
+
+    @Override
+    public void takeSnapshot(Set<Subsystem> subsystems, Set<Integer> pids) {
+        // Query the system on each call, if taking the snapshot fails
+        snapshot = new Snapshot(Collections.emptySet(), Collections.emptySet());
+        snapshot = new Snapshot(subsystems, pids);
+    }
+
+    /**
+     * Returns the latest snapshot, if it contains the given subsystem
+     *
+     * @param subsystem the subsystem
+     * @return the snapshot or null if the subsystem has to be queried
+     */
+    private Snapshot getSnapshot(Subsystem subsystem) {
+        Snapshot currentSnapshot = snapshot;
+        return currentSnapshot.subsystems.contains(subsystem) ? currentSnapshot : null;
     }
 
     @SuppressWarnings("null")
@@ -104,7 +203,9 @@ public class OshiSysteminfo implements SysteminfoInterface {
     }
 
     private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
+        Snapshot currentSnapshot = getSnapshot(Subsystem.PROCESS);
+        OSProcess process = currentSnapshot != null ? currentSnapshot.processes.get(pid)
+                : operatingSystem.getProcess(pid);
         if (process == null) {
             throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
         }
@@ -164,29 +265,30 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getCpuLoad() {
-        double processorLoad = cpu.getSystemCpuLoad();
+        Snapshot currentSnapshot = getSnapshot(Subsystem.CPU);
+        double processorLoad = currentSnapshot != null ? currentSnapshot.cpuLoad : cpu.getSystemCpuLoad();
         BigDecimal processorLoadPercent = getPercentsValue(processorLoad);
         return new DecimalType(processorLoadPercent);
     }
 
     @Override
     public DecimalType getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = getMemoryTotalBytes();
         totalMemory = getSizeInMB(totalMemory);
         return new DecimalType(totalMemory);
     }
 
     @Override
     public DecimalType getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = getMemoryAvailableBytes();
         availableMemory = getSizeInMB(availableMemory);
         return new DecimalType(availableMemory);
     }
 
     @Override
     public DecimalType getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        long totalMemory = getMemoryTotalBytes();
+        long availableMemory = getMemoryAvailableBytes();
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new DecimalType(usedMemory);
@@ -194,10 +296,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageTotal(int index) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the storage data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        fileStores = operatingSystem.getFileSystem().getFileStores();
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getUpdatedFileStores(), index);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new DecimalType(totalSpace);
@@ -205,10 +304,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageAvailable(int index) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the storage data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        fileStores = operatingSystem.getFileSystem().getFileStores();
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getUpdatedFileStores(), index);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new DecimalType(freeSpace);
@@ -216,10 +312,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageUsed(int index) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the storage data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        fileStores = operatingSystem.getFileSystem().getFileStores();
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getUpdatedFileStores(), index);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -229,10 +322,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the storage data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        fileStores = operatingSystem.getFileSystem().getFileStores();
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
+        OSFileStore fileStore = (OSFileStore) getDevice(getUpdatedFileStores(), deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -246,10 +336,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the storage data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        fileStores = operatingSystem.getFileSystem().getFileStores();
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
+        OSFileStore fileStore = (OSFileStore) getDevice(getUpdatedFileStores(), deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -285,10 +372,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the network data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        networks = hal.getNetworkIFs();
-        NetworkIF netInterface = (NetworkIF) getDevice(networks, index);
+        NetworkIF netInterface = getUpdatedNetwork(index);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = (String) getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -326,31 +410,33 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSensorsCpuTemperature() {
-        BigDecimal cpuTemp = new BigDecimal(sensors.getCpuTemperature());
+        Snapshot currentSnapshot = getSnapshot(Subsystem.SENSORS);
+        BigDecimal cpuTemp = new BigDecimal(
+                currentSnapshot != null ? currentSnapshot.cpuTemperature : sensors.getCpuTemperature());
         cpuTemp = cpuTemp.setScale(PRECISION_AFTER_DECIMAL_SIGN, BigDecimal.ROUND_HALF_UP);
         return cpuTemp.signum() == 1 ? new DecimalType(cpuTemp) : null;
     }
 
     @Override
     public DecimalType getSensorsCpuVoltage() {
-        BigDecimal cpuVoltage = new BigDecimal(sensors.getCpuVoltage());
+        Snapshot currentSnapshot = getSnapshot(Subsystem.SENSORS);
+        BigDecimal cpuVoltage = new BigDecimal(
+                currentSnapshot != null ? currentSnapshot.cpuVoltage : sensors.getCpuVoltage());
         cpuVoltage = cpuVoltage.setScale(PRECISION_AFTER_DECIMAL_SIGN, BigDecimal.ROUND_HALF_UP);
         return cpuVoltage.signum() == 1 ? new DecimalType(cpuVoltage) : null;
     }
 
     @Override
     public DecimalType getSensorsFanSpeed(int index) throws DeviceNotFoundException {
-        int[] fanSpeeds = sensors.getFanSpeeds();
+        Snapshot currentSnapshot = getSnapshot(Subsystem.SENSORS);
+        int[] fanSpeeds = currentSnapshot != null ? currentSnapshot.fanSpeeds : sensors.getFanSpeeds();
         int speed = (int) getDevice(ArrayUtils.toObject(fanSpeeds), index);
         return speed > 0 ? new DecimalType(speed) : null;
     }
 
     @Override
     public DecimalType getBatteryRemainingTime(int index) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the battery data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        powerSources = hal.getPowerSources();
-        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
+        PowerSource powerSource = (PowerSource) getDevice(getUpdatedPowerSources(), index);
         double remainingTimeInSeconds = powerSource.getTimeRemaining();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -359,10 +445,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the battery data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        powerSources = hal.getPowerSources();
-        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
+        PowerSource powerSource = (PowerSource) getDevice(getUpdatedPowerSources(), index);
         double remainingCapacity = powerSource.getRemainingCapacity();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new DecimalType(remainingCapacityPercents);
@@ -377,8 +460,8 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = getMemoryAvailableBytes();
+        long totalMemory = getMemoryTotalBytes();
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -390,8 +473,8 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getMemoryUsedPercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = getMemoryAvailableBytes();
+        long totalMemory = getMemoryTotalBytes();
         long usedMemory = totalMemory - availableMemory;
         if (totalMemory > 0) {
             double usedPercentDecimal = (double) usedMemory / (double) totalMemory;
@@ -425,15 +508,15 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSwapTotal() {
-        long swapTotal = memory.getSwapTotal();
+        long swapTotal = getSwapTotalBytes();
         swapTotal = getSizeInMB(swapTotal);
         return swapTotal > 0 ? new DecimalType(swapTotal) : null;
     }
 
     @Override
     public DecimalType getSwapAvailable() {
-        long swapTotal = memory.getSwapTotal();
-        long swapUsed = memory.getSwapUsed();
+        long swapTotal = getSwapTotalBytes();
+        long swapUsed = getSwapUsedBytes();
         long swapAvaialble = swapTotal - swapUsed;
         swapAvaialble = getSizeInMB(swapAvaialble);
         return swapAvaialble > 0 ? new DecimalType(swapAvaialble) : null;
@@ -441,15 +524,15 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSwapUsed() {
-        long swapTotal = memory.getSwapUsed();
+        long swapTotal = getSwapUsedBytes();
         swapTotal = getSizeInMB(swapTotal);
         return swapTotal > 0 ? new DecimalType(swapTotal) : null;
     }
 
     @Override
     public DecimalType getSwapAvailablePercent() {
-        long usedSwap = memory.getSwapUsed();
-        long totalSwap = memory.getSwapTotal();
+        long usedSwap = getSwapUsedBytes();
+        long totalSwap = getSwapTotalBytes();
         long freeSwap = totalSwap - usedSwap;
         if (totalSwap > 0) {
             double freePercentDecimal = (double) freeSwap / (double) totalSwap;
@@ -462,8 +545,8 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSwapUsedPercent() {
-        long usedSwap = memory.getSwapUsed();
-        long totalSwap = memory.getSwapTotal();
+        long usedSwap = getSwapUsedBytes();
+        long totalSwap = getSwapTotalBytes();
         if (totalSwap > 0) {
             double usedPercentDecimal = (double) usedSwap / (double) totalSwap;
             BigDecimal usedPercent = getPercentsValue(usedPercentDecimal);
@@ -473,6 +556,61 @@ public class OshiSysteminfo implements SysteminfoInterface {
         }
     }
 
+    private long getMemoryTotalBytes() {
+        Snapshot currentSnapshot = getSnapshot(Subsystem.MEMORY);
+        return currentSnapshot != null ? currentSnapshot.memoryTotal : memory.getTotal();
+    }
+
+    private long getMemoryAvailableBytes() {
+        Snapshot currentSnapshot = getSnapshot(Subsystem.MEMORY);
+        return currentSnapshot != null ? currentSnapshot.memoryAvailable : memory.getAvailable();
+    }
+
+    private long getSwapTotalBytes() {
+        Snapshot currentSnapshot = getSnapshot(Subsystem.MEMORY);
+        return currentSnapshot != null ? currentSnapshot.swapTotal : memory.getSwapTotal();
+    }
+
+    private long getSwapUsedBytes() {
+        Snapshot currentSnapshot = getSnapshot(Subsystem.MEMORY);
+        return currentSnapshot != null ? currentSnapshot.swapUsed : memory.getSwapUsed();
+    }
+
+    private OSFileStore[] getUpdatedFileStores() {
+        Snapshot currentSnapshot = getSnapshot(Subsystem.STORAGE);
+        if (currentSnapshot != null) {
+            return currentSnapshot.fileStores;
+        }
+        // In the current OSHI version a new query is required for the storage data values to be updated
+        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
+        fileStores = operatingSystem.getFileSystem().getFileStores();
+        return fileStores;
+    }
+
+    private NetworkIF getUpdatedNetwork(int networkIndex) throws DeviceNotFoundException {
+        Snapshot currentSnapshot = getSnapshot(Subsystem.NETWORK);
+        if (currentSnapshot != null) {
+            return (NetworkIF) getDevice(currentSnapshot.networks, networkIndex);
+        }
+        // In the current OSHI version a new query is required for the network data values to be updated
+        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
+        networks = hal.getNetworkIFs();
+        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
+        network.updateNetworkStats();
+        return network;
+    }
+
+    private PowerSource[] getUpdatedPowerSources() {
+        Snapshot currentSnapshot = getSnapshot(Subsystem.BATTERY);
+        if (currentSnapshot != null) {
+            return currentSnapshot.powerSources;
+        }
+        // In the current OSHI version a new query is required for the battery data values to be updated
+        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
+        powerSources = hal.getPowerSources();
+        return powerSources;
+    }
+
     private long getSizeInMB(long sizeInBytes) {
         return sizeInBytes /= 1024 * 1024;
     }
@@ -538,7 +676,9 @@ public class OshiSysteminfo implements SysteminfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        Snapshot currentSnapshot = getSnapshot(Subsystem.CPU);
+        double processorLoads[] = currentSnapshot != null ? currentSnapshot.cpuLoadAverages
+                : cpu.getSystemLoadAverage(index + 1);
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, BigDecimal.ROUND_HALF_UP);
         return result;
@@ -546,13 +686,15 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getCpuUptime() {
-        long seconds = cpu.getSystemUptime();
+        Snapshot currentSnapshot = getSnapshot(Subsystem.CPU);
+        long seconds = currentSnapshot != null ? currentSnapshot.cpuUptime : cpu.getSystemUptime();
         return new DecimalType(getTimeInMinutes(seconds));
     }
 
     @Override
     public DecimalType getCpuThreads() {
-        int threadCount = operatingSystem.getThreadCount();
+        Snapshot currentSnapshot = getSnapshot(Subsystem.CPU);
+        int threadCount = currentSnapshot != null ? currentSnapshot.cpuThreads : operatingSystem.getThreadCount();
         return new DecimalType(threadCount);
     }
 
@@ -565,44 +707,28 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the network data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        networks = hal.getNetworkIFs();
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
 
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the network data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        networks = hal.getNetworkIFs();
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
 
     @Override
     public DecimalType getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the network data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        networks = hal.getNetworkIFs();
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long bytesSent = network.getBytesSent();
         return new DecimalType(getSizeInMB(bytesSent));
     }
 
     @Override
     public DecimalType getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
-        // In the current OSHI version a new query is required for the network data values to be updated
-        // In OSHI 4.0.0. it is planned to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        networks = hal.getNetworkIFs();
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long bytesRecv = network.getBytesRecv();
         return new DecimalType(getSizeInMB(bytesRecv));
     }
@@ -664,4 +790,49 @@ public class OshiSysteminfo implements SysteminfoInterface {
         }
     }
 
+    @Override
+    public DecimalType getJvmHeapUsed() {
+        return jvm.getHeapUsed();
+    }
+
+    @Override
+    public DecimalType getJvmHeapMax() {
+        return jvm.getHeapMax();
+    }
+
+    @Override
+    public DecimalType getJvmNonHeapUsed() {
+        return jvm.getNonHeapUsed();
+    }
+
+    @Override
+    public DecimalType getJvmThreads() {
+        return jvm.getThreads();
+    }
+
+    @Override
+    public DecimalType getJvmDaemonThreads() {
+        return jvm.getDaemonThreads();
+    }
+
+    @Override
+    public DecimalType getJvmLoadedClasses() {
+        return jvm.getLoadedClasses();
+    }
+
+    @Override
+    public StringType getJvmGcName(int deviceIndex) throws DeviceNotFoundException {
+        return jvm.getGcName(deviceIndex);
+    }
+
+    @Override
+    public DecimalType getJvmGcCount(int deviceIndex) throws DeviceNotFoundException {
+        return jvm.getGcCount(deviceIndex);
+    }
+
+    @Override
+    public DecimalType getJvmGcTime(int deviceIndex) throws DeviceNotFoundException {
+        return jvm.getGcTime(deviceIndex);
+    }
+
 }
@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.systeminfo.internal.model;
 
+import java.util.Set;
+
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.StringType;
 
@@ -18,11 +20,35 @@ import org.eclipse.smarthome.core.library.types.StringType;
  */
 public interface SysteminfoInterface {
 
+    /**
+     * The parts of the system, whose changing information is sampled together in a snapshot
+     */
+    public enum Subsystem {
+        CPU,
+        MEMORY,
+        STORAGE,
+        NETWORK,
+        BATTERY,
+        SENSORS,
+        PROCESS
+    }
+
     /**
      * Initialize logic for the Systeminfo implementation
      */
     public void initializeSysteminfo();
 
+    /**
+     * Takes a snapshot of the changing information of the given subsystems. Until the next snapshot is taken, the get
+     * methods of these subsystems return the values of the snapshot, so that all channels refreshed together report
+     * values of the same instant and the system is queried only once. The information of other subsystems is queried
+     * on each call.
+     *
+     * @param subsystems - the subsystems to sample
+     * @param pids - the PIDs of the processes to sample, if the subsystems contain {@link Subsystem#PROCESS}
+     */
+    public void takeSnapshot(Set<Subsystem> subsystems, Set<Integer> pids);
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows,Unix,.../
@@ -437,4 +463,66 @@ public interface SysteminfoInterface {
      */
     public DecimalType getProcessThreads(int pid) throws DeviceNotFoundException;
 
+    // JVM info
+    /**
+     * Returns the used heap memory of the JVM
+     *
+     * @return memory size in MB
+     */
+    public DecimalType getJvmHeapUsed();
+
+    /**
+     * Returns the maximum heap memory of the JVM
+     *
+     * @return memory size in MB or null, if the maximum is undefined
+     */
+    public DecimalType getJvmHeapMax();
+
+    /**
+     * Returns the used non-heap memory of the JVM
+     *
+     * @return memory size in MB
+     */
+    public DecimalType getJvmNonHeapUsed();
+
+    /**
+     * Returns the number of live threads of the JVM, including the daemon threads
+     */
+    public DecimalType getJvmThreads();
+
+    /**
+     * Returns the number of live daemon threads of the JVM
+     */
+    public DecimalType getJvmDaemonThreads();
+
+    /**
+     * Returns the number of classes currently loaded by the JVM
+     */
+    public DecimalType getJvmLoadedClasses();
+
+    /**
+     * Returns the name of a garbage collector of the JVM
+     *
+     * @param deviceIndex - the index of the garbage collector
+     * @throws DeviceNotFoundException - thrown if there is no garbage collector with this index
+     */
+    public StringType getJvmGcName(int deviceIndex) throws DeviceNotFoundException;
+
+    /**
+     * Returns the total number of collections of a garbage collector since the start of the JVM
+     *
+     * @param deviceIndex - the index of the garbage collector
+     * @throws DeviceNotFoundException - thrown if there is no garbage collector with this index
+     */
+    public DecimalType getJvmGcCount(int deviceIndex) throws DeviceNotFoundException;
+
+    /**
+     * Returns the total time a garbage collector spent collecting since the start of the JVM
+     *
+     * @param deviceIndex - the index of the garbage collector
+     * @return time in ms
+     * @throws DeviceNotFoundException - thrown if there is no garbage collector with this index
+     */
+    public DecimalType getJvmGcTime(int deviceIndex) throws DeviceNotFoundException;
+
 }
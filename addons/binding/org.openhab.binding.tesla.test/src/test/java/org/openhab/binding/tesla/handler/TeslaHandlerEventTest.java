@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.tesla.handler;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.openhab.binding.tesla.TeslaBindingConstants.EventKeys;
+import org.openhab.binding.tesla.internal.TeslaChannelSelectorProxy.TeslaChannelSelector;
+
+/**
+ * Tests that the {@link TeslaHandler} maps the values of stream events to the same channels as the lookup per event
+ * and the split of the event line it replaced.
+ *
+ * @author agent - Initial contribution
+ */
+public class TeslaHandlerEventTest {
+
+    private static final String FULL_EVENT = "1526836425143,10393.3,,87,22,183,51.923419,4.468271,0,,215,164,183";
+    private static final String PARKED_EVENT = "1526836425143,10393.3,,87,22,183,51.923419,4.468271,0,P,215,164,";
+
+    @Test
+    public void assertEventValuesAreMappedToTheSelectorsOfThePerEventLookup() {
+        for (EventKeys key : EventKeys.values()) {
+            TeslaChannelSelector expected = TeslaChannelSelector.getValueSelectorFromRESTID(key.toString());
+
+            assertThat(key.toString(), TeslaHandler.getEventSelector(key), is(sameInstance(expected)));
+            assertThat(key.toString(), TeslaHandler.getEventSelector(key).getChannelID(),
+                    is(expected.getChannelID()));
+        }
+    }
+
+    @Test
+    public void assertEventValuesAreMappedToTheSelectorsOfALinearSearch() {
+        for (EventKeys key : EventKeys.values()) {
+            TeslaChannelSelector expected = null;
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                if (key.toString().equals(c.toString())) {
+                    expected = c;
+                    break;
+                }
+            }
+
+            assertThat(key.toString(), TeslaHandler.getEventSelector(key), is(sameInstance(expected)));
+        }
+    }
+
+    @Test
+    public void assertEventValuesAreTheValuesOfTheSplitLine() {
+        List<String> values = readValues(FULL_EVENT);
+
+        assertThat(values, is(Arrays.asList(FULL_EVENT.split(","))));
+        assertThat(values.get(EventKeys.speed.ordinal()), is(""));
+        assertThat(values.get(EventKeys.shift_state.ordinal()), is(""));
+        assertThat(values.get(EventKeys.heading.ordinal()), is("183"));
+    }
+
+    @Test
+    public void assertMissingTrailingValuesAreEmpty() {
+        // split drops trailing empty values, so the previous per-event lookup failed on these lines
+        assertThat(readValues(PARKED_EVENT).get(EventKeys.heading.ordinal()), is(""));
+        assertThat(readValues("1526836425143,10393.3").subList(2, EventKeys.values().length),
+                everyItem(is("")));
+        assertThat(readValues("").get(0), is(""));
+    }
+
+    @Test
+    public void assertValuesOfCompleteLinesAreUnchangedWhenTrailingValuesAreMissing() {
+        List<String> values = readValues(PARKED_EVENT);
+        String[] split = PARKED_EVENT.split(",");
+
+        for (int i = 0; i < split.length; i++) {
+            assertThat(EventKeys.values()[i].toString(), values.get(i), is(split[i]));
+        }
+    }
+
+    private static List<String> readValues(String line) {
+        TeslaHandler.EventValues eventValues = new TeslaHandler.EventValues(line);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < EventKeys.values().length; i++) {
+            values.add(eventValues.next());
+        }
+        return values;
+    }
+}
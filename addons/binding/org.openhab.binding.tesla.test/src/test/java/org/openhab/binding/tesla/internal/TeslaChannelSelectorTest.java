@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.tesla.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.smarthome.core.types.State;
+import org.junit.Test;
+import org.openhab.binding.tesla.internal.TeslaChannelSelectorProxy.TeslaChannelSelector;
+
+/**
+ * Tests that the indexed lookups and the precomputed converters of {@link TeslaChannelSelector} give the same results
+ * as the linear searches and the reflective conversion they replaced.
+ *
+ * @author agent - Initial contribution
+ */
+public class TeslaChannelSelectorTest {
+
+    private static final List<String> VALUES = Arrays.asList("0", "1", "42", "-3.25", "12.5", "100", "150", "true",
+            "false", "ON", "OFF", "on", "OPEN", "CLOSED", "Standard", "2018-05-20T17:13:45.143+0200",
+            "2018-05-20T17:13:45", "not a value", "");
+
+    @Test
+    public void assertLookupByRestIdFindsTheSameSelectorAsTheLinearSearch() {
+        for (TeslaChannelSelector selector : TeslaChannelSelector.values()) {
+            String restID = selector.toString();
+            if (restID != null) {
+                assertThat(restID, TeslaChannelSelector.getValueSelectorFromRESTID(restID),
+                        is(sameInstance(linearSearchByRestID(restID))));
+            }
+        }
+    }
+
+    @Test
+    public void assertLookupByChannelIdFindsTheSameSelectorAsTheLinearSearch() {
+        for (TeslaChannelSelector selector : TeslaChannelSelector.values()) {
+            String channelID = selector.getChannelID();
+            // several selectors share the location channel, the first one is found
+            assertThat(channelID, TeslaChannelSelector.getValueSelectorFromChannelID(channelID),
+                    is(sameInstance(linearSearchByChannelID(channelID))));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assertLookupOfUnknownRestIdFails() {
+        TeslaChannelSelector.getValueSelectorFromRESTID("unknown_rest_id");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void assertLookupOfUnknownChannelIdFails() {
+        TeslaChannelSelector.getValueSelectorFromChannelID("unknownchannel");
+    }
+
+    @Test
+    public void assertConvertersGiveTheSameStatesAsReflection() {
+        for (TeslaChannelSelector selector : TeslaChannelSelector.values()) {
+            for (String value : VALUES) {
+                assertThat(selector + " '" + value + "'", selector.getState(value),
+                        is(reflectiveValueOf(selector, value)));
+            }
+        }
+    }
+
+    @Test
+    public void assertConversionOfNullIsNull() {
+        for (TeslaChannelSelector selector : TeslaChannelSelector.values()) {
+            assertThat(selector.toString(), selector.getState(null), is(nullValue()));
+        }
+    }
+
+    private static TeslaChannelSelector linearSearchByRestID(String restID) {
+        for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+            if (restID.equals(c.toString())) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("Not valid value selector");
+    }
+
+    private static TeslaChannelSelector linearSearchByChannelID(String channelID) {
+        for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+            if (c.getChannelID().equals(channelID)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("Not valid value selector");
+    }
+
+    /**
+     * The conversion by reflection used before the converters were precomputed
+     */
+    private static State reflectiveValueOf(TeslaChannelSelector selector, String s) {
+        try {
+            Method valueOf = selector.getTypeClass().getMethod("valueOf", String.class);
+            State state = (State) valueOf.invoke(selector.getTypeClass(), s);
+            if (state != null) {
+                return state;
+            }
+        } catch (NoSuchMethodException e) {
+        } catch (IllegalArgumentException e) {
+        } catch (IllegalAccessException e) {
+        } catch (InvocationTargetException e) {
+        }
+
+        return null;
+    }
+}
@@ -98,8 +98,49 @@ public class TeslaHandler extends BaseThingHandler {
     private static final int MAXIMUM_ERRORS_IN_INTERVAL = 2;
     private static final int ERROR_INTERVAL_SECONDS = 15;
 
+    private static final TeslaChannelSelector[] EVENT_SELECTORS = new TeslaChannelSelector[EventKeys.values().length];
+
+    static {
+        for (EventKeys key : EventKeys.values()) {
+            EVENT_SELECTORS[key.ordinal()] = TeslaChannelSelector.getValueSelectorFromRESTID(key.toString());
+        }
+    }
+
     private final Logger logger = LoggerFactory.getLogger(TeslaHandler.class);
 
+    /**
+     * Returns the channel selector of a value of stream events, looked up once by its REST id.
+     */
+    static TeslaChannelSelector getEventSelector(EventKeys key) {
+        return EVENT_SELECTORS[key.ordinal()];
+    }
+
+    /**
+     * Walks the comma separated values of a stream event, without splitting the line into an intermediate array.
+     * Missing trailing values are returned as empty values.
+     */
+    static class EventValues {
+        private final String line;
+        private int start = 0;
+
+        EventValues(String line) {
+            this.line = line;
+        }
+
+        String next() {
+            if (start > line.length()) {
+                return "";
+            }
+            int end = line.indexOf(',', start);
+            if (end < 0) {
+                end = line.length();
+            }
+            String value = line.substring(start, end);
+            start = end + 1;
+            return value;
+        }
+    }
+
     // Vehicle state variables
     protected Vehicle vehicle;
     protected String vehicleJSON;
@@ -957,6 +998,38 @@ public class TeslaHandler extends BaseThingHandler {
     };
 
     protected Runnable eventRunnable = new Runnable() {
+        /**
+         * Walks the comma separated values of a stream event in the order of {@link EventKeys}.
+         */
+        private void updateEventStates(String line) {
+            Map<String, String> properties = editProperties();
+            boolean propertiesChanged = false;
+            EventValues values = new EventValues(line);
+            for (int i = 0; i < EVENT_SELECTORS.length; i++) {
+                String value = values.next();
+                TeslaChannelSelector selector = EVENT_SELECTORS[i];
+                if (!selector.isProperty()) {
+                    State newState = "".equals(value) ? null
+                            : teslaChannelSelectorProxy.getState(value, selector, properties);
+                    if (newState != null) {
+                        updateState(selector.getChannelID(), newState);
+                    } else {
+                        updateState(selector.getChannelID(), UnDefType.UNDEF);
+                    }
+                } else {
+                    State newState = selector.getState(value);
+                    if (newState != null) {
+                        properties.put(selector.getChannelID(), newState.toString());
+                        propertiesChanged = true;
+                    }
+                }
+            }
+
+            if (propertiesChanged) {
+                updateProperties(properties);
+            }
+        }
+
         Response eventResponse;
         BufferedReader eventBufferedReader;
         InputStreamReader eventInputStreamReader;
@@ -1010,8 +1083,9 @@ public class TeslaHandler extends BaseThingHandler {
 
                                 while (line != null) {
                                     logger.debug("Event Stream : Received an event: '{}'", line);
-                                    String vals[] = line.split(",");
-                                    long currentTimeStamp = Long.valueOf(vals[0]);
+                                    int separator = line.indexOf(',');
+                                    long currentTimeStamp = Long
+                                            .valueOf(separator < 0 ? line : line.substring(0, separator));
                                     long systemTimeStamp = System.currentTimeMillis();
                                     if (logger.isDebugEnabled()) {
                                         SimpleDateFormat dateFormatter = new SimpleDateFormat(
@@ -1023,31 +1097,14 @@ public class TeslaHandler extends BaseThingHandler {
                                     }
                                     if (systemTimeStamp - currentTimeStamp < EVENT_TIMESTAMP_AGE_LIMIT) {
                                         if (currentTimeStamp > lastTimeStamp) {
-                                            lastTimeStamp = Long.valueOf(vals[0]);
+                                            lastTimeStamp = currentTimeStamp;
                                             if (logger.isDebugEnabled()) {
                                                 SimpleDateFormat dateFormatter = new SimpleDateFormat(
                                                         "yyyy-MM-dd'T'HH:mm:ss.SSS");
                                                 logger.debug("Event Stream : Event stamp is {}",
                                                         dateFormatter.format(new Date(lastTimeStamp)));
                                             }
-                                            for (int i = 0; i < EventKeys.values().length; i++) {
-                                                TeslaChannelSelector selector = TeslaChannelSelector
-                                                        .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
-                                                if (!selector.isProperty()) {
-                                                    State newState = teslaChannelSelectorProxy.getState(vals[i],
-                                                            selector, editProperties());
-                                                    if (newState != null && !"".equals(vals[i])) {
-                                                        updateState(selector.getChannelID(), newState);
-                                                    } else {
-                                                        updateState(selector.getChannelID(), UnDefType.UNDEF);
-                                                    }
-                                                } else {
-                                                    Map<String, String> properties = editProperties();
-                                                    properties.put(selector.getChannelID(),
-                                                            (selector.getState(vals[i])).toString());
-                                                    updateProperties(properties);
-                                                }
-                                            }
+                                            updateEventStates(line);
                                         } else {
                                             if (logger.isDebugEnabled()) {
                                                 SimpleDateFormat dateFormatter = new SimpleDateFormat(
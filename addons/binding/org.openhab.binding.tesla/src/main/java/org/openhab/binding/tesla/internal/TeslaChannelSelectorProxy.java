@@ -8,11 +8,14 @@
  */
 package org.openhab.binding.tesla.internal;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -924,9 +927,22 @@ public class TeslaChannelSelectorProxy {
         },
         WHEEL_TYPE("wheel_type", "wheeltype", StringType.class, true);
 
+        private static final Map<String, TeslaChannelSelector> REST_ID_INDEX = new HashMap<>();
+        private static final Map<String, TeslaChannelSelector> CHANNEL_ID_INDEX = new HashMap<>();
+
+        static {
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                if (c.restID != null) {
+                    REST_ID_INDEX.putIfAbsent(c.restID, c);
+                }
+                CHANNEL_ID_INDEX.putIfAbsent(c.channelID, c);
+            }
+        }
+
         private final String restID;
         private final String channelID;
         private Class<? extends Type> typeClass;
+        private final Function<String, State> converter;
         private final boolean isProperty;
 
         private TeslaChannelSelector(String restID, String channelID, Class<? extends Type> typeClass,
@@ -934,6 +950,7 @@ public class TeslaChannelSelectorProxy {
             this.restID = restID;
             this.channelID = channelID;
             this.typeClass = typeClass;
+            this.converter = createConverter(typeClass);
             this.isProperty = isProperty;
         }
 
@@ -959,41 +976,69 @@ public class TeslaChannelSelectorProxy {
         }
 
         public State getState(String s) {
+            if (s == null) {
+                return null;
+            }
+
             try {
-                Method valueOf = typeClass.getMethod("valueOf", String.class);
-                State state = (State) valueOf.invoke(typeClass, s);
-                if (state != null) {
-                    return state;
-                }
-            } catch (NoSuchMethodException e) {
+                return converter.apply(s);
             } catch (IllegalArgumentException e) {
-            } catch (IllegalAccessException e) {
-            } catch (InvocationTargetException e) {
+                return null;
             }
-
-            return null;
         }
 
         public static TeslaChannelSelector getValueSelectorFromChannelID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.channelID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = CHANNEL_ID_INDEX.get(valueSelectorText);
+            if (c == null) {
+                throw new IllegalArgumentException("Not valid value selector");
             }
 
-            throw new IllegalArgumentException("Not valid value selector");
+            return c;
         }
 
         public static TeslaChannelSelector getValueSelectorFromRESTID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.restID != null && c.restID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = REST_ID_INDEX.get(valueSelectorText);
+            if (c == null) {
+                throw new IllegalArgumentException("Not valid value selector");
+            }
+
+            return c;
+        }
+
+        /**
+         * Binds the String to {@link State} conversion of the given type once, so that no reflection is needed
+         * when values are converted on every poll or stream event.
+         */
+        private static Function<String, State> createConverter(Class<? extends Type> typeClass) {
+            if (typeClass == DecimalType.class) {
+                return DecimalType::valueOf;
+            } else if (typeClass == OnOffType.class) {
+                return OnOffType::valueOf;
+            } else if (typeClass == StringType.class) {
+                return StringType::valueOf;
+            } else if (typeClass == PercentType.class) {
+                return PercentType::valueOf;
+            } else if (typeClass == OpenClosedType.class) {
+                return OpenClosedType::valueOf;
+            } else if (typeClass == DateTimeType.class) {
+                return DateTimeType::valueOf;
             }
 
-            throw new IllegalArgumentException("Not valid value selector");
+            try {
+                MethodHandle valueOf = MethodHandles.publicLookup().findStatic(typeClass, "valueOf",
+                        MethodType.methodType(typeClass, String.class));
+                return s -> {
+                    try {
+                        return (State) valueOf.invoke(s);
+                    } catch (Throwable e) {
+                        return null;
+                    }
+                };
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return s -> null;
+            }
         }
     }
 
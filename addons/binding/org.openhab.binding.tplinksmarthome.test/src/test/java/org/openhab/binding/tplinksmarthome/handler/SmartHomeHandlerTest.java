@@ -35,6 +35,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.openhab.binding.tplinksmarthome.TPLinkSmartHomeBindingConstants;
+import org.openhab.binding.tplinksmarthome.internal.BroadcastPoller;
 import org.openhab.binding.tplinksmarthome.internal.Commands;
 import org.openhab.binding.tplinksmarthome.internal.Connection;
 import org.openhab.binding.tplinksmarthome.internal.TPLinkSmartHomeConfiguration;
@@ -60,6 +61,8 @@ public class SmartHomeHandlerTest {
     private Thing thing;
     @Mock
     private SmartHomeDevice smartHomeDevice;
+    @Mock
+    private BroadcastPoller broadcastPoller;
 
     @NonNull
     private final Configuration configuration = new Configuration();
@@ -73,7 +76,7 @@ public class SmartHomeHandlerTest {
         when(smartHomeDevice.getUpdateCommand()).thenReturn(Commands.getSysinfo());
         when(connection.sendCommand(Commands.getSysinfo()))
                 .thenReturn(ModelTestUtil.readJson("plug_get_sysinfo_response"));
-        handler = new SmartHomeHandler(thing, smartHomeDevice) {
+        handler = new SmartHomeHandler(thing, smartHomeDevice, broadcastPoller) {
             @Override
             Connection createConnection(TPLinkSmartHomeConfiguration config) {
                 return connection;
@@ -116,4 +119,15 @@ public class SmartHomeHandlerTest {
         verify(callback).stateUpdated(eq(channelUID), stateCaptor.capture());
         assertSame("State of channel switch should be set", OnOffType.ON, stateCaptor.getValue());
     }
+
+    @Test
+    public void testBroadcastPollingStartedWithDeviceIdOfFirstResponse() {
+        ChannelUID channelUID = new ChannelUID(CHANNEL_PREFIX + CHANNEL_RSSI);
+        handler.handleCommand(channelUID, RefreshType.REFRESH);
+        // the refresh job may have received the first response already
+        verify(broadcastPoller, timeout(1000).atLeastOnce()).register(eq("DEVICEID_HERE"), eq(Commands.getSysinfo()),
+                eq(300), any());
+        handler.dispose();
+        verify(broadcastPoller).unregister("DEVICEID_HERE");
+    }
 }
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.tplinksmarthome.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openhab.binding.tplinksmarthome.internal.device.DeviceState;
+import org.openhab.binding.tplinksmarthome.internal.model.ModelTestUtil;
+
+/**
+ * Test class for {@link BroadcastPoller} class.
+ *
+ * @author agent - Initial contribution
+ */
+public class BroadcastPollerTest {
+
+    private static final String PLUG_DEVICE_ID = "DEVICEID_HERE";
+    private static final String MISSING_DEVICE_ID = "MISSING";
+    private static final int REFRESH = 10;
+
+    @Mock
+    private DatagramSocket socket;
+    @Mock
+    private ScheduledExecutorService scheduler;
+    @Mock
+    private BroadcastPoller.Listener plugListener;
+    @Mock
+    private BroadcastPoller.Listener missingListener;
+
+    private BroadcastPoller poller;
+
+    @Before
+    public void setUp() throws IOException {
+        initMocks(this);
+        poller = new BroadcastPoller(scheduler) {
+            @Override
+            protected DatagramSocket createSocket() throws IOException {
+                return socket;
+            }
+        };
+        doAnswer(new Answer<Void>() {
+            private int cnt;
+
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                DatagramPacket packet = (DatagramPacket) invocation.getArguments()[0];
+                packet.setAddress(InetAddress.getLocalHost());
+                switch (cnt++) {
+                    case 0:
+                        packet.setData(CryptUtil.encrypt(ModelTestUtil.readJson("bulb_get_sysinfo_response_on")));
+                        break;
+                    case 1:
+                        packet.setData(CryptUtil.encrypt(ModelTestUtil.readJson("plug_get_sysinfo_response")));
+                        break;
+                    default:
+                        throw new SocketTimeoutException("No more responses");
+                }
+                return null;
+            }
+        }).when(socket).receive(any());
+    }
+
+    /**
+     * Test if a single broadcast passes the responses to the registered devices and reports missing devices.
+     *
+     * @throws IOException exception in case device not reachable
+     */
+    @Test
+    public void testPoll() throws IOException {
+        poller.register(PLUG_DEVICE_ID, Commands.getSysinfo(), REFRESH, plugListener);
+        poller.register(MISSING_DEVICE_ID, Commands.getSysinfo(), REFRESH, missingListener);
+        ArgumentCaptor<Runnable> pollCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).scheduleAtFixedRate(pollCaptor.capture(), anyLong(), anyLong(),
+                eq(TimeUnit.MILLISECONDS));
+
+        pollCaptor.getValue().run();
+
+        verify(socket, times(1)).send(any());
+        ArgumentCaptor<DeviceState> stateCaptor = ArgumentCaptor.forClass(DeviceState.class);
+        verify(plugListener).responseReceived(stateCaptor.capture());
+        assertEquals("Response should be passed to the device with the id", PLUG_DEVICE_ID,
+                stateCaptor.getValue().getSysinfo().getDeviceId());
+        verify(plugListener, never()).responseMissing();
+        verify(missingListener).responseMissing();
+        verify(missingListener, never()).responseReceived(any());
+        assertEquals("One broadcast should be sent", 1, poller.getBroadcastsSent());
+        assertEquals("One TCP request should be saved", 1, poller.getResponsesReceived());
+        assertEquals("One device should fall back to TCP", 1, poller.getResponsesMissing());
+    }
+
+    /**
+     * Test if devices with a different update command or refresh are polled with their own broadcast.
+     */
+    @Test
+    public void testPollGroups() {
+        poller.register(PLUG_DEVICE_ID, Commands.getSysinfo(), REFRESH, plugListener);
+        poller.register(MISSING_DEVICE_ID, Commands.getRealtimeAndSysinfo(), REFRESH, missingListener);
+        verify(scheduler, times(2)).scheduleAtFixedRate(any(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+}
@@ -8,7 +8,7 @@
  */
 package org.openhab.binding.tplinksmarthome.handler;
 
-import static org.openhab.binding.tplinksmarthome.TPLinkSmartHomeBindingConstants.CHANNEL_RSSI;
+import static org.openhab.binding.tplinksmarthome.TPLinkSmartHomeBindingConstants.*;
 
 import java.io.IOException;
 import java.util.concurrent.ScheduledFuture;
@@ -27,6 +27,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.binding.tplinksmarthome.internal.BroadcastPoller;
 import org.openhab.binding.tplinksmarthome.internal.Connection;
 import org.openhab.binding.tplinksmarthome.internal.TPLinkSmartHomeConfiguration;
 import org.openhab.binding.tplinksmarthome.internal.device.DeviceState;
@@ -45,21 +46,51 @@ public class SmartHomeHandler extends BaseThingHandler {
     private final Logger logger = LoggerFactory.getLogger(SmartHomeHandler.class);
 
     private final SmartHomeDevice smartHomeDevice;
+    private final BroadcastPoller broadcastPoller;
 
     private TPLinkSmartHomeConfiguration configuration;
     private Connection connection;
     private ScheduledFuture<?> refreshJob;
     private ExpiringCache<DeviceState> cache;
 
+    /**
+     * The device id is known from the thing properties or the first state received from the device. Once it is known
+     * the device is polled by the {@link BroadcastPoller}.
+     */
+    private volatile String deviceId;
+    private volatile boolean broadcastPolling;
+    private volatile DeviceState broadcastState;
+    private volatile long broadcastStateNanos;
+    private volatile long lastUpdateNanos;
+
+    private final BroadcastPoller.Listener broadcastListener = new BroadcastPoller.Listener() {
+        @Override
+        public void responseReceived(DeviceState deviceState) {
+            broadcastState = deviceState;
+            broadcastStateNanos = System.nanoTime();
+            updateStatus(ThingStatus.ONLINE);
+            updateChannelStates(deviceState);
+        }
+
+        @Override
+        public void responseMissing() {
+            logger.debug("No broadcast response from {}, polling device directly", configuration.ipAddress);
+            scheduler.execute(() -> updateChannelStates(refreshFromDevice()));
+        }
+    };
+
     /**
      * Constructor
      *
      * @param thing the thing to handle
      * @param smartHomeDevice Specific Smart Home device handler
+     * @param broadcastPoller poller to get the state of all devices by a single broadcast
      */
-    public SmartHomeHandler(@NonNull Thing thing, @NonNull SmartHomeDevice smartHomeDevice) {
+    public SmartHomeHandler(@NonNull Thing thing, @NonNull SmartHomeDevice smartHomeDevice,
+            @NonNull BroadcastPoller broadcastPoller) {
         super(thing);
         this.smartHomeDevice = smartHomeDevice;
+        this.broadcastPoller = broadcastPoller;
     }
 
     @Override
@@ -81,6 +112,7 @@ public class SmartHomeHandler extends BaseThingHandler {
             refreshJob.cancel(true);
             refreshJob = null;
         }
+        stopBroadcastPolling();
     }
 
     @Override
@@ -89,8 +121,10 @@ public class SmartHomeHandler extends BaseThingHandler {
         logger.debug("Initializing TP-Link Smart device on ip {}", configuration.ipAddress);
         connection = createConnection(configuration);
         cache = new ExpiringCache<DeviceState>(TimeUnit.SECONDS.toMillis(configuration.refresh), this::refreshCache);
+        broadcastState = null;
         updateStatus(ThingStatus.UNKNOWN);
         startAutomaticRefresh(configuration);
+        startBroadcastPolling(getThing().getProperties().get(PROPERTY_DEVICE_ID));
     }
 
     /**
@@ -104,10 +138,23 @@ public class SmartHomeHandler extends BaseThingHandler {
     }
 
     private DeviceState refreshCache() {
+        DeviceState deviceState = broadcastState;
+
+        // the state received by the last broadcast is used if it is not older than the refresh interval
+        if (deviceState != null
+                && System.nanoTime() - broadcastStateNanos < TimeUnit.SECONDS.toNanos(configuration.refresh)) {
+            return deviceState;
+        }
+        return refreshFromDevice();
+    }
+
+    private DeviceState refreshFromDevice() {
         try {
             DeviceState deviceState = new DeviceState(connection.sendCommand(smartHomeDevice.getUpdateCommand()));
             updateStatus(ThingStatus.ONLINE);
-
+            if (!broadcastPolling) {
+                startBroadcastPolling(deviceState.getSysinfo().getDeviceId());
+            }
             return deviceState;
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, e.getMessage());
@@ -115,23 +162,61 @@ public class SmartHomeHandler extends BaseThingHandler {
         }
     }
 
+    private void startBroadcastPolling(String deviceId) {
+        if (deviceId != null && !deviceId.isEmpty()) {
+            this.deviceId = deviceId;
+            broadcastPoller.register(deviceId, smartHomeDevice.getUpdateCommand(), configuration.refresh.intValue(),
+                    broadcastListener);
+            broadcastPolling = true;
+        }
+    }
+
+    private void stopBroadcastPolling() {
+        String currentDeviceId = deviceId;
+
+        if (broadcastPolling && currentDeviceId != null) {
+            broadcastPoller.unregister(currentDeviceId);
+        }
+        broadcastPolling = false;
+    }
+
+    private boolean isUpdatedWithin(long nanos) {
+        return lastUpdateNanos != 0 && System.nanoTime() - lastUpdateNanos < nanos;
+    }
+
     /**
      * Starts the background refresh thread.
      */
     private void startAutomaticRefresh(TPLinkSmartHomeConfiguration config) {
         if (refreshJob == null || refreshJob.isCancelled()) {
+            long refreshNanos = TimeUnit.SECONDS.toNanos(config.refresh.intValue());
             Runnable runnable = () -> {
-                logger.trace("Update Channels for:{}", thing.getUID());
-                DeviceState value = cache.getValue();
-                for (Channel channel : getThing().getChannels()) {
-                    updateChannelState(channel.getUID(), value);
+                // the broadcast poller updates the channels, unless the device did not respond to it recently
+                if (broadcastPolling && isUpdatedWithin(refreshNanos + refreshNanos / 2)) {
+                    return;
                 }
+                updateChannelStates(cache.getValue());
             };
 
             refreshJob = scheduler.scheduleWithFixedDelay(runnable, 0, config.refresh.intValue(), TimeUnit.SECONDS);
         }
     }
 
+    /**
+     * Updates the state of all channels from the device data.
+     *
+     * @param deviceState the state object containing the values to set on the channels
+     */
+    private void updateChannelStates(DeviceState deviceState) {
+        logger.trace("Update Channels for:{}", thing.getUID());
+        if (deviceState != null) {
+            lastUpdateNanos = System.nanoTime();
+        }
+        for (Channel channel : getThing().getChannels()) {
+            updateChannelState(channel.getUID(), deviceState);
+        }
+    }
+
     /**
      * Updates the state from the device data for the channel given the data..
      *
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.tplinksmarthome.internal;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.tplinksmarthome.internal.device.DeviceState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * The {@link BroadcastPoller} polls the state of all registered devices with a single UDP broadcast per update command
+ * and refresh interval, the same way the {@link TPLinkSmartHomeDiscoveryService} finds devices. The responses are
+ * passed on to the listener registered for the device id in the response. Listeners of devices that did not respond
+ * within the response window are notified, so they can fall back to polling the device over TCP.
+ *
+ * Only devices in the subnet reached by the broadcast will respond, devices in other subnets are polled over TCP.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BroadcastPoller {
+
+    /**
+     * Listener for the state of a device polled by the {@link BroadcastPoller}.
+     */
+    public interface Listener {
+        /**
+         * Called with the state the device returned to the broadcast.
+         *
+         * @param deviceState the state of the device
+         */
+        void responseReceived(DeviceState deviceState);
+
+        /**
+         * Called when the device did not respond to the broadcast.
+         */
+        void responseMissing();
+    }
+
+    private static final String BROADCAST_IP = "255.255.255.255";
+    private static final int RESPONSE_WINDOW_MILLIS = 1000;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final Logger logger = LoggerFactory.getLogger(BroadcastPoller.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, PollGroup> pollGroups = new HashMap<>();
+    private final Map<String, PollGroup> deviceGroups = new HashMap<>();
+
+    private final AtomicLong broadcastsSent = new AtomicLong();
+    private final AtomicLong responsesReceived = new AtomicLong();
+    private final AtomicLong responsesMissing = new AtomicLong();
+
+    /**
+     * The devices polled with the same update command and refresh interval.
+     */
+    private class PollGroup {
+        private final String key;
+        private final byte[] command;
+        private final int refreshMillis;
+        private final Map<String, Listener> listeners = new ConcurrentHashMap<>();
+        private @Nullable ScheduledFuture<?> job;
+
+        private PollGroup(String key, String command, int refreshSeconds) {
+            this.key = key;
+            this.command = CryptUtil.encrypt(command);
+            this.refreshMillis = (int) TimeUnit.SECONDS.toMillis(refreshSeconds);
+        }
+    }
+
+    /**
+     * Initializes the poller.
+     *
+     * @param scheduler scheduler to run the polls on
+     */
+    public BroadcastPoller(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Registers a device to be polled. A device that was registered before is moved to its new poll group.
+     *
+     * @param deviceId the id of the device as returned in its sysinfo
+     * @param command the json command to get the state of the device
+     * @param refreshSeconds the refresh interval in seconds
+     * @param listener the listener to pass the state of the device to
+     */
+    public synchronized void register(String deviceId, String command, int refreshSeconds, Listener listener) {
+        unregister(deviceId);
+        String key = refreshSeconds + ":" + command;
+        PollGroup pollGroup = pollGroups.get(key);
+
+        if (pollGroup == null) {
+            PollGroup newPollGroup = new PollGroup(key, command, refreshSeconds);
+            newPollGroup.job = scheduler.scheduleAtFixedRate(() -> poll(newPollGroup), 0, newPollGroup.refreshMillis,
+                    TimeUnit.MILLISECONDS);
+            pollGroups.put(key, newPollGroup);
+            pollGroup = newPollGroup;
+        }
+        pollGroup.listeners.put(deviceId, listener);
+        deviceGroups.put(deviceId, pollGroup);
+        logger.debug("Polling device {} by broadcast, {} devices in {} poll groups", deviceId, deviceGroups.size(),
+                pollGroups.size());
+    }
+
+    /**
+     * Stops polling the device.
+     *
+     * @param deviceId the id of the device
+     */
+    public synchronized void unregister(String deviceId) {
+        PollGroup pollGroup = deviceGroups.remove(deviceId);
+
+        if (pollGroup != null) {
+            pollGroup.listeners.remove(deviceId);
+            ScheduledFuture<?> job = pollGroup.job;
+            if (pollGroup.listeners.isEmpty() && job != null) {
+                job.cancel(true);
+                pollGroups.remove(pollGroup.key);
+            }
+        }
+    }
+
+    /**
+     * Sends the broadcast of the poll group and passes the responses to the listeners of the devices.
+     *
+     * @param pollGroup the poll group to poll
+     */
+    private void poll(PollGroup pollGroup) {
+        Set<String> missing = new HashSet<>(pollGroup.listeners.keySet());
+        int received = 0;
+
+        if (missing.isEmpty()) {
+            return;
+        }
+        try (DatagramSocket socket = createSocket()) {
+            socket.send(new DatagramPacket(pollGroup.command, pollGroup.command.length,
+                    InetAddress.getByName(BROADCAST_IP), Connection.SMART_PLUG_PORT));
+            broadcastsSent.incrementAndGet();
+            long deadline = System.nanoTime()
+                    + TimeUnit.MILLISECONDS.toNanos(Math.min(RESPONSE_WINDOW_MILLIS, pollGroup.refreshMillis / 2));
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            while (!missing.isEmpty()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                socket.setSoTimeout((int) remainingMillis);
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                try {
+                    socket.receive(packet);
+                } catch (SocketTimeoutException e) {
+                    break;
+                }
+                if (handleResponse(pollGroup, packet, missing)) {
+                    received++;
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Error during broadcast poll: {}", e.getMessage());
+        }
+        for (String deviceId : missing) {
+            Listener listener = pollGroup.listeners.get(deviceId);
+            if (listener != null) {
+                listener.responseMissing();
+            }
+        }
+        long totalReceived = responsesReceived.addAndGet(received);
+        long totalMissing = responsesMissing.addAndGet(missing.size());
+        logger.debug(
+                "Broadcast poll: {} responses, {} missing. In total {} broadcasts replaced {} TCP requests, {} devices "
+                        + "fell back to TCP",
+                received, missing.size(), broadcastsSent.get(), totalReceived, totalMissing);
+    }
+
+    /**
+     * Passes the response in the packet to the listener of the device, if the device is in the poll group and has not
+     * already responded.
+     *
+     * @param pollGroup the poll group the broadcast was sent for
+     * @param packet the packet containing the response
+     * @param missing the devices of the poll group that have not responded yet
+     * @return true if the response was passed to a listener
+     * @throws IOException in case decrypting of the data failed
+     */
+    private boolean handleResponse(PollGroup pollGroup, DatagramPacket packet, Set<String> missing)
+            throws IOException {
+        String response = CryptUtil.decrypt(packet.getData(), packet.getLength());
+        DeviceState deviceState;
+
+        try {
+            deviceState = new DeviceState(response);
+        } catch (JsonParseException e) {
+            logger.debug("Ignoring invalid broadcast response from {}: {}", packet.getAddress(), e.getMessage());
+            return false;
+        }
+        String deviceId = deviceState.getSysinfo().getDeviceId();
+        Listener listener = deviceId == null ? null : pollGroup.listeners.get(deviceId);
+
+        if (listener != null && missing.remove(deviceId)) {
+            logger.trace("Broadcast response of device {}: {}", deviceId, response);
+            listener.responseReceived(deviceState);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Wrapper around socket creation to make mocking possible.
+     *
+     * @return new broadcast socket
+     * @throws IOException exception in case the socket could not be created
+     */
+    protected DatagramSocket createSocket() throws IOException {
+        DatagramSocket socket = new DatagramSocket(null);
+        socket.setBroadcast(true);
+        return socket;
+    }
+
+    /**
+     * @return the number of broadcasts sent
+     */
+    public long getBroadcastsSent() {
+        return broadcastsSent.get();
+    }
+
+    /**
+     * @return the number of device states received by broadcast, each saving a TCP request
+     */
+    public long getResponsesReceived() {
+        return responsesReceived.get();
+    }
+
+    /**
+     * @return the number of times a device did not respond to a broadcast
+     */
+    public long getResponsesMissing() {
+        return responsesMissing.get();
+    }
+}
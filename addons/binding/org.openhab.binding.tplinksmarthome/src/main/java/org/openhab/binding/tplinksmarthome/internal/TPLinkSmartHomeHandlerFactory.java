@@ -13,6 +13,7 @@ import static org.openhab.binding.tplinksmarthome.internal.TPLinkSmartHomeThingT
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
@@ -35,6 +36,11 @@ import org.osgi.service.component.annotations.Component;
 @Component(service = ThingHandlerFactory.class, immediate = true)
 public class TPLinkSmartHomeHandlerFactory extends BaseThingHandlerFactory {
 
+    private static final String THREADPOOL_NAME = "tplinksmarthome";
+
+    private final BroadcastPoller broadcastPoller = new BroadcastPoller(
+            ThreadPoolManager.getScheduledPool(THREADPOOL_NAME));
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES.contains(thingTypeUID);
@@ -59,6 +65,6 @@ public class TPLinkSmartHomeHandlerFactory extends BaseThingHandlerFactory {
         } else {
             return null;
         }
-        return new SmartHomeHandler(thing, device);
+        return new SmartHomeHandler(thing, device, broadcastPoller);
     }
 }
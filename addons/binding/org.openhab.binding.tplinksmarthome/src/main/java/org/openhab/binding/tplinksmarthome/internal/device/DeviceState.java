@@ -21,7 +21,7 @@ import org.openhab.binding.tplinksmarthome.internal.model.Sysinfo;
 @NonNullByDefault
 public class DeviceState {
 
-    private final Commands commands = new Commands();
+    private static final Commands COMMANDS = new Commands();
     private final Realtime realtime;
     private final Sysinfo sysinfo;
 
@@ -31,8 +31,8 @@ public class DeviceState {
      * @param state device state as json string
      */
     public DeviceState(String state) {
-        sysinfo = commands.getSysinfoReponse(state);
-        realtime = commands.getRealtimeResponse(state);
+        sysinfo = COMMANDS.getSysinfoReponse(state);
+        realtime = COMMANDS.getRealtimeResponse(state);
     }
 
     /**
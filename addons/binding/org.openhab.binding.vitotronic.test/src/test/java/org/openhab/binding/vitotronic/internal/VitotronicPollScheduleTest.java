@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.vitotronic.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link VitotronicPollSchedule}, using a clock that advances one refresh interval of the bridge per
+ * refresh cycle.
+ *
+ * @author agent - Initial contribution
+ */
+public class VitotronicPollScheduleTest {
+
+    private static final int REFRESH_INTERVAL = 10;
+
+    private long nowNanos = 0;
+    private final VitotronicPollSchedule schedule = new VitotronicPollSchedule(() -> nowNanos);
+
+    @Test
+    public void assertAllChannelsAreDueInTheFirstCycle() {
+        Map<String, Integer> channels = new HashMap<>();
+        channels.put("outsidetemp", 0);
+        channels.put("starts", 3600);
+
+        List<String> dueChannels = schedule.pollDueChannels(channels, REFRESH_INTERVAL);
+
+        assertThat(dueChannels.size(), is(2));
+        assertThat(dueChannels, hasItems("outsidetemp", "starts"));
+    }
+
+    @Test
+    public void assertChannelIsQueriedEveryCycleWhileItsValueChanges() {
+        List<Integer> polls = pollCycles("outsidetemp", 0, 5, cycle -> String.valueOf(cycle));
+
+        assertThat(polls, is(Arrays.asList(0, 10, 20, 30, 40)));
+    }
+
+    @Test
+    public void assertIntervalDoublesWhileValueIsUnchangedUpToTheMaximumBackoff() {
+        List<Integer> polls = pollCycles("outsidetemp", 0, 24, cycle -> "12.5");
+
+        // 10, 20, 40, 80 seconds and then capped at 8 times the minimum of 10 seconds
+        assertThat(polls, is(Arrays.asList(0, 10, 30, 70, 150, 230)));
+    }
+
+    @Test
+    public void assertChangedValueResetsTheInterval() {
+        // unchanged until 70 s, changed at 70 s
+        List<Integer> polls = pollCycles("outsidetemp", 0, 10, cycle -> cycle < 7 ? "12.5" : "13.0");
+
+        assertThat(polls, is(Arrays.asList(0, 10, 30, 70, 80)));
+    }
+
+    @Test
+    public void assertResetChannelIsDueInTheNextCycleAtItsMinimumInterval() {
+        Map<String, Integer> channels = Collections.singletonMap("outsidetemp", 0);
+        for (int cycle = 0; cycle < 4; cycle++) {
+            nowNanos = TimeUnit.SECONDS.toNanos(cycle * REFRESH_INTERVAL);
+            if (!schedule.pollDueChannels(channels, REFRESH_INTERVAL).isEmpty()) {
+                schedule.valueReceived("outsidetemp", "12.5");
+            }
+        }
+        // polled at 0, 10 and 30 s with unchanged values, the next query is not due before 70 s
+        schedule.reset("outsidetemp");
+
+        nowNanos = TimeUnit.SECONDS.toNanos(40);
+        assertThat(schedule.pollDueChannels(channels, REFRESH_INTERVAL), is(Arrays.asList("outsidetemp")));
+        schedule.valueReceived("outsidetemp", "12.5");
+
+        // the backoff starts again from the minimum interval of 10 seconds
+        nowNanos = TimeUnit.SECONDS.toNanos(50);
+        assertThat(schedule.pollDueChannels(channels, REFRESH_INTERVAL).isEmpty(), is(true));
+        nowNanos = TimeUnit.SECONDS.toNanos(60);
+        assertThat(schedule.pollDueChannels(channels, REFRESH_INTERVAL), is(Arrays.asList("outsidetemp")));
+    }
+
+    @Test
+    public void assertChannelIsQueriedAtItsOwnMinimumInterval() {
+        Map<String, Integer> channels = Collections.singletonMap("starts", 3600);
+
+        nowNanos = 0;
+        assertThat(schedule.pollDueChannels(channels, REFRESH_INTERVAL), is(Arrays.asList("starts")));
+        nowNanos = TimeUnit.SECONDS.toNanos(3590);
+        assertThat(schedule.pollDueChannels(channels, REFRESH_INTERVAL).isEmpty(), is(true));
+        nowNanos = TimeUnit.SECONDS.toNanos(3600);
+        assertThat(schedule.pollDueChannels(channels, REFRESH_INTERVAL), is(Arrays.asList("starts")));
+    }
+
+    @Test
+    public void assertMinimumIntervalIsNotShorterThanTheBridgeRefreshInterval() {
+        List<Integer> polls = pollCycles("outsidetemp", 5, 24, cycle -> "12.5");
+
+        // backs off from and up to 8 times the refresh interval of the bridge
+        assertThat(polls, is(Arrays.asList(0, 10, 30, 70, 150, 230)));
+    }
+
+    @Test
+    public void assertUnlinkedChannelIsForgotten() {
+        schedule.pollDueChannels(Collections.singletonMap("outsidetemp", 0), REFRESH_INTERVAL);
+        schedule.valueReceived("outsidetemp", "12.5");
+
+        nowNanos = TimeUnit.SECONDS.toNanos(1);
+        schedule.pollDueChannels(Collections.singletonMap("starts", 3600), REFRESH_INTERVAL);
+
+        // linked again, the channel is due at once
+        nowNanos = TimeUnit.SECONDS.toNanos(2);
+        assertThat(schedule.pollDueChannels(Collections.singletonMap("outsidetemp", 0), REFRESH_INTERVAL),
+                is(Arrays.asList("outsidetemp")));
+    }
+
+    private interface ValueOfCycle {
+        String value(int cycle);
+    }
+
+    /**
+     * Runs refresh cycles one refresh interval apart for a single channel and returns the seconds at which the
+     * channel was queried.
+     */
+    private List<Integer> pollCycles(String channelId, int minRefreshInterval, int cycles, ValueOfCycle values) {
+        Map<String, Integer> channels = Collections.singletonMap(channelId, minRefreshInterval);
+        List<Integer> polls = new ArrayList<>();
+        for (int cycle = 0; cycle < cycles; cycle++) {
+            int second = cycle * REFRESH_INTERVAL;
+            nowNanos = TimeUnit.SECONDS.toNanos(second);
+            if (schedule.pollDueChannels(channels, REFRESH_INTERVAL).contains(channelId)) {
+                polls.add(second);
+                schedule.valueReceived(channelId, values.value(cycle));
+            }
+        }
+        return polls;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.vitotronic.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link VitotronicRequestQueue}. The requests are queued before the queue is started, so the order in
+ * which they are sent does not depend on the timing of the sending thread.
+ *
+ * @author agent - Initial contribution
+ */
+public class VitotronicRequestQueueTest {
+
+    private static final long RESPONSE_TIMEOUT_MILLIS = 300;
+
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+    private final VitotronicRequestQueue queue = new VitotronicRequestQueue(sent::add, RESPONSE_TIMEOUT_MILLIS);
+
+    @After
+    public void tearDown() {
+        queue.stop();
+    }
+
+    @Test
+    public void assertCommandsAreSentBeforeQueries() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.addCommand("set 0x7f00 mode 2");
+        queue.addQuery("0x7f01", Arrays.asList("starts"));
+        queue.addCommand("list");
+
+        queue.start("test");
+
+        assertThat(nextRequest(), is("set 0x7f00 mode 2"));
+        assertThat(nextRequest(), is("list"));
+        assertThat(nextRequest(), is("get 0x7f00 outsidetemp"));
+    }
+
+    @Test
+    public void assertCommandIsSentWhileAQueryAwaitsItsResponse() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.addQuery("0x7f01", Arrays.asList("starts"));
+        queue.start("test");
+        assertThat(nextRequest(), is("get 0x7f00 outsidetemp"));
+
+        queue.addCommand("set 0x7f00 mode 2");
+
+        assertThat(nextRequest(), is("set 0x7f00 mode 2"));
+        assertThat(sent.poll(RESPONSE_TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    @Test
+    public void assertNextQueryIsSentWhenTheResponseIsReceived() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.addQuery("0x7f01", Arrays.asList("starts"));
+        queue.start("test");
+        assertThat(nextRequest(), is("get 0x7f00 outsidetemp"));
+        assertThat(sent.poll(RESPONSE_TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS), is(nullValue()));
+
+        queue.responseReceived();
+
+        assertThat(sent.poll(RESPONSE_TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS), is("get 0x7f01 starts"));
+    }
+
+    @Test
+    public void assertNextQueryIsSentAfterTheResponseTimeout() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.addQuery("0x7f01", Arrays.asList("starts"));
+        queue.start("test");
+        assertThat(nextRequest(), is("get 0x7f00 outsidetemp"));
+        long sentNanos = System.nanoTime();
+
+        assertThat(nextRequest(), is("get 0x7f01 starts"));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentNanos);
+        assertTrue("waited " + waitedMillis + " ms", waitedMillis >= RESPONSE_TIMEOUT_MILLIS - 50);
+    }
+
+    @Test
+    public void assertQueriesOfAThingAreMerged() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.addQuery("0x7f01", Arrays.asList("starts"));
+        queue.addQuery("0x7f00", Arrays.asList("boilertemp", "outsidetemp"));
+        queue.start("test");
+
+        assertThat(nextRequest(), is("get 0x7f00 outsidetemp,boilertemp"));
+        queue.responseReceived();
+        assertThat(nextRequest(), is("get 0x7f01 starts"));
+    }
+
+    @Test
+    public void assertQueryOfAllChannelsIsNotNarrowedByMerging() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.addQuery("0x7f00", Collections.emptyList());
+        queue.addQuery("0x7f00", Arrays.asList("boilertemp"));
+        queue.start("test");
+
+        assertThat(nextRequest(), is("get 0x7f00"));
+    }
+
+    @Test
+    public void assertQueryIsNotMergedWithTheQuerySentBefore() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.start("test");
+        assertThat(nextRequest(), is("get 0x7f00 outsidetemp"));
+
+        queue.addQuery("0x7f00", Arrays.asList("boilertemp"));
+        queue.responseReceived();
+
+        assertThat(nextRequest(), is("get 0x7f00 boilertemp"));
+    }
+
+    @Test
+    public void assertClearDropsRequestsNotSentYet() throws InterruptedException {
+        queue.addQuery("0x7f00", Arrays.asList("outsidetemp"));
+        queue.addCommand("set 0x7f00 mode 2");
+
+        queue.clear();
+        queue.start("test");
+        queue.addQuery("0x7f01", Arrays.asList("starts"));
+
+        assertThat(nextRequest(), is("get 0x7f01 starts"));
+        assertThat(sent.poll(RESPONSE_TIMEOUT_MILLIS * 2, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    private String nextRequest() throws InterruptedException {
+        String request = sent.poll(5, TimeUnit.SECONDS);
+        assertThat("no request sent", request, is(notNullValue()));
+        return request;
+    }
+}
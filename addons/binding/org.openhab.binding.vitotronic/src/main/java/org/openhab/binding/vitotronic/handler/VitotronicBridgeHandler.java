@@ -13,8 +13,10 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
@@ -26,6 +28,7 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.vitotronic.VitotronicBindingConfiguration;
+import org.openhab.binding.vitotronic.internal.VitotronicRequestQueue;
 import org.openhab.binding.vitotronic.internal.discovery.VitotronicDiscoveryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +58,7 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
     private InputStream inStream;
     private boolean isConnect = false;
     private boolean isDiscover = false;
+    private final VitotronicRequestQueue requestQueue = new VitotronicRequestQueue(this::sendSocketData);
 
     public VitotronicBridgeHandler(Bridge bridge) {
         super(bridge);
@@ -118,7 +122,7 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
                 thingHandlerMap.put(thingID, thingHandler);
                 logger.trace("register thingHandler for thing: {}", thingID);
                 updateThingHandlerStatus(thingHandler, this.getStatus());
-                sendSocketData("get " + thingID);
+                requestQueue.addQuery(thingID, Collections.emptySet());
             } else {
                 logger.trace("thingHandler for thing: '{}' allready registerd", thingID);
             }
@@ -181,13 +185,13 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
     private void refreshData() {
         logger.trace("Job: refresh Data...");
         String thingId;
-        String channelList;
+        List<String> dueChannels;
         for (Map.Entry<String, VitotronicThingHandler> entry : thingHandlerMap.entrySet()) {
-            channelList = entry.getValue().getActiveChannelListAsString();
+            dueChannels = entry.getValue().getDueChannels(refreshInterval);
             thingId = entry.getValue().getThing().getUID().getId();
-            if (isConnect && (channelList.length() > 0)) {
-                logger.trace("Get Data for '{}'", thingId);
-                sendSocketData("get " + thingId + " " + channelList);
+            if (isConnect && !dueChannels.isEmpty()) {
+                logger.trace("Get Data for '{}' channels {}", thingId, dueChannels);
+                requestQueue.addQuery(thingId, dueChannels);
             }
 
         }
@@ -198,7 +202,7 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
     public void scanThings() {
         logger.trace("Job: Discover Things...");
         if (!isDiscover) {
-            sendSocketData("list");
+            requestQueue.addCommand("list");
             isDiscover = true;
         }
 
@@ -209,7 +213,7 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
     }
 
     public void updateChannel(String thingId, String channelId, String value) {
-        sendSocketData("set " + thingId + ":" + channelId + " " + value);
+        requestQueue.addCommand("set " + thingId + ":" + channelId + " " + value);
     }
 
     // internal Methods
@@ -229,6 +233,7 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
         refreshInterval = configuration.refreshInterval;
 
         isDiscover = false;
+        requestQueue.start("VitotronicSenderThread");
         startAutomaticRefresh();
     }
 
@@ -240,6 +245,7 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
             pollingJob.cancel(true);
             pollingJob = null;
         }
+        requestQueue.stop();
         updateStatus(ThingStatus.OFFLINE); // Set all State to offline
     }
 
@@ -279,6 +285,7 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
             }
             updateStatus(ThingStatus.OFFLINE);
             isConnect = false;
+            requestQueue.clear();
             try {
                 if (!socket.isClosed())
                     socket.close();
@@ -395,8 +402,11 @@ public class VitotronicBridgeHandler extends BaseBridgeHandler {
                     ;
                     break;
                 case "thing":
-                    if (isDefine)
+                    if (isDefine) {
                         createThing(thingType, thingID);
+                    } else {
+                        requestQueue.responseReceived();
+                    }
                     isThing = false;
                     thingHandler = null;
                     break;
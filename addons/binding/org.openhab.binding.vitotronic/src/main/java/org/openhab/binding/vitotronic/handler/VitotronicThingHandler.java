@@ -8,6 +8,12 @@
  */
 package org.openhab.binding.vitotronic.handler;
 
+import static org.openhab.binding.vitotronic.VitotronicBindingConstants.REFRESH_INTERVAL;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
@@ -19,6 +25,7 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.vitotronic.internal.VitotronicPollSchedule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +42,8 @@ public class VitotronicThingHandler extends BaseThingHandler {
 
     VitotronicBridgeHandler bridgeHandler;
 
+    private final VitotronicPollSchedule pollSchedule = new VitotronicPollSchedule();
+
     public VitotronicThingHandler(Thing thing) {
         super(thing);
     }
@@ -55,6 +64,7 @@ public class VitotronicThingHandler extends BaseThingHandler {
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.trace("Handle command for channel '{}' command '{}'", channelUID.getId(), command.toString());
+        pollSchedule.reset(channelUID.getId());
         bridgeHandler.updateChannel(getThing().getUID().getId(), channelUID.getId(), command.toString());
 
     }
@@ -113,6 +123,7 @@ public class VitotronicThingHandler extends BaseThingHandler {
             logger.trace("Cannel '{}:{}' not implemented", getThing().getUID().getId(), channelId);
             return;
         }
+        pollSchedule.valueReceived(channelId, value);
 
         logger.trace("Set {}:{}:{} = {}", getThing().getUID().getId(), channelId, channel.getAcceptedItemType(), value);
         switch (channel.getAcceptedItemType()) {
@@ -134,17 +145,21 @@ public class VitotronicThingHandler extends BaseThingHandler {
         }
     }
 
-    public String getActiveChannelListAsString() {
-        String channelList = "";
+    /**
+     * Returns the linked channels to query in this refresh cycle of the bridge, see {@link VitotronicPollSchedule}.
+     *
+     * @param refreshInterval the refresh interval of the bridge in seconds
+     * @return the ids of the channels
+     */
+    public List<String> getDueChannels(int refreshInterval) {
+        Map<String, Integer> activeChannels = new HashMap<>();
         for (Channel channel : getThing().getChannels()) {
             if (isLinked(channel.getUID().getId())) {
-                if (channelList.length() > 0) {
-                    channelList = channelList + "," + channel.getUID().getId();
-                } else {
-                    channelList = channel.getUID().getId();
-                }
+                Object channelRefreshInterval = channel.getConfiguration().get(REFRESH_INTERVAL);
+                activeChannels.put(channel.getUID().getId(),
+                        channelRefreshInterval instanceof Number ? ((Number) channelRefreshInterval).intValue() : 0);
             }
         }
-        return channelList;
+        return pollSchedule.pollDueChannels(activeChannels, refreshInterval);
     }
 }
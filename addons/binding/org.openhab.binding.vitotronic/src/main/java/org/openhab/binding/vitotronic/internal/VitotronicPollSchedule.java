@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.vitotronic.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link VitotronicPollSchedule} decides which channels of a thing are queried in a refresh cycle of the bridge.
+ *
+ * A channel is queried at most once per its minimum refresh interval, and never more often than the refresh interval
+ * of the bridge. Each time a query returns an unchanged value, the interval of the channel is doubled, up to
+ * {@link #MAX_BACKOFF_FACTOR} times its minimum interval. A changed value resets the interval to the minimum.
+ *
+ * @author agent - Initial contribution
+ */
+public class VitotronicPollSchedule {
+
+    public static final int MAX_BACKOFF_FACTOR = 8;
+
+    private static class ChannelState {
+        private long minIntervalNanos;
+        private long intervalNanos;
+        private long lastPollNanos;
+        private boolean polled;
+        private String lastValue;
+    }
+
+    private final Map<String, ChannelState> channels = new HashMap<>();
+    private final LongSupplier nanoTime;
+
+    public VitotronicPollSchedule() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime the clock to use, in nanoseconds as {@link System#nanoTime()}
+     */
+    VitotronicPollSchedule(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Returns the channels to query in this refresh cycle and marks them as queried.
+     *
+     * @param activeChannels the linked channels with their minimum refresh interval in seconds
+     * @param refreshInterval the refresh interval of the bridge in seconds
+     * @return the channels due in this cycle
+     */
+    public synchronized List<String> pollDueChannels(Map<String, Integer> activeChannels, int refreshInterval) {
+        long now = nanoTime.getAsLong();
+        long cycleNanos = TimeUnit.SECONDS.toNanos(refreshInterval);
+        List<String> dueChannels = new ArrayList<>();
+
+        channels.keySet().retainAll(activeChannels.keySet());
+        for (Map.Entry<String, Integer> entry : activeChannels.entrySet()) {
+            long minIntervalNanos = TimeUnit.SECONDS.toNanos(Math.max(refreshInterval, entry.getValue()));
+            ChannelState state = channels.computeIfAbsent(entry.getKey(), channelId -> new ChannelState());
+            if (state.minIntervalNanos != minIntervalNanos) {
+                state.minIntervalNanos = minIntervalNanos;
+                state.intervalNanos = minIntervalNanos;
+            }
+            // The cycles are not exactly one refresh interval apart, so a channel due before the middle of the next
+            // cycle is queried in this one
+            if (!state.polled || now - state.lastPollNanos >= state.intervalNanos - cycleNanos / 2) {
+                state.polled = true;
+                state.lastPollNanos = now;
+                dueChannels.add(entry.getKey());
+            }
+        }
+        return dueChannels;
+    }
+
+    /**
+     * Adapts the interval of the channel to the received value.
+     *
+     * @param channelId the id of the channel
+     * @param value the value received from the adapter
+     */
+    public synchronized void valueReceived(String channelId, String value) {
+        ChannelState state = channels.get(channelId);
+        if (state == null) {
+            return;
+        }
+        if (value != null && value.equals(state.lastValue)) {
+            state.intervalNanos = Math.min(state.intervalNanos * 2, state.minIntervalNanos * MAX_BACKOFF_FACTOR);
+        } else {
+            state.intervalNanos = state.minIntervalNanos;
+        }
+        state.lastValue = value;
+    }
+
+    /**
+     * Queries the channel in the next refresh cycle at its minimum interval, e.g. after a new value was set.
+     *
+     * @param channelId the id of the channel
+     */
+    public synchronized void reset(String channelId) {
+        ChannelState state = channels.get(channelId);
+        if (state != null) {
+            state.polled = false;
+            state.intervalNanos = state.minIntervalNanos;
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.vitotronic.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link VitotronicRequestQueue} sends the requests to the optolink adapter from a single thread.
+ *
+ * Commands (e.g. set) are sent before any query, so a write is never delayed by the queries of a refresh cycle.
+ * After a query, the next query is only sent when the response has been received or after
+ * {@link #RESPONSE_TIMEOUT_MILLIS}, so at most one query is waiting in the adapter. Queries of the same thing that are
+ * still waiting to be sent are merged into a single query.
+ *
+ * @author agent - Initial contribution
+ */
+public class VitotronicRequestQueue {
+
+    /**
+     * Sends a request to the adapter
+     */
+    public interface Sender {
+        void send(String request);
+    }
+
+    public static final long RESPONSE_TIMEOUT_MILLIS = 5000;
+
+    private final Logger logger = LoggerFactory.getLogger(VitotronicRequestQueue.class);
+
+    private final Sender sender;
+    private final long responseTimeoutMillis;
+    private final Deque<String> commands = new ArrayDeque<>();
+    // The channels to query by thing, an empty set queries all channels of the thing
+    private final Map<String, Set<String>> queries = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private boolean awaitingResponse;
+    private long responseDeadlineNanos;
+    private Thread thread;
+
+    public VitotronicRequestQueue(Sender sender) {
+        this(sender, RESPONSE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param sender sends a request to the adapter
+     * @param responseTimeoutMillis the time to wait for the response to a query before the next query is sent
+     */
+    VitotronicRequestQueue(Sender sender, long responseTimeoutMillis) {
+        this.sender = sender;
+        this.responseTimeoutMillis = responseTimeoutMillis;
+    }
+
+    /**
+     * Starts the thread sending the requests
+     *
+     * @param name the name of the thread
+     */
+    public synchronized void start(String name) {
+        if (thread == null) {
+            thread = new Thread(this::run);
+            thread.setName(name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops the thread sending the requests and drops all requests not sent yet
+     */
+    public synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+        clear();
+    }
+
+    /**
+     * Drops all requests not sent yet, e.g. when the connection to the adapter is lost
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            commands.clear();
+            queries.clear();
+            awaitingResponse = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a command, it is sent before all queries
+     *
+     * @param command the command
+     */
+    public void addCommand(String command) {
+        lock.lock();
+        try {
+            commands.add(command);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a query for the channels of a thing. If a query of the thing has not been sent yet, the channels are added
+     * to it.
+     *
+     * @param thingId the id of the thing
+     * @param channelIds the ids of the channels, all channels of the thing are queried if empty
+     */
+    public void addQuery(String thingId, Collection<String> channelIds) {
+        lock.lock();
+        try {
+            Set<String> queuedChannelIds = queries.get(thingId);
+            if (queuedChannelIds == null) {
+                queries.put(thingId, new LinkedHashSet<>(channelIds));
+            } else if (channelIds.isEmpty()) {
+                queuedChannelIds.clear();
+            } else if (!queuedChannelIds.isEmpty()) {
+                queuedChannelIds.addAll(channelIds);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called when the response to a query was received, so the next query can be sent
+     */
+    public void responseReceived() {
+        lock.lock();
+        try {
+            awaitingResponse = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                sender.send(take());
+            }
+        } catch (InterruptedException e) {
+            // stopped
+        }
+        logger.trace("Request queue stopped");
+    }
+
+    private String take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                if (!commands.isEmpty()) {
+                    return commands.poll();
+                }
+                long waitNanos = responseDeadlineNanos - System.nanoTime();
+                if (awaitingResponse && waitNanos <= 0) {
+                    logger.debug("No response of the optolink adapter within {} ms", responseTimeoutMillis);
+                    awaitingResponse = false;
+                }
+                if (!awaitingResponse && !queries.isEmpty()) {
+                    Iterator<Map.Entry<String, Set<String>>> iterator = queries.entrySet().iterator();
+                    Map.Entry<String, Set<String>> query = iterator.next();
+                    iterator.remove();
+                    awaitingResponse = true;
+                    responseDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(responseTimeoutMillis);
+                    return query.getValue().isEmpty() ? "get " + query.getKey()
+                            : "get " + query.getKey() + " " + String.join(",", query.getValue());
+                }
+                if (awaitingResponse) {
+                    changed.awaitNanos(waitNanos);
+                } else {
+                    changed.await();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
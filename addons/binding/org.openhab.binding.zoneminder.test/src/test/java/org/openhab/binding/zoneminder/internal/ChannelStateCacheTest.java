@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChannelStateCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ChannelStateCacheTest {
+
+    private final ChannelStateCache cache = new ChannelStateCache();
+
+    @Test
+    public void assertFirstStateOfAChannelIsPublished() {
+        assertTrue(cache.update("online", OnOffType.ON));
+    }
+
+    @Test
+    public void assertUnchangedStateIsNotPublishedAgain() {
+        cache.update("online", OnOffType.ON);
+
+        assertFalse(cache.update("online", OnOffType.ON));
+    }
+
+    @Test
+    public void assertChangedStateIsPublished() {
+        cache.update("online", OnOffType.ON);
+
+        assertTrue(cache.update("online", OnOffType.OFF));
+        assertTrue(cache.update("online", OnOffType.ON));
+    }
+
+    @Test
+    public void assertEqualStatesAreNotPublishedAgain() {
+        cache.update("event-score", new DecimalType(42));
+
+        assertFalse(cache.update("event-score", new DecimalType(42)));
+    }
+
+    @Test
+    public void assertChannelsAreTrackedIndependently() {
+        cache.update("online", OnOffType.ON);
+
+        assertTrue(cache.update("enabled", OnOffType.ON));
+        assertFalse(cache.update("online", OnOffType.ON));
+    }
+
+    @Test
+    public void assertInvalidatedChannelIsPublishedAgain() {
+        cache.update("online", OnOffType.ON);
+        cache.update("enabled", OnOffType.ON);
+
+        cache.invalidate("online");
+
+        assertTrue(cache.update("online", OnOffType.ON));
+        assertFalse(cache.update("enabled", OnOffType.ON));
+    }
+
+    @Test
+    public void assertAllChannelsArePublishedAgainAfterClear() {
+        cache.update("online", OnOffType.ON);
+        cache.update("enabled", OnOffType.ON);
+
+        cache.clear();
+
+        assertTrue(cache.update("online", OnOffType.ON));
+        assertTrue(cache.update("enabled", OnOffType.ON));
+    }
+}
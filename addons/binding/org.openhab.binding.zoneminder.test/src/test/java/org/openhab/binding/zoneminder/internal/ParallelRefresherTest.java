@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ParallelRefresher}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParallelRefresherTest {
+
+    private ExecutorService executor;
+    private ParallelRefresher refresher;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        refresher = new ParallelRefresher(executor, 500, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void assertAllTasksRunBeforeRefreshReturns() throws InterruptedException {
+        AtomicInteger refreshed = new AtomicInteger();
+        Runnable refresh = refreshed::incrementAndGet;
+
+        int cancelled = refresher.refreshAll(Arrays.asList(refresh, refresh, refresh));
+
+        assertThat(cancelled, is(0));
+        assertThat(refreshed.get(), is(3));
+    }
+
+    @Test
+    public void assertTasksRunInParallel() throws InterruptedException {
+        // every task waits until all tasks have started, which only succeeds if they run at the same time
+        CountDownLatch started = new CountDownLatch(3);
+        AtomicInteger refreshed = new AtomicInteger();
+        Runnable refresh = () -> {
+            started.countDown();
+            try {
+                if (started.await(1, TimeUnit.SECONDS)) {
+                    refreshed.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        int cancelled = refresher.refreshAll(Arrays.asList(refresh, refresh, refresh));
+
+        assertThat(cancelled, is(0));
+        assertThat(refreshed.get(), is(3));
+    }
+
+    @Test
+    public void assertTasksThatTimeOutAreCancelledAndInterrupted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicInteger refreshed = new AtomicInteger();
+        Runnable hangingRefresh = () -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                refreshed.incrementAndGet();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        };
+        Runnable refresh = refreshed::incrementAndGet;
+
+        long started = System.nanoTime();
+        int cancelled = refresher.refreshAll(Arrays.asList(refresh, hangingRefresh, refresh));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(cancelled, is(1));
+        assertThat(refreshed.get(), is(2));
+        assertTrue("waited " + waitedMillis + " ms", waitedMillis < TimeUnit.SECONDS.toMillis(5));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void assertFailingTaskDoesNotAffectOtherTasks() throws InterruptedException {
+        AtomicInteger refreshed = new AtomicInteger();
+        Runnable failingRefresh = () -> {
+            throw new IllegalStateException("refresh failed");
+        };
+        Runnable refresh = refreshed::incrementAndGet;
+
+        int cancelled = refresher.refreshAll(Arrays.asList(failingRefresh, refresh, refresh));
+
+        assertThat(cancelled, is(0));
+        assertThat(refreshed.get(), is(2));
+    }
+
+    @Test
+    public void assertRefreshingNoTasksReturnsImmediately() throws InterruptedException {
+        assertThat(refresher.refreshAll(Collections.emptyList()), is(0));
+    }
+}
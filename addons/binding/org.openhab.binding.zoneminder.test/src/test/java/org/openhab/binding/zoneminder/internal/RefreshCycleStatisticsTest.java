@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RefreshCycleStatistics}.
+ *
+ * @author agent - Initial contribution
+ */
+public class RefreshCycleStatisticsTest {
+
+    private final RefreshCycleStatistics statistics = new RefreshCycleStatistics();
+
+    @Test
+    public void assertNoCyclesAreRecordedInitially() {
+        assertThat(statistics.getCycles(), is(0L));
+        assertThat(statistics.getLastCycleMillis(), is(0L));
+        assertThat(statistics.getMaxCycleMillis(), is(0L));
+        assertThat(statistics.getLastPriorityCycleMillis(), is(0L));
+    }
+
+    @Test
+    public void assertLastAndMaximumCycleAreKept() {
+        statistics.recordCycle(120);
+        statistics.recordCycle(450);
+        statistics.recordCycle(80);
+
+        assertThat(statistics.getCycles(), is(3L));
+        assertThat(statistics.getLastCycleMillis(), is(80L));
+        assertThat(statistics.getMaxCycleMillis(), is(450L));
+    }
+
+    @Test
+    public void assertPriorityCyclesDoNotCountAsScheduledCycles() {
+        statistics.recordCycle(120);
+        statistics.recordPriorityCycle(900);
+        statistics.recordPriorityCycle(35);
+
+        assertThat(statistics.getLastPriorityCycleMillis(), is(35L));
+        assertThat(statistics.getCycles(), is(1L));
+        assertThat(statistics.getLastCycleMillis(), is(120L));
+        assertThat(statistics.getMaxCycleMillis(), is(120L));
+    }
+}
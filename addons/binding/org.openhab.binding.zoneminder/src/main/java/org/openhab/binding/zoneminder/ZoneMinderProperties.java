@@ -20,6 +20,9 @@ public class ZoneMinderProperties {
     public static final String PROPERTY_SERVER_USE_API = "API Enabled";
     public static final String PROPERTY_SERVER_USE_AUTHENTIFICATION = "Use Authentification";
     public static final String PROPERTY_SERVER_TRIGGERS_ENABLED = "Triggers enabled";
+    public static final String PROPERTY_SERVER_REFRESH_CYCLE_LAST = "Refresh cycle (ms)";
+    public static final String PROPERTY_SERVER_REFRESH_CYCLE_MAX = "Refresh cycle max (ms)";
+    public static final String PROPERTY_SERVER_REFRESH_CYCLE_PRIORITY = "Priority refresh cycle (ms)";
 
     public static final String PROPERTY_MONITOR_NAME = "Name";
     public static final String PROPERTY_MONITOR_SOURCETYPE = "Sourcetype";
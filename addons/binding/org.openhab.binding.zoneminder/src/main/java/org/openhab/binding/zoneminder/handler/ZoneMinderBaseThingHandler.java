@@ -30,6 +30,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.zoneminder.ZoneMinderConstants;
+import org.openhab.binding.zoneminder.internal.ChannelStateCache;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderThingConfig;
 import org.slf4j.Logger;
@@ -71,6 +72,9 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
     private DataRefreshPriorityEnum _refreshPriority = DataRefreshPriorityEnum.SCHEDULED;
 
+    /** Last state pushed to each channel, used to only push channels that changed. */
+    private final ChannelStateCache publishedStates = new ChannelStateCache();
+
     protected boolean isOnline() {
 
         if (zoneMinderSession == null) {
@@ -148,7 +152,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
     @Override
     public void dispose() {
-
+        publishedStates.clear();
     }
 
     /**
@@ -260,6 +264,44 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        invalidateChannelState(channelUID);
+        super.channelLinked(channelUID);
+    }
+
+    /**
+     * Forget the last state pushed to a channel, so that the next update is pushed even if the value is unchanged.
+     *
+     * @param channelUID
+     */
+    protected void invalidateChannelState(ChannelUID channelUID) {
+        publishedStates.invalidate(channelUID.getId());
+    }
+
+    @Override
+    protected void updateState(String channelID, State state) {
+        if (publishedStates.update(channelID, state)) {
+            super.updateState(channelID, state);
+        }
+    }
+
+    @Override
+    protected void updateState(ChannelUID channelUID, State state) {
+        if (publishedStates.update(channelUID.getId(), state)) {
+            super.updateState(channelUID, state);
+        }
+    }
+
+    @Override
+    protected void updateStatus(ThingStatus status, ThingStatusDetail statusDetail, String description) {
+        // Whatever was published before going offline has to be published again once the thing is back online
+        if (status == ThingStatus.OFFLINE) {
+            publishedStates.clear();
+        }
+        super.updateStatus(status, statusDetail, description);
+    }
+
     @Override
     public void onBridgeConnected(ZoneMinderServerBridgeHandler bridge, IZoneMinderConnectionInfo connection)
             throws IllegalArgumentException, GeneralSecurityException, IOException, ZoneMinderUrlNotFoundException {
@@ -12,6 +12,8 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +25,7 @@ import javax.security.auth.login.FailedLoginException;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.thing.Bridge;
@@ -42,6 +45,8 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.zoneminder.ZoneMinderConstants;
 import org.openhab.binding.zoneminder.ZoneMinderProperties;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+import org.openhab.binding.zoneminder.internal.ParallelRefresher;
+import org.openhab.binding.zoneminder.internal.RefreshCycleStatistics;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderBridgeServerConfig;
 import org.openhab.binding.zoneminder.internal.discovery.ZoneMinderDiscoveryService;
 import org.osgi.framework.ServiceRegistration;
@@ -73,6 +78,13 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
     public static final int TELNET_TIMEOUT = 5000;
 
+    private static final String REFRESH_THREADPOOL_NAME = "zoneminder";
+
+    /**
+     * Maximum time a refresh cycle waits for the monitors to refresh
+     */
+    private static final int MONITOR_REFRESH_TIMEOUT_SECONDS = 30;
+
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Sets
             .newHashSet(ZoneMinderConstants.THING_TYPE_BRIDGE_ZONEMINDER_SERVER);
 
@@ -84,6 +96,9 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
     private ZoneMinderDiscoveryService discoveryService = null;
     private ServiceRegistration discoveryRegistration = null;
 
+    private final ParallelRefresher monitorRefresher = new ParallelRefresher(
+            ThreadPoolManager.getPool(REFRESH_THREADPOOL_NAME), MONITOR_REFRESH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
     private ScheduledFuture<?> taskWatchDog = null;
     private int refreshFrequency = 0;
     private int refreshCycleCount = 0;
@@ -182,41 +197,38 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
     private Runnable refreshPriorityDataRunnable = () -> {
         try {
             // Make sure priority updates is done
-            for (Thing thing : getThing().getThings()) {
-                try {
-                    if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
-                        Thing thingMonitor = thing;
-
-                        ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
-                        if (thingHandler != null) {
-
-                            if (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
-                                logger.debug("[MONITOR-{}]: RefreshPriority is High Priority",
-                                        thingHandler.getZoneMinderId());
-                                thingHandler.refreshThing(zoneMinderSession, DataRefreshPriorityEnum.HIGH_PRIORITY);
-                            }
-                        } else {
-                            logger.debug(
-                                    "[MONITOR]: refreshThing not called for monitor, since thingHandler is 'null'");
-                        }
-                    }
-                } catch (NullPointerException ex) {
-                    // This isn't critical (unless it comes over and over). There seems to be a bug so that a
-                    // null
-                    // pointer exception is coming every now and then.
-                    // HAve to find the reason for that. Until thenm, don't Spamm
-                    logger.error("[MONITOR]: Method 'refreshThing()' for Bridge failed for thing='{}' - Exception: ",
-                            thing.getUID(), ex);
-                } catch (Exception ex) {
-                    logger.error("[MONITOR]: Method 'refreshThing()' for Bridge failed for thing='{}' - Exception: ",
-                            thing.getUID(), ex);
+            List<ZoneMinderBaseThingHandler> priorityHandlers = new ArrayList<>();
+            for (ZoneMinderBaseThingHandler thingHandler : getMonitorHandlers()) {
+                if (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
+                    logger.debug("[MONITOR-{}]: RefreshPriority is High Priority", thingHandler.getZoneMinderId());
+                    priorityHandlers.add(thingHandler);
                 }
             }
+
+            if (!priorityHandlers.isEmpty()) {
+                long started = System.nanoTime();
+                refreshMonitorSnapshot(zoneMinderSession);
+                refreshMonitorHandlers(zoneMinderSession, priorityHandlers, DataRefreshPriorityEnum.HIGH_PRIORITY);
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                refreshStatistics.recordPriorityCycle(duration);
+                logger.debug("{}: Priority refresh of {} monitor(s) took {} ms", getLogIdentifier(),
+                        priorityHandlers.size(), duration);
+            }
         } catch (Exception exception) {
             logger.error("[MONITOR]: monitorRunnable::run(): Exception: ", exception);
         }
     };
 
+    /**
+     * Monitor data fetched in one bulk call per refresh cycle, indexed by ZoneMinder monitor id.
+     */
+    private volatile Map<String, IZoneMinderMonitorData> monitorSnapshot = Collections.emptyMap();
+
+    /**
+     * Refresh cycle metrics (durations in milliseconds)
+     */
+    private final RefreshCycleStatistics refreshStatistics = new RefreshCycleStatistics();
+
     /**
      * Constructor
      *
@@ -394,12 +406,30 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         logger.debug("{}: Update '{}' with '{}'", getLogIdentifier(), channelUID.getAsString(), command.toString());
     }
 
-    protected synchronized void refreshThing(IZoneMinderSession session, boolean fetchDiskUsage) {
+    protected void refreshThing(IZoneMinderSession session, boolean fetchDiskUsage) {
 
         logger.debug("{}: 'refreshThing()': Thing='{}'!", getLogIdentifier(), this.getThing().getUID());
 
+        long started = System.nanoTime();
+        refreshServerData(session, fetchDiskUsage);
+
+        /*
+         * Request Things attached to Bridge to refresh, using one bulk fetch of all monitors. This is done without
+         * holding the lock of the bridge, since waiting for the monitors may take a while.
+         */
+        refreshMonitorSnapshot(session);
+        refreshMonitorHandlers(session, getMonitorHandlers(), DataRefreshPriorityEnum.SCHEDULED);
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        refreshStatistics.recordCycle(duration);
+        logger.debug("{}: Refresh cycle took {} ms (max='{}' ms, cycles='{}')", getLogIdentifier(), duration,
+                refreshStatistics.getMaxCycleMillis(), refreshStatistics.getCycles());
+
+        updateRefreshCycleProperties();
+    }
+
+    private synchronized void refreshServerData(IZoneMinderSession session, boolean fetchDiskUsage) {
         List<Channel> channels = getThing().getChannels();
-        List<Thing> things = getThing().getThings();
 
         IZoneMinderServer zoneMinderServerProxy = ZoneMinderFactory.getServerProxy(session);
         if (zoneMinderServerProxy == null) {
@@ -473,34 +503,118 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         for (Channel channel : channels) {
             updateChannel(channel.getUID());
         }
+    }
 
-        /*
-         * Request Things attached to Bridge to refresh
-         */
-        for (Thing thing : things) {
+    /**
+     * Fetch data for all monitors in one call and replace the shared snapshot.
+     *
+     * @param session
+     */
+    protected void refreshMonitorSnapshot(IZoneMinderSession session) {
+        Map<String, IZoneMinderMonitorData> snapshot = new HashMap<>();
+
+        if ((session != null) && isConnected()) {
             try {
+                IZoneMinderServer serverProxy = ZoneMinderFactory.getServerProxy(session);
+                ArrayList<IZoneMinderMonitorData> monitors = serverProxy.getMonitors();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        serverProxy.getHttpUrl(), serverProxy.getHttpResponseCode(),
+                        serverProxy.getHttpResponseMessage());
+
+                if ((monitors != null) && (serverProxy.getHttpResponseCode() == 200)) {
+                    for (IZoneMinderMonitorData monitor : monitors) {
+                        if ((monitor != null) && (monitor.getId() != null)) {
+                            snapshot.put(monitor.getId(), monitor);
+                        }
+                    }
+                }
+            } catch (Exception ex) {
+                logger.warn("{}: Bulk fetch of monitor data failed, monitors will fetch individually (Exception='{}')",
+                        getLogIdentifier(), ex.getMessage());
+            }
+        }
+
+        monitorSnapshot = snapshot;
+    }
 
-                if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
-                    Thing thingMonitor = thing;
-                    ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
+    /**
+     * Get monitor data from the snapshot of the current refresh cycle.
+     *
+     * @param zoneMinderId
+     * @return monitor data, or null if the monitor was not part of the snapshot
+     */
+    public IZoneMinderMonitorData getMonitorSnapshot(String zoneMinderId) {
+        return monitorSnapshot.get(zoneMinderId);
+    }
 
-                    thingHandler.refreshThing(session, DataRefreshPriorityEnum.SCHEDULED);
+    public RefreshCycleStatistics getRefreshStatistics() {
+        return refreshStatistics;
+    }
+
+    private List<ZoneMinderBaseThingHandler> getMonitorHandlers() {
+        List<ZoneMinderBaseThingHandler> handlers = new ArrayList<>();
+        for (Thing thing : getThing().getThings()) {
+            if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
+                ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
+                if (thingHandler != null) {
+                    handlers.add(thingHandler);
+                } else {
+                    logger.debug("[MONITOR]: refreshThing not called for monitor, since thingHandler is 'null'");
                 }
+            }
+        }
+        return handlers;
+    }
 
-            } catch (NullPointerException ex) {
-                // This isn't critical (unless it comes over and over). There seems to be a bug so that a null
-                // pointer exception is coming every now and then.
-                // HAve to find the reason for that. Until thenm, don't Spamm
-                logger.debug("{}: Method 'refreshThing()' for Bridge {} failed for thing='{}' - Exception='{}'",
-                        getLogIdentifier(), this.getZoneMinderId(), thing.getUID(), ex.getMessage());
+    /**
+     * Refresh the given monitor handlers in parallel and wait for all of them to finish, at most
+     * {@link #MONITOR_REFRESH_TIMEOUT_SECONDS}. Refreshes that did not finish in time are cancelled, the next cycle
+     * refreshes these monitors again.
+     */
+    private void refreshMonitorHandlers(IZoneMinderSession session, List<ZoneMinderBaseThingHandler> handlers,
+            DataRefreshPriorityEnum refreshPriority) {
+        List<Runnable> refreshes = new ArrayList<>(handlers.size());
+        for (ZoneMinderBaseThingHandler thingHandler : handlers) {
+            refreshes.add(() -> {
+                try {
+                    thingHandler.refreshThing(session, refreshPriority);
+                } catch (NullPointerException ex) {
+                    // This isn't critical (unless it comes over and over). There seems to be a bug so that a null
+                    // pointer exception is coming every now and then.
+                    // HAve to find the reason for that. Until thenm, don't Spamm
+                    logger.debug("{}: Method 'refreshThing()' for Bridge {} failed for thing='{}' - Exception='{}'",
+                            getLogIdentifier(), this.getZoneMinderId(), thingHandler.getThing().getUID(),
+                            ex.getMessage());
 
-                // Other exceptions has to be shown as errors
-            } catch (Exception ex) {
-                logger.error("{}: Method 'refreshThing()' for Bridge {} failed for thing='{}' - Exception='{}'",
-                        getLogIdentifier(), this.getZoneMinderId(), thing.getUID(), ex.getMessage());
+                    // Other exceptions has to be shown as errors
+                } catch (Exception ex) {
+                    logger.error("{}: Method 'refreshThing()' for Bridge {} failed for thing='{}' - Exception='{}'",
+                            getLogIdentifier(), this.getZoneMinderId(), thingHandler.getThing().getUID(),
+                            ex.getMessage());
+                }
+            });
+        }
+
+        try {
+            int cancelled = monitorRefresher.refreshAll(refreshes);
+            if (cancelled > 0) {
+                logger.warn("{}: Refresh of {} monitor(s) did not finish within {} seconds and was cancelled",
+                        getLogIdentifier(), cancelled, MONITOR_REFRESH_TIMEOUT_SECONDS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+    }
 
+    private void updateRefreshCycleProperties() {
+        Map<String, String> properties = editProperties();
+        properties.put(ZoneMinderProperties.PROPERTY_SERVER_REFRESH_CYCLE_LAST,
+                String.valueOf(refreshStatistics.getLastCycleMillis()));
+        properties.put(ZoneMinderProperties.PROPERTY_SERVER_REFRESH_CYCLE_MAX,
+                String.valueOf(refreshStatistics.getMaxCycleMillis()));
+        properties.put(ZoneMinderProperties.PROPERTY_SERVER_REFRESH_CYCLE_PRIORITY,
+                String.valueOf(refreshStatistics.getLastPriorityCycleMillis()));
+        updateProperties(properties);
     }
 
     /**
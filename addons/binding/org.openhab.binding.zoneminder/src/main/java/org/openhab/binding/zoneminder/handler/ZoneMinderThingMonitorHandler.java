@@ -103,6 +103,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
     @Override
     public void dispose() {
+        super.dispose();
     }
 
     @Override
@@ -179,6 +180,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
             // Allow refresh of channels
             if (command == RefreshType.REFRESH) {
+                invalidateChannelState(channelUID);
                 updateChannel(channelUID);
                 return;
             }
@@ -735,10 +737,20 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
             IZoneMinderDaemonStatus analysisDaemon = null;
             IZoneMinderDaemonStatus frameDaemon = null;
 
-            data = monitorProxy.getMonitorData();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            // Prefer the snapshot the bridge fetched in bulk for this refresh cycle
+            ZoneMinderServerBridgeHandler bridgeHandler = getZoneMinderBridgeHandler();
+            if (bridgeHandler != null) {
+                data = bridgeHandler.getMonitorSnapshot(getZoneMinderId());
+            }
+            // Monitors from the bulk call carry no HTTP response of their own, the bridge only keeps valid ones
+            boolean dataValid = (data != null);
+            if (data == null) {
+                data = monitorProxy.getMonitorData();
+                dataValid = (data.getHttpResponseCode() == 200);
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+            }
 
             captureDaemon = monitorProxy.getCaptureDaemonStatus();
             logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
@@ -755,10 +767,10 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                     monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
                     monitorProxy.getHttpResponseMessage());
 
-            if ((data.getHttpResponseCode() != 200) || (captureDaemon.getHttpResponseCode() != 200)
+            if ((!dataValid) || (captureDaemon.getHttpResponseCode() != 200)
                     || (analysisDaemon.getHttpResponseCode() != 200) || (frameDaemon.getHttpResponseCode() != 200)) {
 
-                if (data.getHttpResponseCode() != 200) {
+                if (!dataValid) {
                     logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
                             data.getHttpResponseCode(), data.getHttpResponseMessage());
 
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.smarthome.core.types.State;
+
+/**
+ * The {@link ChannelStateCache} remembers the last state published to each channel of a thing, so that unchanged
+ * states are not published again.
+ *
+ * @author agent - Initial contribution
+ */
+public class ChannelStateCache {
+
+    private final Map<String, State> publishedStates = new ConcurrentHashMap<>();
+
+    /**
+     * Remember the state as the last state published to the channel.
+     *
+     * @param channelId
+     * @param state
+     * @return true if the state differs from the last state published to the channel and has to be published
+     */
+    public boolean update(String channelId, State state) {
+        return !state.equals(publishedStates.put(channelId, state));
+    }
+
+    /**
+     * Forget the last state published to a channel, so that its next state is published even if it is unchanged.
+     *
+     * @param channelId
+     */
+    public void invalidate(String channelId) {
+        publishedStates.remove(channelId);
+    }
+
+    /**
+     * Forget the last states published to all channels.
+     */
+    public void clear() {
+        publishedStates.clear();
+    }
+}
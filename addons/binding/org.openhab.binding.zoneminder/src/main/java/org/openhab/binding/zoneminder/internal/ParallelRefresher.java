@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ParallelRefresher} runs refresh tasks in parallel and waits a bounded time for them to finish.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParallelRefresher {
+
+    private final ExecutorService executor;
+    private final long timeout;
+    private final TimeUnit unit;
+
+    public ParallelRefresher(ExecutorService executor, long timeout, TimeUnit unit) {
+        this.executor = executor;
+        this.timeout = timeout;
+        this.unit = unit;
+    }
+
+    /**
+     * Run the tasks in parallel and wait for all of them to finish. Tasks that did not finish within the timeout are
+     * cancelled and interrupted, so that they do not pile up on the executor.
+     *
+     * @param tasks
+     * @return the number of tasks that were cancelled because they did not finish in time
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public int refreshAll(Collection<Runnable> tasks) throws InterruptedException {
+        List<Callable<Object>> callables = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            callables.add(Executors.callable(task));
+        }
+
+        int cancelled = 0;
+        for (Future<Object> future : executor.invokeAll(callables, timeout, unit)) {
+            if (future.isCancelled()) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+/**
+ * The {@link RefreshCycleStatistics} keeps the durations of the refresh cycles of the bridge.
+ *
+ * @author agent - Initial contribution
+ */
+public class RefreshCycleStatistics {
+
+    private long lastCycleMillis = 0;
+    private long maxCycleMillis = 0;
+    private long lastPriorityCycleMillis = 0;
+    private long cycles = 0;
+
+    /**
+     * Record the duration of a scheduled refresh cycle.
+     *
+     * @param durationMillis
+     */
+    public synchronized void recordCycle(long durationMillis) {
+        lastCycleMillis = durationMillis;
+        maxCycleMillis = Math.max(maxCycleMillis, durationMillis);
+        cycles++;
+    }
+
+    /**
+     * Record the duration of a high priority refresh cycle.
+     *
+     * @param durationMillis
+     */
+    public synchronized void recordPriorityCycle(long durationMillis) {
+        lastPriorityCycleMillis = durationMillis;
+    }
+
+    public synchronized long getLastCycleMillis() {
+        return lastCycleMillis;
+    }
+
+    public synchronized long getMaxCycleMillis() {
+        return maxCycleMillis;
+    }
+
+    public synchronized long getLastPriorityCycleMillis() {
+        return lastPriorityCycleMillis;
+    }
+
+    public synchronized long getCycles() {
+        return cycles;
+    }
+}